@@ -0,0 +1,32 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.command.core;
+
+/**
+ * Implemented by commands (or their payloads) that modify a single aggregate, e.g. one loan, savings account or client.
+ * Executors that process commands in parallel use the key to keep commands for the same aggregate in order.
+ */
+@FunctionalInterface
+public interface CommandAggregate {
+
+    /**
+     * @return a stable key for the aggregate, e.g. {@code loan:42}; {@code null} if the command is not bound to one
+     */
+    String getAggregateKey();
+}
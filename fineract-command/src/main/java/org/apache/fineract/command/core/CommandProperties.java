@@ -51,7 +51,23 @@ public final class CommandProperties implements Serializable {
     @Builder.Default
     private ProducerType producerType = ProducerType.SINGLE;
 
+    @Builder.Default
+    private Integer shardCount = 4;
+
+    @Builder.Default
+    private Boolean journalEnabled = false;
+
+    @Builder.Default
+    private CommandJournalDurability journalDurability = CommandJournalDurability.sync;
+
+    @Builder.Default
+    private Integer journalQueueCapacity = 64;
+
     public enum CommandExecutorType {
-        sync, async, disruptor
+        sync, async, disruptor, sharded
+    }
+
+    public enum CommandJournalDurability {
+        sync, group
     }
 }
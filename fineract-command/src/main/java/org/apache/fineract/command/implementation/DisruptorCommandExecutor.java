@@ -22,6 +22,7 @@ import com.lmax.disruptor.EventHandler;
 import com.lmax.disruptor.dsl.Disruptor;
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
@@ -33,6 +34,7 @@ import org.apache.fineract.command.core.Command;
 import org.apache.fineract.command.core.CommandExecutor;
 import org.apache.fineract.command.core.CommandMiddleware;
 import org.apache.fineract.command.core.CommandRouter;
+import org.apache.fineract.command.persistence.CommandJournal;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
@@ -47,9 +49,9 @@ public class DisruptorCommandExecutor implements CommandExecutor, Closeable {
 
     @Override
     public <REQ, RES> Supplier<RES> execute(Command<REQ> command) {
-        CommandEvent<REQ, RES> processedEvent = next(command);
+        CompletableFuture<RES> future = next(command);
 
-        return processedEvent.getFuture()::join;
+        return future::join;
     }
 
     @Override
@@ -58,16 +60,19 @@ public class DisruptorCommandExecutor implements CommandExecutor, Closeable {
     }
 
     @SuppressWarnings({ "unchecked" })
-    private <REQ, RES> CommandEvent<REQ, RES> next(Command<REQ> command) {
+    private <REQ, RES> CompletableFuture<RES> next(Command<REQ> command) {
         var ringBuffer = disruptor.getRingBuffer();
 
         var sequenceId = ringBuffer.next();
 
+        // ring buffer slots are reused, so every command gets a fresh future
+        CompletableFuture<RES> future = new CompletableFuture<>();
         CommandEvent<REQ, RES> event = ringBuffer.get(sequenceId);
         event.setCommand(command);
+        event.setFuture(future);
         ringBuffer.publish(sequenceId);
 
-        return event;
+        return future;
     }
 
     @Getter
@@ -78,7 +83,6 @@ public class DisruptorCommandExecutor implements CommandExecutor, Closeable {
         private CompletableFuture<RES> future = new CompletableFuture<>();
     }
 
-    @RequiredArgsConstructor
     @SuppressWarnings({ "unchecked", "rawtypes" })
     public static class CompleteableCommandEventHandler implements EventHandler<CommandEvent> {
 
@@ -86,19 +90,80 @@ public class DisruptorCommandExecutor implements CommandExecutor, Closeable {
 
         private final CommandRouter router;
 
+        private final CommandJournal journal;
+
+        private final List<Command<?>> journalBatch = new ArrayList<>();
+
+        private final List<PendingCommand> pending = new ArrayList<>();
+
+        public CompleteableCommandEventHandler(List<CommandMiddleware> middlewares, CommandRouter router) {
+            this(middlewares, router, null);
+        }
+
+        public CompleteableCommandEventHandler(List<CommandMiddleware> middlewares, CommandRouter router, CommandJournal journal) {
+            this.middlewares = middlewares;
+            this.router = router;
+            this.journal = journal;
+        }
+
         @Override
         public void onEvent(CommandEvent event, long sequence, boolean endOfBatch) throws Exception {
+            // NOTE: the event instance belongs to the ring buffer and is reused, so keep only its command and future
+            Command command = event.getCommand();
+            CompletableFuture future = event.getFuture();
+
+            if (journal == null) {
+                dispatch(command, future);
+                return;
+            }
+
+            if (journal.isSyncBeforeAck()) {
+                // write-ahead: the batch is journaled before any of its commands is handled
+                pending.add(new PendingCommand(command, future));
+                if (endOfBatch) {
+                    journalAndDispatchPending();
+                }
+                return;
+            }
+
+            dispatch(command, future);
+            journalBatch.add(command);
+            if (endOfBatch) {
+                // group commit: the commands are already acknowledged, journal failures are only logged by the journal
+                List<Command<?>> commands = List.copyOf(journalBatch);
+                journalBatch.clear();
+                journal.writeAsync(commands);
+            }
+        }
+
+        private void journalAndDispatchPending() {
+            List<PendingCommand> batch = List.copyOf(pending);
+            pending.clear();
+            try {
+                journal.write(batch.stream().<Command<?>>map(PendingCommand::command).toList());
+            } catch (Exception e) {
+                // none of the commands was handled, so failing them is safe to retry
+                log.error("Failed to journal {} commands, none of them was executed", batch.size(), e);
+                batch.forEach(command -> command.future().completeExceptionally(e));
+                return;
+            }
+            batch.forEach(command -> dispatch(command.command(), command.future()));
+        }
+
+        private void dispatch(Command command, CompletableFuture future) {
             try {
                 for (CommandMiddleware middleware : middlewares) {
-                    middleware.invoke(event.getCommand());
+                    middleware.invoke(command);
                 }
 
-                var handler = router.route(event.getCommand());
+                var handler = router.route(command);
 
-                event.getFuture().complete(handler.handle(event.getCommand()));
+                future.complete(handler.handle(command));
             } catch (Exception e) {
-                event.getFuture().completeExceptionally(e);
+                future.completeExceptionally(e);
             }
         }
+
+        private record PendingCommand(Command command, CompletableFuture future) {}
     }
 }
@@ -0,0 +1,146 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.command.implementation;
+
+import com.lmax.disruptor.InsufficientCapacityException;
+import com.lmax.disruptor.RingBuffer;
+import com.lmax.disruptor.dsl.Disruptor;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.Closeable;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.command.core.Command;
+import org.apache.fineract.command.core.CommandAggregate;
+import org.apache.fineract.command.core.CommandExecutor;
+import org.apache.fineract.command.implementation.DisruptorCommandExecutor.CommandEvent;
+
+/**
+ * Disruptor based executor that spreads commands over several ring buffers (shards), each with its own consumer thread.
+ *
+ * Commands are assigned to a shard by their aggregate key (see {@link CommandAggregate}), so all commands for the same
+ * loan, savings account or client are still processed one after another and in publishing order, while commands for
+ * different aggregates run in parallel. Commands without an aggregate key all go to the first shard, so they keep the
+ * order they would have on a single {@link DisruptorCommandExecutor}; no command of the platform implements
+ * {@link CommandAggregate} yet, so until they do every command runs on the first shard.
+ */
+@Slf4j
+@SuppressWarnings({ "unchecked", "rawtypes" })
+public class ShardedDisruptorCommandExecutor implements CommandExecutor, Closeable {
+
+    private final List<Disruptor<CommandEvent>> shards;
+    private final LongAdder[] backPressure;
+
+    public ShardedDisruptorCommandExecutor(List<Disruptor<CommandEvent>> shards, MeterRegistry meterRegistry) {
+        if (shards.isEmpty()) {
+            throw new IllegalArgumentException("At least one command shard is required");
+        }
+        this.shards = List.copyOf(shards);
+        this.backPressure = new LongAdder[shards.size()];
+        for (int i = 0; i < shards.size(); i++) {
+            backPressure[i] = new LongAdder();
+        }
+        if (meterRegistry != null) {
+            registerMetrics(meterRegistry);
+        }
+    }
+
+    @Override
+    public <REQ, RES> Supplier<RES> execute(Command<REQ> command) {
+        CompletableFuture<RES> future = publish(shardOf(command), command);
+
+        return future::join;
+    }
+
+    @Override
+    public void close() {
+        shards.forEach(Disruptor::shutdown);
+    }
+
+    public int getShardCount() {
+        return shards.size();
+    }
+
+    public int shardOf(Command<?> command) {
+        String key = aggregateKey(command);
+        if (key == null) {
+            // without an aggregate the commands it must stay ordered with are unknown
+            return 0;
+        }
+        int hash = key.hashCode();
+        return Math.floorMod(hash ^ (hash >>> 16), shards.size());
+    }
+
+    public long getQueueDepth(int shard) {
+        RingBuffer<CommandEvent> ringBuffer = shards.get(shard).getRingBuffer();
+        return ringBuffer.getBufferSize() - ringBuffer.remainingCapacity();
+    }
+
+    public long getBackPressureCount(int shard) {
+        return backPressure[shard].sum();
+    }
+
+    private <REQ, RES> CompletableFuture<RES> publish(int shard, Command<REQ> command) {
+        RingBuffer<CommandEvent> ringBuffer = shards.get(shard).getRingBuffer();
+
+        long sequenceId;
+        try {
+            sequenceId = ringBuffer.tryNext();
+        } catch (InsufficientCapacityException e) {
+            // the shard is full, wait for its consumer to free a slot
+            backPressure[shard].increment();
+            sequenceId = ringBuffer.next();
+        }
+
+        // ring buffer slots are reused, so every command gets a fresh future
+        CompletableFuture<RES> future = new CompletableFuture<>();
+        CommandEvent<REQ, RES> event = ringBuffer.get(sequenceId);
+        event.setCommand(command);
+        event.setFuture(future);
+        ringBuffer.publish(sequenceId);
+
+        return future;
+    }
+
+    private static String aggregateKey(Command<?> command) {
+        if (command instanceof CommandAggregate aggregate && aggregate.getAggregateKey() != null) {
+            return aggregate.getAggregateKey();
+        }
+        if (command.getPayload() instanceof CommandAggregate aggregate) {
+            return aggregate.getAggregateKey();
+        }
+        return null;
+    }
+
+    private void registerMetrics(MeterRegistry meterRegistry) {
+        for (int i = 0; i < shards.size(); i++) {
+            final int shard = i;
+            Gauge.builder("fineract.command.shard.queue.depth", this, executor -> executor.getQueueDepth(shard))
+                    .description("Commands waiting in the shard's ring buffer").tag("shard", String.valueOf(shard))
+                    .register(meterRegistry);
+            FunctionCounter.builder("fineract.command.shard.backpressure", this, executor -> executor.getBackPressureCount(shard))
+                    .description("Commands that had to wait for a free slot in the shard's ring buffer")
+                    .tag("shard", String.valueOf(shard)).register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.command.persistence;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.Closeable;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.command.core.Command;
+import org.apache.fineract.command.core.CommandProperties;
+import org.apache.fineract.command.persistence.mapping.CommandJsonMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Write-behind journal for commands processed by the disruptor based executors.
+ *
+ * The event handlers hand over all commands of one ring buffer batch at once, and the journal stores them with a single
+ * JDBC batch insert. Depending on {@link CommandProperties#getJournalDurability()} the handler either waits for the
+ * insert before completing the commands' futures ({@code sync}) or completes them right away and lets the journal write
+ * the group on its own thread ({@code group}). In {@code sync} mode the batch is journaled before any of its commands is
+ * handled, so a failed insert never reports a command as failed after it was executed. In {@code group} mode at most
+ * {@link CommandProperties#getJournalQueueCapacity()} groups wait for the writer thread; beyond that the handing over
+ * event handler blocks until a group was written.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(value = "fineract.command.journal-enabled", havingValue = "true")
+public class CommandJournal implements Closeable {
+
+    private static final String INSERT_SQL = "INSERT INTO %s (command_id, created_at, tenant_id, username, payload) "
+            + "VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CommandJsonMapper jsonMapper;
+    private final ObjectMapper objectMapper;
+    private final CommandProperties properties;
+    private final ExecutorService writer;
+    private final Semaphore queuedGroups;
+    private volatile String insertSql;
+
+    public CommandJournal(JdbcTemplate jdbcTemplate, CommandJsonMapper jsonMapper, ObjectMapper objectMapper,
+            CommandProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.jsonMapper = jsonMapper;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "command-journal");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.queuedGroups = new Semaphore(Math.max(1, properties.getJournalQueueCapacity()));
+    }
+
+    public boolean isSyncBeforeAck() {
+        return properties.getJournalDurability() == CommandProperties.CommandJournalDurability.sync;
+    }
+
+    /**
+     * Stores the commands with one batch insert on the calling thread.
+     */
+    public void write(List<Command<?>> commands) {
+        if (commands.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(insertSql(), new BatchPreparedStatementSetter() {
+
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Command<?> command = commands.get(i);
+                ps.setObject(1, command.getId());
+                ps.setObject(2, command.getCreatedAt());
+                ps.setString(3, command.getTenantId());
+                ps.setString(4, command.getUsername());
+                ps.setString(5, payload(command));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return commands.size();
+            }
+        });
+    }
+
+    /**
+     * Stores the commands with one batch insert on the journal's writer thread. Groups are written in the order they
+     * were handed over. Blocks the caller while the queue of pending groups is full; failures are only logged.
+     */
+    public CompletableFuture<Void> writeAsync(List<Command<?>> commands) {
+        try {
+            queuedGroups.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("Interrupted while waiting to journal {} commands", commands.size());
+            return CompletableFuture.failedFuture(e);
+        }
+
+        try {
+            return CompletableFuture.runAsync(() -> write(commands), writer).whenComplete((result, e) -> {
+                queuedGroups.release();
+                if (e != null) {
+                    log.error("Failed to journal {} commands", commands.size(), e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            queuedGroups.release();
+            log.error("Failed to journal {} commands, journal is closed", commands.size(), e);
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        writer.shutdown();
+        try {
+            // give pending groups a chance to reach the database
+            if (!writer.awaitTermination(5, TimeUnit.SECONDS)) {
+                log.warn("Command journal did not finish pending writes in time");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private String insertSql() {
+        if (insertSql == null) {
+            // NOTE: the Liquibase changelog names the table "command" on MySQL/MariaDB and "m_command" on PostgreSQL
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) connection -> connection.getMetaData()
+                    .getDatabaseProductName());
+            String table = product != null && (product.toLowerCase(Locale.ROOT).contains("mysql")
+                    || product.toLowerCase(Locale.ROOT).contains("mariadb")) ? "command" : "m_command";
+            insertSql = String.format(INSERT_SQL, table);
+        }
+
+        return insertSql;
+    }
+
+    @SneakyThrows
+    private String payload(Command<?> command) {
+        var json = jsonMapper.map((Object) command.getPayload());
+
+        return json == null ? null : objectMapper.writeValueAsString(json);
+    }
+}
@@ -22,13 +22,20 @@ import com.lmax.disruptor.IgnoreExceptionHandler;
 import com.lmax.disruptor.WaitStrategy;
 import com.lmax.disruptor.YieldingWaitStrategy;
 import com.lmax.disruptor.dsl.Disruptor;
+import com.lmax.disruptor.dsl.ProducerType;
 import com.lmax.disruptor.util.DaemonThreadFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import org.apache.fineract.command.core.CommandMiddleware;
 import org.apache.fineract.command.core.CommandProperties;
 import org.apache.fineract.command.core.CommandRouter;
 import org.apache.fineract.command.implementation.DisruptorCommandExecutor;
+import org.apache.fineract.command.implementation.ShardedDisruptorCommandExecutor;
+import org.apache.fineract.command.persistence.CommandJournal;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
@@ -48,14 +55,14 @@ class CommandConfiguration {
 
     @Bean
     Disruptor<?> disruptor(CommandProperties properties, WaitStrategy waitStrategy, List<CommandMiddleware> middlewares,
-            CommandRouter router) {
+            CommandRouter router, Optional<CommandJournal> journal) {
         // TODO: make this more configurable
 
         // Create the disruptor
         Disruptor<DisruptorCommandExecutor.CommandEvent> disruptor = new Disruptor<>(DisruptorCommandExecutor.CommandEvent::new,
                 properties.getRingBufferSize(), DaemonThreadFactory.INSTANCE, properties.getProducerType(), waitStrategy);
 
-        disruptor.handleEventsWith(new DisruptorCommandExecutor.CompleteableCommandEventHandler(middlewares, router));
+        disruptor.handleEventsWith(new DisruptorCommandExecutor.CompleteableCommandEventHandler(middlewares, router, journal.orElse(null)));
         disruptor.setDefaultExceptionHandler(new IgnoreExceptionHandler());
 
         // Start the disruptor
@@ -63,4 +70,26 @@ class CommandConfiguration {
 
         return disruptor;
     }
+
+    @Bean
+    @ConditionalOnProperty(value = "fineract.command.executor", havingValue = "sharded")
+    ShardedDisruptorCommandExecutor shardedDisruptorCommandExecutor(CommandProperties properties, WaitStrategy waitStrategy,
+            List<CommandMiddleware> middlewares, CommandRouter router, Optional<CommandJournal> journal,
+            Optional<MeterRegistry> meterRegistry) {
+        List<Disruptor<DisruptorCommandExecutor.CommandEvent>> shards = new ArrayList<>();
+
+        for (int i = 0; i < properties.getShardCount(); i++) {
+            // every request thread can publish to any shard, so each ring buffer needs a multi producer sequencer
+            Disruptor<DisruptorCommandExecutor.CommandEvent> shard = new Disruptor<>(DisruptorCommandExecutor.CommandEvent::new,
+                    properties.getRingBufferSize(), DaemonThreadFactory.INSTANCE, ProducerType.MULTI, waitStrategy);
+
+            shard.handleEventsWith(new DisruptorCommandExecutor.CompleteableCommandEventHandler(middlewares, router, journal.orElse(null)));
+            shard.setDefaultExceptionHandler(new IgnoreExceptionHandler());
+            shard.start();
+
+            shards.add(shard);
+        }
+
+        return new ShardedDisruptorCommandExecutor(shards, meterRegistry.orElse(null));
+    }
 }
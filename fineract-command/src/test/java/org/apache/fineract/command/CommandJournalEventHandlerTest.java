@@ -0,0 +1,149 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.command;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletionException;
+import org.apache.fineract.command.core.CommandMiddleware;
+import org.apache.fineract.command.core.CommandRouter;
+import org.apache.fineract.command.implementation.DefaultCommandRouter;
+import org.apache.fineract.command.implementation.DisruptorCommandExecutor;
+import org.apache.fineract.command.persistence.CommandJournal;
+import org.apache.fineract.command.sample.command.DummyCommand;
+import org.apache.fineract.command.sample.data.DummyRequest;
+import org.apache.fineract.command.sample.data.DummyResponse;
+import org.apache.fineract.command.sample.handler.DummyCommandHandler;
+import org.apache.fineract.command.sample.service.DefaultDummyService;
+import org.apache.fineract.command.sample.service.DefaultDummyTenantService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings({ "unchecked", "rawtypes" })
+class CommandJournalEventHandlerTest {
+
+    @Mock
+    private CommandJournal journal;
+
+    @Mock
+    private CommandMiddleware middleware;
+
+    private DisruptorCommandExecutor.CompleteableCommandEventHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        CommandRouter router = new DefaultCommandRouter(
+                List.of(new DummyCommandHandler(new DefaultDummyService(new DefaultDummyTenantService()))));
+        handler = new DisruptorCommandExecutor.CompleteableCommandEventHandler(List.of(middleware), router, journal);
+    }
+
+    @Test
+    void syncBeforeAckCompletesCommandsOnlyAfterTheBatchIsJournaled() throws Exception {
+        when(journal.isSyncBeforeAck()).thenReturn(true);
+        DisruptorCommandExecutor.CommandEvent first = event("one");
+        DisruptorCommandExecutor.CommandEvent second = event("two");
+
+        handler.onEvent(first, 0, false);
+        assertFalse(first.getFuture().isDone());
+
+        handler.onEvent(second, 1, true);
+
+        InOrder order = inOrder(journal, middleware);
+        order.verify(journal).write(List.of(first.getCommand(), second.getCommand()));
+        order.verify(middleware).invoke(first.getCommand());
+        order.verify(middleware).invoke(second.getCommand());
+        assertEquals("ONE", ((DummyResponse) first.getFuture().join()).getContent());
+        assertEquals("TWO", ((DummyResponse) second.getFuture().join()).getContent());
+    }
+
+    @Test
+    void syncBeforeAckFailsCommandsWhenTheJournalFails() throws Exception {
+        when(journal.isSyncBeforeAck()).thenReturn(true);
+        IllegalStateException failure = new IllegalStateException("database down");
+        doThrow(failure).when(journal).write(anyList());
+        DisruptorCommandExecutor.CommandEvent event = event("one");
+
+        handler.onEvent(event, 0, true);
+
+        CompletionException e = assertThrows(CompletionException.class, () -> event.getFuture().join());
+        assertSame(failure, e.getCause());
+        verify(middleware, never()).invoke(any());
+    }
+
+    @Test
+    void syncBeforeAckDoesNotFailExecutedCommandsOfAnEarlierBatch() throws Exception {
+        when(journal.isSyncBeforeAck()).thenReturn(true);
+        DisruptorCommandExecutor.CommandEvent first = event("one");
+        DisruptorCommandExecutor.CommandEvent second = event("two");
+
+        handler.onEvent(first, 0, true);
+        doThrow(new IllegalStateException("database down")).when(journal).write(anyList());
+        handler.onEvent(second, 1, true);
+
+        assertEquals("ONE", ((DummyResponse) first.getFuture().join()).getContent());
+        assertTrue(second.getFuture().isCompletedExceptionally());
+        verify(middleware).invoke(first.getCommand());
+        verify(middleware, never()).invoke(second.getCommand());
+    }
+
+    @Test
+    void groupCommitAcknowledgesImmediatelyAndJournalsInTheBackground() throws Exception {
+        when(journal.isSyncBeforeAck()).thenReturn(false);
+        DisruptorCommandExecutor.CommandEvent first = event("one");
+        DisruptorCommandExecutor.CommandEvent second = event("two");
+
+        handler.onEvent(first, 0, false);
+        assertTrue(first.getFuture().isDone());
+        verify(journal, never()).writeAsync(anyList());
+
+        handler.onEvent(second, 1, true);
+
+        verify(journal).writeAsync(List.of(first.getCommand(), second.getCommand()));
+        verify(journal, never()).write(anyList());
+        assertEquals("TWO", ((DummyResponse) second.getFuture().join()).getContent());
+    }
+
+    private static DisruptorCommandExecutor.CommandEvent event(String content) {
+        var command = new DummyCommand();
+        command.setId(UUID.randomUUID());
+        command.setPayload(DummyRequest.builder().content(content).build());
+
+        var event = new DisruptorCommandExecutor.CommandEvent();
+        event.setCommand(command);
+        return event;
+    }
+}
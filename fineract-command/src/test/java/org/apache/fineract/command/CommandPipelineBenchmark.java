@@ -22,17 +22,27 @@ import com.lmax.disruptor.YieldingWaitStrategy;
 import com.lmax.disruptor.dsl.Disruptor;
 import com.lmax.disruptor.dsl.ProducerType;
 import com.lmax.disruptor.util.DaemonThreadFactory;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.command.core.CommandAggregate;
+import org.apache.fineract.command.core.CommandExecutor;
+import org.apache.fineract.command.core.CommandMiddleware;
 import org.apache.fineract.command.core.CommandPipeline;
 import org.apache.fineract.command.core.CommandRouter;
+import org.apache.fineract.command.implementation.AsynchronousCommandExecutor;
 import org.apache.fineract.command.implementation.DefaultCommandPipeline;
 import org.apache.fineract.command.implementation.DefaultCommandRouter;
 import org.apache.fineract.command.implementation.DisruptorCommandExecutor;
+import org.apache.fineract.command.implementation.ShardedDisruptorCommandExecutor;
+import org.apache.fineract.command.implementation.SynchronousCommandExecutor;
 import org.apache.fineract.command.sample.command.DummyCommand;
 import org.apache.fineract.command.sample.data.DummyRequest;
 import org.apache.fineract.command.sample.data.DummyResponse;
@@ -46,49 +56,66 @@ import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
 
 @Slf4j
 @BenchmarkMode(Mode.Throughput) // Measures operations per second
 @State(Scope.Benchmark) // Benchmark state for each thread
 @OutputTimeUnit(TimeUnit.SECONDS) // Output results in seconds
+@Threads(8) // Concurrent request threads, so that parallel executors can show their effect
 @SuppressWarnings({ "raw" })
 public class CommandPipelineBenchmark {
 
+    private static final int SHARD_COUNT = 4;
+    private static final int AGGREGATE_COUNT = 1000;
+
+    @Param({ "sync", "async", "disruptor", "sharded" })
+    private String mode;
+
     private CommandRouter router;
-    private Disruptor<DisruptorCommandExecutor.CommandEvent> disruptor;
+    private final List<Disruptor<DisruptorCommandExecutor.CommandEvent>> disruptors = new ArrayList<>();
 
     private CommandPipeline pipeline;
 
     @Setup(Level.Iteration)
     public void setUp() {
         this.router = new DefaultCommandRouter(List.of(new DummyCommandHandler(new DefaultDummyService(new DefaultDummyTenantService()))));
+        List<CommandMiddleware> middlewares = List.of(new DummyMiddleware(), new DummyIdempotencyMiddleware());
 
-        // Create the disruptor
-        this.disruptor = new Disruptor<>(DisruptorCommandExecutor.CommandEvent::new, 2048, DaemonThreadFactory.INSTANCE, ProducerType.MULTI,
-                new YieldingWaitStrategy());
+        CommandExecutor executor = switch (mode) {
+            case "sync" -> new SynchronousCommandExecutor(middlewares, router);
+            case "async" -> new AsynchronousCommandExecutor(middlewares, router);
+            case "disruptor" -> new DisruptorCommandExecutor(startDisruptor(middlewares));
+            case "sharded" -> {
+                List<Disruptor<DisruptorCommandExecutor.CommandEvent>> shards = new ArrayList<>();
+                for (int i = 0; i < SHARD_COUNT; i++) {
+                    shards.add(startDisruptor(middlewares));
+                }
+                yield new ShardedDisruptorCommandExecutor(shards, null);
+            }
+            default -> throw new IllegalArgumentException("Unknown executor mode: " + mode);
+        };
 
-        disruptor.handleEventsWith(new DisruptorCommandExecutor.CompleteableCommandEventHandler(
-                List.of(new DummyMiddleware(), new DummyIdempotencyMiddleware()), router));
-
-        // Start the disruptor
-        disruptor.start();
-
-        pipeline = new DefaultCommandPipeline(new DisruptorCommandExecutor(disruptor));
+        pipeline = new DefaultCommandPipeline(executor);
     }
 
     @TearDown(Level.Iteration)
     @SneakyThrows
     public void tearDown() {
-        disruptor.shutdown(1, TimeUnit.SECONDS);
+        for (Disruptor<DisruptorCommandExecutor.CommandEvent> disruptor : disruptors) {
+            disruptor.shutdown(1, TimeUnit.SECONDS);
+        }
+        disruptors.clear();
     }
 
     @Benchmark
     public void processCommand() {
-        var command = new DummyCommand();
+        var command = new AccountCommand("loan:" + ThreadLocalRandom.current().nextInt(AGGREGATE_COUNT));
         command.setId(UUID.randomUUID());
         command.setPayload(DummyRequest.builder().content("hello").build());
 
@@ -97,4 +124,25 @@ public class CommandPipelineBenchmark {
         // NOTE: force yield
         result.get();
     }
+
+    private Disruptor<DisruptorCommandExecutor.CommandEvent> startDisruptor(List<CommandMiddleware> middlewares) {
+        // Create the disruptor
+        Disruptor<DisruptorCommandExecutor.CommandEvent> disruptor = new Disruptor<>(DisruptorCommandExecutor.CommandEvent::new, 2048,
+                DaemonThreadFactory.INSTANCE, ProducerType.MULTI, new YieldingWaitStrategy());
+
+        disruptor.handleEventsWith(new DisruptorCommandExecutor.CompleteableCommandEventHandler(middlewares, router));
+
+        // Start the disruptor
+        disruptor.start();
+        disruptors.add(disruptor);
+
+        return disruptor;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static final class AccountCommand extends DummyCommand implements CommandAggregate {
+
+        private final String aggregateKey;
+    }
 }
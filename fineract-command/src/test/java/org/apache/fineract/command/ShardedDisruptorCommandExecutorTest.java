@@ -0,0 +1,151 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.command;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import com.lmax.disruptor.BlockingWaitStrategy;
+import com.lmax.disruptor.dsl.Disruptor;
+import com.lmax.disruptor.dsl.ProducerType;
+import com.lmax.disruptor.util.DaemonThreadFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.command.core.Command;
+import org.apache.fineract.command.core.CommandAggregate;
+import org.apache.fineract.command.core.CommandHandler;
+import org.apache.fineract.command.core.CommandRouter;
+import org.apache.fineract.command.implementation.DefaultCommandRouter;
+import org.apache.fineract.command.implementation.DisruptorCommandExecutor;
+import org.apache.fineract.command.implementation.ShardedDisruptorCommandExecutor;
+import org.apache.fineract.command.sample.command.DummyCommand;
+import org.apache.fineract.command.sample.data.DummyRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings({ "unchecked", "rawtypes" })
+class ShardedDisruptorCommandExecutorTest {
+
+    private final Map<String, List<Integer>> processed = new ConcurrentHashMap<>();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ShardedDisruptorCommandExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        CommandRouter router = new DefaultCommandRouter(List.of(new RecordingCommandHandler()));
+        List<Disruptor<DisruptorCommandExecutor.CommandEvent>> shards = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Disruptor<DisruptorCommandExecutor.CommandEvent> shard = new Disruptor<>(DisruptorCommandExecutor.CommandEvent::new, 16,
+                    DaemonThreadFactory.INSTANCE, ProducerType.MULTI, new BlockingWaitStrategy());
+            shard.handleEventsWith(new DisruptorCommandExecutor.CompleteableCommandEventHandler(List.of(), router));
+            shard.start();
+            shards.add(shard);
+        }
+        executor = new ShardedDisruptorCommandExecutor(shards, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.close();
+    }
+
+    @Test
+    void keepsCommandsForTheSameAggregateInOrder() {
+        List<Supplier<Object>> results = new ArrayList<>();
+        for (int sequence = 0; sequence < 200; sequence++) {
+            for (int loan = 0; loan < 10; loan++) {
+                results.add(executor.execute(command("loan:" + loan, sequence)));
+            }
+        }
+        results.forEach(Supplier::get);
+
+        assertEquals(10, processed.size());
+        List<Integer> expected = IntStream.range(0, 200).boxed().toList();
+        processed.values().forEach(sequences -> assertEquals(expected, sequences));
+    }
+
+    @Test
+    void assignsTheSameAggregateToTheSameShard() {
+        int shard = executor.shardOf(command("savings:7", 0));
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(shard, executor.shardOf(command("savings:7", i)));
+        }
+        long used = IntStream.range(0, 100).map(i -> executor.shardOf(command("client:" + i, 0))).distinct().count();
+        assertNotEquals(1L, used);
+    }
+
+    @Test
+    void keepsCommandsWithoutAggregateOnTheFirstShard() {
+        for (int i = 0; i < 10; i++) {
+            DummyCommand command = new DummyCommand();
+            command.setId(UUID.randomUUID());
+            command.setPayload(DummyRequest.builder().content(String.valueOf(i)).build());
+
+            assertEquals(0, executor.shardOf(command));
+        }
+        assertEquals(0, executor.shardOf(command(null, 0)));
+    }
+
+    @Test
+    void registersMetricsPerShard() {
+        executor.execute(command("loan:1", 0)).get();
+
+        assertEquals(4, meterRegistry.find("fineract.command.shard.queue.depth").gauges().size());
+        assertEquals(4, meterRegistry.find("fineract.command.shard.backpressure").functionCounters().size());
+        for (int shard = 0; shard < executor.getShardCount(); shard++) {
+            assertEquals(0L, executor.getQueueDepth(shard));
+        }
+    }
+
+    private static AccountCommand command(String aggregateKey, int sequence) {
+        AccountCommand command = new AccountCommand(aggregateKey);
+        command.setId(UUID.randomUUID());
+        command.setPayload(DummyRequest.builder().content(String.valueOf(sequence)).build());
+        return command;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static final class AccountCommand extends DummyCommand implements CommandAggregate {
+
+        private final String aggregateKey;
+    }
+
+    private final class RecordingCommandHandler implements CommandHandler<DummyRequest, Object> {
+
+        @Override
+        public Object handle(Command<DummyRequest> command) {
+            String aggregateKey = ((CommandAggregate) command).getAggregateKey();
+            processed.computeIfAbsent(aggregateKey, key -> new CopyOnWriteArrayList<>())
+                    .add(Integer.valueOf(command.getPayload().getContent()));
+            return aggregateKey;
+        }
+    }
+}
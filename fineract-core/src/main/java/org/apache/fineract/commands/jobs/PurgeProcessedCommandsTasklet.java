@@ -19,12 +19,15 @@
 package org.apache.fineract.commands.jobs;
 
 import java.time.OffsetDateTime;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.fineract.commands.domain.CommandProcessingResultType;
 import org.apache.fineract.commands.domain.CommandSourceRepository;
 import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
 import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.apache.fineract.infrastructure.jobs.service.purge.ChunkedPurgeEngine;
+import org.apache.fineract.infrastructure.jobs.service.purge.PurgeSpec;
 import org.springframework.batch.core.StepContribution;
 import org.springframework.batch.core.scope.context.ChunkContext;
 import org.springframework.batch.core.step.tasklet.Tasklet;
@@ -38,13 +41,20 @@ public class PurgeProcessedCommandsTasklet implements Tasklet {
 
     private final CommandSourceRepository repository;
     private final ConfigurationDomainService configurationDomainService;
+    private final ChunkedPurgeEngine purgeEngine;
 
     @Override
     public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
         try {
             Long numberOfDaysForPurgeCriteria = configurationDomainService.retrieveProcessedCommandsPurgeDaysCriteria();
             OffsetDateTime dateForPurgeCriteria = DateUtils.getAuditOffsetDateTime().minusDays(numberOfDaysForPurgeCriteria);
-            repository.deleteOlderEventsWithStatus(CommandProcessingResultType.PROCESSED.getValue(), dateForPurgeCriteria);
+            if (purgeEngine.isEnabled()) {
+                purgeEngine.purge(new PurgeSpec("processed-commands", "m_portfolio_command_source", "made_on_date_utc",
+                        dateForPurgeCriteria, "status = ?", List.of(CommandProcessingResultType.PROCESSED.getValue()), "status = ?",
+                        List.of(CommandProcessingResultType.UNDER_PROCESSING.getValue())));
+            } else {
+                repository.deleteOlderEventsWithStatus(CommandProcessingResultType.PROCESSED.getValue(), dateForPurgeCriteria);
+            }
         } catch (Exception e) {
             log.error("Error occurred while purging processed commands: ", e);
         }
@@ -0,0 +1,67 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.commands.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Encodes the request and result payloads of compact <code>m_portfolio_command_source</code> rows, see
+ * {@link CompactCommandSourceAudit}. Compressed payloads are stored as gzipped, Base64 encoded text with a
+ * {@value #COMPRESSED_PREFIX} prefix, so they fit the existing text columns and are told apart from plain JSON.
+ */
+public final class CommandSourcePayloadCodec {
+
+    public static final String COMPRESSED_PREFIX = "gzip:";
+
+    private CommandSourcePayloadCodec() {}
+
+    public static String encode(final String payload, final boolean compress) {
+        if (!compress || payload == null || payload.isEmpty()) {
+            return payload;
+        }
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(payload.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return COMPRESSED_PREFIX + Base64.getEncoder().encodeToString(bytes.toByteArray());
+    }
+
+    public static String decode(final String payload) {
+        if (payload == null || !payload.startsWith(COMPRESSED_PREFIX)) {
+            return payload;
+        }
+        final byte[] compressed = Base64.getDecoder().decode(payload.substring(COMPRESSED_PREFIX.length()));
+        try (InputStream gzip = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return new String(gzip.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -75,10 +75,24 @@ public class CommandSourceService {
         return saveInitial(wrapper, jsonCommand, maker, idempotencyKey);
     }
 
+    /**
+     * Saves an initial command source which was built (and possibly compacted) by the caller with
+     * {@link #getInitialCommandSource}.
+     */
+    @NotNull
+    @Transactional(propagation = Propagation.REQUIRES_NEW, isolation = Isolation.REPEATABLE_READ)
+    public CommandSource saveInitialNewTransaction(CommandWrapper wrapper, CommandSource initialCommandSource, String idempotencyKey) {
+        return saveInitial(wrapper, initialCommandSource, idempotencyKey);
+    }
+
     @NotNull
     private CommandSource saveInitial(CommandWrapper wrapper, JsonCommand jsonCommand, AppUser maker, String idempotencyKey) {
+        return saveInitial(wrapper, getInitialCommandSource(wrapper, jsonCommand, maker, idempotencyKey), idempotencyKey);
+    }
+
+    @NotNull
+    private CommandSource saveInitial(CommandWrapper wrapper, CommandSource initialCommandSource, String idempotencyKey) {
         try {
-            CommandSource initialCommandSource = getInitialCommandSource(wrapper, jsonCommand, maker, idempotencyKey);
             return commandSourceRepository.saveAndFlush(initialCommandSource);
         } catch (JpaSystemException jse) {
             final String message = (jse.getRootCause() != null) ? jse.getRootCause().getMessage() : null;
@@ -0,0 +1,65 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.commands.service;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractCommandSourceAuditProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Compact audit rows of <code>m_portfolio_command_source</code>, switched on with
+ * <code>fineract.command-source.audit.compact-enabled</code>.
+ *
+ * In compact mode the sanitized request is stored gzipped with the initial insert of the row, and the result is stored
+ * gzipped as well, see {@link CommandSourcePayloadCodec}. The HTTP response of the idempotency filters is written with a
+ * single update instead of loading and saving the entity. A command therefore does not write its row more often than
+ * without compact mode, while the stored payloads shrink.
+ */
+@Component
+@RequiredArgsConstructor
+public class CompactCommandSourceAudit {
+
+    private static final String UPDATE_RESULT_SQL = "UPDATE m_portfolio_command_source SET result = ?, result_status_code = ? "
+            + "WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final FineractProperties fineractProperties;
+
+    public boolean isEnabled() {
+        FineractCommandSourceAuditProperties properties = fineractProperties.getCommandSource() == null ? null
+                : fineractProperties.getCommandSource().getAudit();
+        return properties != null && properties.isCompactEnabled();
+    }
+
+    /**
+     * Returns the payload as it is stored in a compact row.
+     */
+    public String encode(final String payload) {
+        return CommandSourcePayloadCodec.encode(payload, true);
+    }
+
+    /**
+     * Stores the HTTP response of the idempotency filters right away with a single update, replays read it from the row.
+     */
+    public void writeResult(final Long commandSourceId, final Integer resultStatusCode, final String result) {
+        jdbcTemplate.update(UPDATE_RESULT_SQL, encode(result), resultStatusCode, commandSourceId);
+    }
+}
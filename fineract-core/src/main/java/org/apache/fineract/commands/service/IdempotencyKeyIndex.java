@@ -0,0 +1,217 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.commands.service;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.commands.domain.CommandProcessingResultType;
+import org.apache.fineract.commands.domain.CommandWrapper;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractIdempotencyIndexProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Per tenant, time windowed index of the idempotency keys (action, entity and key) of
+ * <code>m_portfolio_command_source</code>, used to skip the "already processed" lookup for keys which were definitely
+ * not seen before.
+ *
+ * Every tenant has two rotating bloom filters, each covering one <code>window</code>, so keys are remembered for at
+ * least one and at most two windows. A key which is in neither filter is new, unless its row is older than the
+ * remembered window or was stored by another node; the unique constraint on the command source still rejects those
+ * and the caller re-checks the database when the insert fails. The filters are rebuilt from the rows of the last window
+ * in the background on the first command of a tenant, until then every key is looked up in the database.
+ *
+ * A bounded LRU of the most recent keys keeps their status, so a duplicate of a command which is still processed by
+ * this node is answered without a query.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdempotencyKeyIndex implements DisposableBean {
+
+    private static final String RECENT_KEYS_SQL = "SELECT action_name, entity_name, idempotency_key FROM m_portfolio_command_source"
+            + " WHERE made_on_date_utc >= ? ORDER BY id DESC LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final FineractProperties fineractProperties;
+
+    private final ConcurrentHashMap<String, TenantIndex> tenantIndexes = new ConcurrentHashMap<>();
+    private final ExecutorService rebuildExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public boolean isEnabled() {
+        FineractIdempotencyIndexProperties properties = getProperties();
+        return properties != null && properties.isEnabled();
+    }
+
+    /**
+     * Whether the key was definitely not used before, <code>false</code> means it has to be looked up in the database.
+     */
+    public boolean isDefinitelyNew(final CommandWrapper wrapper, final String idempotencyKey) {
+        if (!isEnabled()) {
+            return false;
+        }
+        TenantIndex index = getTenantIndex();
+        return index.isReady() && !index.mightContain(keyOf(wrapper, idempotencyKey));
+    }
+
+    /**
+     * Whether a command with this key is still being processed by this node.
+     */
+    public boolean isUnderProcessing(final CommandWrapper wrapper, final String idempotencyKey) {
+        if (!isEnabled()) {
+            return false;
+        }
+        return getTenantIndex().recentKeys.getIfPresent(keyOf(wrapper, idempotencyKey)) == CommandProcessingResultType.UNDER_PROCESSING;
+    }
+
+    public void record(final CommandWrapper wrapper, final String idempotencyKey, final CommandProcessingResultType status) {
+        if (!isEnabled()) {
+            return;
+        }
+        TenantIndex index = getTenantIndex();
+        String key = keyOf(wrapper, idempotencyKey);
+        index.put(key);
+        index.recentKeys.put(key, status);
+    }
+
+    /**
+     * Drops the index of the current tenant, it is rebuilt on the next command.
+     */
+    public void invalidate() {
+        FineractPlatformTenant tenant = ThreadLocalContextUtil.getTenant();
+        if (tenant != null) {
+            tenantIndexes.remove(tenant.getTenantIdentifier());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        log.debug("Shutting down idempotency key index rebuild executor");
+        rebuildExecutor.shutdownNow();
+    }
+
+    private TenantIndex getTenantIndex() {
+        FineractPlatformTenant tenant = ThreadLocalContextUtil.getTenant();
+        return tenantIndexes.computeIfAbsent(tenant.getTenantIdentifier(), identifier -> {
+            TenantIndex index = new TenantIndex(getProperties());
+            rebuildExecutor.execute(() -> rebuild(tenant, index));
+            return index;
+        });
+    }
+
+    private void rebuild(final FineractPlatformTenant tenant, final TenantIndex index) {
+        FineractIdempotencyIndexProperties properties = getProperties();
+        try {
+            ThreadLocalContextUtil.setTenant(tenant);
+            jdbcTemplate.query(RECENT_KEYS_SQL, rs -> {
+                index.put(rs.getString("action_name") + ':' + rs.getString("entity_name") + ':' + rs.getString("idempotency_key"));
+            }, DateUtils.getAuditOffsetDateTime().minus(properties.getWindow()), properties.getExpectedInsertions());
+            index.markReady();
+            log.debug("Idempotency key index of tenant {} rebuilt", tenant.getTenantIdentifier());
+        } catch (RuntimeException e) {
+            // keep looking up every key, the next command of the tenant starts a new rebuild
+            log.warn("Failed to rebuild the idempotency key index of tenant {}", tenant.getTenantIdentifier(), e);
+            tenantIndexes.remove(tenant.getTenantIdentifier(), index);
+        } finally {
+            ThreadLocalContextUtil.reset();
+        }
+    }
+
+    private FineractIdempotencyIndexProperties getProperties() {
+        return fineractProperties.getCommandSource() == null ? null : fineractProperties.getCommandSource().getIdempotencyIndex();
+    }
+
+    private static String keyOf(final CommandWrapper wrapper, final String idempotencyKey) {
+        return wrapper.actionName() + ':' + wrapper.entityName() + ':' + idempotencyKey;
+    }
+
+    private static final class TenantIndex {
+
+        private final int expectedInsertions;
+        private final double falsePositiveProbability;
+        private final long windowNanos;
+        private final Cache<String, CommandProcessingResultType> recentKeys;
+        private volatile boolean ready;
+        private volatile Generation current;
+        private volatile Generation previous;
+
+        TenantIndex(FineractIdempotencyIndexProperties properties) {
+            this.expectedInsertions = properties.getExpectedInsertions();
+            this.falsePositiveProbability = properties.getFalsePositiveProbability();
+            this.windowNanos = properties.getWindow().toNanos();
+            this.recentKeys = CacheBuilder.newBuilder().maximumSize(properties.getRecentKeys())
+                    .expireAfterWrite(Duration.ofNanos(windowNanos)).build();
+            this.current = newGeneration();
+        }
+
+        boolean isReady() {
+            return ready;
+        }
+
+        void markReady() {
+            ready = true;
+        }
+
+        boolean mightContain(String key) {
+            rotateIfExpired();
+            Generation previousGeneration = previous;
+            return current.keys().mightContain(key) || (previousGeneration != null && previousGeneration.keys().mightContain(key));
+        }
+
+        void put(String key) {
+            rotateIfExpired();
+            current.keys().put(key);
+        }
+
+        private void rotateIfExpired() {
+            if (System.nanoTime() - current.createdAt() < windowNanos) {
+                return;
+            }
+            synchronized (this) {
+                if (System.nanoTime() - current.createdAt() >= windowNanos) {
+                    // move the current generation to previous first, so a concurrent lookup always sees its keys
+                    previous = current;
+                    current = newGeneration();
+                }
+            }
+        }
+
+        private Generation newGeneration() {
+            return new Generation(BloomFilter.create(Funnels.stringFunnel(StandardCharsets.UTF_8), expectedInsertions,
+                    falsePositiveProbability), System.nanoTime());
+        }
+    }
+
+    private record Generation(BloomFilter<CharSequence> keys, long createdAt) {
+    }
+}
@@ -20,6 +20,7 @@ package org.apache.fineract.commands.service;
 
 import static org.apache.fineract.commands.domain.CommandProcessingResultType.ERROR;
 import static org.apache.fineract.commands.domain.CommandProcessingResultType.PROCESSED;
+import static org.apache.fineract.commands.domain.CommandProcessingResultType.UNDER_PROCESSING;
 import static org.apache.http.HttpStatus.SC_OK;
 
 import com.google.gson.Gson;
@@ -30,6 +31,7 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.fineract.batch.exception.ErrorInfo;
@@ -76,6 +78,8 @@ public class SynchronousCommandProcessingService implements CommandProcessingSer
     private final CommandHandlerProvider commandHandlerProvider;
     private final IdempotencyKeyResolver idempotencyKeyResolver;
     private final CommandSourceService commandSourceService;
+    private final CompactCommandSourceAudit compactCommandSourceAudit;
+    private final IdempotencyKeyIndex idempotencyKeyIndex;
 
     private final FineractRequestContextHolder fineractRequestContextHolder;
     private final Gson gson = GoogleGsonSerializerHelper.createSimpleGson();
@@ -102,14 +106,33 @@ public class SynchronousCommandProcessingService implements CommandProcessingSer
         } else {
             idempotencyKey = idempotencyKeyResolver.resolve(wrapper);
         }
-        exceptionWhenTheRequestAlreadyProcessed(wrapper, idempotencyKey, isRetry);
+        // a new key stored in a new transaction is still verified by the unique constraint of the command source
+        boolean lookupSkipped = commandSource == null && !isEnclosingTransaction
+                && idempotencyKeyIndex.isDefinitelyNew(wrapper, idempotencyKey);
+        if (!lookupSkipped) {
+            if (commandSource == null && idempotencyKeyIndex.isUnderProcessing(wrapper, idempotencyKey)) {
+                throw new IdempotentCommandProcessUnderProcessingException(wrapper, idempotencyKey);
+            }
+            exceptionWhenTheRequestAlreadyProcessed(wrapper, idempotencyKey, isRetry);
+        }
 
         AppUser user = context.authenticatedUser(wrapper);
+        // Plain request of a compact audit row, which is stored compressed
+        String plainCommandJson = null;
         if (commandSource == null) {
             if (isEnclosingTransaction) {
                 commandSource = commandSourceService.getInitialCommandSource(wrapper, command, user, idempotencyKey);
+            } else if (isCompactAudit(wrapper)) {
+                commandSource = commandSourceService.getInitialCommandSource(wrapper, command, user, idempotencyKey);
+                plainCommandJson = commandSource.getCommandAsJson();
+                commandSource.setCommandAsJson(compactCommandSourceAudit.encode(plainCommandJson));
+                CommandSource compactCommandSource = commandSource;
+                commandSource = saveInitialNewTransaction(wrapper, idempotencyKey, lookupSkipped,
+                        () -> commandSourceService.saveInitialNewTransaction(wrapper, compactCommandSource, idempotencyKey));
+                commandId = commandSource.getId();
             } else {
-                commandSource = commandSourceService.saveInitialNewTransaction(wrapper, command, user, idempotencyKey);
+                commandSource = saveInitialNewTransaction(wrapper, idempotencyKey, lookupSkipped,
+                        () -> commandSourceService.saveInitialNewTransaction(wrapper, command, user, idempotencyKey));
                 commandId = commandSource.getId();
             }
         }
@@ -131,8 +154,12 @@ public class SynchronousCommandProcessingService implements CommandProcessingSer
             if (statusCode != SC_OK) {
                 commandSource.setStatus(ERROR);
             }
+            if (plainCommandJson != null) { // failed and awaiting approval commands keep the plain request for the checker
+                commandSource.setCommandAsJson(plainCommandJson);
+            }
             if (!isEnclosingTransaction) { // TODO: temporary solution
                 commandSource = commandSourceService.saveResultNewTransaction(commandSource);
+                idempotencyKeyIndex.record(wrapper, idempotencyKey, commandSource.getStatusEnum());
             }
             // must not throw any exception; must persist in new transaction as the current transaction was already
             // marked as rollback
@@ -142,9 +169,13 @@ public class SynchronousCommandProcessingService implements CommandProcessingSer
 
         commandSource.setResultStatusCode(SC_OK);
         commandSource.updateForAudit(result);
-        commandSource.setResult(toApiResultJsonSerializer.serializeResult(result));
+        String resultJson = toApiResultJsonSerializer.serializeResult(result);
+        commandSource.setResult(plainCommandJson != null ? compactCommandSourceAudit.encode(resultJson) : resultJson);
         commandSource.setStatus(PROCESSED);
         commandSource = commandSourceService.saveResultSameTransaction(commandSource);
+        if (!isEnclosingTransaction) {
+            idempotencyKeyIndex.record(wrapper, idempotencyKey, PROCESSED);
+        }
         storeCommandIdInContext(commandSource); // Store command id as a request attribute
 
         result.setRollbackTransaction(null);
@@ -153,6 +184,22 @@ public class SynchronousCommandProcessingService implements CommandProcessingSer
         return result;
     }
 
+    private CommandSource saveInitialNewTransaction(CommandWrapper wrapper, String idempotencyKey, boolean lookupSkipped,
+            Supplier<CommandSource> saveInitial) {
+        CommandSource commandSource;
+        try {
+            commandSource = saveInitial.get();
+        } catch (RuntimeException e) {
+            if (lookupSkipped) {
+                // the key was stored by another node or before the window of the index
+                exceptionWhenTheRequestAlreadyProcessed(wrapper, idempotencyKey, false);
+            }
+            throw e;
+        }
+        idempotencyKeyIndex.record(wrapper, idempotencyKey, UNDER_PROCESSING);
+        return commandSource;
+    }
+
     private void storeCommandIdInContext(CommandSource savedCommandSource) {
         if (savedCommandSource.getId() == null) {
             throw new IllegalStateException("Command source not saved");
@@ -184,6 +231,12 @@ public class SynchronousCommandProcessingService implements CommandProcessingSer
         }
     }
 
+    private boolean isCompactAudit(CommandWrapper wrapper) {
+        // maker-checker needs the full request to execute the command on approval
+        return compactCommandSourceAudit.isEnabled()
+                && !configurationDomainService.isMakerCheckerEnabledForTask(wrapper.taskPermissionName());
+    }
+
     private void setIdempotencyKeyStoreFlag(boolean flag) {
         fineractRequestContextHolder.setAttribute(IDEMPOTENCY_KEY_STORE_FLAG, flag);
     }
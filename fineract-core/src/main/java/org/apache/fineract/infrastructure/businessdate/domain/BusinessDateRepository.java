@@ -21,8 +21,15 @@ package org.apache.fineract.infrastructure.businessdate.domain;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 
 public interface BusinessDateRepository extends JpaRepository<BusinessDate, Long>, JpaSpecificationExecutor<BusinessDate> {
 
     Optional<BusinessDate> findByType(BusinessDateType type);
+
+    /**
+     * Number of business dates plus the sum of their versions, which grows with every insert and update.
+     */
+    @Query("select count(bd) + coalesce(sum(bd.version), 0) from BusinessDate bd")
+    long getVersion();
 }
@@ -0,0 +1,144 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.businessdate.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDate;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateRepository;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractBusinessDateCacheProperties;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Keeps the business dates of every tenant in memory, so that they are not read from <code>m_business_date</code> on
+ * every request.
+ * <p>
+ * The cached dates carry the version of the rows they were read from: the number of rows plus the sum of their
+ * optimistic lock versions, which grows with every insert and update. At most once per
+ * <code>fineract.business-date.cache.version-check-interval</code> that version is compared with the one in the
+ * database, and the dates are reloaded when it differs, so a business date changed on any instance is picked up within
+ * the interval. Changes made on this instance are picked up right away through {@link #invalidate()}. The cached dates
+ * are also reloaded when the date of the tenant or the business date configuration changes.
+ * <p>
+ * Every call returns its own copy of the dates, so callers may modify it.
+ */
+@Component
+@RequiredArgsConstructor
+public class BusinessDateHolder {
+
+    private final BusinessDateRepository repository;
+    private final ConfigurationDomainService configurationDomainService;
+    private final FineractProperties fineractProperties;
+    private final ConcurrentHashMap<String, CachedBusinessDates> businessDatesByTenant = new ConcurrentHashMap<>();
+
+    public HashMap<BusinessDateType, LocalDate> getBusinessDates() {
+        final boolean businessDateEnabled = this.configurationDomainService.isBusinessDateEnabled();
+        final LocalDate tenantDate = DateUtils.getLocalDateOfTenant();
+        final FineractBusinessDateCacheProperties properties = cacheProperties();
+        if (properties == null || !properties.isEnabled()) {
+            return load(businessDateEnabled, tenantDate, businessDateEnabled ? this.repository.findAll() : List.of());
+        }
+        final String tenantIdentifier = ThreadLocalContextUtil.getTenant().getTenantIdentifier();
+        final long now = System.nanoTime();
+        final CachedBusinessDates cached = this.businessDatesByTenant.get(tenantIdentifier);
+        if (cached != null && cached.businessDateEnabled() == businessDateEnabled && cached.tenantDate().equals(tenantDate)) {
+            if (!businessDateEnabled || now - cached.checkedAt() < intervalNanos(properties.getVersionCheckInterval())) {
+                return new HashMap<>(cached.businessDates());
+            }
+            if (this.repository.getVersion() == cached.version()) {
+                this.businessDatesByTenant.replace(tenantIdentifier, cached, cached.checkedAt(now));
+                return new HashMap<>(cached.businessDates());
+            }
+        }
+        final List<BusinessDate> rows = businessDateEnabled ? this.repository.findAll() : List.of();
+        final HashMap<BusinessDateType, LocalDate> businessDates = load(businessDateEnabled, tenantDate, rows);
+        this.businessDatesByTenant.put(tenantIdentifier,
+                new CachedBusinessDates(businessDateEnabled, tenantDate, version(rows), now, businessDates));
+        return new HashMap<>(businessDates);
+    }
+
+    /**
+     * Drops the business dates of the current tenant, right away and again once the current transaction completes.
+     */
+    public void invalidate() {
+        final String tenantIdentifier = ThreadLocalContextUtil.getTenant().getTenantIdentifier();
+        this.businessDatesByTenant.remove(tenantIdentifier);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCompletion(final int status) {
+                    BusinessDateHolder.this.businessDatesByTenant.remove(tenantIdentifier);
+                }
+            });
+        }
+    }
+
+    private HashMap<BusinessDateType, LocalDate> load(final boolean businessDateEnabled, final LocalDate tenantDate,
+            final List<BusinessDate> rows) {
+        final HashMap<BusinessDateType, LocalDate> businessDates = new HashMap<>();
+        businessDates.put(BusinessDateType.BUSINESS_DATE, tenantDate);
+        businessDates.put(BusinessDateType.COB_DATE, tenantDate);
+        if (businessDateEnabled) {
+            for (final BusinessDate businessDate : rows) {
+                businessDates.put(businessDate.getType(), businessDate.getDate());
+            }
+        }
+        return businessDates;
+    }
+
+    /**
+     * Same version as {@link BusinessDateRepository#getVersion()}, computed from the rows the dates were read from.
+     */
+    private static long version(final List<BusinessDate> rows) {
+        long version = rows.size();
+        for (final BusinessDate row : rows) {
+            version += row.getVersion() == null ? 0L : row.getVersion();
+        }
+        return version;
+    }
+
+    private static long intervalNanos(final Duration interval) {
+        return interval == null ? 0L : interval.toNanos();
+    }
+
+    private FineractBusinessDateCacheProperties cacheProperties() {
+        return this.fineractProperties.getBusinessDate() == null ? null : this.fineractProperties.getBusinessDate().getCache();
+    }
+
+    private record CachedBusinessDates(boolean businessDateEnabled, LocalDate tenantDate, long version, long checkedAt,
+            Map<BusinessDateType, LocalDate> businessDates) {
+
+        CachedBusinessDates checkedAt(final long now) {
+            return new CachedBusinessDates(businessDateEnabled, tenantDate, version, now, businessDates);
+        }
+    }
+}
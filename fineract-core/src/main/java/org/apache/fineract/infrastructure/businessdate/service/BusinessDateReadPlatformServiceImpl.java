@@ -30,8 +30,6 @@ import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateReposi
 import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
 import org.apache.fineract.infrastructure.businessdate.exception.BusinessDateNotFoundException;
 import org.apache.fineract.infrastructure.businessdate.mapper.BusinessDateMapper;
-import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
-import org.apache.fineract.infrastructure.core.service.DateUtils;
 import org.springframework.stereotype.Service;
 
 @Slf4j
@@ -41,7 +39,7 @@ public class BusinessDateReadPlatformServiceImpl implements BusinessDateReadPlat
 
     private final BusinessDateRepository repository;
     private final BusinessDateMapper mapper;
-    private final ConfigurationDomainService configurationDomainService;
+    private final BusinessDateHolder businessDateHolder;
 
     @Override
     public List<BusinessDateData> findAll() {
@@ -68,16 +66,6 @@ public class BusinessDateReadPlatformServiceImpl implements BusinessDateReadPlat
 
     @Override
     public HashMap<BusinessDateType, LocalDate> getBusinessDates() {
-        HashMap<BusinessDateType, LocalDate> businessDateMap = new HashMap<>();
-        LocalDate tenantDate = DateUtils.getLocalDateOfTenant();
-        businessDateMap.put(BusinessDateType.BUSINESS_DATE, tenantDate);
-        businessDateMap.put(BusinessDateType.COB_DATE, tenantDate);
-        if (configurationDomainService.isBusinessDateEnabled()) {
-            final List<BusinessDateData> businessDateDataList = this.findAll();
-            for (BusinessDateData businessDateData : businessDateDataList) {
-                businessDateMap.put(BusinessDateType.valueOf(businessDateData.getType()), businessDateData.getDate());
-            }
-        }
-        return businessDateMap;
+        return businessDateHolder.getBusinessDates();
     }
 }
@@ -0,0 +1,120 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.cache.service;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * In-memory cache of the current tenant's values, for data read on hot paths but rarely changed.
+ * <p>
+ * Every tenant has a generation counter that is bumped by each invalidation. A value loaded while the generation
+ * changed is returned but not kept, so values loaded concurrently with a change are never cached. Invalidations are
+ * repeated once the current transaction completes. Changes made on other instances are only picked up once the cached
+ * values expire, so every user of this cache keeps it behind its own switch, which is off by default unless the user
+ * detects changes made on other instances itself.
+ * <p>
+ * The Spring cache abstraction configured by {@code PlatformCacheConfiguration} does not fit these values: its default
+ * cache manager is transaction bound and clears every cache whenever a transaction begins or completes, so nothing
+ * outlives the request it was loaded in, and the Ehcache manager it can be switched to through the cache API applies
+ * to every <code>@Cacheable</code> of the platform at once. Neither keeps a value loaded concurrently with an
+ * invalidation out of the cache.
+ */
+public final class TenantScopedCache<K, V> {
+
+    private final ConcurrentHashMap<String, TenantValues<K, V>> valuesByTenant = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the cached value of the key, or loads and caches it for the given time to live. The loader gets the
+     * generation the value is loaded in.
+     */
+    public V get(final K key, final Duration ttl, final LongFunction<V> loader) {
+        final TenantValues<K, V> tenantValues = tenantValues();
+        final long generation = tenantValues.generation.get();
+        final long now = System.nanoTime();
+        final CachedValue<V> cached = tenantValues.values.get(key);
+        if (cached != null && cached.generation() == generation && now - cached.expiresAt() < 0) {
+            return cached.value();
+        }
+        final V value = loader.apply(generation);
+        final long ttlNanos = ttl == null ? 0L : ttl.toNanos();
+        if (tenantValues.generation.get() == generation) {
+            tenantValues.values.put(key, new CachedValue<>(generation, value, now + ttlNanos));
+        }
+        return value;
+    }
+
+    /**
+     * Drops the value of the key for the current tenant, right away and again once the current transaction completes.
+     */
+    public void invalidate(final K key) {
+        invalidate(tenantValues -> tenantValues.invalidate(key));
+    }
+
+    /**
+     * Drops every value of the current tenant, right away and again once the current transaction completes.
+     */
+    public void invalidateAll() {
+        invalidate(TenantValues::invalidateAll);
+    }
+
+    private void invalidate(final Consumer<TenantValues<K, V>> invalidation) {
+        final TenantValues<K, V> tenantValues = tenantValues();
+        invalidation.accept(tenantValues);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCompletion(final int status) {
+                    invalidation.accept(tenantValues);
+                }
+            });
+        }
+    }
+
+    private TenantValues<K, V> tenantValues() {
+        return this.valuesByTenant.computeIfAbsent(ThreadLocalContextUtil.getTenant().getTenantIdentifier(),
+                tenantIdentifier -> new TenantValues<>());
+    }
+
+    private record CachedValue<V>(long generation, V value, long expiresAt) {
+    }
+
+    private static final class TenantValues<K, V> {
+
+        private final AtomicLong generation = new AtomicLong();
+        private final ConcurrentHashMap<K, CachedValue<V>> values = new ConcurrentHashMap<>();
+
+        private void invalidate(final K key) {
+            this.generation.incrementAndGet();
+            this.values.remove(key);
+        }
+
+        private void invalidateAll() {
+            this.generation.incrementAndGet();
+            this.values.clear();
+        }
+    }
+}
@@ -84,6 +84,16 @@ public class FineractProperties {
 
     private FineractCache cache;
 
+    private FineractBusinessDateProperties businessDate;
+
+    private FineractDatatableProperties datatable;
+
+    private FineractCommandSourceProperties commandSource;
+
+    private FineractPurgeProperties purge;
+
+    private FineractAccountingProperties accounting;
+
     @Getter
     @Setter
     public static class FineractTenantProperties {
@@ -288,6 +298,9 @@ public class FineractProperties {
         private int tenantUpgradeTaskExecutorCorePoolSize;
         private int tenantUpgradeTaskExecutorMaxPoolSize;
         private int tenantUpgradeTaskExecutorQueueCapacity;
+        private int userNotificationTaskExecutorCorePoolSize;
+        private int userNotificationTaskExecutorMaxPoolSize;
+        private int userNotificationTaskExecutorQueueCapacity;
     }
 
     @Getter
@@ -324,6 +337,8 @@ public class FineractProperties {
         private boolean asyncSendEnabled;
         private int threadPoolTaskExecutorCorePoolSize;
         private int threadPoolTaskExecutorMaxPoolSize;
+        private boolean pooledSessionsEnabled;
+        private int ackTimeoutInSeconds;
 
         public boolean isBrokerPasswordProtected() {
             return StringUtils.isNotBlank(brokerUsername) || StringUtils.isNotBlank(brokerPassword);
@@ -340,6 +355,10 @@ public class FineractProperties {
         private KafkaProperties producer;
         private KafkaProperties admin;
         private int timeoutInSeconds;
+        private boolean batchedSendEnabled;
+        private int maxInFlightMessages;
+        private int partitionRetryCount;
+        private String compressionType;
     }
 
     @Getter
@@ -377,6 +396,17 @@ public class FineractProperties {
     public static class FineractReportProperties {
 
         private FineractExportProperties export;
+        private FineractReportStreamingProperties streaming;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractReportStreamingProperties {
+
+        private boolean enabled;
+        private int fetchSize;
+        private long maxRows;
+        private Duration timeout;
     }
 
     @Getter
@@ -400,6 +430,8 @@ public class FineractProperties {
 
         private int stuckRetryThreshold;
         private boolean loanCobEnabled;
+        private boolean loanCobDueDatePrefilterEnabled;
+        private boolean loanCobPreClassificationEnabled;
     }
 
     @Getter
@@ -429,6 +461,8 @@ public class FineractProperties {
     public static class FineractQueryProperties {
 
         private int inClauseParameterSizeLimit;
+        private boolean concurrentReadsEnabled;
+        private int concurrentReadsMax;
     }
 
     @Getter
@@ -457,6 +491,7 @@ public class FineractProperties {
     public static class UserNotificationSystemProperties {
 
         private boolean enabled;
+        private boolean fanOutOnRead;
     }
 
     @Getter
@@ -465,6 +500,33 @@ public class FineractProperties {
 
         private FineractTransactionProcessorProperties transactionProcessor;
         private String statusChangeHistoryStatuses;
+        private FineractLoanProductSnapshotProperties productSnapshot;
+        private FineractLoanDelinquencyProperties delinquency;
+        private FineractLoanArrearsAgeingProperties arrearsAgeing;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractLoanArrearsAgeingProperties {
+
+        private boolean bulkEnabled;
+        private int partitionSize;
+        private int threadPoolSize;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractLoanDelinquencyProperties {
+
+        private boolean incrementalClassificationEnabled;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractLoanProductSnapshotProperties {
+
+        private boolean enabled;
+        private Duration ttl;
     }
 
     @Getter
@@ -503,6 +565,15 @@ public class FineractProperties {
     public static class FineractSecurityBasicAuth {
 
         private boolean enabled;
+        private FineractSecurityBasicAuthCredentialCache credentialCache;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractSecurityBasicAuthCredentialCache {
+
+        private boolean enabled;
+        private Duration ttl;
     }
 
     @Getter
@@ -598,6 +669,96 @@ public class FineractProperties {
         private Map<String, FineractCacheDetails> customTemplates = new HashMap<>();
     }
 
+    @Getter
+    @Setter
+    public static class FineractBusinessDateProperties {
+
+        private FineractBusinessDateCacheProperties cache;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractBusinessDateCacheProperties {
+
+        private boolean enabled;
+        private Duration versionCheckInterval;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractDatatableProperties {
+
+        private FineractDatatableSchemaCacheProperties schemaCache;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractDatatableSchemaCacheProperties {
+
+        private boolean enabled;
+        private Duration ttl;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractCommandSourceProperties {
+
+        private FineractCommandSourceAuditProperties audit;
+        private FineractIdempotencyIndexProperties idempotencyIndex;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractIdempotencyIndexProperties {
+
+        private boolean enabled;
+        private int expectedInsertions;
+        private double falsePositiveProbability;
+        private int recentKeys;
+        private Duration window;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractCommandSourceAuditProperties {
+
+        private boolean compactEnabled;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractPurgeProperties {
+
+        private boolean chunkedEnabled;
+        private int chunkSize;
+        private Duration pause;
+        private Duration maxDuration;
+        private int lockRetries;
+        private FineractPurgeArchiveProperties archive;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractPurgeArchiveProperties {
+
+        private boolean enabled;
+        private String directory;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractAccountingProperties {
+
+        private FineractJournalEntryBatchProperties journalEntryBatch;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractJournalEntryBatchProperties {
+
+        private boolean enabled;
+    }
+
     @Getter
     @Setter
     public static class FineractCacheDetails {
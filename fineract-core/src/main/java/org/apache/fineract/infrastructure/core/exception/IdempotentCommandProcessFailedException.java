@@ -23,6 +23,7 @@ import static org.apache.http.HttpStatus.SC_INTERNAL_SERVER_ERROR;
 import jakarta.validation.constraints.NotNull;
 import org.apache.fineract.commands.domain.CommandSource;
 import org.apache.fineract.commands.domain.CommandWrapper;
+import org.apache.fineract.commands.service.CommandSourcePayloadCodec;
 
 /**
  * Exception thrown when command is sent with same action, entity and idempotency key
@@ -32,7 +33,7 @@ public class IdempotentCommandProcessFailedException extends AbstractIdempotentC
     private final Integer statusCode;
 
     public IdempotentCommandProcessFailedException(CommandWrapper wrapper, String idempotencyKey, CommandSource command) {
-        super(wrapper.actionName(), wrapper.actionName(), idempotencyKey, command.getResult());
+        super(wrapper.actionName(), wrapper.actionName(), idempotencyKey, CommandSourcePayloadCodec.decode(command.getResult()));
         this.statusCode = command.getResultStatusCode();
     }
 
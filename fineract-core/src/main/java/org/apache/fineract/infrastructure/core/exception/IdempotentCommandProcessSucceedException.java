@@ -20,6 +20,7 @@ package org.apache.fineract.infrastructure.core.exception;
 
 import org.apache.fineract.commands.domain.CommandSource;
 import org.apache.fineract.commands.domain.CommandWrapper;
+import org.apache.fineract.commands.service.CommandSourcePayloadCodec;
 
 /**
  * Exception thrown when command is sent with same action, entity and idempotency key
@@ -29,7 +30,7 @@ public class IdempotentCommandProcessSucceedException extends AbstractIdempotent
     private final Integer statusCode;
 
     public IdempotentCommandProcessSucceedException(CommandWrapper wrapper, String idempotencyKey, CommandSource command) {
-        super(wrapper.actionName(), wrapper.entityName(), idempotencyKey, command.getResult());
+        super(wrapper.actionName(), wrapper.entityName(), idempotencyKey, CommandSourcePayloadCodec.decode(command.getResult()));
         this.statusCode = command.getResultStatusCode();
     }
 
@@ -24,7 +24,9 @@ import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.apache.fineract.commands.domain.CommandSourceRepository;
 import org.apache.fineract.commands.service.CommandSourceService;
+import org.apache.fineract.commands.service.CompactCommandSourceAudit;
 import org.apache.fineract.commands.service.SynchronousCommandProcessingService;
+import org.apache.fineract.infrastructure.core.domain.BatchRequestContextHolder;
 import org.apache.fineract.infrastructure.core.domain.FineractRequestContextHolder;
 import org.springframework.stereotype.Component;
 
@@ -35,8 +37,14 @@ public class IdempotencyStoreHelper {
     private final CommandSourceRepository commandSourceRepository;
     private final CommandSourceService commandSourceService;
     private final FineractRequestContextHolder fineractRequestContextHolder;
+    private final CompactCommandSourceAudit compactCommandSourceAudit;
 
     public void storeCommandResult(Integer response, String body, Long commandId) {
+        // rows of an enclosing batch transaction are managed by the current persistence context, those are saved with it
+        if (compactCommandSourceAudit.isEnabled() && !BatchRequestContextHolder.isEnclosingTransaction()) {
+            compactCommandSourceAudit.writeResult(commandId, response, body);
+            return;
+        }
         commandSourceRepository.findById(commandId).ifPresent(commandSource -> {
             commandSource.setResultStatusCode(response);
             commandSource.setResult(body);
@@ -0,0 +1,206 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractContext;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs independent read-only lookups (for example the associations of a single loan) concurrently on virtual threads.
+ *
+ * The lookups of one request are submitted to a {@link ReadGroup}. The tenant {@link FineractContext} and the Spring
+ * {@link SecurityContext} of the calling thread are propagated to the worker threads, so the read services behave
+ * exactly as if they were called from the request thread. When <code>fineract.query.concurrent-reads-enabled</code> is
+ * switched off the lookups are executed inline on the caller thread.
+ *
+ * Every worker thread holds a pooled connection while its lookup runs. At most
+ * <code>fineract.query.concurrent-reads-max</code> lookups run on worker threads at the same time, over all requests;
+ * further lookups are executed inline on the caller thread instead of waiting for a worker, so the lookups never take
+ * more than that many connections from the pool.
+ *
+ * Every lookup is timed under the {@value #METRIC_NAME} timer with a <code>name</code> tag.
+ */
+@Slf4j
+@Component
+public class ConcurrentReadExecutor implements DisposableBean {
+
+    public static final String METRIC_NAME = "fineract.read.association";
+
+    private final FineractProperties fineractProperties;
+    private final Optional<MeterRegistry> meterRegistry;
+    private final Semaphore workers;
+    private final ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor();
+
+    public ConcurrentReadExecutor(final FineractProperties fineractProperties, final Optional<MeterRegistry> meterRegistry) {
+        this.fineractProperties = fineractProperties;
+        this.meterRegistry = meterRegistry;
+        this.workers = new Semaphore(Math.max(maxConcurrentReads(fineractProperties), 0));
+    }
+
+    /**
+     * Starts a new group of lookups, typically one per request.
+     */
+    public ReadGroup newGroup() {
+        return new ReadGroup();
+    }
+
+    /**
+     * The lookups of one request. The first failing lookup cancels the other ones: lookups that have not started yet
+     * are skipped, and lookups submitted afterwards are not run at all. Lookups that are already running are not
+     * interrupted, since that would break their database connections, but their results are dropped.
+     */
+    public final class ReadGroup {
+
+        private final Queue<CompletableFuture<?>> futures = new ConcurrentLinkedQueue<>();
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        private ReadGroup() {}
+
+        public <T> CompletableFuture<T> submit(final String name, final Supplier<T> reader) {
+            if (this.failure.get() != null) {
+                return CompletableFuture.failedFuture(new CancellationException("Concurrent read " + name + " is cancelled"));
+            }
+            if (!isConcurrentReadsEnabled() || !workers.tryAcquire()) {
+                return runInline(name, reader);
+            }
+            final FineractContext fineractContext = ThreadLocalContextUtil.getContext();
+            final SecurityContext securityContext = SecurityContextHolder.getContext();
+            final CompletableFuture<T> future = new CompletableFuture<>();
+            this.futures.add(future);
+            if (this.failure.get() != null) {
+                future.cancel(false);
+            }
+            try {
+                executorService.execute(() -> {
+                    try {
+                        if (!future.isDone()) {
+                            ThreadLocalContextUtil.init(fineractContext);
+                            SecurityContextHolder.setContext(securityContext);
+                            future.complete(timed(name, reader));
+                        }
+                    } catch (RuntimeException | Error e) {
+                        fail(e);
+                        future.completeExceptionally(e);
+                    } finally {
+                        SecurityContextHolder.clearContext();
+                        ThreadLocalContextUtil.reset();
+                        workers.release();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                workers.release();
+                this.futures.remove(future);
+                return runInline(name, reader);
+            }
+            return future;
+        }
+
+        /**
+         * Waits for the result of a lookup and rethrows its original exception, so platform exceptions are mapped to
+         * the same API error as when they are thrown on the request thread. A lookup cancelled by the failure of
+         * another one rethrows that failure.
+         */
+        public <T> T join(final CompletableFuture<T> future) {
+            try {
+                return future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail(e);
+                throw new IllegalStateException("Interrupted while waiting for concurrent read", e);
+            } catch (CancellationException e) {
+                final Throwable cause = this.failure.get();
+                throw cause == null ? e : propagate(cause);
+            } catch (ExecutionException e) {
+                throw propagate(e.getCause() instanceof CompletionException ? e.getCause().getCause() : e.getCause());
+            }
+        }
+
+        private <T> CompletableFuture<T> runInline(final String name, final Supplier<T> reader) {
+            try {
+                return CompletableFuture.completedFuture(timed(name, reader));
+            } catch (RuntimeException e) {
+                fail(e);
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+
+        private void fail(final Throwable cause) {
+            if (this.failure.compareAndSet(null, cause)) {
+                this.futures.forEach(future -> future.cancel(false));
+            }
+        }
+    }
+
+    private static RuntimeException propagate(final Throwable cause) {
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException(cause);
+    }
+
+    private <T> T timed(final String name, final Supplier<T> reader) {
+        if (meterRegistry.isEmpty()) {
+            return reader.get();
+        }
+        final Timer.Sample sample = Timer.start(meterRegistry.get());
+        try {
+            return reader.get();
+        } finally {
+            sample.stop(Timer.builder(METRIC_NAME).description("Duration of a single association lookup").tag("name", name)
+                    .register(meterRegistry.get()));
+        }
+    }
+
+    private boolean isConcurrentReadsEnabled() {
+        return fineractProperties.getQuery() != null && fineractProperties.getQuery().isConcurrentReadsEnabled();
+    }
+
+    private static int maxConcurrentReads(final FineractProperties fineractProperties) {
+        return fineractProperties.getQuery() == null ? 0 : fineractProperties.getQuery().getConcurrentReadsMax();
+    }
+
+    @Override
+    public void destroy() {
+        log.debug("Shutting down concurrent read executor");
+        executorService.shutdown();
+    }
+}
@@ -290,6 +290,19 @@ public class DatabaseSpecificSQLGenerator {
         };
     }
 
+    /**
+     * Clause appended to an INSERT that updates the given columns to the inserted values instead when a row with the
+     * same key already exists.
+     */
+    public String onConflictUpdate(@NotNull String keyColumn, List<String> columns) {
+        return switch (getDialect()) {
+            case POSTGRESQL -> " ON CONFLICT (" + keyColumn + ") DO UPDATE SET "
+                    + columns.stream().map(e -> e + " = EXCLUDED." + e).collect(Collectors.joining(", "));
+            case MYSQL -> " ON DUPLICATE KEY UPDATE "
+                    + columns.stream().map(e -> e + " = VALUES(" + e + ")").collect(Collectors.joining(", "));
+        };
+    }
+
     public String incrementDateByOneDay(String dateColumn) {
         return switch (getDialect()) {
             case POSTGRESQL -> " " + dateColumn + "+1";
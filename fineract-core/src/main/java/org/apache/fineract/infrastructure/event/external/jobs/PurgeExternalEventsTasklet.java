@@ -19,12 +19,15 @@
 package org.apache.fineract.infrastructure.event.external.jobs;
 
 import java.time.LocalDate;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
 import org.apache.fineract.infrastructure.core.service.DateUtils;
 import org.apache.fineract.infrastructure.event.external.repository.ExternalEventRepository;
 import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEventStatus;
+import org.apache.fineract.infrastructure.jobs.service.purge.ChunkedPurgeEngine;
+import org.apache.fineract.infrastructure.jobs.service.purge.PurgeSpec;
 import org.springframework.batch.core.StepContribution;
 import org.springframework.batch.core.scope.context.ChunkContext;
 import org.springframework.batch.core.step.tasklet.Tasklet;
@@ -38,13 +41,20 @@ public class PurgeExternalEventsTasklet implements Tasklet {
 
     private final ExternalEventRepository repository;
     private final ConfigurationDomainService configurationDomainService;
+    private final ChunkedPurgeEngine purgeEngine;
 
     @Override
     public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
         try {
             Long numberOfDaysForPurgeCriteria = configurationDomainService.retrieveExternalEventsPurgeDaysCriteria();
             LocalDate dateForPurgeCriteria = DateUtils.getBusinessLocalDate().minusDays(numberOfDaysForPurgeCriteria);
-            repository.deleteOlderEventsWithSentStatus(ExternalEventStatus.SENT, dateForPurgeCriteria);
+            if (purgeEngine.isEnabled()) {
+                purgeEngine.purge(new PurgeSpec("sent-external-events", "m_external_event", "business_date", dateForPurgeCriteria,
+                        "status = ?", List.of(ExternalEventStatus.SENT.name()), "status = ?",
+                        List.of(ExternalEventStatus.TO_BE_SENT.name())));
+            } else {
+                repository.deleteOlderEventsWithSentStatus(ExternalEventStatus.SENT, dateForPurgeCriteria);
+            }
         } catch (Exception e) {
             log.error("Error occurred while purging external events: ", e);
         }
@@ -29,6 +29,7 @@ import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import lombok.RequiredArgsConstructor;
@@ -40,6 +41,7 @@ import org.apache.fineract.infrastructure.core.domain.FineractContext;
 import org.apache.fineract.infrastructure.core.service.DateUtils;
 import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
 import org.apache.fineract.infrastructure.event.external.config.TaskExecutorConstant;
+import org.apache.fineract.infrastructure.event.external.producer.ExternalEventPayload;
 import org.apache.fineract.infrastructure.event.external.producer.ExternalEventProducer;
 import org.apache.fineract.infrastructure.event.external.repository.ExternalEventRepository;
 import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEventStatus;
@@ -99,12 +101,30 @@ public class SendAsynchronousEventsTasklet implements Tasklet {
     }
 
     private void sendEvents(List<ExternalEventView> queuedEvents) {
+        if (eventProducer.isFailureReportingSupported()) {
+            sendEventsReportingFailures(queuedEvents);
+            return;
+        }
         Map<Long, List<byte[]>> partitions = generatePartitions(queuedEvents);
         List<Long> eventIds = queuedEvents.stream().map(ExternalEventView::getId).toList();
         sendEventsToProducer(partitions);
         markEventsAsSent(eventIds);
     }
 
+    private void sendEventsReportingFailures(List<ExternalEventView> queuedEvents) {
+        Map<Long, List<ExternalEventView>> initialPartitions = partitionByAggregateRoot(queuedEvents);
+        Map<Long, List<ExternalEventPayload>> partitions = measure(() -> initialPartitions.entrySet().stream()
+                .collect(toMap(Map.Entry::getKey, e -> createPayloads(e.getValue()))), timeTaken -> {
+                    log.debug("Took {}ms to create message partitions", timeTaken.toMillis());
+                });
+        Set<Long> failedEventIds = eventProducer.sendEventsReportingFailures(partitions);
+        List<Long> sentEventIds = queuedEvents.stream().map(ExternalEventView::getId).filter(id -> !failedEventIds.contains(id)).toList();
+        if (!failedEventIds.isEmpty()) {
+            log.warn("{} of {} events were not sent and remain queued", failedEventIds.size(), queuedEvents.size());
+        }
+        markEventsAsSent(sentEventIds);
+    }
+
     private void sendEventsToProducer(Map<Long, List<byte[]>> partitions) {
         eventProducer.sendEvents(partitions);
     }
@@ -146,13 +166,7 @@ public class SendAsynchronousEventsTasklet implements Tasklet {
     }
 
     private Map<Long, List<byte[]>> generatePartitions(List<ExternalEventView> queuedEvents) {
-        Map<Long, List<ExternalEventView>> initialPartitions = queuedEvents.stream().collect(groupingBy(externalEvent -> {
-            Long aggregateRootId = externalEvent.getAggregateRootId();
-            if (aggregateRootId == null) {
-                aggregateRootId = -1L;
-            }
-            return aggregateRootId;
-        }));
+        Map<Long, List<ExternalEventView>> initialPartitions = partitionByAggregateRoot(queuedEvents);
         Map<Long, List<byte[]>> partitions = measure(
                 () -> initialPartitions.entrySet().stream().collect(toMap(Map.Entry::getKey, e -> createMessages(e.getValue()))),
                 timeTaken -> {
@@ -161,18 +175,40 @@ public class SendAsynchronousEventsTasklet implements Tasklet {
         return partitions;
     }
 
+    private Map<Long, List<ExternalEventView>> partitionByAggregateRoot(List<ExternalEventView> queuedEvents) {
+        return queuedEvents.stream().collect(groupingBy(externalEvent -> {
+            Long aggregateRootId = externalEvent.getAggregateRootId();
+            if (aggregateRootId == null) {
+                aggregateRootId = -1L;
+            }
+            return aggregateRootId;
+        }));
+    }
+
     private List<byte[]> createMessages(List<ExternalEventView> events) {
+        List<byte[]> messages = new ArrayList<>();
+        for (ExternalEventView event : events) {
+            messages.add(createMessage(event));
+        }
+        return messages;
+    }
+
+    private List<ExternalEventPayload> createPayloads(List<ExternalEventView> events) {
+        List<ExternalEventPayload> payloads = new ArrayList<>();
+        for (ExternalEventView event : events) {
+            payloads.add(new ExternalEventPayload(event.getId(), createMessage(event)));
+        }
+        return payloads;
+    }
+
+    private byte[] createMessage(ExternalEventView event) {
         try {
-            List<byte[]> messages = new ArrayList<>();
-            for (ExternalEventView event : events) {
-                MessageV1 message = messageFactory.createMessage(event);
-                ByteBuffer toByteBuffer = message.toByteBuffer();
-                byte[] convert = byteBufferConverter.convert(toByteBuffer);
-                messages.add(convert);
-                log.trace("Created message to send with id: [{}], type: [{}], idempotency key: [{}]", message.getId(), message.getType(),
-                        message.getIdempotencyKey());
-            }
-            return messages;
+            MessageV1 message = messageFactory.createMessage(event);
+            ByteBuffer toByteBuffer = message.toByteBuffer();
+            byte[] convert = byteBufferConverter.convert(toByteBuffer);
+            log.trace("Created message to send with id: [{}], type: [{}], idempotency key: [{}]", message.getId(), message.getType(),
+                    message.getIdempotencyKey());
+            return convert;
         } catch (IOException e) {
             throw new RuntimeException("Error while serializing the message", e);
         }
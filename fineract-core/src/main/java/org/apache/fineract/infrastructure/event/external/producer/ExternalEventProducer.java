@@ -20,6 +20,7 @@ package org.apache.fineract.infrastructure.event.external.producer;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import org.apache.fineract.infrastructure.event.external.exception.AcknowledgementTimeoutException;
 
 public interface ExternalEventProducer {
@@ -33,4 +34,30 @@ public interface ExternalEventProducer {
      * @throws AcknowledgementTimeoutException
      */
     void sendEvents(Map<Long, List<byte[]>> partitions) throws AcknowledgementTimeoutException;
+
+    /**
+     * Tells whether the producer can deliver a batch partially and report the failed events back through
+     * {@link #sendEventsReportingFailures(Map)}.
+     */
+    default boolean isFailureReportingSupported() {
+        return false;
+    }
+
+    /**
+     * Sends the created ExternalEvents and reports the ones that could not be delivered, so only those have to be sent
+     * again instead of the whole batch.
+     *
+     * The events of an aggregated root are delivered in order: once an event is not acknowledged, it and every later
+     * event of the same aggregated root are reported as undelivered and sent again in their original order. Delivery is
+     * therefore at-least-once, consumers can receive duplicates and have to deduplicate by the event id.
+     *
+     * @param partitions
+     *            the events grouped by the id of their aggregated root, in sending order
+     * @return the ids of the events that were not delivered; the caller keeps them queued
+     * @throws AcknowledgementTimeoutException
+     */
+    default Set<Long> sendEventsReportingFailures(Map<Long, List<ExternalEventPayload>> partitions)
+            throws AcknowledgementTimeoutException {
+        throw new UnsupportedOperationException("Failure reporting is not supported by " + getClass().getSimpleName());
+    }
 }
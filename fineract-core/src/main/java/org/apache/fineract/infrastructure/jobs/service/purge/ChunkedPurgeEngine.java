@@ -0,0 +1,237 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.jobs.service.purge;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractPurgeProperties;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Deletes old rows of large tables in bounded id-range chunks instead of a single DELETE statement.
+ *
+ * A run walks the id range from the stored watermark (or the lowest id) in chunks of
+ * <code>fineract.purge.chunk-size</code> ids. Every chunk is deleted in its own short transaction, optionally after its
+ * rows were appended to a gzipped archive file, and the run pauses <code>fineract.purge.pause</code> between chunks.
+ * The run stops at the first chunk containing rows newer than the cutoff, or when
+ * <code>fineract.purge.max-duration</code> is exceeded.
+ *
+ * The watermark is advanced in the chunk transaction, the next run resumes there. It stays below the first row newer
+ * than the cutoff and below the first row which is old enough, does not match the condition yet but matches the pending
+ * condition of the spec (for example events not sent yet), so such rows are purged by a later run. Old rows which will
+ * never match (for example failed commands) are passed by the watermark and do not hold back later runs.
+ *
+ * Lock timeouts and deadlocks of a chunk are counted, the chunk is retried after a longer pause. Deleted rows are
+ * counted under {@value #ROWS_METRIC_NAME}, the duration of the DELETE statements, which grows with lock waits, is
+ * timed under {@value #DELETE_METRIC_NAME} and lock failures are counted under {@value #LOCK_FAILURES_METRIC_NAME}, all
+ * tagged with the purge name.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChunkedPurgeEngine {
+
+    public static final String ROWS_METRIC_NAME = "fineract.purge.rows";
+    public static final String DELETE_METRIC_NAME = "fineract.purge.delete";
+    public static final String LOCK_FAILURES_METRIC_NAME = "fineract.purge.lock.failures";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final FineractProperties fineractProperties;
+    private final Optional<MeterRegistry> meterRegistry;
+
+    public boolean isEnabled() {
+        return fineractProperties.getPurge() != null && fineractProperties.getPurge().isChunkedEnabled();
+    }
+
+    /**
+     * Purges the rows of the spec, returns the number of deleted rows.
+     */
+    public long purge(final PurgeSpec spec) {
+        FineractPurgeProperties properties = fineractProperties.getPurge();
+        Long minId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM " + spec.table(), Long.class);
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + spec.table(), Long.class);
+        if (minId == null || maxId == null) {
+            return 0L;
+        }
+        TransactionTemplate chunkTransaction = new TransactionTemplate(transactionManager);
+        chunkTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + properties.getMaxDuration().toNanos();
+        long purged = 0L;
+        boolean advanceWatermark = true;
+        long from = Math.max(readWatermark(spec.name()), minId);
+        try (PurgeArchiveWriter archive = openArchive(spec)) {
+            while (from <= maxId) {
+                long to = from + properties.getChunkSize();
+                ChunkResult chunk = purgeChunkWithRetries(spec, from, to, archive, advanceWatermark, chunkTransaction);
+                if (chunk == null) {
+                    break;
+                }
+                purged += chunk.deleted();
+                advanceWatermark = advanceWatermark && chunk.firstPendingId() == null;
+                if (chunk.newer() > 0) {
+                    break;
+                }
+                if (System.nanoTime() - deadline >= 0) {
+                    log.info("Purge {} stopped after {}, it resumes from the watermark on the next run", spec.name(),
+                            properties.getMaxDuration());
+                    break;
+                }
+                if (!pause(properties.getPause().toMillis())) {
+                    break;
+                }
+                from = to;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to archive purged rows of " + spec.name(), e);
+        }
+        double seconds = Math.max((System.nanoTime() - startedAt) / 1_000_000_000d, 0.001d);
+        log.info("Purge {} deleted {} rows from {} ({} rows/s)", spec.name(), purged, spec.table(), Math.round(purged / seconds));
+        return purged;
+    }
+
+    private ChunkResult purgeChunkWithRetries(PurgeSpec spec, long from, long to, PurgeArchiveWriter archive, boolean advanceWatermark,
+            TransactionTemplate chunkTransaction) {
+        FineractPurgeProperties properties = fineractProperties.getPurge();
+        for (int attempt = 0;; attempt++) {
+            try {
+                return chunkTransaction.execute(status -> purgeChunk(spec, from, to, archive, advanceWatermark));
+            } catch (PessimisticLockingFailureException e) {
+                lockFailureCounter(spec).ifPresent(Counter::increment);
+                if (attempt >= properties.getLockRetries()) {
+                    log.warn("Purge {} gave up on ids [{}, {}) after {} lock failures, it resumes on the next run", spec.name(), from,
+                            to, attempt + 1, e);
+                    return null;
+                }
+                log.debug("Purge {} hit a lock failure on ids [{}, {}), retrying", spec.name(), from, to, e);
+                if (!pause(properties.getPause().toMillis() * 10 * (attempt + 1))) {
+                    return null;
+                }
+            }
+        }
+    }
+
+    private ChunkResult purgeChunk(PurgeSpec spec, long from, long to, PurgeArchiveWriter archive, boolean advanceWatermark) {
+        String rangeCondition = " WHERE id >= ? AND id < ? AND " + spec.dateColumn() + " <= ? AND (" + spec.condition() + ")";
+        List<Object> params = new ArrayList<>(List.of(from, to, spec.cutoff()));
+        params.addAll(spec.conditionParams());
+        if (archive != null) {
+            List<Map<String, Object>> rows = jdbcTemplate.queryForList("SELECT * FROM " + spec.table() + rangeCondition, params.toArray());
+            try {
+                archive.write(rows);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        long deleteStartedAt = System.nanoTime();
+        int deleted = jdbcTemplate.update("DELETE FROM " + spec.table() + rangeCondition, params.toArray());
+        meterRegistry.ifPresent(registry -> Timer.builder(DELETE_METRIC_NAME).description("Duration of a purge chunk DELETE statement")
+                .tag("name", spec.name()).register(registry).record(System.nanoTime() - deleteStartedAt, TimeUnit.NANOSECONDS));
+        meterRegistry.ifPresent(registry -> Counter.builder(ROWS_METRIC_NAME).description("Number of purged rows").tag("name", spec.name())
+                .register(registry).increment(deleted));
+
+        ChunkResult result = jdbcTemplate.queryForObject("SELECT SUM(CASE WHEN " + spec.dateColumn() + " <= ? THEN 1 ELSE 0 END),"
+                + " SUM(CASE WHEN " + spec.dateColumn() + " > ? THEN 1 ELSE 0 END), MIN(CASE WHEN " + spec.dateColumn()
+                + " > ? THEN id END) FROM " + spec.table() + " WHERE id >= ? AND id < ?",
+                (rs, rowNum) -> new ChunkResult(deleted, rs.getLong(1), rs.getLong(2), rs.getObject(3, Long.class)), spec.cutoff(),
+                spec.cutoff(), spec.cutoff(), from, to);
+        if (result.leftover() > 0 && spec.pendingCondition() != null) {
+            List<Object> pendingParams = new ArrayList<>(List.of(from, to, spec.cutoff()));
+            pendingParams.addAll(spec.pendingConditionParams());
+            Long firstPendingId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM " + spec.table() + " WHERE id >= ? AND id < ? AND "
+                    + spec.dateColumn() + " <= ? AND (" + spec.pendingCondition() + ")", Long.class, pendingParams.toArray());
+            if (firstPendingId != null && (result.firstPendingId() == null || firstPendingId < result.firstPendingId())) {
+                result = new ChunkResult(result.deleted(), result.leftover(), result.newer(), firstPendingId);
+            }
+        }
+        if (advanceWatermark) {
+            writeWatermark(spec.name(), result.firstPendingId() == null ? to : result.firstPendingId());
+        }
+        return result;
+    }
+
+    private long readWatermark(String name) {
+        List<Long> watermark = jdbcTemplate.queryForList("SELECT watermark_id FROM m_purge_watermark WHERE purge_name = ?", Long.class,
+                name);
+        return watermark.isEmpty() ? 0L : watermark.get(0);
+    }
+
+    private void writeWatermark(String name, long watermark) {
+        int updated = jdbcTemplate.update("UPDATE m_purge_watermark SET watermark_id = ?, last_modified_on_utc = ? WHERE purge_name = ?",
+                watermark, DateUtils.getAuditLocalDateTime(), name);
+        if (updated == 0) {
+            jdbcTemplate.update("INSERT INTO m_purge_watermark (purge_name, watermark_id, last_modified_on_utc) VALUES (?, ?, ?)", name,
+                    watermark, DateUtils.getAuditLocalDateTime());
+        }
+    }
+
+    private PurgeArchiveWriter openArchive(PurgeSpec spec) throws IOException {
+        FineractProperties.FineractPurgeArchiveProperties archive = fineractProperties.getPurge().getArchive();
+        if (archive == null || !archive.isEnabled()) {
+            return null;
+        }
+        return PurgeArchiveWriter.open(archive.getDirectory(), ThreadLocalContextUtil.getTenant().getTenantIdentifier(), spec.name(),
+                DateUtils.getAuditLocalDateTime());
+    }
+
+    private Optional<Counter> lockFailureCounter(PurgeSpec spec) {
+        return meterRegistry.map(registry -> Counter.builder(LOCK_FAILURES_METRIC_NAME)
+                .description("Number of purge chunks failed on lock timeouts or deadlocks").tag("name", spec.name()).register(registry));
+    }
+
+    private static boolean pause(long millis) {
+        if (millis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Result of a chunk: the deleted rows, the rows which are old enough but kept as they do not match the condition, the
+     * rows newer than the cutoff and the lowest id of the kept rows which may still match later, newer rows included.
+     */
+    private record ChunkResult(long deleted, long leftover, long newer, Long firstPendingId) {
+    }
+}
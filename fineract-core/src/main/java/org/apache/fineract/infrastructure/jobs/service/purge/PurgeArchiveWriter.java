@@ -0,0 +1,112 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.jobs.service.purge;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Blob;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Appends purged rows as gzipped JSON lines to
+ * <code>&lt;directory&gt;/&lt;tenant&gt;/&lt;purge&gt;-&lt;time&gt;-&lt;random&gt;.jsonl.gz</code>.
+ * Binary values are Base64 encoded, dates and other values are written with their string representation. Every chunk
+ * is flushed before its rows are deleted, so a row is archived at least once. Every run writes a new file, runs started
+ * in the same second never share or overwrite a file.
+ */
+@Slf4j
+final class PurgeArchiveWriter implements Closeable {
+
+    private static final DateTimeFormatter FILE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    private static final Gson GSON = new GsonBuilder().serializeNulls().disableHtmlEscaping().create();
+
+    private final Path file;
+    private final Writer writer;
+
+    private PurgeArchiveWriter(Path file, Writer writer) {
+        this.file = file;
+        this.writer = writer;
+    }
+
+    static PurgeArchiveWriter open(String directory, String tenantIdentifier, String purgeName, LocalDateTime time) throws IOException {
+        Path tenantDirectory = Files.createDirectories(Path.of(directory, tenantIdentifier));
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        Path file = tenantDirectory.resolve(purgeName + "-" + FILE_TIME_FORMAT.format(time) + "-" + suffix + ".jsonl.gz");
+        OutputStream output = new GZIPOutputStream(Files.newOutputStream(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE),
+                true);
+        log.info("Archiving purged rows of {} to {}", purgeName, file);
+        return new PurgeArchiveWriter(file, new OutputStreamWriter(output, StandardCharsets.UTF_8));
+    }
+
+    void write(List<Map<String, Object>> rows) throws IOException {
+        for (Map<String, Object> row : rows) {
+            Map<String, Object> line = new LinkedHashMap<>();
+            for (Map.Entry<String, Object> column : row.entrySet()) {
+                line.put(column.getKey(), toJsonValue(column.getValue()));
+            }
+            writer.write(GSON.toJson(line));
+            writer.write('\n');
+        }
+        writer.flush();
+    }
+
+    Path getFile() {
+        return file;
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+
+    private static Object toJsonValue(Object value) throws IOException {
+        if (value == null || value instanceof Number || value instanceof Boolean) {
+            return value;
+        }
+        if (value instanceof byte[] bytes) {
+            return Base64.getEncoder().encodeToString(bytes);
+        }
+        if (value instanceof Blob blob) {
+            try {
+                return Base64.getEncoder().encodeToString(blob.getBytes(1, (int) blob.length()));
+            } catch (SQLException e) {
+                throw new IOException("Failed to read binary column", e);
+            }
+        }
+        return value.toString();
+    }
+}
@@ -0,0 +1,52 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.jobs.service.purge;
+
+import java.util.List;
+
+/**
+ * Describes the rows a {@link ChunkedPurgeEngine} run deletes from a table with a numeric <code>id</code> primary key:
+ * rows whose <code>dateColumn</code> is not after the <code>cutoff</code> and which match the additional
+ * <code>condition</code>.
+ *
+ * @param name
+ *            unique name of the purge, used as key of its watermark and as metric tag
+ * @param table
+ *            the table to purge, never taken from user input
+ * @param dateColumn
+ *            the column compared to the cutoff, rows are expected to be (roughly) ordered by it along the id
+ * @param cutoff
+ *            rows with a date after the cutoff are kept
+ * @param condition
+ *            additional SQL condition of the purged rows, with <code>?</code> placeholders
+ * @param conditionParams
+ *            the parameters of the condition
+ * @param pendingCondition
+ *            SQL condition of the rows which do not match the condition yet but may still match it later, with
+ *            <code>?</code> placeholders; only these rows hold back the watermark, <code>null</code> if no row can
+ * @param pendingConditionParams
+ *            the parameters of the pending condition
+ */
+public record PurgeSpec(String name, String table, String dateColumn, Object cutoff, String condition, List<Object> conditionParams,
+        String pendingCondition, List<Object> pendingConditionParams) {
+
+    public PurgeSpec(String name, String table, String dateColumn, Object cutoff, String condition, List<Object> conditionParams) {
+        this(name, table, dateColumn, cutoff, condition, conditionParams, null, List.of());
+    }
+}
@@ -0,0 +1,144 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.organisation.workingdays.data;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.function.Predicate;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.apache.fineract.organisation.holiday.domain.Holiday;
+
+/**
+ * Immutable day by day index of the non working days and holidays of an office over a fixed window of dates.
+ * <p>
+ * Lookups inside the window are answered from bit sets, and the next business day (a working day that is not a
+ * holiday) from a precomputed offset table, so both are O(1). Dates outside of the window are not known to the index
+ * and callers have to fall back to evaluating the working day rule and the holiday list.
+ */
+public final class BusinessDayCalendar {
+
+    private static final int UNKNOWN = -1;
+
+    private final LocalDate windowStart;
+    private final LocalDate windowEnd;
+    private final int windowLength;
+    private final BitSet nonWorkingDays;
+    private final BitSet holidays;
+    /**
+     * Number of days from the indexed date to the next business day (0 when the date itself is a business day), or
+     * {@link #UNKNOWN} when there is no business day left in the window.
+     */
+    private final int[] daysToNextBusinessDay;
+
+    private BusinessDayCalendar(final LocalDate windowStart, final int windowLength, final BitSet nonWorkingDays, final BitSet holidays) {
+        this.windowStart = windowStart;
+        this.windowEnd = windowStart.plusDays(windowLength - 1L);
+        this.windowLength = windowLength;
+        this.nonWorkingDays = nonWorkingDays;
+        this.holidays = holidays;
+        this.daysToNextBusinessDay = new int[windowLength];
+        int nextBusinessDay = UNKNOWN;
+        for (int index = windowLength - 1; index >= 0; index--) {
+            if (!nonWorkingDays.get(index) && !holidays.get(index)) {
+                nextBusinessDay = index;
+            }
+            this.daysToNextBusinessDay[index] = nextBusinessDay == UNKNOWN ? UNKNOWN : nextBusinessDay - index;
+        }
+    }
+
+    /**
+     * Builds the index of the dates between <code>windowStart</code> and <code>windowEnd</code> (both inclusive).
+     *
+     * @param isWorkingDay
+     *            evaluates the working day rule of the tenant for a single date
+     * @param holidays
+     *            the active holidays of the office, holidays outside of the window are ignored
+     */
+    public static BusinessDayCalendar of(final LocalDate windowStart, final LocalDate windowEnd, final Predicate<LocalDate> isWorkingDay,
+            final Collection<Holiday> holidays) {
+        final int windowLength = Math.toIntExact(ChronoUnit.DAYS.between(windowStart, windowEnd) + 1);
+        if (windowLength <= 0) {
+            throw new IllegalArgumentException("The end of the window must not be before its start");
+        }
+        final BitSet nonWorkingDays = new BitSet(windowLength);
+        LocalDate date = windowStart;
+        for (int index = 0; index < windowLength; index++) {
+            if (!isWorkingDay.test(date)) {
+                nonWorkingDays.set(index);
+            }
+            date = date.plusDays(1);
+        }
+        final BitSet holidayDays = new BitSet(windowLength);
+        if (holidays != null) {
+            for (final Holiday holiday : holidays) {
+                final long from = Math.max(ChronoUnit.DAYS.between(windowStart, holiday.getFromDate()), 0);
+                final long to = Math.min(ChronoUnit.DAYS.between(windowStart, holiday.getToDate()), windowLength - 1L);
+                if (from <= to) {
+                    holidayDays.set((int) from, (int) to + 1);
+                }
+            }
+        }
+        return new BusinessDayCalendar(windowStart, windowLength, nonWorkingDays, holidayDays);
+    }
+
+    public LocalDate getWindowStart() {
+        return this.windowStart;
+    }
+
+    public LocalDate getWindowEnd() {
+        return this.windowEnd;
+    }
+
+    /**
+     * Returns whether the date is inside of the indexed window, the other lookups must only be used when it is.
+     */
+    public boolean covers(final LocalDate date) {
+        return date != null && !DateUtils.isBefore(date, this.windowStart) && !DateUtils.isAfter(date, this.windowEnd);
+    }
+
+    public boolean isWorkingDay(final LocalDate date) {
+        return !this.nonWorkingDays.get(indexOf(date));
+    }
+
+    public boolean isHoliday(final LocalDate date) {
+        return this.holidays.get(indexOf(date));
+    }
+
+    public boolean isBusinessDay(final LocalDate date) {
+        return this.daysToNextBusinessDay[indexOf(date)] == 0;
+    }
+
+    /**
+     * Returns the first business day on or after the date, or null when there is none left in the window.
+     */
+    public LocalDate getNextBusinessDay(final LocalDate date) {
+        final int offset = this.daysToNextBusinessDay[indexOf(date)];
+        return offset == UNKNOWN ? null : date.plusDays(offset);
+    }
+
+    private int indexOf(final LocalDate date) {
+        if (!covers(date)) {
+            throw new IllegalArgumentException(
+                    "Date " + date + " is outside of the business day calendar window " + this.windowStart + " - " + this.windowEnd);
+        }
+        return (int) ChronoUnit.DAYS.between(this.windowStart, date);
+    }
+}
@@ -32,6 +32,8 @@ import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.StringTokenizer;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import lombok.extern.slf4j.Slf4j;
 import net.fortuna.ical4j.model.Date;
 import net.fortuna.ical4j.model.DateList;
@@ -60,6 +62,11 @@ public final class CalendarUtils {
 
     public static final String FLOATING_TIMEZONE_PROPERTY_KEY = "net.fortuna.ical4j.timezone.date.floating";
 
+    private static final int MAX_CACHED_RECURRING_RULES = 1024;
+    // parsed rules are tenant independent, the same meeting and working day rules are shared by many loans; the cached
+    // instances are mutable, so they never leave this class
+    private static final ConcurrentMap<String, Recur> RECURRING_RULE_CACHE = new ConcurrentHashMap<>();
+
     private CalendarUtils() {
 
     }
@@ -70,22 +77,22 @@ public final class CalendarUtils {
 
     public static LocalDateTime getNextRecurringDate(final String recurringRule, final LocalDateTime seedDate,
             final LocalDateTime startDate) {
-        final Recur recur = CalendarUtils.getICalRecur(recurringRule);
+        final Recur recur = cachedICalRecur(recurringRule);
         if (recur == null) {
             return null;
         }
         LocalDateTime nextDate = getNextRecurringDate(recur, seedDate, startDate);
-        nextDate = (LocalDateTime) adjustDate(nextDate, seedDate, getMeetingPeriodFrequencyType(recurringRule));
+        nextDate = (LocalDateTime) adjustDate(nextDate, seedDate, getMeetingPeriodFrequencyType(recur));
         return nextDate;
     }
 
     public static LocalDate getNextRecurringDate(final String recurringRule, final LocalDate seedDate, final LocalDate startDate) {
-        final Recur recur = CalendarUtils.getICalRecur(recurringRule);
+        final Recur recur = cachedICalRecur(recurringRule);
         if (recur == null) {
             return null;
         }
         LocalDate nextDate = getNextRecurringDate(recur, seedDate, startDate);
-        nextDate = (LocalDate) adjustDate(nextDate, seedDate, getMeetingPeriodFrequencyType(recurringRule));
+        nextDate = (LocalDate) adjustDate(nextDate, seedDate, getMeetingPeriodFrequencyType(recur));
         return nextDate;
     }
 
@@ -107,6 +114,12 @@ public final class CalendarUtils {
     }
 
     private static LocalDate getNextRecurringDate(final Recur recur, final LocalDate seedDate, final LocalDate startDate) {
+        final SimpleRecurrence simpleRecurrence = SimpleRecurrence.of(recur, seedDate);
+        if (simpleRecurrence != null) {
+            // same conversion as for the ical4j date below, which is created at midnight of the system time zone
+            final LocalDate nextRecDate = simpleRecurrence.next(startDate);
+            return LocalDate.ofInstant(nextRecDate.atStartOfDay(ZoneId.systemDefault()).toInstant(), DateUtils.getDateTimeZoneOfTenant());
+        }
         final DateTime periodStart = new DateTime(java.util.Date.from(startDate.atStartOfDay(ZoneId.systemDefault()).toInstant()));
         final Date seed = convertToiCal4JCompatibleDate(seedDate.atStartOfDay());
         final Date nextRecDate = recur.getNextDate(seed, periodStart);
@@ -150,7 +163,7 @@ public final class CalendarUtils {
     public static Collection<LocalDate> getRecurringDates(final String recurringRule, final LocalDate seedDate,
             final LocalDate periodStartDate, final LocalDate periodEndDate, final int maxCount, boolean isSkippMeetingOnFirstDay,
             final Integer numberOfDays) {
-        final Recur recur = CalendarUtils.getICalRecur(recurringRule);
+        final Recur recur = cachedICalRecur(recurringRule);
 
         return getRecurringDates(recur, seedDate, periodStartDate, periodEndDate, maxCount, isSkippMeetingOnFirstDay, numberOfDays);
     }
@@ -160,6 +173,11 @@ public final class CalendarUtils {
         if (recur == null) {
             return null;
         }
+        final SimpleRecurrence simpleRecurrence = SimpleRecurrence.of(recur, seedDate);
+        if (simpleRecurrence != null) {
+            return adjustRecurringDates(simpleRecurrence.between(periodStartDate, periodEndDate, maxCount), seedDate,
+                    getMeetingPeriodFrequencyType(recur), isSkippMeetingOnFirstDay, numberOfDays);
+        }
         final Date seed = convertToiCal4JCompatibleDate(seedDate.atStartOfDay());
         final DateTime periodStart = new DateTime(java.util.Date.from(periodStartDate.atStartOfDay(ZoneId.systemDefault()).toInstant()));
         final DateTime periodEnd = new DateTime(java.util.Date.from(periodEndDate.atStartOfDay(ZoneId.systemDefault()).toInstant()));
@@ -178,7 +196,17 @@ public final class CalendarUtils {
             LocalDateTime dateTimeInProperTz = getLocalDateTimeFromICal4JDate(date);
             ZoneId tenantZoneId = DateUtils.getDateTimeZoneOfTenant();
 
-            recurringDates.add((LocalDate) adjustDate(dateTimeInProperTz.atZone(tenantZoneId).toLocalDate(), seedDate, frequencyType));
+            recurringDates.add(dateTimeInProperTz.atZone(tenantZoneId).toLocalDate());
+        }
+
+        return adjustRecurringDates(recurringDates, seedDate, frequencyType, isSkippMeetingOnFirstDay, numberOfDays);
+    }
+
+    private static Collection<LocalDate> adjustRecurringDates(final Collection<LocalDate> dates, final LocalDate seedDate,
+            final PeriodFrequencyType frequencyType, boolean isSkippMeetingOnFirstDay, final Integer numberOfDays) {
+        final Collection<LocalDate> recurringDates = new ArrayList<>();
+        for (final LocalDate date : dates) {
+            recurringDates.add((LocalDate) adjustDate(date, seedDate, frequencyType));
         }
 
         if (isSkippMeetingOnFirstDay) {
@@ -214,7 +242,45 @@ public final class CalendarUtils {
         return recuringDate;
     }
 
+    /**
+     * Returns the parsed recurring rule. The returned instance is a copy of the cached rule, so callers may modify it.
+     */
     public static Recur getICalRecur(final String recurringRule) {
+        final Recur recur = cachedICalRecur(recurringRule);
+        return recur == null ? null : copyOf(recur);
+    }
+
+    /**
+     * Returns the cached parsed recurring rule. The instance is shared by every caller, so it is only used within this
+     * class and never modified.
+     */
+    private static Recur cachedICalRecur(final String recurringRule) {
+        if (recurringRule == null) {
+            return parseICalRecur(recurringRule);
+        }
+        Recur recur = RECURRING_RULE_CACHE.get(recurringRule);
+        if (recur == null) {
+            recur = parseICalRecur(recurringRule);
+            if (recur != null) {
+                if (RECURRING_RULE_CACHE.size() >= MAX_CACHED_RECURRING_RULES) {
+                    RECURRING_RULE_CACHE.clear();
+                }
+                RECURRING_RULE_CACHE.put(recurringRule, recur);
+            }
+        }
+        return recur;
+    }
+
+    private static Recur copyOf(final Recur recur) {
+        try {
+            return new Recur(recur.toString());
+        } catch (final ParseException e) {
+            // the rule was parsed from the same string before
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Recur parseICalRecur(final String recurringRule) {
 
         // Construct RRule
         try {
@@ -356,7 +422,7 @@ public final class CalendarUtils {
     }
 
     public static boolean isValidRecurringDate(final String recurringRule, final LocalDate seedDate, final LocalDate date) {
-        final Recur recur = CalendarUtils.getICalRecur(recurringRule);
+        final Recur recur = cachedICalRecur(recurringRule);
         if (recur == null) {
             return false;
         }
@@ -368,7 +434,7 @@ public final class CalendarUtils {
     public static boolean isValidRecurringDate(final String recurringRule, final LocalDate seedDate, final LocalDate date,
             boolean isSkipRepaymentonFirstDayOfMonth, final Integer numberOfDays) {
 
-        final Recur recur = CalendarUtils.getICalRecur(recurringRule);
+        final Recur recur = cachedICalRecur(recurringRule);
         if (recur == null) {
             return false;
         }
@@ -449,7 +515,7 @@ public final class CalendarUtils {
     }
 
     public static PeriodFrequencyType getMeetingPeriodFrequencyType(final String recurringRule) {
-        final Recur recur = CalendarUtils.getICalRecur(recurringRule);
+        final Recur recur = cachedICalRecur(recurringRule);
         return getMeetingPeriodFrequencyType(recur);
     }
 
@@ -482,17 +548,17 @@ public final class CalendarUtils {
     }
 
     public static int getInterval(final String recurringRule) {
-        final Recur recur = CalendarUtils.getICalRecur(recurringRule);
+        final Recur recur = cachedICalRecur(recurringRule);
         return recur.getInterval();
     }
 
     public static CalendarFrequencyType getFrequency(final String recurringRule) {
-        final Recur recur = CalendarUtils.getICalRecur(recurringRule);
+        final Recur recur = cachedICalRecur(recurringRule);
         return CalendarFrequencyType.fromString(recur.getFrequency().name());
     }
 
     public static CalendarWeekDaysType getRepeatsOnDay(final String recurringRule) {
-        final Recur recur = CalendarUtils.getICalRecur(recurringRule);
+        final Recur recur = cachedICalRecur(recurringRule);
         final WeekDayList weekDays = recur.getDayList();
         if (weekDays.isEmpty()) {
             return CalendarWeekDaysType.INVALID;
@@ -503,7 +569,7 @@ public final class CalendarUtils {
     }
 
     public static NthDayType getRepeatsOnNthDayOfMonth(final String recurringRule) {
-        final Recur recur = CalendarUtils.getICalRecur(recurringRule);
+        final Recur recur = cachedICalRecur(recurringRule);
         NumberList monthDays = null;
         if (recur.getDayList().isEmpty()) {
             monthDays = recur.getMonthDayList();
@@ -523,7 +589,7 @@ public final class CalendarUtils {
     public static LocalDate getFirstRepaymentMeetingDate(final Calendar calendar, final LocalDate disbursementDate,
             final Integer loanRepaymentInterval, final String frequency, boolean isSkipRepaymentOnFirstDayOfMonth,
             final Integer numberOfDays) {
-        final Recur recur = CalendarUtils.getICalRecur(calendar.getRecurrence());
+        final Recur recur = cachedICalRecur(calendar.getRecurrence());
         if (recur == null) {
             return null;
         }
@@ -566,7 +632,7 @@ public final class CalendarUtils {
     public static LocalDate getNewRepaymentMeetingDate(final String recurringRule, final LocalDate seedDate,
             final LocalDate oldRepaymentDate, final Integer loanRepaymentInterval, final String frequency, final WorkingDays workingDays,
             final boolean isSkipRepaymentOnFirstDayOfMonth, final Integer numberOfDays) {
-        final Recur recur = CalendarUtils.getICalRecur(recurringRule);
+        final Recur recur = cachedICalRecur(recurringRule);
         if (recur == null) {
             return null;
         }
@@ -583,7 +649,7 @@ public final class CalendarUtils {
             final Integer loanRepaymentInterval, final String frequency, final WorkingDays workingDays,
             boolean isSkipRepaymentOnFirstDayOfMonth, final Integer numberOfDays) {
 
-        final Recur recur = CalendarUtils.getICalRecur(recurringRule);
+        final Recur recur = cachedICalRecur(recurringRule);
         if (recur == null) {
             return null;
         }
@@ -627,8 +693,8 @@ public final class CalendarUtils {
     }
 
     public static boolean isFrequencySame(final String oldRRule, final String newRRule) {
-        final Recur oldRecur = getICalRecur(oldRRule);
-        final Recur newRecur = getICalRecur(newRRule);
+        final Recur oldRecur = cachedICalRecur(oldRRule);
+        final Recur newRecur = cachedICalRecur(newRRule);
 
         if (oldRecur == null || oldRecur.getFrequency() == null || newRecur == null || newRecur.getFrequency() == null) {
             return false;
@@ -637,8 +703,8 @@ public final class CalendarUtils {
     }
 
     public static boolean isIntervalSame(final String oldRRule, final String newRRule) {
-        final Recur oldRecur = getICalRecur(oldRRule);
-        final Recur newRecur = getICalRecur(newRRule);
+        final Recur oldRecur = cachedICalRecur(oldRRule);
+        final Recur newRecur = cachedICalRecur(newRRule);
 
         if (oldRecur == null || oldRecur.getFrequency() == null || newRecur == null || newRecur.getFrequency() == null) {
             return false;
@@ -700,7 +766,7 @@ public final class CalendarUtils {
     public static LocalDate getRecentEligibleMeetingDate(final String recurringRule, final LocalDate seedDate,
             final boolean isSkipMeetingOnFirstDay, final Integer numberOfDays) {
         LocalDate currentDate = DateUtils.getLocalDateOfTenant();
-        final Recur recur = CalendarUtils.getICalRecur(recurringRule);
+        final Recur recur = cachedICalRecur(recurringRule);
         if (recur == null) {
             return null;
         }
@@ -723,7 +789,7 @@ public final class CalendarUtils {
     }
 
     public static LocalDate getNextScheduleDate(final Calendar calendar, final LocalDate startDate) {
-        final Recur recur = CalendarUtils.getICalRecur(calendar.getRecurrence());
+        final Recur recur = cachedICalRecur(calendar.getRecurrence());
         if (recur == null) {
             return null;
         }
@@ -754,7 +820,7 @@ public final class CalendarUtils {
     }
 
     public static Integer getMonthOnDay(String recurringRule) {
-        final Recur recur = CalendarUtils.getICalRecur(recurringRule);
+        final Recur recur = cachedICalRecur(recurringRule);
         NumberList monthDayList = null;
         Integer monthOnDay = null;
         if (getMeetingPeriodFrequencyType(recur).isMonthly()) {
@@ -788,7 +854,7 @@ public final class CalendarUtils {
             final Integer loanRepaymentInterval, final String frequency, final WorkingDays workingDays,
             boolean isSkipRepaymentOnFirstDayOfMonth, final Integer numberOfDays, boolean isCalledFirstTime, boolean applyWorkingDays) {
 
-        final Recur recur = CalendarUtils.getICalRecur(recurringRule);
+        final Recur recur = cachedICalRecur(recurringRule);
         if (recur == null) {
             return null;
         }
@@ -0,0 +1,149 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.calendar.service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import net.fortuna.ical4j.model.Recur;
+import net.fortuna.ical4j.model.WeekDay;
+import net.fortuna.ical4j.model.WeekDayList;
+
+/**
+ * Evaluates the recurring rules Fineract creates most often directly with <code>java.time</code>, without the round
+ * trips between <code>java.time</code> and ical4j dates:
+ * <ul>
+ * <li>DAILY, with no further rule parts</li>
+ * <li>WEEKLY, on a single week day (or the week day of the seed date)</li>
+ * <li>MONTHLY, on a fixed day of the month between 1 and 28 (or the day of the seed date)</li>
+ * </ul>
+ * For these rules the occurrences are the same as the ones generated by {@link Recur}; every other rule (COUNT, UNTIL,
+ * nth week day of month, several week days, last day of month, ...) is left to ical4j and {@link #of(Recur, LocalDate)}
+ * returns null.
+ */
+final class SimpleRecurrence {
+
+    private static final int LAST_DAY_PRESENT_IN_EVERY_MONTH = 28;
+
+    private final ChronoUnit unit;
+    private final int interval;
+    private final LocalDate firstOccurrence;
+
+    private SimpleRecurrence(final ChronoUnit unit, final int interval, final LocalDate firstOccurrence) {
+        this.unit = unit;
+        this.interval = interval;
+        this.firstOccurrence = firstOccurrence;
+    }
+
+    static SimpleRecurrence of(final Recur recur, final LocalDate seedDate) {
+        if (recur == null || seedDate == null || recur.getFrequency() == null || recur.getCount() > 0 || recur.getUntil() != null
+                || !recur.getSecondList().isEmpty() || !recur.getMinuteList().isEmpty() || !recur.getHourList().isEmpty()
+                || !recur.getYearDayList().isEmpty() || !recur.getWeekNoList().isEmpty() || !recur.getMonthList().isEmpty()
+                || !recur.getSetPosList().isEmpty()) {
+            return null;
+        }
+        // ical4j treats a missing or non positive interval as 1
+        final int interval = Math.max(recur.getInterval(), 1);
+        return switch (recur.getFrequency()) {
+            case DAILY -> recur.getDayList().isEmpty() && recur.getMonthDayList().isEmpty()
+                    ? new SimpleRecurrence(ChronoUnit.DAYS, interval, seedDate)
+                    : null;
+            case WEEKLY -> weekly(recur, seedDate, interval);
+            case MONTHLY -> monthly(recur, seedDate, interval);
+            default -> null;
+        };
+    }
+
+    private static SimpleRecurrence weekly(final Recur recur, final LocalDate seedDate, final int interval) {
+        final WeekDayList dayList = recur.getDayList();
+        if (!recur.getMonthDayList().isEmpty() || dayList.size() > 1) {
+            return null;
+        }
+        DayOfWeek dayOfWeek = seedDate.getDayOfWeek();
+        if (!dayList.isEmpty()) {
+            final WeekDay weekDay = dayList.get(0);
+            if (weekDay.getOffset() != 0) {
+                return null;
+            }
+            dayOfWeek = DayOfWeek.of(CalendarUtils.DayNameEnum.from(weekDay.getDay().name()).getValue());
+        }
+        // with an interval the occurrences depend on the week start, only the unambiguous case is handled here
+        if (interval > 1 && dayOfWeek != seedDate.getDayOfWeek()) {
+            return null;
+        }
+        return new SimpleRecurrence(ChronoUnit.WEEKS, interval, seedDate.with(TemporalAdjusters.nextOrSame(dayOfWeek)));
+    }
+
+    private static SimpleRecurrence monthly(final Recur recur, final LocalDate seedDate, final int interval) {
+        if (!recur.getDayList().isEmpty() || recur.getMonthDayList().size() > 1) {
+            return null;
+        }
+        final int dayOfMonth = recur.getMonthDayList().isEmpty() ? seedDate.getDayOfMonth() : recur.getMonthDayList().get(0);
+        if (dayOfMonth < 1 || dayOfMonth > LAST_DAY_PRESENT_IN_EVERY_MONTH) {
+            return null;
+        }
+        final LocalDate firstOccurrence = dayOfMonth >= seedDate.getDayOfMonth() ? seedDate.withDayOfMonth(dayOfMonth)
+                : seedDate.plusMonths(interval).withDayOfMonth(dayOfMonth);
+        return new SimpleRecurrence(ChronoUnit.MONTHS, interval, firstOccurrence);
+    }
+
+    /**
+     * Returns the first occurrence strictly after the given date, like {@link Recur#getNextDate}.
+     */
+    LocalDate next(final LocalDate startDate) {
+        long index = firstIndexFrom(startDate);
+        LocalDate occurrence = occurrence(index);
+        while (!occurrence.isAfter(startDate)) {
+            occurrence = occurrence(++index);
+        }
+        return occurrence;
+    }
+
+    /**
+     * Returns the occurrences between both dates (inclusive), at most <code>maxCount</code> of them when it is not
+     * negative, like {@link Recur#getDates}.
+     */
+    List<LocalDate> between(final LocalDate periodStart, final LocalDate periodEnd, final int maxCount) {
+        final List<LocalDate> dates = new ArrayList<>();
+        long index = firstIndexFrom(periodStart);
+        LocalDate occurrence = occurrence(index);
+        while (occurrence.isBefore(periodStart)) {
+            occurrence = occurrence(++index);
+        }
+        while (!occurrence.isAfter(periodEnd) && (maxCount < 0 || dates.size() < maxCount)) {
+            dates.add(occurrence);
+            occurrence = occurrence(++index);
+        }
+        return dates;
+    }
+
+    private long firstIndexFrom(final LocalDate date) {
+        if (!date.isAfter(firstOccurrence)) {
+            return 0;
+        }
+        return unit.between(firstOccurrence, date) / interval;
+    }
+
+    private LocalDate occurrence(final long index) {
+        return firstOccurrence.plus(index * interval, unit);
+    }
+}
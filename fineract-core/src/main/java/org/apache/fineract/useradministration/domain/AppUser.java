@@ -106,6 +106,8 @@ public class AppUser extends AbstractPersistableCustom<Long> implements Platform
     @JoinTable(name = "m_appuser_role", joinColumns = @JoinColumn(name = "appuser_id"), inverseJoinColumns = @JoinColumn(name = "role_id"))
     private Set<Role> roles;
 
+    private transient volatile PermissionSet permissionSet;
+
     @Column(name = "last_time_password_updated")
     private LocalDate lastTimePasswordUpdated;
 
@@ -493,32 +495,17 @@ public class AppUser extends AbstractPersistableCustom<Long> implements Platform
     }
 
     public boolean hasNotPermissionForReport(final String reportName) {
-
-        if (hasNotPermissionForAnyOf("ALL_FUNCTIONS", "ALL_FUNCTIONS_READ", "REPORTING_SUPER_USER", "READ_" + reportName)) {
-            return true;
-        }
-
-        return false;
+        final PermissionSet permissions = getPermissionSet();
+        return !(permissions.hasAllFunctions() || permissions.contains("ALL_FUNCTIONS_READ") || permissions.contains("REPORTING_SUPER_USER")
+                || permissions.contains("READ", reportName));
     }
 
     public boolean hasNotPermissionForDatatable(final String datatable, final String accessType) {
-
-        final String matchPermission = accessType + "_" + datatable;
-
-        if (accessType.equalsIgnoreCase("READ")) {
-
-            if (hasNotPermissionForAnyOf("ALL_FUNCTIONS", "ALL_FUNCTIONS_READ", matchPermission)) {
-                return true;
-            }
-
+        final PermissionSet permissions = getPermissionSet();
+        if (permissions.hasAllFunctions() || permissions.contains(accessType, datatable)) {
             return false;
         }
-
-        if (hasNotPermissionForAnyOf("ALL_FUNCTIONS", matchPermission)) {
-            return true;
-        }
-
-        return false;
+        return !(accessType.equalsIgnoreCase("READ") && permissions.contains("ALL_FUNCTIONS_READ"));
     }
 
     public boolean hasNotPermissionForAnyOf(final String... permissionCodes) {
@@ -541,14 +528,7 @@ public class AppUser extends AbstractPersistableCustom<Long> implements Platform
      * @return whether the user has the specified permission
      */
     public boolean hasSpecificPermissionTo(final String permissionCode) {
-        boolean hasPermission = false;
-        for (final Role role : this.roles) {
-            if (role.hasPermissionTo(permissionCode)) {
-                hasPermission = true;
-                break;
-            }
-        }
-        return hasPermission;
+        return getPermissionSet().contains(permissionCode);
     }
 
     public void validateHasReadPermission(final String resourceType) {
@@ -568,13 +548,12 @@ public class AppUser extends AbstractPersistableCustom<Long> implements Platform
     }
 
     private void validateHasPermission(final String prefix, final String resourceType) {
-        final String authorizationMessage = "User has no authority to " + prefix + " " + resourceType.toLowerCase() + "s";
-        final String matchPermission = prefix + "_" + resourceType.toUpperCase();
-
-        if (!hasNotPermissionForAnyOf("ALL_FUNCTIONS", "ALL_FUNCTIONS_READ", matchPermission)) {
+        final PermissionSet permissions = getPermissionSet();
+        if (permissions.hasAllFunctions() || permissions.contains("ALL_FUNCTIONS_READ") || permissions.contains(prefix, resourceType)) {
             return;
         }
 
+        final String authorizationMessage = "User has no authority to " + prefix + " " + resourceType.toLowerCase() + "s";
         throw new NoAuthorizationException(authorizationMessage);
     }
 
@@ -583,27 +562,21 @@ public class AppUser extends AbstractPersistableCustom<Long> implements Platform
     }
 
     private boolean hasPermissionTo(final String permissionCode) {
-        boolean hasPermission = hasAllFunctionsPermission();
-        if (!hasPermission) {
-            for (final Role role : this.roles) {
-                if (role.hasPermissionTo(permissionCode)) {
-                    hasPermission = true;
-                    break;
-                }
-            }
-        }
-        return hasPermission;
+        final PermissionSet permissions = getPermissionSet();
+        return permissions.hasAllFunctions() || permissions.contains(permissionCode);
     }
 
-    private boolean hasAllFunctionsPermission() {
-        boolean match = false;
-        for (final Role role : this.roles) {
-            if (role.hasPermissionTo("ALL_FUNCTIONS")) {
-                match = true;
-                break;
-            }
+    /**
+     * Returns the permissions of all roles of the user as a {@link PermissionSet}, built on first use and rebuilt after
+     * the roles of the user or their permissions change.
+     */
+    public PermissionSet getPermissionSet() {
+        PermissionSet permissionSet = this.permissionSet;
+        if (permissionSet == null || !permissionSet.isOfRoles(this.roles)) {
+            permissionSet = PermissionSet.ofRoles(this.roles);
+            this.permissionSet = permissionSet;
         }
-        return match;
+        return permissionSet;
     }
 
     public boolean hasIdOf(final Long userId) {
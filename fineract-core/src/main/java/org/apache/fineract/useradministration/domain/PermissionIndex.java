@@ -0,0 +1,101 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.useradministration.domain;
+
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Assigns every permission code a bit, so that the permissions of a role or user can be kept in a {@link PermissionSet}.
+ * <p>
+ * Codes are matched case-insensitively, like {@link Permission#hasCode(String)}. Bits are handed out the first time a
+ * code is seen while building a permission set and are shared by all tenants, as permission codes are the same
+ * everywhere. Codes are also indexed by their prefix (the part before the first <code>_</code>, e.g. <code>READ</code>)
+ * so that <code>READ_</code> + name style checks do not need to concatenate strings.
+ */
+public final class PermissionIndex {
+
+    static final int NOT_FOUND = -1;
+
+    private static final char SEPARATOR = '_';
+    private static final ConcurrentHashMap<String, Integer> BITS_BY_CODE = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<String, ConcurrentHashMap<String, Integer>> BITS_BY_PREFIX = new ConcurrentHashMap<>();
+    private static final AtomicInteger NEXT_BIT = new AtomicInteger();
+
+    private PermissionIndex() {}
+
+    /**
+     * Returns the bit of the permission code, assigning a new one if the code was not seen before.
+     */
+    static int register(final String code) {
+        final Integer known = BITS_BY_CODE.get(code);
+        if (known != null) {
+            return known;
+        }
+        final String normalizedCode = normalize(code);
+        final int bit = BITS_BY_CODE.computeIfAbsent(normalizedCode, key -> NEXT_BIT.getAndIncrement());
+        BITS_BY_CODE.putIfAbsent(code, bit);
+        final int separator = code.indexOf(SEPARATOR);
+        if (separator > 0) {
+            final ConcurrentHashMap<String, Integer> bitsByName = BITS_BY_PREFIX.computeIfAbsent(normalizedCode.substring(0, separator),
+                    key -> new ConcurrentHashMap<>());
+            bitsByName.putIfAbsent(normalizedCode.substring(separator + 1), bit);
+            bitsByName.putIfAbsent(code.substring(separator + 1), bit);
+        }
+        return bit;
+    }
+
+    /**
+     * Returns the bit of the permission code, or {@link #NOT_FOUND} if no permission set contains it.
+     */
+    static int bitOf(final String code) {
+        Integer bit = BITS_BY_CODE.get(code);
+        if (bit == null) {
+            bit = BITS_BY_CODE.get(normalize(code));
+        }
+        return bit == null ? NOT_FOUND : bit;
+    }
+
+    /**
+     * Returns the bit of the permission code <code>prefix + "_" + name</code>, or {@link #NOT_FOUND} if no permission set
+     * contains it.
+     */
+    static int bitOf(final String prefix, final String name) {
+        if (prefix.indexOf(SEPARATOR) >= 0) {
+            return bitOf(prefix + SEPARATOR + name);
+        }
+        ConcurrentHashMap<String, Integer> bitsByName = BITS_BY_PREFIX.get(prefix);
+        if (bitsByName == null) {
+            bitsByName = BITS_BY_PREFIX.get(normalize(prefix));
+            if (bitsByName == null) {
+                return NOT_FOUND;
+            }
+        }
+        Integer bit = bitsByName.get(name);
+        if (bit == null) {
+            bit = bitsByName.get(normalize(name));
+        }
+        return bit == null ? NOT_FOUND : bit;
+    }
+
+    private static String normalize(final String code) {
+        return code.toUpperCase(Locale.ROOT);
+    }
+}
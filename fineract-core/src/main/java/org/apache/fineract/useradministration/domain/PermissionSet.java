@@ -0,0 +1,102 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.useradministration.domain;
+
+import java.util.BitSet;
+import java.util.Collection;
+
+/**
+ * Immutable set of permission codes, backed by the bits assigned by {@link PermissionIndex}.
+ * <p>
+ * The permission set of a user is the union of the permission sets of its roles. It remembers which role permission
+ * sets it was built from, so that a change of the roles or of their permissions is detected without comparing codes.
+ */
+public final class PermissionSet {
+
+    public static final String ALL_FUNCTIONS = "ALL_FUNCTIONS";
+
+    private static final PermissionSet[] NO_SOURCES = new PermissionSet[0];
+
+    private final BitSet bits;
+    private final boolean allFunctions;
+    private final PermissionSet[] sources;
+
+    private PermissionSet(final BitSet bits, final PermissionSet[] sources) {
+        this.bits = bits;
+        final int allFunctionsBit = PermissionIndex.bitOf(ALL_FUNCTIONS);
+        this.allFunctions = allFunctionsBit != PermissionIndex.NOT_FOUND && bits.get(allFunctionsBit);
+        this.sources = sources;
+    }
+
+    public static PermissionSet of(final Collection<Permission> permissions) {
+        final BitSet bits = new BitSet();
+        for (final Permission permission : permissions) {
+            if (permission.getCode() != null) {
+                bits.set(PermissionIndex.register(permission.getCode()));
+            }
+        }
+        return new PermissionSet(bits, NO_SOURCES);
+    }
+
+    public static PermissionSet ofRoles(final Collection<Role> roles) {
+        final BitSet bits = new BitSet();
+        final PermissionSet[] sources = new PermissionSet[roles.size()];
+        int i = 0;
+        for (final Role role : roles) {
+            sources[i] = role.getPermissionSet();
+            bits.or(sources[i].bits);
+            i++;
+        }
+        return new PermissionSet(bits, sources);
+    }
+
+    /**
+     * Whether this set was built by {@link #ofRoles(Collection)} from the current permissions of exactly these roles, in
+     * this order.
+     */
+    public boolean isOfRoles(final Collection<Role> roles) {
+        if (roles.size() != this.sources.length) {
+            return false;
+        }
+        int i = 0;
+        for (final Role role : roles) {
+            if (role.getPermissionSet() != this.sources[i++]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean hasAllFunctions() {
+        return this.allFunctions;
+    }
+
+    public boolean contains(final String code) {
+        final int bit = PermissionIndex.bitOf(code);
+        return bit != PermissionIndex.NOT_FOUND && this.bits.get(bit);
+    }
+
+    /**
+     * Whether the set contains the permission code <code>prefix + "_" + name</code>.
+     */
+    public boolean contains(final String prefix, final String name) {
+        final int bit = PermissionIndex.bitOf(prefix, name);
+        return bit != PermissionIndex.NOT_FOUND && this.bits.get(bit);
+    }
+}
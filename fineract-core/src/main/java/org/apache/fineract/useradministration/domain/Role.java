@@ -53,6 +53,8 @@ public class Role extends AbstractPersistableCustom<Long> implements Serializabl
     @JoinTable(name = "m_role_permission", joinColumns = @JoinColumn(name = "role_id"), inverseJoinColumns = @JoinColumn(name = "permission_id"))
     private Set<Permission> permissions = new HashSet<>();
 
+    private transient volatile PermissionSet permissionSet;
+
     public static Role fromJson(final JsonCommand command) {
         final String name = command.stringValueOfParameterNamed("name");
         final String description = command.stringValueOfParameterNamed("description");
@@ -102,10 +104,12 @@ public class Role extends AbstractPersistableCustom<Long> implements Serializabl
     }
 
     private boolean addPermission(final Permission permission) {
+        this.permissionSet = null;
         return this.permissions.add(permission);
     }
 
     private boolean removePermission(final Permission permission) {
+        this.permissionSet = null;
         return this.permissions.remove(permission);
     }
 
@@ -114,14 +118,20 @@ public class Role extends AbstractPersistableCustom<Long> implements Serializabl
     }
 
     public boolean hasPermissionTo(final String permissionCode) {
-        boolean match = false;
-        for (final Permission permission : this.permissions) {
-            if (permission.hasCode(permissionCode)) {
-                match = true;
-                break;
-            }
+        return getPermissionSet().contains(permissionCode);
+    }
+
+    /**
+     * Returns the permissions of the role as a {@link PermissionSet}, built on first use and rebuilt after the
+     * permissions of the role change.
+     */
+    public PermissionSet getPermissionSet() {
+        PermissionSet permissionSet = this.permissionSet;
+        if (permissionSet == null) {
+            permissionSet = PermissionSet.of(this.permissions);
+            this.permissionSet = permissionSet;
         }
-        return match;
+        return permissionSet;
     }
 
     public RoleData toData() {
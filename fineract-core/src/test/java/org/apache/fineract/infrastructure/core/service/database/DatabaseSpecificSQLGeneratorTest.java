@@ -18,6 +18,7 @@
  */
 package org.apache.fineract.infrastructure.core.service.database;
 
+import java.util.List;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -61,4 +62,18 @@ public class DatabaseSpecificSQLGeneratorTest {
         String countQuery = databaseSpecificSQLGenerator.countQueryResult(sql);
         Assertions.assertEquals("SELECT COUNT(*) FROM (SELECT 1 FROM test_table WHERE asd=2) AS temp", countQuery);
     }
+
+    @Test
+    public void testOnConflictUpdateOnPostgreSQL() {
+        Mockito.when(databaseTypeResolver.databaseType()).thenReturn(DatabaseType.POSTGRESQL);
+        String clause = databaseSpecificSQLGenerator.onConflictUpdate("id", List.of("a", "b"));
+        Assertions.assertEquals(" ON CONFLICT (id) DO UPDATE SET a = EXCLUDED.a, b = EXCLUDED.b", clause);
+    }
+
+    @Test
+    public void testOnConflictUpdateOnMySQL() {
+        Mockito.when(databaseTypeResolver.databaseType()).thenReturn(DatabaseType.MYSQL);
+        String clause = databaseSpecificSQLGenerator.onConflictUpdate("id", List.of("a", "b"));
+        Assertions.assertEquals(" ON DUPLICATE KEY UPDATE a = VALUES(a), b = VALUES(b)", clause);
+    }
 }
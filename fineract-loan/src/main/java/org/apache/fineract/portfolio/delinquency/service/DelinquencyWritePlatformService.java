@@ -22,6 +22,7 @@ import java.util.List;
 import org.apache.fineract.infrastructure.core.api.JsonCommand;
 import org.apache.fineract.infrastructure.core.data.CommandProcessingResult;
 import org.apache.fineract.portfolio.delinquency.validator.LoanDelinquencyActionData;
+import org.apache.fineract.portfolio.loanaccount.data.LoanDelinquencyData;
 import org.apache.fineract.portfolio.loanaccount.data.LoanScheduleDelinquencyData;
 import org.apache.fineract.portfolio.loanaccount.domain.Loan;
 
@@ -48,7 +49,7 @@ public interface DelinquencyWritePlatformService {
     LoanScheduleDelinquencyData calculateDelinquencyData(LoanScheduleDelinquencyData loanScheduleDelinquencyData,
             List<LoanDelinquencyActionData> effectiveDelinquencyList);
 
-    void applyDelinquencyTagToLoan(LoanScheduleDelinquencyData loanDelinquencyData,
+    LoanDelinquencyData applyDelinquencyTagToLoan(LoanScheduleDelinquencyData loanDelinquencyData,
             List<LoanDelinquencyActionData> effectiveDelinquencyList);
 
     CommandProcessingResult createDelinquencyAction(Long loanId, JsonCommand command);
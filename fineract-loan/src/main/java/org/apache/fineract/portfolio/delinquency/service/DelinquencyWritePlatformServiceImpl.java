@@ -204,7 +204,7 @@ public class DelinquencyWritePlatformServiceImpl implements DelinquencyWritePlat
     }
 
     @Override
-    public void applyDelinquencyTagToLoan(LoanScheduleDelinquencyData loanDelinquencyData,
+    public LoanDelinquencyData applyDelinquencyTagToLoan(LoanScheduleDelinquencyData loanDelinquencyData,
             List<LoanDelinquencyActionData> effectiveDelinquencyList) {
         final Loan loan = loanDelinquencyData.getLoan();
         if (loan.hasDelinquencyBucket()) {
@@ -218,7 +218,9 @@ public class DelinquencyWritePlatformServiceImpl implements DelinquencyWritePlat
             log.debug("Delinquency {}", collectionData);
 
             applyDelinquencyToLoanAndInstallments(loan, delinquencyBucket, collectionData, installmentsCollectionData);
+            return loanDelinquentData;
         }
+        return null;
     }
 
     private Map<String, Object> applyDelinquencyToLoanAndInstallments(Loan loan, DelinquencyBucket delinquencyBucket,
@@ -0,0 +1,238 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.delinquency.service;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractLoanDelinquencyProperties;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
+import org.apache.fineract.organisation.monetary.domain.MonetaryCurrency;
+import org.apache.fineract.portfolio.delinquency.domain.DelinquencyBucket;
+import org.apache.fineract.portfolio.delinquency.domain.DelinquencyRange;
+import org.apache.fineract.portfolio.delinquency.validator.LoanDelinquencyActionData;
+import org.apache.fineract.portfolio.loanaccount.data.CollectionData;
+import org.apache.fineract.portfolio.loanaccount.data.LoanDelinquencyData;
+import org.apache.fineract.portfolio.loanaccount.data.LoanScheduleDelinquencyData;
+import org.apache.fineract.portfolio.loanaccount.domain.Loan;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanRepaymentScheduleInstallment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Skips the nightly delinquency classification of loans whose state can be derived from the business date alone.
+ * <p>
+ * For every classified loan the date of its next possible delinquency transition is stored in
+ * {@code m_loan_delinquency_transition}, together with a fingerprint of the data the classification depends on
+ * (schedule, outstanding balances, grace, bucket ranges and pause periods). A loan is classified again only when that
+ * date has arrived or when the fingerprint changed, i.e. the loan had financial activity since the last run.
+ * <p>
+ * The transition date is a lower bound: pause periods only ever postpone a transition, so they are ignored when it is
+ * computed and at worst cause an unnecessary recalculation. {@link #classify} tells whether a loan was skipped, so that
+ * callers can report the numbers of their own run.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IncrementalDelinquencyClassifier {
+
+    private static final long FINGERPRINT_SEED = 0xcbf29ce484222325L;
+    private static final long FINGERPRINT_PRIME = 0x100000001b3L;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DelinquencyWritePlatformService delinquencyWritePlatformService;
+    private final FineractProperties fineractProperties;
+    private final DatabaseSpecificSQLGenerator sqlGenerator;
+
+    public boolean isEnabled() {
+        final FineractLoanDelinquencyProperties properties = fineractProperties.getLoan().getDelinquency();
+        return properties != null && properties.isIncrementalClassificationEnabled();
+    }
+
+    /**
+     * Classifies the loan unless its delinquency state is known to be unchanged on the given business date.
+     *
+     * @return true if the classification was recomputed, false if it was skipped
+     */
+    public boolean classify(final Loan loan, final LocalDate businessDate, final List<LoanDelinquencyActionData> effectiveDelinquencyList) {
+        final long fingerprint = fingerprint(loan, effectiveDelinquencyList);
+        final List<TransitionState> states = jdbcTemplate.query(
+                "SELECT next_transition_date, state_fingerprint FROM m_loan_delinquency_transition WHERE loan_id = ?",
+                (rs, rowNum) -> new TransitionState(rs.getObject("next_transition_date", LocalDate.class), rs.getLong("state_fingerprint")),
+                loan.getId());
+        final TransitionState state = states.isEmpty() ? null : states.get(0);
+        if (state != null && state.fingerprint() == fingerprint
+                && (state.nextTransitionDate() == null || DateUtils.isBefore(businessDate, state.nextTransitionDate()))) {
+            log.debug("Delinquency classification of loan {} skipped until {}", loan.getId(), state.nextTransitionDate());
+            return false;
+        }
+
+        LoanScheduleDelinquencyData loanDelinquencyData = new LoanScheduleDelinquencyData(loan.getId(), businessDate, null, loan);
+        loanDelinquencyData = delinquencyWritePlatformService.calculateDelinquencyData(loanDelinquencyData, effectiveDelinquencyList);
+        LoanDelinquencyData delinquencyDetails = null;
+        if (loanDelinquencyData.getOverdueDays() > 0) {
+            delinquencyDetails = delinquencyWritePlatformService.applyDelinquencyTagToLoan(loanDelinquencyData, effectiveDelinquencyList);
+        } else {
+            delinquencyWritePlatformService.removeDelinquencyTagToLoan(loan);
+        }
+
+        // Chargebacks are only taken into account once they are before the business date, so a change of the
+        // fingerprint is re-evaluated on the next day as well
+        LocalDate nextTransitionDate = state == null || state.fingerprint() != fingerprint ? businessDate.plusDays(1) : null;
+        nextTransitionDate = earliest(nextTransitionDate,
+                nextTransitionDate(loan, businessDate, loanDelinquencyData, delinquencyDetails, effectiveDelinquencyList));
+        saveState(loan.getId(), nextTransitionDate, fingerprint, businessDate);
+        log.debug("Delinquency classification of loan {} recomputed, next transition on {}", loan.getId(), nextTransitionDate);
+        return true;
+    }
+
+    public static long skippedPercentage(final long skippedCount, final long recomputedCount) {
+        final long total = skippedCount + recomputedCount;
+        return total == 0 ? 0 : skippedCount * 100 / total;
+    }
+
+    private void saveState(final Long loanId, final LocalDate nextTransitionDate, final long fingerprint, final LocalDate businessDate) {
+        final Date transitionDate = nextTransitionDate == null ? null : Date.valueOf(nextTransitionDate);
+        // Upsert, the same loan may be classified concurrently by the job and by the COB business step
+        jdbcTemplate.update("INSERT INTO m_loan_delinquency_transition (loan_id, next_transition_date, state_fingerprint, "
+                + "last_classified_on_date) VALUES (?, ?, ?, ?)"
+                + sqlGenerator.onConflictUpdate("loan_id", List.of("next_transition_date", "state_fingerprint", "last_classified_on_date")),
+                loanId, transitionDate, fingerprint, Date.valueOf(businessDate));
+    }
+
+    static LocalDate nextTransitionDate(final Loan loan, final LocalDate businessDate,
+            final LoanScheduleDelinquencyData loanDelinquencyData, final LoanDelinquencyData delinquencyDetails,
+            final List<LoanDelinquencyActionData> effectiveDelinquencyList) {
+        LocalDate next = null;
+        // An installment becomes overdue on the day after its due date
+        for (LoanRepaymentScheduleInstallment installment : loan.getRepaymentScheduleInstallments()) {
+            if (!installment.isObligationsMet() && !DateUtils.isBefore(installment.getDueDate(), businessDate)) {
+                next = earliest(next, installment.getDueDate().plusDays(1));
+            }
+        }
+        final DelinquencyBucket delinquencyBucket = loan.getLoanProduct().getDelinquencyBucket();
+        if (delinquencyBucket != null) {
+            final List<Long> boundaries = rangeBoundaries(delinquencyBucket.getRanges());
+            next = earliest(next, nextTransitionDate(businessDate, loanDelinquencyData.getOverdueSinceDate(),
+                    loanDelinquencyData.getOverdueDays(), boundaries));
+            if (delinquencyDetails != null && delinquencyDetails.getLoanInstallmentsCollectionData() != null) {
+                for (CollectionData installmentData : delinquencyDetails.getLoanInstallmentsCollectionData().values()) {
+                    next = earliest(next, nextTransitionDate(businessDate, installmentData.getDelinquentDate(),
+                            installmentData.getDelinquentDays(), boundaries));
+                }
+            }
+        }
+        for (LoanDelinquencyActionData pausePeriod : effectiveDelinquencyList) {
+            if (DateUtils.isAfter(pausePeriod.getStartDate(), businessDate)) {
+                next = earliest(next, pausePeriod.getStartDate());
+            }
+            if (!DateUtils.isBefore(pausePeriod.getEndDate(), businessDate)) {
+                next = earliest(next, pausePeriod.getEndDate().plusDays(1));
+            }
+        }
+        return next;
+    }
+
+    private static LocalDate nextTransitionDate(final LocalDate businessDate, final LocalDate delinquentDate, final Long delinquentDays,
+            final List<Long> boundaries) {
+        if (delinquentDays == null || delinquentDays <= 0) {
+            // Not delinquent yet (grace period or pause): delinquent days start counting the day after the delinquent
+            // date at the earliest
+            if (delinquentDate == null) {
+                return null;
+            }
+            return DateUtils.isAfter(delinquentDate, businessDate) ? delinquentDate.plusDays(1) : businessDate.plusDays(1);
+        }
+        for (Long boundary : boundaries) {
+            if (boundary > delinquentDays) {
+                return businessDate.plusDays(boundary - delinquentDays);
+            }
+        }
+        return null;
+    }
+
+    private static List<Long> rangeBoundaries(final Collection<DelinquencyRange> ranges) {
+        final List<Long> boundaries = new ArrayList<>();
+        for (DelinquencyRange range : ranges) {
+            boundaries.add(range.getMinimumAgeDays().longValue());
+            if (range.getMaximumAgeDays() != null) {
+                boundaries.add(range.getMaximumAgeDays().longValue() + 1);
+            }
+        }
+        boundaries.sort(null);
+        return boundaries;
+    }
+
+    static long fingerprint(final Loan loan, final List<LoanDelinquencyActionData> effectiveDelinquencyList) {
+        final MonetaryCurrency currency = loan.getCurrency();
+        long hash = FINGERPRINT_SEED;
+        hash = mix(hash, loan.getStatus().getValue());
+        hash = mix(hash, loan.getLoanProductRelatedDetail().getGraceOnArrearsAgeing());
+        hash = mix(hash, loan.isEnableInstallmentLevelDelinquency());
+        for (LoanRepaymentScheduleInstallment installment : loan.getRepaymentScheduleInstallments()) {
+            hash = mix(hash, installment.getId());
+            hash = mix(hash, installment.getFromDate());
+            hash = mix(hash, installment.getDueDate());
+            hash = mix(hash, installment.isObligationsMet());
+            hash = mix(hash, amount(installment.getTotalOutstanding(currency).getAmount()));
+            hash = mix(hash, amount(installment.getTotalPaid(currency).getAmount()));
+        }
+        final DelinquencyBucket delinquencyBucket = loan.getLoanProduct().getDelinquencyBucket();
+        if (delinquencyBucket != null) {
+            hash = mix(hash, delinquencyBucket.getId());
+            for (DelinquencyRange range : delinquencyBucket.getRanges()) {
+                hash = mix(hash, range.getId());
+                hash = mix(hash, range.getMinimumAgeDays());
+                hash = mix(hash, range.getMaximumAgeDays());
+            }
+        }
+        for (LoanDelinquencyActionData pausePeriod : effectiveDelinquencyList) {
+            hash = mix(hash, pausePeriod.getStartDate());
+            hash = mix(hash, pausePeriod.getEndDate());
+        }
+        return hash;
+    }
+
+    private static BigDecimal amount(final BigDecimal amount) {
+        return amount == null ? null : amount.stripTrailingZeros();
+    }
+
+    private static long mix(final long hash, final Object value) {
+        // Only values with a stable hash code (numbers, dates, booleans) are mixed in, the fingerprint is persisted
+        return (hash ^ Objects.hashCode(value)) * FINGERPRINT_PRIME;
+    }
+
+    private static LocalDate earliest(final LocalDate first, final LocalDate second) {
+        if (first == null) {
+            return second;
+        }
+        return second == null || DateUtils.isBefore(first, second) ? first : second;
+    }
+
+    private record TransitionState(LocalDate nextTransitionDate, long fingerprint) {
+    }
+}
@@ -18,8 +18,10 @@
  */
 package org.apache.fineract.portfolio.loanaccount.data;
 
+import java.time.LocalDate;
 import java.util.List;
 import org.apache.fineract.organisation.holiday.domain.Holiday;
+import org.apache.fineract.organisation.workingdays.data.BusinessDayCalendar;
 import org.apache.fineract.organisation.workingdays.domain.WorkingDays;
 
 public class HolidayDetailDTO {
@@ -29,22 +31,31 @@ public class HolidayDetailDTO {
     final WorkingDays workingDays;
     final boolean allowTransactionsOnHoliday;
     final boolean allowTransactionsOnNonWorkingDay;
+    final BusinessDayCalendar businessDayCalendar;
 
     public HolidayDetailDTO(final boolean isHolidayEnabled, final List<Holiday> holidays, final WorkingDays workingDays) {
-        this.isHolidayEnabled = isHolidayEnabled;
-        this.holidays = holidays;
-        this.workingDays = workingDays;
-        this.allowTransactionsOnHoliday = false;
-        this.allowTransactionsOnNonWorkingDay = false;
+        this(isHolidayEnabled, holidays, workingDays, false, false, null);
+    }
+
+    public HolidayDetailDTO(final boolean isHolidayEnabled, final List<Holiday> holidays, final WorkingDays workingDays,
+            final BusinessDayCalendar businessDayCalendar) {
+        this(isHolidayEnabled, holidays, workingDays, false, false, businessDayCalendar);
     }
 
     public HolidayDetailDTO(final boolean isHolidayEnabled, final List<Holiday> holidays, final WorkingDays workingDays,
             final boolean allowTransactionsOnHoliday, final boolean allowTransactionsOnNonWorkingDay) {
+        this(isHolidayEnabled, holidays, workingDays, allowTransactionsOnHoliday, allowTransactionsOnNonWorkingDay, null);
+    }
+
+    public HolidayDetailDTO(final boolean isHolidayEnabled, final List<Holiday> holidays, final WorkingDays workingDays,
+            final boolean allowTransactionsOnHoliday, final boolean allowTransactionsOnNonWorkingDay,
+            final BusinessDayCalendar businessDayCalendar) {
         this.isHolidayEnabled = isHolidayEnabled;
         this.holidays = holidays;
         this.workingDays = workingDays;
         this.allowTransactionsOnHoliday = allowTransactionsOnHoliday;
         this.allowTransactionsOnNonWorkingDay = allowTransactionsOnNonWorkingDay;
+        this.businessDayCalendar = businessDayCalendar;
     }
 
     public boolean isHolidayEnabled() {
@@ -66,4 +77,19 @@ public class HolidayDetailDTO {
     public boolean isAllowTransactionsOnNonWorkingDay() {
         return this.allowTransactionsOnNonWorkingDay;
     }
+
+    public BusinessDayCalendar getBusinessDayCalendar() {
+        return this.businessDayCalendar;
+    }
+
+    /**
+     * Returns true when the business day calendar knows the date to be a working day that is not a holiday, in which case
+     * no repayment rescheduling applies to it. A false result only means that the working day rule and the holiday list
+     * have to be evaluated. The calendar must be built from the holidays and working days of this DTO, so that it never
+     * answers ahead of them.
+     */
+    public boolean isKnownBusinessDay(final LocalDate date) {
+        return this.businessDayCalendar != null && this.workingDays != null && this.businessDayCalendar.covers(date)
+                && this.businessDayCalendar.isBusinessDay(date);
+    }
 }
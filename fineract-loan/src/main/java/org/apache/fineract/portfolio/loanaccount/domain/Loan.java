@@ -89,8 +89,11 @@ import org.apache.fineract.portfolio.loanproduct.domain.LoanSupportedInterestRef
 import org.apache.fineract.portfolio.rate.domain.Rate;
 import org.apache.fineract.portfolio.repaymentwithpostdatedchecks.domain.PostDatedChecks;
 import org.apache.fineract.useradministration.domain.AppUser;
+import org.eclipse.persistence.annotations.Customizer;
+import org.eclipse.persistence.indirection.IndirectCollection;
 
 @Entity
+@Customizer(LoanDescriptorCustomizer.class)
 @Table(name = "m_loan", uniqueConstraints = { @UniqueConstraint(columnNames = { "account_no" }, name = "loan_account_no_UNIQUE"),
         @UniqueConstraint(columnNames = { "external_id" }, name = "loan_externalid_UNIQUE") })
 @Getter
@@ -149,6 +152,9 @@ public class Loan extends AbstractAuditableWithUTCDateTimeCustom<Long> {
     @JoinColumn(name = "product_id", nullable = false)
     private LoanProduct loanProduct;
 
+    @Column(name = "product_id", insertable = false, updatable = false)
+    private Long loanProductId;
+
     @ManyToOne(fetch = FetchType.EAGER)
     @JoinColumn(name = "fund_id")
     private Fund fund;
@@ -317,6 +323,15 @@ public class Loan extends AbstractAuditableWithUTCDateTimeCustom<Long> {
     @OneToMany(cascade = CascadeType.ALL, mappedBy = "loan", orphanRemoval = true, fetch = FetchType.LAZY)
     private List<LoanTransaction> loanTransactions = new ArrayList<>();
 
+    /**
+     * Read-only view of {@link #loanTransactions} without accruals and accrual adjustments, filtered by
+     * {@link LoanDescriptorCustomizer}. It lets the transaction replay skip loading the daily accruals of long running
+     * loans; all changes go through {@link #loanTransactions}.
+     */
+    @OrderBy(value = "dateOf, createdDate, id")
+    @OneToMany(mappedBy = "loan", fetch = FetchType.LAZY)
+    private List<LoanTransaction> nonAccrualLoanTransactions = new ArrayList<>();
+
     @Setter
     @Embedded
     private LoanSummary summary;
@@ -1191,8 +1206,21 @@ public class Loan extends AbstractAuditableWithUTCDateTimeCustom<Long> {
     }
 
     public List<LoanTransaction> retrieveListOfTransactionsForReprocessing() {
-        return getLoanTransactions().stream().filter(loanTransactionForReprocessingPredicate()).sorted(LoanTransactionComparator.INSTANCE)
-                .collect(Collectors.toList());
+        return getLoanTransactionsWithoutAccruals().stream().filter(loanTransactionForReprocessingPredicate())
+                .sorted(LoanTransactionComparator.INSTANCE).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the transactions of the loan for callers that ignore accruals and accrual adjustments anyway. As long as
+     * {@link #loanTransactions} has not been loaded or changed in the current unit of work the filtered
+     * {@link #nonAccrualLoanTransactions} collection is used instead, so the accrual rows are never materialized.
+     */
+    private List<LoanTransaction> getLoanTransactionsWithoutAccruals() {
+        if (this.loanTransactions instanceof IndirectCollection<?, ?> transactions && !transactions.isInstantiated()
+                && !transactions.hasDeferredChanges()) {
+            return this.nonAccrualLoanTransactions;
+        }
+        return this.loanTransactions;
     }
 
     private static Predicate<LoanTransaction> loanTransactionForReprocessingPredicate() {
@@ -1202,7 +1230,7 @@ public class Loan extends AbstractAuditableWithUTCDateTimeCustom<Long> {
 
     public List<LoanTransaction> retrieveListOfTransactionsExcludeAccruals() {
         final List<LoanTransaction> repaymentsOrWaivers = new ArrayList<>();
-        for (final LoanTransaction transaction : this.loanTransactions) {
+        for (final LoanTransaction transaction : getLoanTransactionsWithoutAccruals()) {
             if (transaction.isNotReversed() && !transaction.isNonMonetaryTransaction()) {
                 repaymentsOrWaivers.add(transaction);
             }
@@ -1685,6 +1713,14 @@ public class Loan extends AbstractAuditableWithUTCDateTimeCustom<Long> {
         return this.loanProduct.getId();
     }
 
+    /**
+     * Returns the id of the loan product without loading the product. It is only known for loans read from the database,
+     * null otherwise.
+     */
+    public Long getLoanProductId() {
+        return this.loanProductId;
+    }
+
     public Long fetchChargeOffReasonId() {
         return isChargedOff() && getChargeOffReason() != null ? getChargeOffReason().getId() : null;
     }
@@ -0,0 +1,45 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.domain;
+
+import java.util.List;
+import org.eclipse.persistence.config.DescriptorCustomizer;
+import org.eclipse.persistence.descriptors.ClassDescriptor;
+import org.eclipse.persistence.expressions.Expression;
+import org.eclipse.persistence.expressions.ExpressionBuilder;
+import org.eclipse.persistence.mappings.OneToManyMapping;
+
+/**
+ * Restricts {@link Loan#getNonAccrualLoanTransactions()} to the transactions that are not accruals or accrual
+ * adjustments, so the filter is applied by the database when the collection is loaded.
+ */
+public class LoanDescriptorCustomizer implements DescriptorCustomizer {
+
+    static final String NON_ACCRUAL_LOAN_TRANSACTIONS = "nonAccrualLoanTransactions";
+
+    @Override
+    public void customize(ClassDescriptor descriptor) {
+        OneToManyMapping mapping = (OneToManyMapping) descriptor.getMappingForAttributeName(NON_ACCRUAL_LOAN_TRANSACTIONS);
+        ExpressionBuilder transaction = new ExpressionBuilder();
+        Expression ofLoan = transaction.getField("m_loan_transaction.loan_id").equal(transaction.getParameter("m_loan.id"));
+        Expression notAccrual = transaction.getField("m_loan_transaction.transaction_type_enum")
+                .notIn(List.of(LoanTransactionType.ACCRUAL.getValue(), LoanTransactionType.ACCRUAL_ADJUSTMENT.getValue()));
+        mapping.setSelectionCriteria(ofLoan.and(notAccrual));
+    }
+}
@@ -177,32 +177,32 @@ public class LoanSummary {
 
     public void updateSummary(final MonetaryCurrency currency, final Money principal,
             final List<LoanRepaymentScheduleInstallment> repaymentScheduleInstallments, Set<LoanCharge> charges) {
+        final InstallmentTotals installmentTotals = InstallmentTotals.of(repaymentScheduleInstallments, currency);
 
         this.totalPrincipalDisbursed = principal.getAmount();
-        this.totalPrincipalAdjustments = calculateTotalPrincipalAdjusted(repaymentScheduleInstallments, currency).getAmount();
-        this.totalFeeAdjustments = calculateTotalFeeAdjusted(repaymentScheduleInstallments, currency).getAmount();
-        this.totalPenaltyAdjustments = calculateTotalPenaltyAdjusted(repaymentScheduleInstallments, currency).getAmount();
-        this.totalPrincipalRepaid = calculateTotalPrincipalRepaid(repaymentScheduleInstallments, currency).getAmount();
-        this.totalPrincipalWrittenOff = calculateTotalPrincipalWrittenOff(repaymentScheduleInstallments, currency).getAmount();
+        this.totalPrincipalAdjustments = installmentTotals.principalAdjusted.getAmount();
+        this.totalFeeAdjustments = installmentTotals.feeAdjusted.getAmount();
+        this.totalPenaltyAdjustments = installmentTotals.penaltyAdjusted.getAmount();
+        this.totalPrincipalRepaid = installmentTotals.principalRepaid.getAmount();
+        this.totalPrincipalWrittenOff = installmentTotals.principalWrittenOff.getAmount();
 
         this.totalPrincipalOutstanding = principal.plus(this.totalPrincipalAdjustments).minus(this.totalPrincipalRepaid)
                 .minus(this.totalPrincipalWrittenOff).getAmount();
 
-        final Money totalInterestCharged = calculateTotalInterestCharged(repaymentScheduleInstallments, currency);
+        final Money totalInterestCharged = installmentTotals.interestCharged;
         this.totalInterestCharged = totalInterestCharged.getAmount();
-        this.totalInterestRepaid = calculateTotalInterestRepaid(repaymentScheduleInstallments, currency).getAmount();
-        this.totalInterestWaived = calculateTotalInterestWaived(repaymentScheduleInstallments, currency).getAmount();
-        this.totalInterestWrittenOff = calculateTotalInterestWrittenOff(repaymentScheduleInstallments, currency).getAmount();
+        this.totalInterestRepaid = installmentTotals.interestRepaid.getAmount();
+        this.totalInterestWaived = installmentTotals.interestWaived.getAmount();
+        this.totalInterestWrittenOff = installmentTotals.interestWrittenOff.getAmount();
 
         this.totalInterestOutstanding = totalInterestCharged.minus(this.totalInterestRepaid).minus(this.totalInterestWaived)
                 .minus(this.totalInterestWrittenOff).getAmount();
 
-        final Money totalFeeChargesCharged = calculateTotalFeeChargesCharged(repaymentScheduleInstallments, currency)
-                .plus(this.totalFeeChargesDueAtDisbursement);
+        final Money totalFeeChargesCharged = installmentTotals.feeChargesCharged.plus(this.totalFeeChargesDueAtDisbursement);
         this.totalFeeChargesCharged = totalFeeChargesCharged.getAmount();
 
         Money totalFeeChargesRepaidAtDisbursement = calculateTotalChargesRepaidAtDisbursement(charges, currency);
-        Money totalFeeChargesRepaidAfterDisbursement = calculateTotalFeeChargesRepaid(repaymentScheduleInstallments, currency);
+        Money totalFeeChargesRepaidAfterDisbursement = installmentTotals.feeChargesRepaid;
         this.totalFeeChargesRepaid = totalFeeChargesRepaidAfterDisbursement.plus(totalFeeChargesRepaidAtDisbursement).getAmount();
 
         if (charges != null) {
@@ -211,16 +211,16 @@ public class LoanSummary {
             this.totalFeeChargesWaived = BigDecimal.ZERO;
         }
 
-        this.totalFeeChargesWrittenOff = calculateTotalFeeChargesWrittenOff(repaymentScheduleInstallments, currency).getAmount();
+        this.totalFeeChargesWrittenOff = installmentTotals.feeChargesWrittenOff.getAmount();
 
         this.totalFeeChargesOutstanding = totalFeeChargesCharged.minus(this.totalFeeChargesRepaid).minus(this.totalFeeChargesWaived)
                 .minus(this.totalFeeChargesWrittenOff).getAmount();
 
-        final Money totalPenaltyChargesCharged = calculateTotalPenaltyChargesCharged(repaymentScheduleInstallments, currency);
+        final Money totalPenaltyChargesCharged = installmentTotals.penaltyChargesCharged;
         this.totalPenaltyChargesCharged = totalPenaltyChargesCharged.getAmount();
-        this.totalPenaltyChargesRepaid = calculateTotalPenaltyChargesRepaid(repaymentScheduleInstallments, currency).getAmount();
-        this.totalPenaltyChargesWaived = calculateTotalPenaltyChargesWaived(repaymentScheduleInstallments, currency).getAmount();
-        this.totalPenaltyChargesWrittenOff = calculateTotalPenaltyChargesWrittenOff(repaymentScheduleInstallments, currency).getAmount();
+        this.totalPenaltyChargesRepaid = installmentTotals.penaltyChargesRepaid.getAmount();
+        this.totalPenaltyChargesWaived = installmentTotals.penaltyChargesWaived.getAmount();
+        this.totalPenaltyChargesWrittenOff = installmentTotals.penaltyChargesWrittenOff.getAmount();
 
         this.totalPenaltyChargesOutstanding = totalPenaltyChargesCharged.minus(this.totalPenaltyChargesRepaid)
                 .minus(this.totalPenaltyChargesWaived).minus(this.totalPenaltyChargesWrittenOff).getAmount();
@@ -294,105 +294,6 @@ public class LoanSummary {
         this.totalWaived = totalWaived;
     }
 
-    protected Money calculateTotalPrincipalRepaid(final List<LoanRepaymentScheduleInstallment> repaymentScheduleInstallments,
-            final MonetaryCurrency currency) {
-        Money total = Money.zero(currency);
-        for (final LoanRepaymentScheduleInstallment installment : repaymentScheduleInstallments) {
-            total = total.plus(installment.getPrincipalCompleted(currency));
-        }
-        return total;
-    }
-
-    protected Money calculateTotalPrincipalAdjusted(final List<LoanRepaymentScheduleInstallment> repaymentScheduleInstallments,
-            final MonetaryCurrency currency) {
-        Money total = Money.zero(currency);
-        for (final LoanRepaymentScheduleInstallment installment : repaymentScheduleInstallments) {
-            total = total.plus(installment.getCreditedPrincipal(currency));
-        }
-        return total;
-    }
-
-    protected Money calculateTotalFeeAdjusted(final List<LoanRepaymentScheduleInstallment> repaymentScheduleInstallments,
-            final MonetaryCurrency currency) {
-        Money total = Money.zero(currency);
-        for (final LoanRepaymentScheduleInstallment installment : repaymentScheduleInstallments) {
-            total = total.plus(installment.getCreditedFee(currency));
-        }
-        return total;
-    }
-
-    protected Money calculateTotalPenaltyAdjusted(final List<LoanRepaymentScheduleInstallment> repaymentScheduleInstallments,
-            final MonetaryCurrency currency) {
-        Money total = Money.zero(currency);
-        for (final LoanRepaymentScheduleInstallment installment : repaymentScheduleInstallments) {
-            total = total.plus(installment.getCreditedPenalty(currency));
-        }
-        return total;
-    }
-
-    protected Money calculateTotalPrincipalWrittenOff(final List<LoanRepaymentScheduleInstallment> repaymentScheduleInstallments,
-            final MonetaryCurrency currency) {
-        Money total = Money.zero(currency);
-        for (final LoanRepaymentScheduleInstallment installment : repaymentScheduleInstallments) {
-            total = total.plus(installment.getPrincipalWrittenOff(currency));
-        }
-        return total;
-    }
-
-    protected Money calculateTotalInterestCharged(final List<LoanRepaymentScheduleInstallment> repaymentScheduleInstallments,
-            final MonetaryCurrency currency) {
-        Money total = Money.zero(currency);
-        for (final LoanRepaymentScheduleInstallment installment : repaymentScheduleInstallments) {
-            total = total.plus(installment.getInterestCharged(currency));
-        }
-        return total;
-    }
-
-    protected Money calculateTotalInterestRepaid(final List<LoanRepaymentScheduleInstallment> repaymentScheduleInstallments,
-            final MonetaryCurrency currency) {
-        Money total = Money.zero(currency);
-        for (final LoanRepaymentScheduleInstallment installment : repaymentScheduleInstallments) {
-            total = total.plus(installment.getInterestPaid(currency));
-        }
-        return total;
-    }
-
-    protected Money calculateTotalInterestWaived(final List<LoanRepaymentScheduleInstallment> repaymentScheduleInstallments,
-            final MonetaryCurrency currency) {
-        Money total = Money.zero(currency);
-        for (final LoanRepaymentScheduleInstallment installment : repaymentScheduleInstallments) {
-            total = total.plus(installment.getInterestWaived(currency));
-        }
-        return total;
-    }
-
-    protected Money calculateTotalInterestWrittenOff(final List<LoanRepaymentScheduleInstallment> repaymentScheduleInstallments,
-            final MonetaryCurrency currency) {
-        Money total = Money.zero(currency);
-        for (final LoanRepaymentScheduleInstallment installment : repaymentScheduleInstallments) {
-            total = total.plus(installment.getInterestWrittenOff(currency));
-        }
-        return total;
-    }
-
-    protected Money calculateTotalFeeChargesCharged(final List<LoanRepaymentScheduleInstallment> repaymentScheduleInstallments,
-            final MonetaryCurrency currency) {
-        Money total = Money.zero(currency);
-        for (final LoanRepaymentScheduleInstallment installment : repaymentScheduleInstallments) {
-            total = total.plus(installment.getFeeChargesCharged(currency));
-        }
-        return total;
-    }
-
-    protected Money calculateTotalFeeChargesRepaid(final List<LoanRepaymentScheduleInstallment> repaymentScheduleInstallments,
-            final MonetaryCurrency currency) {
-        Money total = Money.zero(currency);
-        for (final LoanRepaymentScheduleInstallment installment : repaymentScheduleInstallments) {
-            total = total.plus(installment.getFeeChargesPaid(currency));
-        }
-        return total;
-    }
-
     protected Money calculateTotalFeeChargesWaived(Set<LoanCharge> charges, final MonetaryCurrency currency) {
         Money total = Money.zero(currency);
         for (final LoanCharge charge : charges) {
@@ -403,63 +304,108 @@ public class LoanSummary {
         return total;
     }
 
-    protected Money calculateTotalFeeChargesWrittenOff(final List<LoanRepaymentScheduleInstallment> repaymentScheduleInstallments,
-            final MonetaryCurrency currency) {
-        Money total = Money.zero(currency);
-        for (final LoanRepaymentScheduleInstallment installment : repaymentScheduleInstallments) {
-            total = total.plus(installment.getFeeChargesWrittenOff(currency));
-        }
-        return total;
-    }
-
-    protected Money calculateTotalPenaltyChargesCharged(final List<LoanRepaymentScheduleInstallment> repaymentScheduleInstallments,
-            final MonetaryCurrency currency) {
+    protected Money calculateTotalChargesRepaidAtDisbursement(Set<LoanCharge> charges, MonetaryCurrency currency) {
         Money total = Money.zero(currency);
-        for (final LoanRepaymentScheduleInstallment installment : repaymentScheduleInstallments) {
-            total = total.plus(installment.getPenaltyChargesCharged(currency));
+        if (charges == null) {
+            return total;
         }
-        return total;
-    }
-
-    protected Money calculateTotalPenaltyChargesRepaid(final List<LoanRepaymentScheduleInstallment> repaymentScheduleInstallments,
-            final MonetaryCurrency currency) {
-        Money total = Money.zero(currency);
-        for (final LoanRepaymentScheduleInstallment installment : repaymentScheduleInstallments) {
-            total = total.plus(installment.getPenaltyChargesPaid(currency));
+        for (final LoanCharge loanCharge : charges) {
+            if (!loanCharge.isPenaltyCharge() && loanCharge.getAmountPaid(currency).isGreaterThanZero()
+                    && loanCharge.isDisbursementCharge()) {
+                total = total.plus(loanCharge.getAmountPaid(currency));
+            }
         }
         return total;
-    }
 
-    protected Money calculateTotalPenaltyChargesWaived(final List<LoanRepaymentScheduleInstallment> repaymentScheduleInstallments,
-            final MonetaryCurrency currency) {
-        Money total = Money.zero(currency);
-        for (final LoanRepaymentScheduleInstallment installment : repaymentScheduleInstallments) {
-            total = total.plus(installment.getPenaltyChargesWaived(currency));
-        }
-        return total;
     }
 
-    protected Money calculateTotalPenaltyChargesWrittenOff(final List<LoanRepaymentScheduleInstallment> repaymentScheduleInstallments,
+    protected Money calculateTotalInterestCharged(final List<LoanRepaymentScheduleInstallment> repaymentScheduleInstallments,
             final MonetaryCurrency currency) {
-        Money total = Money.zero(currency);
+        BigDecimal total = BigDecimal.ZERO;
         for (final LoanRepaymentScheduleInstallment installment : repaymentScheduleInstallments) {
-            total = total.plus(installment.getPenaltyChargesWrittenOff(currency));
+            total = total.add(installment.getInterestCharged(currency).getAmount());
         }
-        return total;
+        return Money.of(currency, total);
     }
 
-    protected Money calculateTotalChargesRepaidAtDisbursement(Set<LoanCharge> charges, MonetaryCurrency currency) {
-        Money total = Money.zero(currency);
-        if (charges == null) {
-            return total;
-        }
-        for (final LoanCharge loanCharge : charges) {
-            if (!loanCharge.isPenaltyCharge() && loanCharge.getAmountPaid(currency).isGreaterThanZero()
-                    && loanCharge.isDisbursementCharge()) {
-                total = total.plus(loanCharge.getAmountPaid(currency));
+    /**
+     * Sums the installment amounts the summary is derived from in a single sweep over the schedule. Every amount is
+     * rounded to the currency the same way {@link Money#plus(Money)} does, so the totals equal a running
+     * {@link Money} sum per field.
+     */
+    private static final class InstallmentTotals {
+
+        private Money principalRepaid;
+        private Money principalAdjusted;
+        private Money feeAdjusted;
+        private Money penaltyAdjusted;
+        private Money principalWrittenOff;
+        private Money interestCharged;
+        private Money interestRepaid;
+        private Money interestWaived;
+        private Money interestWrittenOff;
+        private Money feeChargesCharged;
+        private Money feeChargesRepaid;
+        private Money feeChargesWrittenOff;
+        private Money penaltyChargesCharged;
+        private Money penaltyChargesRepaid;
+        private Money penaltyChargesWaived;
+        private Money penaltyChargesWrittenOff;
+
+        private static InstallmentTotals of(final List<LoanRepaymentScheduleInstallment> repaymentScheduleInstallments,
+                final MonetaryCurrency currency) {
+            BigDecimal principalRepaid = BigDecimal.ZERO;
+            BigDecimal principalAdjusted = BigDecimal.ZERO;
+            BigDecimal feeAdjusted = BigDecimal.ZERO;
+            BigDecimal penaltyAdjusted = BigDecimal.ZERO;
+            BigDecimal principalWrittenOff = BigDecimal.ZERO;
+            BigDecimal interestCharged = BigDecimal.ZERO;
+            BigDecimal interestRepaid = BigDecimal.ZERO;
+            BigDecimal interestWaived = BigDecimal.ZERO;
+            BigDecimal interestWrittenOff = BigDecimal.ZERO;
+            BigDecimal feeChargesCharged = BigDecimal.ZERO;
+            BigDecimal feeChargesRepaid = BigDecimal.ZERO;
+            BigDecimal feeChargesWrittenOff = BigDecimal.ZERO;
+            BigDecimal penaltyChargesCharged = BigDecimal.ZERO;
+            BigDecimal penaltyChargesRepaid = BigDecimal.ZERO;
+            BigDecimal penaltyChargesWaived = BigDecimal.ZERO;
+            BigDecimal penaltyChargesWrittenOff = BigDecimal.ZERO;
+            for (final LoanRepaymentScheduleInstallment installment : repaymentScheduleInstallments) {
+                principalRepaid = principalRepaid.add(installment.getPrincipalCompleted(currency).getAmount());
+                principalAdjusted = principalAdjusted.add(installment.getCreditedPrincipal(currency).getAmount());
+                feeAdjusted = feeAdjusted.add(installment.getCreditedFee(currency).getAmount());
+                penaltyAdjusted = penaltyAdjusted.add(installment.getCreditedPenalty(currency).getAmount());
+                principalWrittenOff = principalWrittenOff.add(installment.getPrincipalWrittenOff(currency).getAmount());
+                interestCharged = interestCharged.add(installment.getInterestCharged(currency).getAmount());
+                interestRepaid = interestRepaid.add(installment.getInterestPaid(currency).getAmount());
+                interestWaived = interestWaived.add(installment.getInterestWaived(currency).getAmount());
+                interestWrittenOff = interestWrittenOff.add(installment.getInterestWrittenOff(currency).getAmount());
+                feeChargesCharged = feeChargesCharged.add(installment.getFeeChargesCharged(currency).getAmount());
+                feeChargesRepaid = feeChargesRepaid.add(installment.getFeeChargesPaid(currency).getAmount());
+                feeChargesWrittenOff = feeChargesWrittenOff.add(installment.getFeeChargesWrittenOff(currency).getAmount());
+                penaltyChargesCharged = penaltyChargesCharged.add(installment.getPenaltyChargesCharged(currency).getAmount());
+                penaltyChargesRepaid = penaltyChargesRepaid.add(installment.getPenaltyChargesPaid(currency).getAmount());
+                penaltyChargesWaived = penaltyChargesWaived.add(installment.getPenaltyChargesWaived(currency).getAmount());
+                penaltyChargesWrittenOff = penaltyChargesWrittenOff.add(installment.getPenaltyChargesWrittenOff(currency).getAmount());
             }
+            final InstallmentTotals totals = new InstallmentTotals();
+            totals.principalRepaid = Money.of(currency, principalRepaid);
+            totals.principalAdjusted = Money.of(currency, principalAdjusted);
+            totals.feeAdjusted = Money.of(currency, feeAdjusted);
+            totals.penaltyAdjusted = Money.of(currency, penaltyAdjusted);
+            totals.principalWrittenOff = Money.of(currency, principalWrittenOff);
+            totals.interestCharged = Money.of(currency, interestCharged);
+            totals.interestRepaid = Money.of(currency, interestRepaid);
+            totals.interestWaived = Money.of(currency, interestWaived);
+            totals.interestWrittenOff = Money.of(currency, interestWrittenOff);
+            totals.feeChargesCharged = Money.of(currency, feeChargesCharged);
+            totals.feeChargesRepaid = Money.of(currency, feeChargesRepaid);
+            totals.feeChargesWrittenOff = Money.of(currency, feeChargesWrittenOff);
+            totals.penaltyChargesCharged = Money.of(currency, penaltyChargesCharged);
+            totals.penaltyChargesRepaid = Money.of(currency, penaltyChargesRepaid);
+            totals.penaltyChargesWaived = Money.of(currency, penaltyChargesWaived);
+            totals.penaltyChargesWrittenOff = Money.of(currency, penaltyChargesWrittenOff);
+            return totals;
         }
-        return total;
-
     }
 }
@@ -23,6 +23,7 @@ import org.apache.fineract.infrastructure.jobs.service.JobName;
 import org.apache.fineract.portfolio.delinquency.helper.DelinquencyEffectivePauseHelper;
 import org.apache.fineract.portfolio.delinquency.service.DelinquencyReadPlatformService;
 import org.apache.fineract.portfolio.delinquency.service.DelinquencyWritePlatformService;
+import org.apache.fineract.portfolio.delinquency.service.IncrementalDelinquencyClassifier;
 import org.apache.fineract.portfolio.loanaccount.domain.LoanRepaymentScheduleInstallmentRepository;
 import org.apache.fineract.portfolio.loanaccount.domain.LoanTransactionRepository;
 import org.springframework.batch.core.Job;
@@ -48,6 +49,8 @@ public class SetLoanDelinquencyTagsConfig {
     private DelinquencyEffectivePauseHelper delinquencyEffectivePauseHelper;
     @Autowired
     private DelinquencyReadPlatformService delinquencyReadPlatformService;
+    @Autowired
+    private IncrementalDelinquencyClassifier incrementalDelinquencyClassifier;
 
     private DelinquencyWritePlatformService delinquencyWritePlatformService;
     private LoanRepaymentScheduleInstallmentRepository loanRepaymentScheduleInstallmentRepository;
@@ -68,7 +71,8 @@ public class SetLoanDelinquencyTagsConfig {
     @Bean
     public SetLoanDelinquencyTagsTasklet setLoanDelinquencyTagsTasklet() {
         return new SetLoanDelinquencyTagsTasklet(delinquencyWritePlatformService, loanRepaymentScheduleInstallmentRepository,
-                loanTransactionRepository, delinquencyEffectivePauseHelper, delinquencyReadPlatformService);
+                loanTransactionRepository, delinquencyEffectivePauseHelper, delinquencyReadPlatformService,
+                incrementalDelinquencyClassifier);
     }
 
 }
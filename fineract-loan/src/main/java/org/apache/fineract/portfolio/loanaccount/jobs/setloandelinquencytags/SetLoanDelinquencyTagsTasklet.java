@@ -31,6 +31,7 @@ import org.apache.fineract.portfolio.delinquency.domain.LoanDelinquencyAction;
 import org.apache.fineract.portfolio.delinquency.helper.DelinquencyEffectivePauseHelper;
 import org.apache.fineract.portfolio.delinquency.service.DelinquencyReadPlatformService;
 import org.apache.fineract.portfolio.delinquency.service.DelinquencyWritePlatformService;
+import org.apache.fineract.portfolio.delinquency.service.IncrementalDelinquencyClassifier;
 import org.apache.fineract.portfolio.delinquency.validator.LoanDelinquencyActionData;
 import org.apache.fineract.portfolio.loanaccount.data.LoanScheduleDelinquencyData;
 import org.apache.fineract.portfolio.loanaccount.domain.LoanRepaymentScheduleInstallmentRepository;
@@ -51,6 +52,7 @@ public class SetLoanDelinquencyTagsTasklet implements Tasklet {
     private final LoanTransactionRepository loanTransactionRepository;
     private final DelinquencyEffectivePauseHelper delinquencyEffectivePauseHelper;
     private final DelinquencyReadPlatformService delinquencyReadPlatformService;
+    private final IncrementalDelinquencyClassifier incrementalDelinquencyClassifier;
 
     @Override
     public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
@@ -59,11 +61,12 @@ public class SetLoanDelinquencyTagsTasklet implements Tasklet {
 
         final LocalDate businessDate = DateUtils.getBusinessLocalDate();
         log.debug("Run job for date {}", businessDate);
+        final ClassificationCounts counts = new ClassificationCounts();
 
         // Read Loan Ids with Loan Transaction Charge back
         Collection<LoanScheduleDelinquencyData> loanScheduleDelinquencyData = this.loanTransactionRepository
                 .fetchLoanTransactionsByTypeAndLessOrEqualDate(LoanTransactionType.CHARGEBACK, businessDate);
-        List<Long> processedLoans = applyDelinquencyTagToLoans(loanScheduleDelinquencyData);
+        List<Long> processedLoans = applyDelinquencyTagToLoans(loanScheduleDelinquencyData, counts);
         log.debug("{}: Records affected by setLoanDelinquencyTags: {}", ThreadLocalContextUtil.getTenant().getName(),
                 processedLoans.size());
 
@@ -75,13 +78,20 @@ public class SetLoanDelinquencyTagsTasklet implements Tasklet {
             loanScheduleDelinquencyData = this.loanRepaymentScheduleInstallmentRepository
                     .fetchLoanScheduleDataByDueDateAndObligationsMet(LoanStatus.ACTIVE, businessDate, false, processedLoans);
         }
-        applyDelinquencyTagToLoans(loanScheduleDelinquencyData);
+        applyDelinquencyTagToLoans(loanScheduleDelinquencyData, counts);
 
+        if (incrementalDelinquencyClassifier.isEnabled()) {
+            log.info("{}: Delinquency classification skipped for {} loans, recomputed for {} loans ({}% skipped)",
+                    ThreadLocalContextUtil.getTenant().getName(), counts.skipped, counts.recomputed,
+                    IncrementalDelinquencyClassifier.skippedPercentage(counts.skipped, counts.recomputed));
+        }
         return RepeatStatus.FINISHED;
     }
 
-    private List<Long> applyDelinquencyTagToLoans(Collection<LoanScheduleDelinquencyData> loanScheduleDelinquencyData) {
+    private List<Long> applyDelinquencyTagToLoans(Collection<LoanScheduleDelinquencyData> loanScheduleDelinquencyData,
+            ClassificationCounts counts) {
         List<Long> processedLoans = new ArrayList<>();
+        final boolean incremental = incrementalDelinquencyClassifier.isEnabled();
 
         log.debug("Were found {} items", loanScheduleDelinquencyData.size());
         for (LoanScheduleDelinquencyData loanDelinquencyData : loanScheduleDelinquencyData) {
@@ -91,6 +101,17 @@ public class SetLoanDelinquencyTagsTasklet implements Tasklet {
             List<LoanDelinquencyActionData> effectiveDelinquencyList = delinquencyEffectivePauseHelper
                     .calculateEffectiveDelinquencyList(savedDelinquencyList);
 
+            if (incremental && loanDelinquencyData.getLoan() != null) {
+                if (incrementalDelinquencyClassifier.classify(loanDelinquencyData.getLoan(), DateUtils.getBusinessLocalDate(),
+                        effectiveDelinquencyList)) {
+                    counts.recomputed++;
+                } else {
+                    counts.skipped++;
+                }
+                processedLoans.add(loanDelinquencyData.getLoanId());
+                continue;
+            }
+
             loanDelinquencyData = this.delinquencyWritePlatformService.calculateDelinquencyData(loanDelinquencyData,
                     effectiveDelinquencyList);
             log.debug("Processing Loan {} with {} overdue days since date {}", loanDelinquencyData.getLoanId(),
@@ -107,4 +128,9 @@ public class SetLoanDelinquencyTagsTasklet implements Tasklet {
         return processedLoans;
     }
 
+    private static final class ClassificationCounts {
+
+        private long skipped;
+        private long recomputed;
+    }
 }
@@ -0,0 +1,131 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.jobs.updateloanarrearsageing;
+
+import static org.apache.fineract.infrastructure.core.diagnostics.performance.MeasuringUtil.measure;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractContext;
+import org.apache.fineract.infrastructure.core.exception.PlatformInternalServerException;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Recomputes {@code m_loan_arrears_aging} for all loans by splitting the loan ids into ranges that are processed in
+ * parallel, each range with a few set-based statements in its own transaction.
+ */
+@Slf4j
+@Component
+public class LoanArrearsAgeingBulkUpdater {
+
+    public static final String LOAN_ARREARS_AGEING_EXECUTOR_BEAN_NAME = "loanArrearsAgeingExecutor";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final LoanArrearsAgeingUpdateHandler loanArrearsAgeingUpdateHandler;
+    private final FineractProperties fineractProperties;
+    private final ThreadPoolTaskExecutor threadPoolTaskExecutor;
+
+    public LoanArrearsAgeingBulkUpdater(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+            LoanArrearsAgeingUpdateHandler loanArrearsAgeingUpdateHandler, FineractProperties fineractProperties,
+            @Qualifier(LOAN_ARREARS_AGEING_EXECUTOR_BEAN_NAME) ThreadPoolTaskExecutor threadPoolTaskExecutor) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.loanArrearsAgeingUpdateHandler = loanArrearsAgeingUpdateHandler;
+        this.fineractProperties = fineractProperties;
+        this.threadPoolTaskExecutor = threadPoolTaskExecutor;
+    }
+
+    public boolean isEnabled() {
+        return fineractProperties.getLoan().getArrearsAgeing() != null && fineractProperties.getLoan().getArrearsAgeing().isBulkEnabled();
+    }
+
+    public void updateLoanArrearsAgeingDetailsForAllLoans() {
+        final Map<String, Object> loanIdRange = jdbcTemplate.queryForMap("select min(id) as min_id, max(id) as max_id from m_loan");
+        if (loanIdRange.get("min_id") == null) {
+            jdbcTemplate.update("delete from m_loan_arrears_aging");
+            return;
+        }
+        final long minLoanId = ((Number) loanIdRange.get("min_id")).longValue();
+        final long maxLoanId = ((Number) loanIdRange.get("max_id")).longValue();
+        final List<long[]> partitions = partition(minLoanId, maxLoanId, fineractProperties.getLoan().getArrearsAgeing().getPartitionSize());
+
+        measure(() -> {
+            // Records of loans deleted or created since the last run are outside the partitions
+            jdbcTemplate.update("delete from m_loan_arrears_aging where loan_id < ? or loan_id > ?", minLoanId, maxLoanId);
+            final FineractContext context = ThreadLocalContextUtil.getContext();
+            final List<Future<Integer>> tasks = new ArrayList<>();
+            for (long[] partition : partitions) {
+                tasks.add(threadPoolTaskExecutor.submit(() -> {
+                    try {
+                        ThreadLocalContextUtil.init(context);
+                        return transactionTemplate.execute(status -> loanArrearsAgeingUpdateHandler
+                                .updateLoanArrearsAgeingDetailsForLoanIdRange(partition[0], partition[1]));
+                    } finally {
+                        ThreadLocalContextUtil.reset();
+                    }
+                }));
+            }
+            return awaitAll(tasks);
+        }, (records, duration) -> log.info("Arrears ageing recomputed for {} loans in {} partitions, took {}ms", records,
+                partitions.size(), duration.toMillis()));
+    }
+
+    static List<long[]> partition(final long minLoanId, final long maxLoanId, final int partitionSize) {
+        final long size = Math.max(partitionSize, 1);
+        final List<long[]> partitions = new ArrayList<>();
+        for (long from = minLoanId; from <= maxLoanId; from += size) {
+            partitions.add(new long[] { from, Math.min(from + size - 1, maxLoanId) });
+        }
+        return partitions;
+    }
+
+    private int awaitAll(final List<Future<Integer>> tasks) {
+        int records = 0;
+        RuntimeException failure = null;
+        // Wait for every partition, so that a failed run does not leave partitions running in the background
+        for (Future<Integer> task : tasks) {
+            try {
+                records += task.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failure = new PlatformInternalServerException("error.msg.loan.arrears.ageing.interrupted",
+                        "Interrupted while updating loan arrears ageing", e);
+            } catch (ExecutionException e) {
+                log.error("Exception while updating loan arrears ageing", e.getCause());
+                failure = new PlatformInternalServerException("error.msg.loan.arrears.ageing.failed",
+                        "Failed to update loan arrears ageing", e.getCause());
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return records;
+    }
+}
@@ -46,6 +46,10 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class LoanArrearsAgeingUpdateHandler {
 
+    private static final String ALL_LOANS = "";
+    private static final String LOAN_ID_IN = " and ml.id IN (?)";
+    private static final String LOAN_ID_BETWEEN = " and ml.id BETWEEN ? AND ?";
+
     private final JdbcTemplate jdbcTemplate;
     private final DatabaseSpecificSQLGenerator sqlGenerator;
     private final LoanArrearsAgingService loanArrearsAgingService;
@@ -63,7 +67,7 @@ public class LoanArrearsAgeingUpdateHandler {
 
     public void updateLoanArrearsAgeingDetailsForAllLoans() {
         truncateLoanArrearsAgingDetails();
-        String insertSQLStatement = buildQueryForInsertAgeingDetails(Boolean.TRUE);
+        String insertSQLStatement = buildQueryForInsertAgeingDetails(ALL_LOANS);
         List<String> insertStatements = updateLoanArrearsAgeingDetailsWithOriginalScheduleForAllLoans();
         insertStatements.add(0, insertSQLStatement);
         final int[] records = this.jdbcTemplate.batchUpdate(insertStatements.toArray(new String[0]));
@@ -79,7 +83,7 @@ public class LoanArrearsAgeingUpdateHandler {
     public void updateLoanArrearsAgeingDetails(List<Long> loanIdsForUpdate) {
 
         deleteLoanArrearsAgingDetails(loanIdsForUpdate);
-        String insertSQLStatement = buildQueryForInsertAgeingDetails(Boolean.FALSE);
+        String insertSQLStatement = buildQueryForInsertAgeingDetails(LOAN_ID_IN);
         List<Object[]> batch = new ArrayList<Object[]>();
         if (!loanIdsForUpdate.isEmpty()) {
             for (Long loanId : loanIdsForUpdate) {
@@ -109,7 +113,27 @@ public class LoanArrearsAgeingUpdateHandler {
 
     }
 
-    private String buildQueryForInsertAgeingDetails(boolean isForAllLoans) {
+    /**
+     * Recomputes the arrears ageing of the loans with an id in the given (inclusive) range with one set-based insert.
+     * Loans with arrears based on the original schedule are recomputed through {@link LoanArrearsAgingService}.
+     *
+     * @return the number of inserted arrears ageing records
+     */
+    public int updateLoanArrearsAgeingDetailsForLoanIdRange(final Long fromLoanId, final Long toLoanId) {
+        jdbcTemplate.update("delete from m_loan_arrears_aging where loan_id between ? and ?", fromLoanId, toLoanId);
+        int result = jdbcTemplate.update(buildQueryForInsertAgeingDetails(LOAN_ID_BETWEEN), fromLoanId, toLoanId);
+        List<Long> loanIds = jdbcTemplate.queryForList(buildQueryForLoanIdentifiersWithOriginalSchedule(LOAN_ID_BETWEEN), Long.class,
+                fromLoanId, toLoanId);
+        List<String> insertStatements = createInsertStatementsWithOriginalSchedule(loanIds);
+        if (!insertStatements.isEmpty()) {
+            for (int record : jdbcTemplate.batchUpdate(insertStatements.toArray(new String[0]))) {
+                result += record;
+            }
+        }
+        return result;
+    }
+
+    private String buildQueryForInsertAgeingDetails(String loanIdCondition) {
         final StringBuilder insertSqlStatementBuilder = new StringBuilder(900);
         final String principalOverdueCalculationSql = "SUM(COALESCE(mr.principal_amount, 0) - coalesce(mr.principal_completed_derived, 0) - coalesce(mr.principal_writtenoff_derived, 0))";
         final String interestOverdueCalculationSql = "SUM(COALESCE(mr.interest_amount, 0) - coalesce(mr.interest_writtenoff_derived, 0) - coalesce(mr.interest_waived_derived, 0) - "
@@ -134,9 +158,7 @@ public class LoanArrearsAgeingUpdateHandler {
         insertSqlStatementBuilder.append(" INNER JOIN m_loan_repayment_schedule mr on mr.loan_id = ml.id ");
         insertSqlStatementBuilder.append(" left join m_product_loan_recalculation_details prd on prd.product_id = ml.product_id ");
         insertSqlStatementBuilder.append(" WHERE ml.loan_status_id = 300 ");// active
-        if (!isForAllLoans) {
-            insertSqlStatementBuilder.append(" and ml.id IN (?)");
-        }
+        insertSqlStatementBuilder.append(loanIdCondition);
         insertSqlStatementBuilder.append(" and mr.completed_derived is false ");
         insertSqlStatementBuilder.append(" and mr.duedate < ")
                 .append(sqlGenerator.subDate(sqlGenerator.currentBusinessDate(), "COALESCE(ml.grace_on_arrears_ageing, 0)", "day"))
@@ -148,28 +170,24 @@ public class LoanArrearsAgeingUpdateHandler {
     }
 
     private List<String> updateLoanArrearsAgeingDetailsWithOriginalSchedule(List<Long> loanIdsForUpdate) {
-        List<String> insertStatement = new ArrayList<>();
-        String sqlForLoanIdentifiers = buildQueryForLoanIdentifiersWithOriginalSchedule(Boolean.FALSE);
+        String sqlForLoanIdentifiers = buildQueryForLoanIdentifiersWithOriginalSchedule(LOAN_ID_IN);
         List<Object> loanIdsForQuery = new ArrayList<>();
         for (Long loanId : loanIdsForUpdate) {
             loanIdsForQuery.add(loanId);
         }
         List<Long> loanIds = this.jdbcTemplate.queryForList(sqlForLoanIdentifiers, loanIdsForQuery.toArray(), new int[] { Types.BIGINT },
                 Long.class);
-        if (!loanIds.isEmpty()) {
-            Map<Long, List<LoanSchedulePeriodData>> scheduleDate = getScheduleDate(loanIds);
-            List<Map<String, Object>> loanSummary = getLoanSummary(loanIds);
-            loanArrearsAgingService.updateScheduleWithPaidDetail(scheduleDate, loanSummary);
-            loanArrearsAgingService.createInsertStatements(insertStatement, scheduleDate, true);
-        }
-
-        return insertStatement;
+        return createInsertStatementsWithOriginalSchedule(loanIds);
     }
 
     private List<String> updateLoanArrearsAgeingDetailsWithOriginalScheduleForAllLoans() {
-        List<String> insertStatement = new ArrayList<>();
-        String sqlForLoanIdentifiers = buildQueryForLoanIdentifiersWithOriginalSchedule(Boolean.TRUE);
+        String sqlForLoanIdentifiers = buildQueryForLoanIdentifiersWithOriginalSchedule(ALL_LOANS);
         List<Long> loanIds = this.jdbcTemplate.queryForList(sqlForLoanIdentifiers, Long.class);
+        return createInsertStatementsWithOriginalSchedule(loanIds);
+    }
+
+    private List<String> createInsertStatementsWithOriginalSchedule(List<Long> loanIds) {
+        List<String> insertStatement = new ArrayList<>();
         if (!loanIds.isEmpty()) {
             Map<Long, List<LoanSchedulePeriodData>> scheduleDate = getScheduleDate(loanIds);
             List<Map<String, Object>> loanSummary = getLoanSummary(loanIds);
@@ -180,16 +198,14 @@ public class LoanArrearsAgeingUpdateHandler {
         return insertStatement;
     }
 
-    private String buildQueryForLoanIdentifiersWithOriginalSchedule(boolean isForAllLoans) {
+    private String buildQueryForLoanIdentifiersWithOriginalSchedule(String loanIdCondition) {
         final StringBuilder loanIdentifier = new StringBuilder();
         loanIdentifier.append("select ml.id as loanId FROM m_loan ml  ");
         loanIdentifier.append("INNER JOIN m_loan_repayment_schedule mr on mr.loan_id = ml.id ");
         loanIdentifier.append(
                 "inner join m_product_loan_recalculation_details prd on prd.product_id = ml.product_id and prd.arrears_based_on_original_schedule = true  ");
         loanIdentifier.append("WHERE ml.loan_status_id = 300 ");
-        if (!isForAllLoans) {
-            loanIdentifier.append(" and ml.id IN (?)");
-        }
+        loanIdentifier.append(loanIdCondition);
         loanIdentifier.append(" and mr.completed_derived is false  and mr.duedate < ")
                 .append(sqlGenerator.subDate(sqlGenerator.currentBusinessDate(), "COALESCE(ml.grace_on_arrears_ageing, 0)", "day"))
                 .append(" group by ml.id");
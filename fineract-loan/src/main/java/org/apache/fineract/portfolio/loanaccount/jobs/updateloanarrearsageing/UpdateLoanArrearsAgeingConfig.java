@@ -38,6 +38,7 @@ public class UpdateLoanArrearsAgeingConfig {
     private final PlatformTransactionManager transactionManager;
 
     private final LoanArrearsAgeingUpdateHandler updateLoanArrearsAgingService;
+    private final LoanArrearsAgeingBulkUpdater loanArrearsAgeingBulkUpdater;
 
     @Bean
     protected Step updateLoanArrearsAgeingStep() {
@@ -53,6 +54,6 @@ public class UpdateLoanArrearsAgeingConfig {
 
     @Bean
     public UpdateLoanArrearsAgeingTasklet updateLoanArrearsAgeingTasklet() {
-        return new UpdateLoanArrearsAgeingTasklet(updateLoanArrearsAgingService);
+        return new UpdateLoanArrearsAgeingTasklet(updateLoanArrearsAgingService, loanArrearsAgeingBulkUpdater);
     }
 }
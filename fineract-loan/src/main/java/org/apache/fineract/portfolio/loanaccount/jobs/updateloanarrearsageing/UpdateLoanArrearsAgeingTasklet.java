@@ -30,10 +30,15 @@ import org.springframework.batch.repeat.RepeatStatus;
 public class UpdateLoanArrearsAgeingTasklet implements Tasklet {
 
     private final LoanArrearsAgeingUpdateHandler loanArrearsAgeingUpdateHandler;
+    private final LoanArrearsAgeingBulkUpdater loanArrearsAgeingBulkUpdater;
 
     @Override
     public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
-        loanArrearsAgeingUpdateHandler.updateLoanArrearsAgeingDetailsForAllLoans();
+        if (loanArrearsAgeingBulkUpdater.isEnabled()) {
+            loanArrearsAgeingBulkUpdater.updateLoanArrearsAgeingDetailsForAllLoans();
+        } else {
+            loanArrearsAgeingUpdateHandler.updateLoanArrearsAgeingDetailsForAllLoans();
+        }
         return RepeatStatus.FINISHED;
     }
 
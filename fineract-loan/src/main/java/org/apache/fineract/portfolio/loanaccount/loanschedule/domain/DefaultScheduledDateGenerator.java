@@ -228,7 +228,7 @@ public class DefaultScheduledDateGenerator implements ScheduledDateGenerator {
     private AdjustedDateDetailsDTO recursivelyCheckNonWorkingDaysAndHolidaysAndWorkingDaysExemptionToGenerateNextRepaymentPeriodDate(
             final AdjustedDateDetailsDTO adjustedDateDetailsDTO, final LoanApplicationTerms loanApplicationTerms,
             final HolidayDetailDTO holidayDetailDTO, final boolean isFirstRepayment) {
-        if (holidayDetailDTO != null) {
+        if (holidayDetailDTO != null && !holidayDetailDTO.isKnownBusinessDay(adjustedDateDetailsDTO.getChangedScheduleDate())) {
             final Recur recur = CalendarUtils.getICalRecur(holidayDetailDTO.getWorkingDays().getRecurrence());
             final boolean isSevenDaysWeek = (recur.getDayList().size() == 7); // 7 Seven days in the week
             // If Workings days are not seven day week
@@ -25,6 +25,7 @@ import org.apache.fineract.infrastructure.core.service.DateUtils;
 import org.apache.fineract.organisation.holiday.domain.Holiday;
 import org.apache.fineract.organisation.holiday.service.HolidayUtil;
 import org.apache.fineract.organisation.workingdays.data.AdjustedDateDetailsDTO;
+import org.apache.fineract.organisation.workingdays.data.BusinessDayCalendar;
 import org.apache.fineract.organisation.workingdays.domain.WorkingDays;
 import org.apache.fineract.organisation.workingdays.service.WorkingDaysUtil;
 import org.apache.fineract.portfolio.loanaccount.data.HolidayDetailDTO;
@@ -70,6 +71,25 @@ public abstract class AbstractHolidayStrategy implements HolidayStrategy {
         return WorkingDaysUtil.isNonWorkingDay(workingDays, date);
     }
     
+    /**
+     * Helper method to find the first date on or after the given one that is neither a holiday nor a non-working day,
+     * answered by the business day calendar when it covers the date
+     */
+    protected LocalDate getNextBusinessDay(LocalDate date, List<Holiday> holidays, WorkingDays workingDays,
+            BusinessDayCalendar businessDayCalendar) {
+        if (businessDayCalendar != null && businessDayCalendar.covers(date)) {
+            final LocalDate nextBusinessDay = businessDayCalendar.getNextBusinessDay(date);
+            if (nextBusinessDay != null) {
+                return nextBusinessDay;
+            }
+        }
+        LocalDate adjustedDate = date;
+        while (isHoliday(adjustedDate, holidays) || isNonWorkingDay(workingDays, adjustedDate)) {
+            adjustedDate = adjustedDate.plusDays(1);
+        }
+        return adjustedDate;
+    }
+
     /**
      * Helper method to create a new adjusted date details object
      */
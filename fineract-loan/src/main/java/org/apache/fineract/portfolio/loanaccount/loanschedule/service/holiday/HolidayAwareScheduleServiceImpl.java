@@ -23,6 +23,7 @@ import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDoma
 import org.apache.fineract.organisation.holiday.domain.Holiday;
 import org.apache.fineract.organisation.holiday.service.HolidayUtil;
 import org.apache.fineract.organisation.workingdays.data.AdjustedDateDetailsDTO;
+import org.apache.fineract.organisation.workingdays.data.BusinessDayCalendar;
 import org.apache.fineract.organisation.workingdays.domain.RepaymentRescheduleType;
 import org.apache.fineract.organisation.workingdays.service.WorkingDaysUtil;
 import org.apache.fineract.portfolio.loanaccount.data.HolidayDetailDTO;
@@ -54,6 +55,11 @@ public class HolidayAwareScheduleServiceImpl implements HolidayAwareScheduleServ
             // No holiday or working day configuration, return original date
             return new AdjustedDateDetailsDTO(repaymentDate, repaymentDate, nextRepaymentDate);
         }
+
+        if (holidayDetailDTO.isKnownBusinessDay(repaymentDate)) {
+            // Working day without holiday, none of the strategies moves it
+            return new AdjustedDateDetailsDTO(repaymentDate, repaymentDate, nextRepaymentDate);
+        }
         
         HolidayStrategy strategy;
         
@@ -76,8 +82,8 @@ public class HolidayAwareScheduleServiceImpl implements HolidayAwareScheduleServ
             strategy = holidayStrategyFactory.createStrategy(rescheduleType);
         }
         
-        return strategy.adjustRepaymentDate(repaymentDate, holidayDetailDTO.getHolidays(), 
-                                           holidayDetailDTO.getWorkingDays(), nextRepaymentDate, loanApplicationTerms);
+        return strategy.adjustRepaymentDate(repaymentDate, holidayDetailDTO.getHolidays(), holidayDetailDTO.getWorkingDays(),
+                nextRepaymentDate, loanApplicationTerms, holidayDetailDTO.getBusinessDayCalendar());
     }
 
     @Override
@@ -85,6 +91,11 @@ public class HolidayAwareScheduleServiceImpl implements HolidayAwareScheduleServ
         if (holidayDetailDTO == null || holidayDetailDTO.getHolidays() == null) {
             return false;
         }
+        // the calendar is built from the same holiday list, only the holidays it knows of have to be looked up
+        final BusinessDayCalendar businessDayCalendar = holidayDetailDTO.getBusinessDayCalendar();
+        if (businessDayCalendar != null && businessDayCalendar.covers(date) && !businessDayCalendar.isHoliday(date)) {
+            return false;
+        }
         return HolidayUtil.isHoliday(date, holidayDetailDTO.getHolidays());
     }
 
@@ -101,6 +112,10 @@ public class HolidayAwareScheduleServiceImpl implements HolidayAwareScheduleServ
         if (holidayDetailDTO == null || holidayDetailDTO.getWorkingDays() == null) {
             return false;
         }
+        final BusinessDayCalendar businessDayCalendar = holidayDetailDTO.getBusinessDayCalendar();
+        if (businessDayCalendar != null && businessDayCalendar.covers(date)) {
+            return !businessDayCalendar.isWorkingDay(date);
+        }
         return WorkingDaysUtil.isNonWorkingDay(holidayDetailDTO.getWorkingDays(), date);
     }
 
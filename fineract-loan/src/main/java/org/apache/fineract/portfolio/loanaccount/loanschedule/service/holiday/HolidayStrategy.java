@@ -22,6 +22,7 @@ import java.time.LocalDate;
 import java.util.List;
 import org.apache.fineract.organisation.holiday.domain.Holiday;
 import org.apache.fineract.organisation.workingdays.data.AdjustedDateDetailsDTO;
+import org.apache.fineract.organisation.workingdays.data.BusinessDayCalendar;
 import org.apache.fineract.organisation.workingdays.domain.WorkingDays;
 import org.apache.fineract.portfolio.loanaccount.data.HolidayDetailDTO;
 import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.LoanApplicationTerms;
@@ -44,6 +45,17 @@ public interface HolidayStrategy {
     AdjustedDateDetailsDTO adjustRepaymentDate(LocalDate repaymentDate, List<Holiday> holidays, WorkingDays workingDays, 
                                               LocalDate nextRepaymentDate, LoanApplicationTerms loanApplicationTerms);
 
+    /**
+     * Adjusts a repayment date like {@link #adjustRepaymentDate(LocalDate, List, WorkingDays, LocalDate, LoanApplicationTerms)},
+     * looking the next business day up in the business day calendar of the office for the dates it covers.
+     *
+     * @param businessDayCalendar The business day calendar of the office, may be null
+     */
+    default AdjustedDateDetailsDTO adjustRepaymentDate(LocalDate repaymentDate, List<Holiday> holidays, WorkingDays workingDays,
+            LocalDate nextRepaymentDate, LoanApplicationTerms loanApplicationTerms, BusinessDayCalendar businessDayCalendar) {
+        return adjustRepaymentDate(repaymentDate, holidays, workingDays, nextRepaymentDate, loanApplicationTerms);
+    }
+
     /**
      * Checks if a date falls on a holiday.
      *
@@ -23,6 +23,7 @@ import java.util.List;
 import org.apache.fineract.organisation.holiday.domain.Holiday;
 import org.apache.fineract.organisation.holiday.domain.RescheduleType;
 import org.apache.fineract.organisation.workingdays.data.AdjustedDateDetailsDTO;
+import org.apache.fineract.organisation.workingdays.data.BusinessDayCalendar;
 import org.apache.fineract.organisation.workingdays.domain.WorkingDays;
 import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.LoanApplicationTerms;
 import org.springframework.stereotype.Component;
@@ -36,6 +37,12 @@ public class NextWorkingDayStrategy extends AbstractHolidayStrategy {
     @Override
     public AdjustedDateDetailsDTO adjustRepaymentDate(LocalDate repaymentDate, List<Holiday> holidays, WorkingDays workingDays,
                                                    LocalDate nextRepaymentDate, LoanApplicationTerms loanApplicationTerms) {
+        return adjustRepaymentDate(repaymentDate, holidays, workingDays, nextRepaymentDate, loanApplicationTerms, null);
+    }
+
+    @Override
+    public AdjustedDateDetailsDTO adjustRepaymentDate(LocalDate repaymentDate, List<Holiday> holidays, WorkingDays workingDays,
+            LocalDate nextRepaymentDate, LoanApplicationTerms loanApplicationTerms, BusinessDayCalendar businessDayCalendar) {
         
         LocalDate adjustedDate = repaymentDate;
         
@@ -47,21 +54,14 @@ public class NextWorkingDayStrategy extends AbstractHolidayStrategy {
                 adjustedDate = applicableHoliday.getRepaymentsRescheduledTo();
             } else {
                 // Move to next working day
-                adjustedDate = adjustedDate.plusDays(1);
-                // Recursively check if the new date also falls on a holiday or non-working day
-                while (isHoliday(adjustedDate, holidays) || isNonWorkingDay(workingDays, adjustedDate)) {
-                    adjustedDate = adjustedDate.plusDays(1);
-                }
+                adjustedDate = getNextBusinessDay(adjustedDate.plusDays(1), holidays, workingDays, businessDayCalendar);
             }
         }
         
         // Then check if it falls on a non-working day
         if (isNonWorkingDay(workingDays, adjustedDate)) {
-            adjustedDate = adjustedDate.plusDays(1);
-            // Recursively check if the new date also falls on a holiday or non-working day
-            while (isHoliday(adjustedDate, holidays) || isNonWorkingDay(workingDays, adjustedDate)) {
-                adjustedDate = adjustedDate.plusDays(1);
-            }
+            // Move to the next working day that is not a holiday either
+            adjustedDate = getNextBusinessDay(adjustedDate.plusDays(1), holidays, workingDays, businessDayCalendar);
         }
         
         return createAdjustedDateDetailsDTO(repaymentDate, adjustedDate, nextRepaymentDate);
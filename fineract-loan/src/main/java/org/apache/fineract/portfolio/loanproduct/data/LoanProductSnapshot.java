@@ -0,0 +1,37 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanproduct.data;
+
+import org.apache.fineract.portfolio.loanproduct.domain.LoanProduct;
+
+/**
+ * Immutable copy of the loan product settings the COB repayment due and overdue steps consult for every loan, so that
+ * they can read them without loading the product entity graph (charges, allocation rules, interest recalculation,
+ * ...). It only carries the settings that are actually read from it; add fields together with their readers.
+ *
+ * @param version
+ *            generation of the snapshot cache the snapshot was taken in, 0 for snapshots taken directly from an entity
+ */
+public record LoanProductSnapshot(Long id, long version, Integer dueDaysForRepaymentEvent, Integer overDueDaysForRepaymentEvent) {
+
+    public static LoanProductSnapshot of(final LoanProduct loanProduct) {
+        return new LoanProductSnapshot(loanProduct.getId(), 0L, loanProduct.getDueDaysForRepaymentEvent(),
+                loanProduct.getOverDueDaysForRepaymentEvent());
+    }
+}
@@ -0,0 +1,48 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanproduct.service;
+
+import org.apache.fineract.portfolio.loanproduct.data.LoanProductSnapshot;
+
+/**
+ * Per tenant cache of {@link LoanProductSnapshot}s, shared by every thread (API requests and COB workers) of the
+ * instance.
+ */
+public interface LoanProductSnapshotService {
+
+    /**
+     * Whether snapshots are cached (<code>fineract.loan.product-snapshot.enabled</code>); when they are not, callers
+     * read the settings from the loan product entity they already hold.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns the snapshot of the loan product, loading it when it is not cached yet or no longer valid.
+     *
+     * @throws org.apache.fineract.portfolio.loanproduct.exception.LoanProductNotFoundException
+     *             when there is no such loan product
+     */
+    LoanProductSnapshot retrieveSnapshot(Long loanProductId);
+
+    /**
+     * Drops the cached snapshot of the loan product. Within a transaction the snapshot is dropped again once the
+     * transaction completed, so that snapshots loaded concurrently with the change are not kept either.
+     */
+    void evict(Long loanProductId);
+}
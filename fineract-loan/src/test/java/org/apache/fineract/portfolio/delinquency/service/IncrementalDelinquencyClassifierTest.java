@@ -0,0 +1,229 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.delinquency.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.endsWith;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
+import org.apache.fineract.organisation.monetary.domain.MonetaryCurrency;
+import org.apache.fineract.organisation.monetary.domain.Money;
+import org.apache.fineract.portfolio.delinquency.domain.DelinquencyAction;
+import org.apache.fineract.portfolio.delinquency.domain.DelinquencyBucket;
+import org.apache.fineract.portfolio.delinquency.domain.DelinquencyRange;
+import org.apache.fineract.portfolio.delinquency.domain.LoanDelinquencyAction;
+import org.apache.fineract.portfolio.delinquency.validator.LoanDelinquencyActionData;
+import org.apache.fineract.portfolio.loanaccount.data.CollectionData;
+import org.apache.fineract.portfolio.loanaccount.data.LoanDelinquencyData;
+import org.apache.fineract.portfolio.loanaccount.data.LoanScheduleDelinquencyData;
+import org.apache.fineract.portfolio.loanaccount.domain.Loan;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanRepaymentScheduleInstallment;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanStatus;
+import org.apache.fineract.portfolio.loanproduct.domain.LoanProduct;
+import org.apache.fineract.portfolio.loanproduct.domain.LoanProductRelatedDetail;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+@ExtendWith(MockitoExtension.class)
+class IncrementalDelinquencyClassifierTest {
+
+    private static final Long LOAN_ID = 7L;
+    private static final LocalDate BUSINESS_DATE = LocalDate.of(2024, 3, 15);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private DelinquencyWritePlatformService delinquencyWritePlatformService;
+    @Mock
+    private DatabaseSpecificSQLGenerator sqlGenerator;
+
+    private Loan loan;
+    private LoanRepaymentScheduleInstallment installment;
+    private IncrementalDelinquencyClassifier underTest;
+
+    @BeforeEach
+    void setUp() {
+        FineractProperties fineractProperties = new FineractProperties();
+        fineractProperties.setLoan(new FineractProperties.FineractLoanProperties());
+        underTest = new IncrementalDelinquencyClassifier(jdbcTemplate, delinquencyWritePlatformService, fineractProperties,
+                sqlGenerator);
+
+        DelinquencyBucket bucket = new DelinquencyBucket();
+        bucket.setRanges(List.of(DelinquencyRange.instance("R1", 1, 3), DelinquencyRange.instance("R2", 4, 10),
+                DelinquencyRange.instance("R3", 11, null)));
+        LoanProduct loanProduct = mock(LoanProduct.class);
+        lenient().when(loanProduct.getDelinquencyBucket()).thenReturn(bucket);
+
+        // first installment is 5 days overdue, second one is due on 2024-04-10
+        installment = installment(1L, LocalDate.of(2024, 3, 10), false);
+        LoanRepaymentScheduleInstallment notYetDue = installment(2L, LocalDate.of(2024, 4, 10), false);
+
+        loan = mock(Loan.class);
+        lenient().when(loan.getId()).thenReturn(LOAN_ID);
+        lenient().when(loan.getCurrency()).thenReturn(new MonetaryCurrency("USD", 2, null));
+        lenient().when(loan.getStatus()).thenReturn(LoanStatus.ACTIVE);
+        lenient().when(loan.getLoanProductRelatedDetail()).thenReturn(mock(LoanProductRelatedDetail.class));
+        lenient().when(loan.getLoanProduct()).thenReturn(loanProduct);
+        lenient().when(loan.getRepaymentScheduleInstallments()).thenReturn(List.of(installment, notYetDue));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void skipsLoanWithUnchangedStateBeforeItsTransitionDate() {
+        givenState(BUSINESS_DATE.plusDays(3), IncrementalDelinquencyClassifier.fingerprint(loan, List.of()));
+
+        assertFalse(underTest.classify(loan, BUSINESS_DATE, List.of()));
+
+        verifyNoInteractions(delinquencyWritePlatformService);
+        verify(jdbcTemplate).query(anyString(), any(RowMapper.class), eq(LOAN_ID));
+        verifyNoMoreInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void recomputesLoanWhenTransitionDateArrived() {
+        long fingerprint = IncrementalDelinquencyClassifier.fingerprint(loan, List.of());
+        givenState(BUSINESS_DATE, fingerprint);
+        givenDelinquency(5L);
+
+        assertTrue(underTest.classify(loan, BUSINESS_DATE, List.of()));
+
+        verify(delinquencyWritePlatformService).applyDelinquencyTagToLoan(any(LoanScheduleDelinquencyData.class), anyList());
+        // 5 delinquent days, the next range starts at 11 days
+        verify(jdbcTemplate).update(anyString(), eq(LOAN_ID), eq(Date.valueOf(BUSINESS_DATE.plusDays(6))), eq(fingerprint),
+                eq(Date.valueOf(BUSINESS_DATE)));
+    }
+
+    @Test
+    void storesTheStateOfANewlyClassifiedLoanWithAnUpsert() {
+        String onConflictUpdate = " ON CONFLICT (loan_id) DO UPDATE SET next_transition_date = EXCLUDED.next_transition_date";
+        when(sqlGenerator.onConflictUpdate("loan_id", List.of("next_transition_date", "state_fingerprint", "last_classified_on_date")))
+                .thenReturn(onConflictUpdate);
+        givenDelinquency(5L);
+
+        assertTrue(underTest.classify(loan, BUSINESS_DATE, List.of()));
+
+        // a new state is re-evaluated on the next day
+        verify(jdbcTemplate).update(endsWith(onConflictUpdate), eq(LOAN_ID), eq(Date.valueOf(BUSINESS_DATE.plusDays(1))),
+                eq(IncrementalDelinquencyClassifier.fingerprint(loan, List.of())), eq(Date.valueOf(BUSINESS_DATE)));
+    }
+
+    @Test
+    void recomputesLoanWithFinancialActivityAndRechecksItNextDay() {
+        givenState(BUSINESS_DATE.plusDays(6), IncrementalDelinquencyClassifier.fingerprint(loan, List.of()));
+        Money paid = mock(Money.class);
+        when(paid.getAmount()).thenReturn(BigDecimal.TEN);
+        when(installment.getTotalPaid(any())).thenReturn(paid);
+        givenDelinquency(5L);
+
+        assertTrue(underTest.classify(loan, BUSINESS_DATE, List.of()));
+
+        verify(jdbcTemplate).update(anyString(), eq(LOAN_ID), eq(Date.valueOf(BUSINESS_DATE.plusDays(1))), anyLong(),
+                eq(Date.valueOf(BUSINESS_DATE)));
+    }
+
+    @Test
+    void nextTransitionDateConsidersInstallmentLevelDelinquencyAndPauses() {
+        LoanScheduleDelinquencyData loanData = new LoanScheduleDelinquencyData(LOAN_ID, LocalDate.of(2024, 3, 10), 5L, loan);
+        Map<Long, CollectionData> installmentsData = new HashMap<>();
+        installmentsData.put(1L, collectionData(LocalDate.of(2024, 3, 12), 3L));
+        LoanDelinquencyData details = new LoanDelinquencyData(collectionData(LocalDate.of(2024, 3, 10), 5L), installmentsData);
+
+        // installment at 3 days moves to the next range tomorrow
+        assertEquals(BUSINESS_DATE.plusDays(1),
+                IncrementalDelinquencyClassifier.nextTransitionDate(loan, BUSINESS_DATE, loanData, details, List.of()));
+
+        installmentsData.clear();
+        LoanDelinquencyActionData pause = new LoanDelinquencyActionData(
+                new LoanDelinquencyAction(null, DelinquencyAction.PAUSE, BUSINESS_DATE.plusDays(2), BUSINESS_DATE.plusDays(4)));
+        assertEquals(BUSINESS_DATE.plusDays(2),
+                IncrementalDelinquencyClassifier.nextTransitionDate(loan, BUSINESS_DATE, loanData, details, List.of(pause)));
+    }
+
+    @Test
+    void loanWithoutUnpaidInstallmentsHasNoScheduledTransition() {
+        when(loan.getRepaymentScheduleInstallments()).thenReturn(List.of(installment(3L, LocalDate.of(2024, 1, 10), true)));
+        LoanScheduleDelinquencyData loanData = new LoanScheduleDelinquencyData(LOAN_ID, null, 0L, loan);
+
+        assertNull(IncrementalDelinquencyClassifier.nextTransitionDate(loan, BUSINESS_DATE, loanData, null, List.of()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenState(LocalDate nextTransitionDate, long fingerprint) {
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), eq(LOAN_ID))).thenAnswer(invocation -> {
+            ResultSet rs = mock(ResultSet.class);
+            when(rs.getObject("next_transition_date", LocalDate.class)).thenReturn(nextTransitionDate);
+            when(rs.getLong("state_fingerprint")).thenReturn(fingerprint);
+            return List.of(((RowMapper<Object>) invocation.getArgument(1)).mapRow(rs, 0));
+        });
+    }
+
+    private void givenDelinquency(long delinquentDays) {
+        when(delinquencyWritePlatformService.calculateDelinquencyData(any(LoanScheduleDelinquencyData.class), anyList()))
+                .thenReturn(new LoanScheduleDelinquencyData(LOAN_ID, LocalDate.of(2024, 3, 10), delinquentDays, loan));
+        when(delinquencyWritePlatformService.applyDelinquencyTagToLoan(any(LoanScheduleDelinquencyData.class), anyList()))
+                .thenReturn(new LoanDelinquencyData(collectionData(LocalDate.of(2024, 3, 10), delinquentDays), Map.of()));
+    }
+
+    private static CollectionData collectionData(LocalDate delinquentDate, long delinquentDays) {
+        CollectionData collectionData = CollectionData.template();
+        collectionData.setDelinquentDate(delinquentDate);
+        collectionData.setDelinquentDays(delinquentDays);
+        return collectionData;
+    }
+
+    private static LoanRepaymentScheduleInstallment installment(Long id, LocalDate dueDate, boolean obligationsMet) {
+        LoanRepaymentScheduleInstallment installment = mock(LoanRepaymentScheduleInstallment.class);
+        Money zero = mock(Money.class);
+        lenient().when(zero.getAmount()).thenReturn(BigDecimal.ZERO);
+        lenient().when(installment.getId()).thenReturn(id);
+        lenient().when(installment.getDueDate()).thenReturn(dueDate);
+        lenient().when(installment.getFromDate()).thenReturn(dueDate.minusMonths(1));
+        lenient().when(installment.isObligationsMet()).thenReturn(obligationsMet);
+        lenient().when(installment.getTotalOutstanding(any())).thenReturn(zero);
+        lenient().when(installment.getTotalPaid(any())).thenReturn(zero);
+        return installment;
+    }
+}
@@ -0,0 +1,131 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.domain;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+import org.apache.fineract.organisation.monetary.domain.MonetaryCurrency;
+import org.apache.fineract.organisation.monetary.domain.Money;
+import org.apache.fineract.organisation.monetary.domain.MoneyHelper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Golden test for the single pass installment aggregation of {@link LoanSummary}: every derived total has to equal the
+ * running {@link Money} sum the summary used to compute with one loop per field.
+ */
+class LoanSummaryTest {
+
+    @BeforeAll
+    static void init() {
+        ReflectionTestUtils.setField(MoneyHelper.class, "roundingMode", RoundingMode.HALF_EVEN);
+        ReflectionTestUtils.setField(MoneyHelper.class, "mathContext", null);
+    }
+
+    @AfterAll
+    static void reset() {
+        ReflectionTestUtils.setField(MoneyHelper.class, "roundingMode", null);
+        ReflectionTestUtils.setField(MoneyHelper.class, "mathContext", null);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 0, 1, 12, 360 })
+    void singlePassTotalsMatchPerFieldRunningSums(int numberOfInstallments) {
+        for (MonetaryCurrency currency : List.of(new MonetaryCurrency("USD", 2, null), new MonetaryCurrency("JPY", 0, 50),
+                new MonetaryCurrency("KWD", 3, null))) {
+            List<LoanRepaymentScheduleInstallment> installments = createInstallments(numberOfInstallments,
+                    new Random(numberOfInstallments));
+            Money principal = Money.of(currency, new BigDecimal("100000"));
+            LoanSummary summary = LoanSummary.create(new BigDecimal("12.345678"));
+
+            summary.updateSummary(currency, principal, installments, null);
+
+            assertEquals(sum(installments, i -> i.getPrincipalCompleted(currency), currency), summary.getTotalPrincipalRepaid());
+            assertEquals(sum(installments, i -> i.getCreditedPrincipal(currency), currency), summary.getTotalPrincipalAdjustments());
+            assertEquals(sum(installments, i -> i.getCreditedFee(currency), currency), summary.getTotalFeeAdjustments());
+            assertEquals(sum(installments, i -> i.getCreditedPenalty(currency), currency), summary.getTotalPenaltyAdjustments());
+            assertEquals(sum(installments, i -> i.getPrincipalWrittenOff(currency), currency), summary.getTotalPrincipalWrittenOff());
+            assertEquals(sum(installments, i -> i.getInterestCharged(currency), currency), summary.getTotalInterestCharged());
+            assertEquals(sum(installments, i -> i.getInterestPaid(currency), currency), summary.getTotalInterestRepaid());
+            assertEquals(sum(installments, i -> i.getInterestWaived(currency), currency), summary.getTotalInterestWaived());
+            assertEquals(sum(installments, i -> i.getInterestWrittenOff(currency), currency), summary.getTotalInterestWrittenOff());
+            assertEquals(Money.of(currency, sum(installments, i -> i.getFeeChargesCharged(currency), currency))
+                    .plus(new BigDecimal("12.345678")).getAmount(), summary.getTotalFeeChargesCharged());
+            assertEquals(sum(installments, i -> i.getFeeChargesPaid(currency), currency), summary.getTotalFeeChargesRepaid());
+            assertEquals(sum(installments, i -> i.getFeeChargesWrittenOff(currency), currency), summary.getTotalFeeChargesWrittenOff());
+            assertEquals(sum(installments, i -> i.getPenaltyChargesCharged(currency), currency), summary.getTotalPenaltyChargesCharged());
+            assertEquals(sum(installments, i -> i.getPenaltyChargesPaid(currency), currency), summary.getTotalPenaltyChargesRepaid());
+            assertEquals(sum(installments, i -> i.getPenaltyChargesWaived(currency), currency), summary.getTotalPenaltyChargesWaived());
+            assertEquals(sum(installments, i -> i.getPenaltyChargesWrittenOff(currency), currency),
+                    summary.getTotalPenaltyChargesWrittenOff());
+
+            Money expectedPrincipalOutstanding = principal.plus(summary.getTotalPrincipalAdjustments())
+                    .minus(summary.getTotalPrincipalRepaid()).minus(summary.getTotalPrincipalWrittenOff());
+            assertEquals(expectedPrincipalOutstanding.getAmount(), summary.getTotalPrincipalOutstanding());
+        }
+    }
+
+    private static BigDecimal sum(List<LoanRepaymentScheduleInstallment> installments,
+            Function<LoanRepaymentScheduleInstallment, Money> amount, MonetaryCurrency currency) {
+        Money total = Money.zero(currency);
+        for (LoanRepaymentScheduleInstallment installment : installments) {
+            total = total.plus(amount.apply(installment));
+        }
+        return total.getAmount();
+    }
+
+    private static List<LoanRepaymentScheduleInstallment> createInstallments(int numberOfInstallments, Random random) {
+        List<LoanRepaymentScheduleInstallment> installments = new ArrayList<>();
+        for (int i = 0; i < numberOfInstallments; i++) {
+            LoanRepaymentScheduleInstallment installment = new LoanRepaymentScheduleInstallment();
+            installment.setPrincipalCompleted(randomAmount(random));
+            installment.setCreditedPrincipal(randomAmount(random));
+            installment.setCreditedFee(randomAmount(random));
+            installment.setCreditedPenalty(randomAmount(random));
+            installment.setPrincipalWrittenOff(randomAmount(random));
+            installment.setInterestCharged(randomAmount(random));
+            installment.setInterestPaid(randomAmount(random));
+            installment.setInterestWaived(randomAmount(random));
+            installment.setInterestWrittenOff(randomAmount(random));
+            installment.setFeeChargesCharged(randomAmount(random));
+            installment.setFeeChargesPaid(randomAmount(random));
+            installment.setFeeChargesWrittenOff(randomAmount(random));
+            installment.setPenaltyCharges(randomAmount(random));
+            installment.setPenaltyChargesPaid(randomAmount(random));
+            installment.setPenaltyChargesWaived(randomAmount(random));
+            installment.setPenaltyChargesWrittenOff(randomAmount(random));
+            installments.add(installment);
+        }
+        return installments;
+    }
+
+    private static BigDecimal randomAmount(Random random) {
+        // schedule columns carry 6 decimals, so every installment amount has to be rounded to the currency first
+        return random.nextInt(4) == 0 ? null : BigDecimal.valueOf(random.nextLong(100_000_000L), 6);
+    }
+}
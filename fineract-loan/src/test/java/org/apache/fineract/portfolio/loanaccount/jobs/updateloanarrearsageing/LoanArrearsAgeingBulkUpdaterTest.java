@@ -0,0 +1,123 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.jobs.updateloanarrearsageing;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.exception.PlatformInternalServerException;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class LoanArrearsAgeingBulkUpdaterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @Mock
+    private LoanArrearsAgeingUpdateHandler handler;
+
+    private ThreadPoolTaskExecutor threadPoolTaskExecutor;
+    private LoanArrearsAgeingBulkUpdater underTest;
+
+    @BeforeEach
+    void setUp() {
+        HashMap<BusinessDateType, LocalDate> businessDates = new HashMap<>();
+        businessDates.put(BusinessDateType.BUSINESS_DATE, LocalDate.of(2024, 7, 1));
+        ThreadLocalContextUtil.setBusinessDates(businessDates);
+
+        FineractProperties fineractProperties = new FineractProperties();
+        fineractProperties.setLoan(new FineractProperties.FineractLoanProperties());
+        fineractProperties.getLoan().setArrearsAgeing(new FineractProperties.FineractLoanArrearsAgeingProperties());
+        fineractProperties.getLoan().getArrearsAgeing().setPartitionSize(10);
+
+        threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
+        threadPoolTaskExecutor.setCorePoolSize(2);
+        threadPoolTaskExecutor.initialize();
+        underTest = new LoanArrearsAgeingBulkUpdater(jdbcTemplate, transactionTemplate, handler, fineractProperties,
+                threadPoolTaskExecutor);
+
+        when(jdbcTemplate.queryForMap(anyString())).thenReturn(Map.of("min_id", 1L, "max_id", 25L));
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+            TransactionCallback<?> callback = invocation.getArgument(0);
+            return callback.doInTransaction(null);
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        threadPoolTaskExecutor.shutdown();
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    void partitionsCoverTheLoanIdRange() {
+        List<long[]> partitions = LoanArrearsAgeingBulkUpdater.partition(1, 25, 10);
+
+        assertEquals(3, partitions.size());
+        assertArrayEquals(new long[] { 1, 10 }, partitions.get(0));
+        assertArrayEquals(new long[] { 11, 20 }, partitions.get(1));
+        assertArrayEquals(new long[] { 21, 25 }, partitions.get(2));
+    }
+
+    @Test
+    void updatesEveryPartition() {
+        when(handler.updateLoanArrearsAgeingDetailsForLoanIdRange(any(), any())).thenReturn(5);
+
+        underTest.updateLoanArrearsAgeingDetailsForAllLoans();
+
+        verify(jdbcTemplate).update("delete from m_loan_arrears_aging where loan_id < ? or loan_id > ?", 1L, 25L);
+        verify(handler).updateLoanArrearsAgeingDetailsForLoanIdRange(1L, 10L);
+        verify(handler).updateLoanArrearsAgeingDetailsForLoanIdRange(11L, 20L);
+        verify(handler).updateLoanArrearsAgeingDetailsForLoanIdRange(21L, 25L);
+    }
+
+    @Test
+    void failedPartitionFailsTheRunAfterAllPartitionsFinished() {
+        when(handler.updateLoanArrearsAgeingDetailsForLoanIdRange(any(), any())).thenReturn(5);
+        when(handler.updateLoanArrearsAgeingDetailsForLoanIdRange(11L, 20L)).thenThrow(new IllegalStateException("deadlock"));
+
+        assertThrows(PlatformInternalServerException.class, () -> underTest.updateLoanArrearsAgeingDetailsForAllLoans());
+
+        verify(handler).updateLoanArrearsAgeingDetailsForLoanIdRange(1L, 10L);
+        verify(handler).updateLoanArrearsAgeingDetailsForLoanIdRange(21L, 25L);
+    }
+}
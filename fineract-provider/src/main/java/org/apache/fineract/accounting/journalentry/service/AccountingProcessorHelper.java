@@ -21,6 +21,7 @@ package org.apache.fineract.accounting.journalentry.service;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -95,6 +96,7 @@ public class AccountingProcessorHelper {
     private final AccountTransfersReadPlatformService accountTransfersReadPlatformService;
     private final ChargeRepositoryWrapper chargeRepositoryWrapper;
     private final BusinessEventNotifierService businessEventNotifierService;
+    private final JournalEntryBatchWriter journalEntryBatchWriter;
 
     public LoanDTO populateLoanDtoFromDTO(
             final org.apache.fineract.portfolio.loanaccount.data.AccountingBridgeDataDTO accountingBridgeData) {
@@ -1062,7 +1064,7 @@ public class AccountingProcessorHelper {
                     .findByFinancialActivityTypeWithNotFoundDetection(accountMappingTypeId);
             glAccount = financialActivityAccount.getGlAccount();
         } else {
-            ProductToGLAccountMapping accountMapping = this.accountMappingRepository.findCoreProductToFinAccountMapping(loanProductId,
+            ProductToGLAccountMapping accountMapping = findCoreProductToFinAccountMapping(loanProductId,
                     PortfolioProductType.LOAN.getValue(), accountMappingTypeId);
 
             /****
@@ -1070,9 +1072,8 @@ public class AccountingProcessorHelper {
              * placeholder ID would be same for both cash and accrual accounts
              ***/
             if (accountMappingTypeId == CashAccountsForLoan.FUND_SOURCE.getValue()) {
-                final ProductToGLAccountMapping paymentChannelSpecificAccountMapping = this.accountMappingRepository
-                        .findByProductIdAndProductTypeAndFinancialAccountTypeAndPaymentTypeId(loanProductId,
-                                PortfolioProductType.LOAN.getValue(), accountMappingTypeId, paymentTypeId);
+                final ProductToGLAccountMapping paymentChannelSpecificAccountMapping = findPaymentTypeSpecificMapping(loanProductId,
+                        PortfolioProductType.LOAN.getValue(), accountMappingTypeId, paymentTypeId);
                 if (paymentChannelSpecificAccountMapping != null) {
                     accountMapping = paymentChannelSpecificAccountMapping;
                 }
@@ -1089,7 +1090,7 @@ public class AccountingProcessorHelper {
     }
 
     private GLAccount getLinkedGLAccountForLoanCharges(final Long loanProductId, final int accountMappingTypeId, final Long chargeId) {
-        ProductToGLAccountMapping accountMapping = this.accountMappingRepository.findCoreProductToFinAccountMapping(loanProductId,
+        ProductToGLAccountMapping accountMapping = findCoreProductToFinAccountMapping(loanProductId,
                 PortfolioProductType.LOAN.getValue(), accountMappingTypeId);
         /*****
          * Get more specific mappings for Charges and penalties (based on the actual charge /penalty coupled with the
@@ -1100,9 +1101,8 @@ public class AccountingProcessorHelper {
         // Vishwas TODO: remove this condition as it should always be true
         if (accountMappingTypeId == CashAccountsForLoan.INCOME_FROM_FEES.getValue()
                 || accountMappingTypeId == CashAccountsForLoan.INCOME_FROM_PENALTIES.getValue()) {
-            final ProductToGLAccountMapping chargeSpecificIncomeAccountMapping = this.accountMappingRepository
-                    .findProductIdAndProductTypeAndFinancialAccountTypeAndChargeId(loanProductId, PortfolioProductType.LOAN.getValue(),
-                            accountMappingTypeId, chargeId);
+            final ProductToGLAccountMapping chargeSpecificIncomeAccountMapping = findChargeSpecificMapping(loanProductId,
+                    PortfolioProductType.LOAN.getValue(), accountMappingTypeId, chargeId);
             if (chargeSpecificIncomeAccountMapping != null) {
                 accountMapping = chargeSpecificIncomeAccountMapping;
             }
@@ -1113,7 +1113,7 @@ public class AccountingProcessorHelper {
     private GLAccount getLinkedGLAccountForSavingsCharges(final Long savingsProductId, final int accountMappingTypeId,
             final Long chargeId) {
 
-        ProductToGLAccountMapping accountMapping = this.accountMappingRepository.findCoreProductToFinAccountMapping(savingsProductId,
+        ProductToGLAccountMapping accountMapping = findCoreProductToFinAccountMapping(savingsProductId,
                 PortfolioProductType.SAVING.getValue(), accountMappingTypeId);
         /*****
          * Get more specific mappings for Charges and penalties (based on the actual charge /penalty coupled with the
@@ -1129,9 +1129,8 @@ public class AccountingProcessorHelper {
             if (glAccount != null) {
                 return glAccount;
             }
-            final ProductToGLAccountMapping chargeSpecificIncomeAccountMapping = this.accountMappingRepository
-                    .findProductIdAndProductTypeAndFinancialAccountTypeAndChargeId(savingsProductId, PortfolioProductType.SAVING.getValue(),
-                            accountMappingTypeId, chargeId);
+            final ProductToGLAccountMapping chargeSpecificIncomeAccountMapping = findChargeSpecificMapping(savingsProductId,
+                    PortfolioProductType.SAVING.getValue(), accountMappingTypeId, chargeId);
             if (chargeSpecificIncomeAccountMapping != null) {
 
                 accountMapping = chargeSpecificIncomeAccountMapping;
@@ -1149,16 +1148,15 @@ public class AccountingProcessorHelper {
                     .findByFinancialActivityTypeWithNotFoundDetection(accountMappingTypeId);
             glAccount = financialActivityAccount.getGlAccount();
         } else {
-            ProductToGLAccountMapping accountMapping = this.accountMappingRepository.findCoreProductToFinAccountMapping(savingsProductId,
+            ProductToGLAccountMapping accountMapping = findCoreProductToFinAccountMapping(savingsProductId,
                     PortfolioProductType.SAVING.getValue(), accountMappingTypeId);
             /****
              * Get more specific mapping for FUND source accounts (based on payment channels). Note that fund source
              * placeholder ID would be same for both cash and accrual accounts
              ***/
             if (accountMappingTypeId == CashAccountsForSavings.SAVINGS_REFERENCE.getValue()) {
-                final ProductToGLAccountMapping paymentChannelSpecificAccountMapping = this.accountMappingRepository
-                        .findByProductIdAndProductTypeAndFinancialAccountTypeAndPaymentTypeId(savingsProductId,
-                                PortfolioProductType.SAVING.getValue(), accountMappingTypeId, paymentTypeId);
+                final ProductToGLAccountMapping paymentChannelSpecificAccountMapping = findPaymentTypeSpecificMapping(savingsProductId,
+                        PortfolioProductType.SAVING.getValue(), accountMappingTypeId, paymentTypeId);
                 if (paymentChannelSpecificAccountMapping != null) {
                     accountMapping = paymentChannelSpecificAccountMapping;
                 }
@@ -1176,13 +1174,12 @@ public class AccountingProcessorHelper {
                     .findByFinancialActivityTypeWithNotFoundDetection(accountMappingTypeId);
             glAccount = financialActivityAccount.getGlAccount();
         } else {
-            ProductToGLAccountMapping accountMapping = this.accountMappingRepository.findCoreProductToFinAccountMapping(shareProductId,
+            ProductToGLAccountMapping accountMapping = findCoreProductToFinAccountMapping(shareProductId,
                     PortfolioProductType.SHARES.getValue(), accountMappingTypeId);
 
             if (accountMappingTypeId == CashAccountsForShares.SHARES_REFERENCE.getValue()) {
-                final ProductToGLAccountMapping paymentChannelSpecificAccountMapping = this.accountMappingRepository
-                        .findByProductIdAndProductTypeAndFinancialAccountTypeAndPaymentTypeId(shareProductId,
-                                PortfolioProductType.SHARES.getValue(), accountMappingTypeId, paymentTypeId);
+                final ProductToGLAccountMapping paymentChannelSpecificAccountMapping = findPaymentTypeSpecificMapping(shareProductId,
+                        PortfolioProductType.SHARES.getValue(), accountMappingTypeId, paymentTypeId);
                 if (paymentChannelSpecificAccountMapping != null) {
                     accountMapping = paymentChannelSpecificAccountMapping;
                 }
@@ -1193,7 +1190,7 @@ public class AccountingProcessorHelper {
     }
 
     private GLAccount getLinkedGLAccountForShareCharges(final Long shareProductId, final int accountMappingTypeId, final Long chargeId) {
-        ProductToGLAccountMapping accountMapping = this.accountMappingRepository.findCoreProductToFinAccountMapping(shareProductId,
+        ProductToGLAccountMapping accountMapping = findCoreProductToFinAccountMapping(shareProductId,
                 PortfolioProductType.SHARES.getValue(), accountMappingTypeId);
         /*****
          * Get more specific mappings for Charges and penalties (based on the actual charge /penalty coupled with the
@@ -1201,9 +1198,8 @@ public class AccountingProcessorHelper {
          * cash and accrual based accounts
          *****/
 
-        final ProductToGLAccountMapping chargeSpecificIncomeAccountMapping = this.accountMappingRepository
-                .findProductIdAndProductTypeAndFinancialAccountTypeAndChargeId(shareProductId, PortfolioProductType.SHARES.getValue(),
-                        accountMappingTypeId, chargeId);
+        final ProductToGLAccountMapping chargeSpecificIncomeAccountMapping = findChargeSpecificMapping(shareProductId,
+                PortfolioProductType.SHARES.getValue(), accountMappingTypeId, chargeId);
         if (chargeSpecificIncomeAccountMapping != null) {
             accountMapping = chargeSpecificIncomeAccountMapping;
         }
@@ -1286,6 +1282,11 @@ public class AccountingProcessorHelper {
 
     public JournalEntry persistJournalEntry(JournalEntry journalEntry) {
         boolean isNew = journalEntry.isNew();
+        if (isNew && journalEntryBatchWriter.isCollecting()) {
+            // written (and announced) together with the other legs when the enclosing batch completes
+            journalEntryBatchWriter.add(journalEntry);
+            return journalEntry;
+        }
         JournalEntry savedJournalEntry = this.glJournalEntryRepository.saveAndFlush(journalEntry);
         if (isNew && journalEntry.getLoanTransactionId() != null) {
             businessEventNotifierService.notifyPostBusinessEvent(new LoanJournalEntryCreatedBusinessEvent(savedJournalEntry));
@@ -1293,6 +1294,40 @@ public class AccountingProcessorHelper {
         return savedJournalEntry;
     }
 
+    /**
+     * Runs the given journal entry creation with all new legs collected and written in one batch at the end, when batched
+     * journal entry writes are enabled. Otherwise every leg is persisted as it is created.
+     */
+    public void persistJournalEntriesInBatch(Runnable journalEntryCreation) {
+        List<JournalEntry> savedJournalEntries = journalEntryBatchWriter.collect(journalEntryCreation);
+        for (JournalEntry savedJournalEntry : savedJournalEntries) {
+            if (savedJournalEntry.getLoanTransactionId() != null) {
+                businessEventNotifierService.notifyPostBusinessEvent(new LoanJournalEntryCreatedBusinessEvent(savedJournalEntry));
+            }
+        }
+    }
+
+    private ProductToGLAccountMapping findCoreProductToFinAccountMapping(final Long productId, final int productType,
+            final int financialAccountType) {
+        return journalEntryBatchWriter.cachedMapping(Arrays.asList("core", productId, productType, financialAccountType),
+                () -> accountMappingRepository.findCoreProductToFinAccountMapping(productId, productType, financialAccountType));
+    }
+
+    private ProductToGLAccountMapping findPaymentTypeSpecificMapping(final Long productId, final int productType,
+            final int financialAccountType, final Long paymentTypeId) {
+        List<Object> key = Arrays.asList("paymentType", productId, productType, financialAccountType, paymentTypeId);
+        return journalEntryBatchWriter.cachedMapping(key,
+                () -> accountMappingRepository.findByProductIdAndProductTypeAndFinancialAccountTypeAndPaymentTypeId(productId, productType,
+                        financialAccountType, paymentTypeId));
+    }
+
+    private ProductToGLAccountMapping findChargeSpecificMapping(final Long productId, final int productType, final int financialAccountType,
+            final Long chargeId) {
+        return journalEntryBatchWriter.cachedMapping(Arrays.asList("charge", productId, productType, financialAccountType, chargeId),
+                () -> accountMappingRepository.findProductIdAndProductTypeAndFinancialAccountTypeAndChargeId(productId, productType,
+                        financialAccountType, chargeId));
+    }
+
     private void createJournalEntriesForLoanChargesInternal(final Office office, final String currencyCode, final int accountMappingTypeId,
             final Long loanProductId, final Long loanId, final String transactionId, final LocalDate transactionDate,
             final BigDecimal totalAmount, final List<ChargePaymentDTO> chargePaymentDTOs, final boolean isCredit) {
@@ -0,0 +1,244 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.accounting.journalentry.service;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.accounting.journalentry.domain.JournalEntry;
+import org.apache.fineract.accounting.journalentry.domain.JournalEntryRepository;
+import org.apache.fineract.accounting.journalentry.exception.JournalEntryInvalidException;
+import org.apache.fineract.accounting.journalentry.exception.JournalEntryInvalidException.GlJournalEntryInvalidReason;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+
+/**
+ * Collects the journal entry legs of one business transaction and writes them with a single JDBC batch.
+ *
+ * While a batch is open on the current thread, {@link AccountingProcessorHelper} hands new entries to this writer
+ * instead of flushing them one by one through JPA. When the outermost batch is closed the legs are checked for a zero
+ * debit/credit balance per currency in memory, the persistence context is flushed once and the legs are inserted in one
+ * round trip. Product to GL account mappings resolved while the batch is open are cached for its lifetime.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class JournalEntryBatchWriter {
+
+    private static final String INSERT_SQL = "INSERT INTO acc_gl_journal_entry (office_id, payment_details_id, account_id, "
+            + "currency_code, transaction_id, loan_transaction_id, savings_transaction_id, client_transaction_id, share_transaction_id, "
+            + "reversed, manual_entry, entry_date, type_enum, amount, description, entity_type_enum, entity_id, ref_num, "
+            + "submitted_on_date, created_by, created_on_utc, last_modified_by, last_modified_on_utc) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final ThreadLocal<Batch> currentBatch = new ThreadLocal<>();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JournalEntryRepository journalEntryRepository;
+    private final AuditorAware<Long> auditorAware;
+    private final FineractProperties fineractProperties;
+
+    public boolean isEnabled() {
+        FineractProperties.FineractAccountingProperties accounting = fineractProperties.getAccounting();
+        return accounting != null && accounting.getJournalEntryBatch() != null && accounting.getJournalEntryBatch().isEnabled();
+    }
+
+    public boolean isCollecting() {
+        return currentBatch.get() != null;
+    }
+
+    /**
+     * Runs the given action with a batch open and writes the collected legs when the outermost action completes.
+     *
+     * @return the inserted journal entries, in the order they were collected (empty for nested or disabled calls)
+     */
+    public List<JournalEntry> collect(Runnable action) {
+        if (!isEnabled()) {
+            action.run();
+            return List.of();
+        }
+        if (isCollecting()) {
+            // the enclosing call owns the batch and writes the legs collected here as well
+            action.run();
+            return List.of();
+        }
+        Batch batch = new Batch();
+        currentBatch.set(batch);
+        try {
+            action.run();
+        } finally {
+            currentBatch.remove();
+        }
+        return write(batch.entries);
+    }
+
+    public void add(JournalEntry journalEntry) {
+        Batch batch = currentBatch.get();
+        if (batch == null) {
+            throw new IllegalStateException("No journal entry batch is open on this thread");
+        }
+        batch.entries.add(journalEntry);
+    }
+
+    /**
+     * Returns the cached value for the given mapping key, resolving it once per open batch. Outside a batch the lookup
+     * always goes to the supplier.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T cachedMapping(List<Object> key, Supplier<T> lookup) {
+        Batch batch = currentBatch.get();
+        if (batch == null) {
+            return lookup.get();
+        }
+        Optional<Object> cached = batch.mappings.get(key);
+        if (cached == null) {
+            cached = Optional.ofNullable(lookup.get());
+            batch.mappings.put(key, cached);
+        }
+        return (T) cached.orElse(null);
+    }
+
+    private List<JournalEntry> write(List<JournalEntry> entries) {
+        if (entries.isEmpty()) {
+            return entries;
+        }
+        validateBalanced(entries);
+
+        // one flush so that rows referenced by the batch (transactions, payment details) are visible to JDBC
+        journalEntryRepository.flush();
+
+        Long auditor = auditorAware.getCurrentAuditor().orElse(null);
+        OffsetDateTime now = DateUtils.getAuditOffsetDateTime();
+        for (JournalEntry entry : entries) {
+            entry.setCreatedBy(auditor);
+            entry.setCreatedDate(now);
+            entry.setLastModifiedBy(auditor);
+            entry.setLastModifiedDate(now);
+        }
+
+        GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(con -> con.prepareStatement(INSERT_SQL, new String[] { "id" }), new BatchPreparedStatementSetter() {
+
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                bind(ps, entries.get(i));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return entries.size();
+            }
+        }, keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        if (keys.size() != entries.size()) {
+            throw new IllegalStateException("Expected " + entries.size() + " generated journal entry ids but got " + keys.size());
+        }
+        for (int i = 0; i < entries.size(); i++) {
+            entries.get(i).setId(generatedId(keys.get(i)));
+        }
+        log.debug("Inserted {} journal entries in one batch", entries.size());
+        return entries;
+    }
+
+    private static void validateBalanced(List<JournalEntry> entries) {
+        Map<String, BigDecimal> balanceByCurrency = new LinkedHashMap<>();
+        for (JournalEntry entry : entries) {
+            BigDecimal amount = entry.isDebitEntry() ? entry.getAmount() : entry.getAmount().negate();
+            balanceByCurrency.merge(entry.getCurrencyCode(), amount, BigDecimal::add);
+        }
+        for (BigDecimal balance : balanceByCurrency.values()) {
+            if (balance.compareTo(BigDecimal.ZERO) != 0) {
+                JournalEntry first = entries.get(0);
+                throw new JournalEntryInvalidException(GlJournalEntryInvalidReason.DEBIT_CREDIT_SUM_MISMATCH, first.getTransactionDate(),
+                        null, null);
+            }
+        }
+    }
+
+    private static void bind(PreparedStatement ps, JournalEntry entry) throws SQLException {
+        ps.setLong(1, entry.getOffice().getId());
+        setLong(ps, 2, entry.getPaymentDetail() == null ? null : entry.getPaymentDetail().getId());
+        ps.setLong(3, entry.getGlAccount().getId());
+        ps.setString(4, entry.getCurrencyCode());
+        ps.setString(5, entry.getTransactionId());
+        setLong(ps, 6, entry.getLoanTransactionId());
+        setLong(ps, 7, entry.getSavingsTransactionId());
+        setLong(ps, 8, entry.getClientTransactionId());
+        setLong(ps, 9, entry.getShareTransactionId());
+        ps.setBoolean(10, entry.isReversed());
+        ps.setBoolean(11, entry.isManualEntry());
+        ps.setObject(12, entry.getTransactionDate());
+        ps.setInt(13, entry.getType());
+        ps.setBigDecimal(14, entry.getAmount());
+        ps.setString(15, entry.getDescription());
+        if (entry.getEntityType() == null) {
+            ps.setNull(16, Types.SMALLINT);
+        } else {
+            ps.setInt(16, entry.getEntityType());
+        }
+        setLong(ps, 17, entry.getEntityId());
+        ps.setString(18, entry.getReferenceNumber());
+        ps.setObject(19, entry.getSubmittedOnDate());
+        setLong(ps, 20, entry.getCreatedBy().orElse(null));
+        ps.setObject(21, entry.getCreatedDate().orElse(null));
+        setLong(ps, 22, entry.getLastModifiedBy().orElse(null));
+        ps.setObject(23, entry.getLastModifiedDate().orElse(null));
+    }
+
+    private static void setLong(PreparedStatement ps, int index, Long value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.BIGINT);
+        } else {
+            ps.setLong(index, value);
+        }
+    }
+
+    private static Long generatedId(Map<String, Object> key) {
+        Object id = key.get("id");
+        if (id == null) {
+            // MySQL and MariaDB report the key under a driver specific name
+            id = key.values().stream().filter(Number.class::isInstance).findFirst().orElse(null);
+        }
+        if (id == null) {
+            throw new IllegalStateException("No generated id returned for journal entry: " + key);
+        }
+        return ((Number) id).longValue();
+    }
+
+    private static final class Batch {
+
+        private final List<JournalEntry> entries = new ArrayList<>();
+        private final Map<List<Object>, Optional<Object>> mappings = new HashMap<>();
+    }
+}
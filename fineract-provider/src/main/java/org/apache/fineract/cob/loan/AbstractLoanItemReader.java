@@ -57,7 +57,10 @@ public abstract class AbstractLoanItemReader implements ItemReader<Loan> {
 
     @AfterStep
     public ExitStatus afterStep(@NotNull StepExecution stepExecution) {
+        onAfterStep();
         return ExitStatus.COMPLETED;
     }
 
+    protected void onAfterStep() {}
+
 }
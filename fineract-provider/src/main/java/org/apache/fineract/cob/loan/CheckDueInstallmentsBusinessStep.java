@@ -40,6 +40,7 @@ import org.springframework.stereotype.Component;
 public class CheckDueInstallmentsBusinessStep implements LoanCOBBusinessStep {
 
     private final BusinessEventNotifierService businessEventNotifierService;
+    private final LoanInstallmentDueDateIndex loanInstallmentDueDateIndex;
 
     @Override
     public Loan execute(Loan loan) {
@@ -47,6 +48,10 @@ public class CheckDueInstallmentsBusinessStep implements LoanCOBBusinessStep {
             log.debug("Ignoring custom snapshot event processing for null loan.");
             return null;
         }
+        if (loanInstallmentDueDateIndex.hasNoInstallmentDueOn(loan.getId(), DateUtils.getBusinessLocalDate())) {
+            log.debug("Ignoring custom snapshot event processing for loan with id [{}], no installment is due.", loan.getId());
+            return loan;
+        }
 
         String externalId = Optional.ofNullable(loan.getExternalId()).map(ExternalId::getValue).orElse(null);
         measure(new Runnable() {
@@ -31,6 +31,8 @@ import org.apache.fineract.infrastructure.event.business.service.BusinessEventNo
 import org.apache.fineract.portfolio.loanaccount.domain.Loan;
 import org.apache.fineract.portfolio.loanaccount.domain.LoanRepaymentScheduleInstallment;
 import org.apache.fineract.portfolio.loanaccount.domain.LoanStatus;
+import org.apache.fineract.portfolio.loanproduct.data.LoanProductSnapshot;
+import org.apache.fineract.portfolio.loanproduct.service.LoanProductSnapshotService;
 import org.springframework.stereotype.Component;
 
 @Slf4j
@@ -40,17 +42,24 @@ public class CheckLoanRepaymentDueBusinessStep implements LoanCOBBusinessStep {
 
     private final ConfigurationDomainService configurationDomainService;
     private final BusinessEventNotifierService businessEventNotifierService;
+    private final LoanProductSnapshotService loanProductSnapshotService;
+    private final LoanInstallmentDueDateIndex loanInstallmentDueDateIndex;
 
     @Override
     public Loan execute(Loan loan) {
         log.debug("start processing loan repayment due business step loan for loan with id [{}]", loan.getId());
         Long numberOfDaysBeforeDueDateToRaiseEvent = configurationDomainService.retrieveRepaymentDueDays();
-        if (loan.getLoanProduct().getDueDaysForRepaymentEvent() != null) {
-            if (loan.getLoanProduct().getDueDaysForRepaymentEvent() > 0) {
-                numberOfDaysBeforeDueDateToRaiseEvent = loan.getLoanProduct().getDueDaysForRepaymentEvent().longValue();
+        final Integer dueDaysForRepaymentEvent = loanProduct(loan).dueDaysForRepaymentEvent();
+        if (dueDaysForRepaymentEvent != null) {
+            if (dueDaysForRepaymentEvent > 0) {
+                numberOfDaysBeforeDueDateToRaiseEvent = dueDaysForRepaymentEvent.longValue();
             }
         }
         final LocalDate currentDate = DateUtils.getBusinessLocalDate();
+        if (loanInstallmentDueDateIndex.hasNoInstallmentDueOn(loan.getId(), currentDate.plusDays(numberOfDaysBeforeDueDateToRaiseEvent))) {
+            log.debug("skipping loan repayment due business step for loan with id [{}], no installment is due", loan.getId());
+            return loan;
+        }
         final List<LoanRepaymentScheduleInstallment> loanRepaymentScheduleInstallments = loan.getRepaymentScheduleInstallments();
         for (LoanRepaymentScheduleInstallment repaymentSchedule : loanRepaymentScheduleInstallments) {
             LocalDate repaymentDate = repaymentSchedule.getDueDate();
@@ -66,6 +75,12 @@ public class CheckLoanRepaymentDueBusinessStep implements LoanCOBBusinessStep {
         return loan;
     }
 
+    private LoanProductSnapshot loanProduct(final Loan loan) {
+        final Long loanProductId = this.loanProductSnapshotService.isEnabled() ? loan.getLoanProductId() : null;
+        return loanProductId == null ? LoanProductSnapshot.of(loan.getLoanProduct())
+                : this.loanProductSnapshotService.retrieveSnapshot(loanProductId);
+    }
+
     @Override
     public String getEnumStyledName() {
         return "CHECK_LOAN_REPAYMENT_DUE";
@@ -31,6 +31,8 @@ import org.apache.fineract.infrastructure.event.business.service.BusinessEventNo
 import org.apache.fineract.portfolio.loanaccount.domain.Loan;
 import org.apache.fineract.portfolio.loanaccount.domain.LoanRepaymentScheduleInstallment;
 import org.apache.fineract.portfolio.loanaccount.domain.LoanStatus;
+import org.apache.fineract.portfolio.loanproduct.data.LoanProductSnapshot;
+import org.apache.fineract.portfolio.loanproduct.service.LoanProductSnapshotService;
 import org.springframework.stereotype.Component;
 
 @Slf4j
@@ -40,6 +42,8 @@ public class CheckLoanRepaymentOverdueBusinessStep implements LoanCOBBusinessSte
 
     private final ConfigurationDomainService configurationDomainService;
     private final BusinessEventNotifierService businessEventNotifierService;
+    private final LoanProductSnapshotService loanProductSnapshotService;
+    private final LoanInstallmentDueDateIndex loanInstallmentDueDateIndex;
 
     @Override
     public Loan execute(Loan loan) {
@@ -48,12 +52,18 @@ public class CheckLoanRepaymentOverdueBusinessStep implements LoanCOBBusinessSte
         if (!nonDisbursedStatuses.contains(loan.getStatus()) && loan.getSummary().getTotalOutstanding().compareTo(BigDecimal.ZERO) > 0) {
             log.debug("start processing loan repayment overdue business step for loan with Id [{}]", loan.getId());
             Long numberOfDaysAfterDueDateToRaiseEvent = configurationDomainService.retrieveRepaymentOverdueDays();
-            if (loan.getLoanProduct().getOverDueDaysForRepaymentEvent() != null) {
-                if (loan.getLoanProduct().getOverDueDaysForRepaymentEvent() > 0) {
-                    numberOfDaysAfterDueDateToRaiseEvent = loan.getLoanProduct().getOverDueDaysForRepaymentEvent().longValue();
+            final Integer overDueDaysForRepaymentEvent = loanProduct(loan).overDueDaysForRepaymentEvent();
+            if (overDueDaysForRepaymentEvent != null) {
+                if (overDueDaysForRepaymentEvent > 0) {
+                    numberOfDaysAfterDueDateToRaiseEvent = overDueDaysForRepaymentEvent.longValue();
                 }
             }
             final LocalDate currentDate = DateUtils.getBusinessLocalDate();
+            if (loanInstallmentDueDateIndex.hasNoInstallmentDueOn(loan.getId(),
+                    currentDate.minusDays(numberOfDaysAfterDueDateToRaiseEvent))) {
+                log.debug("skipping loan repayment overdue business step for loan with Id [{}], no installment is overdue", loan.getId());
+                return loan;
+            }
             final List<LoanRepaymentScheduleInstallment> loanRepaymentScheduleInstallments = loan.getRepaymentScheduleInstallments();
             for (LoanRepaymentScheduleInstallment repaymentSchedule : loanRepaymentScheduleInstallments) {
                 if (!repaymentSchedule.isObligationsMet()) {
@@ -70,6 +80,12 @@ public class CheckLoanRepaymentOverdueBusinessStep implements LoanCOBBusinessSte
         return loan;
     }
 
+    private LoanProductSnapshot loanProduct(final Loan loan) {
+        final Long loanProductId = this.loanProductSnapshotService.isEnabled() ? loan.getLoanProductId() : null;
+        return loanProductId == null ? LoanProductSnapshot.of(loan.getLoanProduct())
+                : this.loanProductSnapshotService.retrieveSnapshot(loanProductId);
+    }
+
     @Override
     public String getEnumStyledName() {
         return "CHECK_LOAN_REPAYMENT_OVERDUE";
@@ -79,12 +79,14 @@ public class LoanCOBManagerConfiguration {
     private BusinessEventNotifierService businessEventNotifierService;
     @Autowired
     private CustomJobParameterResolver customJobParameterResolver;
+    @Autowired
+    private LoanCOBStepPreClassifier loanCOBStepPreClassifier;
 
     @Bean
     @StepScope
     public LoanCOBPartitioner partitioner() {
         return new LoanCOBPartitioner(propertyService, cobBusinessStepService, retrieveLoanIdService, jobOperator, jobExplorer,
-                LoanCOBConstant.NUMBER_OF_DAYS_BEHIND);
+                loanCOBStepPreClassifier, LoanCOBConstant.NUMBER_OF_DAYS_BEHIND);
     }
 
     @Bean
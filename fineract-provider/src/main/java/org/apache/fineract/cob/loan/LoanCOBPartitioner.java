@@ -22,6 +22,7 @@ import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
@@ -31,6 +32,7 @@ import org.apache.fineract.cob.COBBusinessStepService;
 import org.apache.fineract.cob.data.BusinessStepNameAndOrder;
 import org.apache.fineract.cob.data.LoanCOBParameter;
 import org.apache.fineract.cob.data.LoanCOBPartition;
+import org.apache.fineract.cob.data.LoanCOBPreClassification;
 import org.apache.fineract.infrastructure.jobs.service.JobName;
 import org.apache.fineract.infrastructure.springbatch.PropertyService;
 import org.jetbrains.annotations.NotNull;
@@ -55,6 +57,7 @@ public class LoanCOBPartitioner implements Partitioner {
     private final RetrieveLoanIdService retrieveLoanIdService;
     private final JobOperator jobOperator;
     private final JobExplorer jobExplorer;
+    private final LoanCOBStepPreClassifier loanCOBStepPreClassifier;
 
     private final Long numberOfDays;
 
@@ -79,6 +82,7 @@ public class LoanCOBPartitioner implements Partitioner {
             stopJobExecution();
             return Map.of();
         }
+        closeLoansWithoutCOBWork(partitionSize, cobBusinessSteps);
         StopWatch sw = new StopWatch();
         sw.start();
         List<LoanCOBPartition> loanCOBPartitions = new ArrayList<>(
@@ -96,6 +100,20 @@ public class LoanCOBPartitioner implements Partitioner {
                 .collect(Collectors.toMap(l -> PARTITION_PREFIX + l.getPageNo(), l -> createNewPartition(cobBusinessSteps, l)));
     }
 
+    private void closeLoansWithoutCOBWork(int partitionSize, Set<BusinessStepNameAndOrder> cobBusinessSteps) {
+        Optional<LoanCOBPreClassification> preClassification = loanCOBStepPreClassifier.classify(cobBusinessSteps, businessDate);
+        if (preClassification.isEmpty()) {
+            return;
+        }
+        StopWatch sw = new StopWatch();
+        sw.start();
+        int closedLoans = retrieveLoanIdService.closeLoansWithoutCOBWork(numberOfDays, businessDate, preClassification.get(),
+                partitionSize);
+        sw.stop();
+        log.info("LoanCOBPartitioner closed {} loans without any business step work for {}. Pre-classification was executed in {} ms.",
+                closedLoans, businessDate, sw.getTotalTimeMillis());
+    }
+
     private long getLoanCount(List<LoanCOBPartition> loanCOBPartitions) {
         return loanCOBPartitions.stream().map(LoanCOBPartition::getCount).reduce(0L, Long::sum);
     }
@@ -0,0 +1,122 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cob.loan;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.accounting.common.AccountingRuleType;
+import org.apache.fineract.cob.data.BusinessStepNameAndOrder;
+import org.apache.fineract.cob.data.LoanCOBPreClassification;
+import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanStatus;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Pre-classifies loans before the Loan COB partitions are created.
+ * <p>
+ * Every known business step has a conservative SQL condition telling whether the step may change the loan on the COB
+ * date. The conditions of the configured steps are combined, so that loans matching none of them can be closed for the
+ * COB date in bulk instead of being locked, loaded and passed through every step. If a configured step has no known
+ * condition (e.g. a custom step) no classification is made and every loan is processed as before.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LoanCOBStepPreClassifier {
+
+    private static final String HAS_UNPAID_INSTALLMENT_DUE = "exists (select 1 from m_loan_repayment_schedule rs where rs.loan_id = l.id "
+            + "and rs.completed_derived is false and rs.duedate <= :businessDate)";
+    private static final String HAS_INSTALLMENT_DUE_IN_EVENT_WINDOW = "exists (select 1 from m_loan_repayment_schedule rs "
+            + "where rs.loan_id = l.id and rs.duedate between :eventWindowStart and :eventWindowEnd)";
+    private static final String HAS_DELINQUENCY_STATE = "exists (select 1 from m_loan_delinquency_tag_history dth "
+            + "where dth.loan_id = l.id and dth.liftedon_date is null) "
+            + "or exists (select 1 from m_loan_installment_delinquency_tag idt where idt.loan_id = l.id) "
+            + "or exists (select 1 from m_loan_delinquency_action da where da.loan_id = l.id)";
+    private static final String HAS_ARREARS_AGEING = "exists (select 1 from m_loan_arrears_aging laa where laa.loan_id = l.id)";
+    private static final String IS_ACTIVE_WITH_PERIODIC_ACCRUAL = "l.loan_status_id = :activeStatus and exists (select 1 "
+            + "from m_product_loan pl where pl.id = l.product_id and pl.accounting_type = :periodicAccrual)";
+    private static final String IS_ACTIVE_WITH_ACCRUAL_ACTIVITY_POSTING = "l.loan_status_id = :activeStatus "
+            + "and l.enable_accrual_activity_posting is true";
+    private static final String HAS_OWNER_TRANSFER_SETTLEMENT = "exists (select 1 from m_external_asset_owner_transfer eaot "
+            + "where eaot.loan_id = l.id and eaot.settlement_date = :businessDate)";
+
+    private static final String PRODUCT_MAX_DUE_DAYS = "select max(due_days_for_repayment_event) from m_product_loan";
+    private static final String PRODUCT_MAX_OVERDUE_DAYS = "select max(overdue_days_for_repayment_event) from m_product_loan";
+
+    private static final Map<String, String> WORK_CONDITIONS = Map.of( //
+            "ADD_PERIODIC_ACCRUAL_ENTRIES", IS_ACTIVE_WITH_PERIODIC_ACCRUAL, //
+            "ACCRUAL_ACTIVITY_POSTING", IS_ACTIVE_WITH_ACCRUAL_ACTIVITY_POSTING, //
+            "APPLY_CHARGE_TO_OVERDUE_LOANS", HAS_UNPAID_INSTALLMENT_DUE, //
+            "LOAN_INTEREST_RECALCULATION", HAS_UNPAID_INSTALLMENT_DUE, //
+            "UPDATE_LOAN_ARREARS_AGING", HAS_UNPAID_INSTALLMENT_DUE + " or " + HAS_ARREARS_AGEING, //
+            "LOAN_DELINQUENCY_CLASSIFICATION", HAS_UNPAID_INSTALLMENT_DUE + " or " + HAS_DELINQUENCY_STATE, //
+            "CHECK_LOAN_REPAYMENT_DUE", HAS_INSTALLMENT_DUE_IN_EVENT_WINDOW, //
+            "CHECK_LOAN_REPAYMENT_OVERDUE", HAS_INSTALLMENT_DUE_IN_EVENT_WINDOW, //
+            "CHECK_DUE_INSTALLMENTS", HAS_INSTALLMENT_DUE_IN_EVENT_WINDOW, //
+            "EXTERNAL_ASSET_OWNER_TRANSFER", HAS_OWNER_TRANSFER_SETTLEMENT);
+
+    private final ApplicationContext applicationContext;
+    private final ConfigurationDomainService configurationDomainService;
+    private final JdbcTemplate jdbcTemplate;
+    private final FineractProperties fineractProperties;
+
+    public boolean isEnabled() {
+        return fineractProperties.getJob().isLoanCobPreClassificationEnabled();
+    }
+
+    public Optional<LoanCOBPreClassification> classify(Set<BusinessStepNameAndOrder> cobBusinessSteps, LocalDate businessDate) {
+        if (!isEnabled() || cobBusinessSteps.isEmpty()) {
+            return Optional.empty();
+        }
+        Set<String> workConditions = new LinkedHashSet<>();
+        for (BusinessStepNameAndOrder cobBusinessStep : cobBusinessSteps) {
+            String stepName = applicationContext.getBean(cobBusinessStep.getStepName(), LoanCOBBusinessStep.class).getEnumStyledName();
+            String workCondition = WORK_CONDITIONS.get(stepName);
+            if (workCondition == null) {
+                log.info("Loan COB pre-classification is skipped, business step [{}] has no work condition", stepName);
+                return Optional.empty();
+            }
+            workConditions.add("(" + workCondition + ")");
+        }
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("businessDate", businessDate);
+        long overdueDays = maxDays(configurationDomainService.retrieveRepaymentOverdueDays(), PRODUCT_MAX_OVERDUE_DAYS);
+        long dueDays = maxDays(configurationDomainService.retrieveRepaymentDueDays(), PRODUCT_MAX_DUE_DAYS);
+        parameters.put("eventWindowStart", businessDate.minusDays(overdueDays));
+        parameters.put("eventWindowEnd", businessDate.plusDays(dueDays));
+        parameters.put("activeStatus", LoanStatus.ACTIVE.getValue());
+        parameters.put("periodicAccrual", AccountingRuleType.ACCRUAL_PERIODIC.getValue());
+        return Optional.of(new LoanCOBPreClassification("(" + String.join(" or ", workConditions) + ")", parameters));
+    }
+
+    private long maxDays(Long globalDays, String productMaxDaysSql) {
+        Integer productMaxDays = jdbcTemplate.queryForObject(productMaxDaysSql, Integer.class);
+        return Math.max(Objects.requireNonNullElse(globalDays, 0L), Objects.requireNonNullElse(productMaxDays, 0));
+    }
+}
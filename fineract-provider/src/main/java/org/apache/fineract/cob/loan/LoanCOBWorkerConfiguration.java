@@ -80,6 +80,8 @@ public class LoanCOBWorkerConfiguration {
     private FineractProperties fineractProperties;
     @Autowired
     private LoanLockingService loanLockingService;
+    @Autowired
+    private LoanInstallmentDueDateIndex loanInstallmentDueDateIndex;
 
     @Autowired
     private CustomJobParameterResolver customJobParameterResolver;
@@ -177,7 +179,8 @@ public class LoanCOBWorkerConfiguration {
     @Bean
     @StepScope
     public LoanItemReader cobWorkerItemReader() {
-        return new LoanItemReader(loanRepository, retrieveLoanIdService, customJobParameterResolver, loanLockingService);
+        return new LoanItemReader(loanRepository, retrieveLoanIdService, customJobParameterResolver, loanLockingService,
+                loanInstallmentDueDateIndex);
     }
 
     @Bean
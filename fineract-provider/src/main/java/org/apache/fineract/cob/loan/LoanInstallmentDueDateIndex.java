@@ -0,0 +1,117 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cob.loan;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.cob.data.LoanCOBParameter;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Set based pre-pass for the due / overdue installment checks of the Loan COB business steps.
+ * <p>
+ * While a Loan COB partition is being processed, the first lookup of a due date runs a single indexed query over
+ * {@code m_loan_repayment_schedule} for the loan id range of the partition and remembers which loans have an installment
+ * due on that date. The business steps use it to return early for loans that cannot raise an event, instead of walking
+ * every installment of every loan. Outside of a partition (e.g. inline COB) nothing is known and the steps fall back to
+ * the full check.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LoanInstallmentDueDateIndex {
+
+    private static final String LOAN_IDS_WITH_INSTALLMENT_DUE_ON = "SELECT DISTINCT rs.loan_id FROM m_loan_repayment_schedule rs "
+            + "WHERE rs.duedate = ? AND rs.loan_id BETWEEN ? AND ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final FineractProperties fineractProperties;
+
+    private final Map<PartitionKey, Map<LocalDate, Set<Long>>> partitions = new ConcurrentHashMap<>();
+
+    public boolean isEnabled() {
+        return fineractProperties.getJob().isLoanCobDueDatePrefilterEnabled();
+    }
+
+    public void open(LoanCOBParameter loanCOBParameter) {
+        if (isEnabled() && hasLoanIdRange(loanCOBParameter)) {
+            partitions.put(partitionKey(loanCOBParameter), new ConcurrentHashMap<>());
+        }
+    }
+
+    public void close(LoanCOBParameter loanCOBParameter) {
+        if (hasLoanIdRange(loanCOBParameter)) {
+            partitions.remove(partitionKey(loanCOBParameter));
+        }
+    }
+
+    /**
+     * Tells whether the loan is known to have no installment due on the given date.
+     *
+     * @return true only if the loan belongs to an open partition and the pre-pass found no installment of the loan due on
+     *         the date, false when the loan has such an installment or nothing is known about it
+     */
+    public boolean hasNoInstallmentDueOn(Long loanId, LocalDate dueDate) {
+        if (loanId == null || dueDate == null || partitions.isEmpty()) {
+            return false;
+        }
+        String tenantIdentifier = ThreadLocalContextUtil.getTenant().getTenantIdentifier();
+        for (Map.Entry<PartitionKey, Map<LocalDate, Set<Long>>> partition : partitions.entrySet()) {
+            PartitionKey key = partition.getKey();
+            if (key.covers(tenantIdentifier, loanId)) {
+                Set<Long> loanIds = partition.getValue().computeIfAbsent(dueDate, date -> retrieveLoanIdsWithInstallmentDueOn(key, date));
+                return !loanIds.contains(loanId);
+            }
+        }
+        return false;
+    }
+
+    private Set<Long> retrieveLoanIdsWithInstallmentDueOn(PartitionKey key, LocalDate dueDate) {
+        Set<Long> loanIds = new HashSet<>(
+                jdbcTemplate.queryForList(LOAN_IDS_WITH_INSTALLMENT_DUE_ON, Long.class, dueDate, key.minLoanId(), key.maxLoanId()));
+        log.debug("Found [{}] loans with installment due on [{}] between loan ids [{}] and [{}]", loanIds.size(), dueDate,
+                key.minLoanId(), key.maxLoanId());
+        return loanIds;
+    }
+
+    private static boolean hasLoanIdRange(LoanCOBParameter loanCOBParameter) {
+        return loanCOBParameter != null && loanCOBParameter.getMinLoanId() != null && loanCOBParameter.getMaxLoanId() != null;
+    }
+
+    private static PartitionKey partitionKey(LoanCOBParameter loanCOBParameter) {
+        return new PartitionKey(ThreadLocalContextUtil.getTenant().getTenantIdentifier(), loanCOBParameter.getMinLoanId(),
+                loanCOBParameter.getMaxLoanId());
+    }
+
+    private record PartitionKey(String tenantIdentifier, Long minLoanId, Long maxLoanId) {
+
+        boolean covers(String tenantIdentifier, Long loanId) {
+            return Objects.equals(this.tenantIdentifier, tenantIdentifier) && minLoanId <= loanId && loanId <= maxLoanId;
+        }
+    }
+}
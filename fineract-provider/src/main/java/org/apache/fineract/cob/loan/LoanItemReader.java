@@ -40,20 +40,24 @@ public class LoanItemReader extends AbstractLoanItemReader {
     private final RetrieveLoanIdService retrieveLoanIdService;
     private final CustomJobParameterResolver customJobParameterResolver;
     private final LoanLockingService loanLockingService;
+    private final LoanInstallmentDueDateIndex loanInstallmentDueDateIndex;
+    private LoanCOBParameter loanCOBParameter;
 
     public LoanItemReader(LoanRepository loanRepository, RetrieveLoanIdService retrieveLoanIdService,
-            CustomJobParameterResolver customJobParameterResolver, LoanLockingService loanLockingService) {
+            CustomJobParameterResolver customJobParameterResolver, LoanLockingService loanLockingService,
+            LoanInstallmentDueDateIndex loanInstallmentDueDateIndex) {
         super(loanRepository);
         this.retrieveLoanIdService = retrieveLoanIdService;
         this.customJobParameterResolver = customJobParameterResolver;
         this.loanLockingService = loanLockingService;
+        this.loanInstallmentDueDateIndex = loanInstallmentDueDateIndex;
     }
 
     @BeforeStep
     @SuppressWarnings({ "unchecked" })
     public void beforeStep(@NotNull StepExecution stepExecution) {
         ExecutionContext executionContext = stepExecution.getExecutionContext();
-        LoanCOBParameter loanCOBParameter = (LoanCOBParameter) executionContext.get(LoanCOBConstant.LOAN_COB_PARAMETER);
+        loanCOBParameter = (LoanCOBParameter) executionContext.get(LoanCOBConstant.LOAN_COB_PARAMETER);
         List<Long> loanIds;
         if (Objects.isNull(loanCOBParameter)
                 || (Objects.isNull(loanCOBParameter.getMinLoanId()) && Objects.isNull(loanCOBParameter.getMaxLoanId()))
@@ -67,10 +71,16 @@ public class LoanItemReader extends AbstractLoanItemReader {
                 List<Long> lockedByCOBChunkProcessingAccountIds = getLoanIdsLockedWithChunkProcessingLock(loanIds);
                 loanIds.retainAll(lockedByCOBChunkProcessingAccountIds);
             }
+            loanInstallmentDueDateIndex.open(loanCOBParameter);
         }
         setRemainingData(new LinkedBlockingQueue<>(loanIds));
     }
 
+    @Override
+    protected void onAfterStep() {
+        loanInstallmentDueDateIndex.close(loanCOBParameter);
+    }
+
     private List<Long> getLoanIdsLockedWithChunkProcessingLock(List<Long> loanIds) {
         List<LoanAccountLock> accountLocks = new ArrayList<>();
         accountLocks.addAll(loanLockingService.findAllByLoanIdInAndLockOwner(loanIds, LockOwner.LOAN_COB_CHUNK_PROCESSING));
@@ -25,9 +25,11 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.apache.fineract.cob.data.LoanCOBParameter;
 import org.apache.fineract.cob.data.LoanCOBPartition;
+import org.apache.fineract.cob.data.LoanCOBPreClassification;
 import org.apache.fineract.cob.data.LoanIdAndExternalIdAndAccountNo;
 import org.apache.fineract.cob.data.LoanIdAndLastClosedBusinessDate;
 import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
@@ -71,6 +73,34 @@ public class RetrieveAllNonClosedLoanIdServiceImpl implements RetrieveLoanIdServ
         return namedParameterJdbcTemplate.query(sql.toString(), parameters, RetrieveAllNonClosedLoanIdServiceImpl::mapRow);
     }
 
+    @Override
+    public int closeLoansWithoutCOBWork(Long numberOfDays, LocalDate businessDate, LoanCOBPreClassification preClassification,
+            int batchSize) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource(preClassification.getParameters());
+        parameters.addValue("statusIds", NON_CLOSED_LOAN_STATUSES.stream().map(LoanStatus::getValue).toList());
+        parameters.addValue("lastClosedBusinessDate", businessDate.minusDays(numberOfDays));
+        parameters.addValue("closedBusinessDate", businessDate);
+        Map<String, Object> range = namedParameterJdbcTemplate.queryForMap("select min(id) as min_id, max(id) as max_id from m_loan "
+                + "where loan_status_id in (:statusIds) and last_closed_business_date = :lastClosedBusinessDate", parameters);
+        if (range.get("min_id") == null) {
+            return 0;
+        }
+        long minId = ((Number) range.get("min_id")).longValue();
+        long maxId = ((Number) range.get("max_id")).longValue();
+        String sql = "update m_loan l set last_closed_business_date = :closedBusinessDate, version = version + 1 "
+                + "where l.id between :fromId and :toId and l.loan_status_id in (:statusIds) "
+                + "and l.last_closed_business_date = :lastClosedBusinessDate "
+                + "and not exists (select 1 from m_loan_account_locks lck where lck.loan_id = l.id) " //
+                + "and not " + preClassification.getWorkCondition();
+        int closed = 0;
+        for (long fromId = minId; fromId <= maxId; fromId += batchSize) {
+            parameters.addValue("fromId", fromId);
+            parameters.addValue("toId", Math.min(fromId + batchSize - 1, maxId));
+            closed += namedParameterJdbcTemplate.update(sql, parameters);
+        }
+        return closed;
+    }
+
     private static LoanCOBPartition mapRow(ResultSet rs, int rowNum) throws SQLException {
         return new LoanCOBPartition(rs.getLong("min"), rs.getLong("max"), rs.getLong("page"), rs.getLong("count"));
     }
@@ -35,6 +35,7 @@ import org.apache.fineract.infrastructure.event.business.service.BusinessEventNo
 import org.apache.fineract.portfolio.delinquency.domain.LoanDelinquencyAction;
 import org.apache.fineract.portfolio.delinquency.helper.DelinquencyEffectivePauseHelper;
 import org.apache.fineract.portfolio.delinquency.service.DelinquencyReadPlatformService;
+import org.apache.fineract.portfolio.delinquency.service.IncrementalDelinquencyClassifier;
 import org.apache.fineract.portfolio.delinquency.validator.LoanDelinquencyActionData;
 import org.apache.fineract.portfolio.loanaccount.domain.Loan;
 import org.apache.fineract.portfolio.loanaccount.domain.LoanAccountDomainService;
@@ -49,6 +50,7 @@ public class SetLoanDelinquencyTagsBusinessStep implements LoanCOBBusinessStep {
     private final DelinquencyEffectivePauseHelper delinquencyEffectivePauseHelper;
     private final DelinquencyReadPlatformService delinquencyReadPlatformService;
     private final BusinessEventNotifierService businessEventNotifierService;
+    private final IncrementalDelinquencyClassifier incrementalDelinquencyClassifier;
 
     @Override
     public Loan execute(Loan loan) {
@@ -78,10 +80,12 @@ public class SetLoanDelinquencyTagsBusinessStep implements LoanCOBBusinessStep {
                     List<LoanDelinquencyActionData> effectiveDelinquencyList = delinquencyEffectivePauseHelper
                             .calculateEffectiveDelinquencyList(savedDelinquencyList);
 
-                    if (!SetLoanDelinquencyTagsBusinessStep.this.isDelinquencyOnPause(loan, effectiveDelinquencyList)) {
-                        loanAccountDomainService.setLoanDelinquencyTag(loan, DateUtils.getBusinessLocalDate(), effectiveDelinquencyList);
-                    } else {
+                    if (SetLoanDelinquencyTagsBusinessStep.this.isDelinquencyOnPause(loan, effectiveDelinquencyList)) {
                         log.debug("Delinquency is on pause for loan with ID [{}]", loan.getId());
+                    } else if (incrementalDelinquencyClassifier.isEnabled()) {
+                        incrementalDelinquencyClassifier.classify(loan, DateUtils.getBusinessLocalDate(), effectiveDelinquencyList);
+                    } else {
+                        loanAccountDomainService.setLoanDelinquencyTag(loan, DateUtils.getBusinessLocalDate(), effectiveDelinquencyList);
                     }
                 } catch (RuntimeException re) {
                     log.error(
@@ -47,4 +47,14 @@ public class TaskExecutorConfig {
         threadPoolTaskExecutor.setMaxPoolSize(fineractProperties.getTaskExecutor().getDefaultTaskExecutorMaxPoolSize());
         return threadPoolTaskExecutor;
     }
+
+    @Bean(TaskExecutorConstant.USER_NOTIFICATION_TASK_EXECUTOR_BEAN_NAME)
+    public ThreadPoolTaskExecutor userNotificationTaskExecutor() {
+        ThreadPoolTaskExecutor threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
+        threadPoolTaskExecutor.setCorePoolSize(fineractProperties.getTaskExecutor().getUserNotificationTaskExecutorCorePoolSize());
+        threadPoolTaskExecutor.setMaxPoolSize(fineractProperties.getTaskExecutor().getUserNotificationTaskExecutorMaxPoolSize());
+        threadPoolTaskExecutor.setQueueCapacity(fineractProperties.getTaskExecutor().getUserNotificationTaskExecutorQueueCapacity());
+        threadPoolTaskExecutor.setThreadNamePrefix("user-notification-");
+        return threadPoolTaskExecutor;
+    }
 }
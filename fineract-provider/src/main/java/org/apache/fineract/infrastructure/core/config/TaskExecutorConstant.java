@@ -28,4 +28,5 @@ public final class TaskExecutorConstant {
     public static final String CONFIGURABLE_TASK_EXECUTOR_BEAN_NAME = "fineractConfigurableThreadPoolTaskExecutor";
     public static final String EVENT_TASK_EXECUTOR_BEAN_NAME = "externalEventJmsProducerExecutor";
     public static final String LOAN_COB_CATCH_UP_TASK_EXECUTOR_BEAN_NAME = "loanCOBCatchUpThreadPoolTaskExecutor";
+    public static final String USER_NOTIFICATION_TASK_EXECUTOR_BEAN_NAME = "userNotificationTaskExecutor";
 }
@@ -0,0 +1,82 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.dataqueries.service;
+
+import java.util.List;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.infrastructure.cache.service.TenantScopedCache;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractDatatableSchemaCacheProperties;
+import org.apache.fineract.infrastructure.core.service.database.IndexDetail;
+import org.apache.fineract.infrastructure.dataqueries.data.ResultsetColumnHeaderData;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the column headers and index definitions of datatables in memory, so that the information schema is not
+ * queried every time a datatable is read or written.
+ * <p>
+ * The entries are kept in {@link TenantScopedCache}s, which are invalidated by {@link #invalidate()} whenever a
+ * datatable, code or code value is changed on this instance. Changes made on other instances are picked up once the
+ * cached entries expire (<code>fineract.datatable.schema-cache.ttl</code>).
+ * <p>
+ * The cache is off by default (<code>fineract.datatable.schema-cache.enabled</code>): with several instances a datatable
+ * changed on one of them would be served with its old columns by the others until the TTL expires. Enable it only for
+ * a single instance, or when datatables are changed while the other instances are stopped.
+ * <p>
+ * The returned lists are shared between threads and cannot be modified; copy them first.
+ */
+@Component
+@RequiredArgsConstructor
+public class DatatableSchemaRegistry {
+
+    private final FineractProperties fineractProperties;
+    private final TenantScopedCache<String, List<ResultsetColumnHeaderData>> columnHeaders = new TenantScopedCache<>();
+    private final TenantScopedCache<String, List<IndexDetail>> indexes = new TenantScopedCache<>();
+
+    public List<ResultsetColumnHeaderData> getColumnHeaders(final String tableName,
+            final Function<String, List<ResultsetColumnHeaderData>> loader) {
+        return get(tableName, loader, this.columnHeaders);
+    }
+
+    public List<IndexDetail> getIndexes(final String tableName, final Function<String, List<IndexDetail>> loader) {
+        return get(tableName, loader, this.indexes);
+    }
+
+    /**
+     * Drops the cached schema of the current tenant, right away and again once the current transaction completes.
+     */
+    public void invalidate() {
+        this.columnHeaders.invalidateAll();
+        this.indexes.invalidateAll();
+    }
+
+    private <T> List<T> get(final String tableName, final Function<String, List<T>> loader,
+            final TenantScopedCache<String, List<T>> cache) {
+        final FineractDatatableSchemaCacheProperties properties = cacheProperties();
+        if (properties == null || !properties.isEnabled()) {
+            return loader.apply(tableName);
+        }
+        return cache.get(tableName, properties.getTtl(), generation -> List.copyOf(loader.apply(tableName)));
+    }
+
+    private FineractDatatableSchemaCacheProperties cacheProperties() {
+        return this.fineractProperties.getDatatable() == null ? null : this.fineractProperties.getDatatable().getSchemaCache();
+    }
+}
@@ -145,6 +145,7 @@ public class DatatableWriteServiceImpl implements DatatableWriteService {
     private final BusinessEventNotifierService businessEventNotifierService;
     private final DatatableReadService datatableReadService;
     private final DatatableUtil datatableUtil;
+    private final DatatableSchemaRegistry datatableSchemaRegistry;
 
     @Transactional
     @Override
@@ -212,6 +213,7 @@ public class DatatableWriteServiceImpl implements DatatableWriteService {
         String datatableName = null;
         try {
             this.context.authenticatedUser();
+            this.datatableSchemaRegistry.invalidate();
             this.fromApiJsonDeserializer.validateForCreate(command.json());
 
             final JsonElement element = this.fromJsonHelper.parse(command.json());
@@ -326,6 +328,7 @@ public class DatatableWriteServiceImpl implements DatatableWriteService {
     public void updateDatatable(final String datatableName, final JsonCommand command) {
         try {
             this.context.authenticatedUser();
+            this.datatableSchemaRegistry.invalidate();
             this.fromApiJsonDeserializer.validateForUpdate(command.json());
 
             final JsonElement element = this.fromJsonHelper.parse(command.json());
@@ -525,6 +528,7 @@ public class DatatableWriteServiceImpl implements DatatableWriteService {
     public void deleteDatatable(final String datatableName) {
         try {
             this.context.authenticatedUser();
+            this.datatableSchemaRegistry.invalidate();
             datatableUtil.validateDatatableName(datatableName);
             assertDataTableEmpty(datatableName);
             deregisterDatatable(datatableName);
@@ -65,6 +65,7 @@ public class GenericDataServiceImpl implements GenericDataService {
     private final DatabaseIndependentQueryService databaseIndependentQueryService;
     private final DatatableKeywordGenerator datatableKeywordGenerator;
     private final DatabaseTypeResolver databaseTypeResolver;
+    private final DatatableSchemaRegistry datatableSchemaRegistry;
 
     @Override
     public GenericResultsetData fillGenericResultSet(final String sql) {
@@ -94,6 +95,10 @@ public class GenericDataServiceImpl implements GenericDataService {
 
     @Override
     public List<ResultsetColumnHeaderData> fillResultsetColumnHeaders(final String tableName) {
+        return new ArrayList<>(datatableSchemaRegistry.getColumnHeaders(tableName, this::loadResultsetColumnHeaders));
+    }
+
+    private List<ResultsetColumnHeaderData> loadResultsetColumnHeaders(final String tableName) {
         final SqlRowSet columnDefinitions = getTableMetaData(tableName);
         final List<IndexDetail> indexDefinitions = getDatatableIndexData(tableName);
 
@@ -124,7 +129,7 @@ public class GenericDataServiceImpl implements GenericDataService {
             final int codePosition = columnName.indexOf("_cd");
             if (codePosition > 0 && jdbcType != null && (jdbcType.isVarcharType() || jdbcType.isIntegerType())) {
                 codeName = columnName.substring(0, codePosition);
-                columnValues = retrieveCodeValues(codeName);
+                columnValues = List.copyOf(retrieveCodeValues(codeName));
             }
 
             columnHeaders.add(ResultsetColumnHeaderData.detailed(columnName, columnType, columnLength, columnNullable, columnIsPrimaryKey,
@@ -291,8 +296,12 @@ public class GenericDataServiceImpl implements GenericDataService {
         return false;
     }
 
-    @SuppressWarnings("AvoidHidingCauseException")
     private List<IndexDetail> getDatatableIndexData(String tableName) {
+        return datatableSchemaRegistry.getIndexes(tableName, this::loadDatatableIndexData);
+    }
+
+    @SuppressWarnings("AvoidHidingCauseException")
+    private List<IndexDetail> loadDatatableIndexData(String tableName) {
         try {
             return databaseIndependentQueryService.getTableIndexes(dataSource, tableName);
         } catch (IllegalArgumentException e) {
@@ -301,7 +310,7 @@ public class GenericDataServiceImpl implements GenericDataService {
     }
 
     /*
-     * Candidate for using caching there to get allowed 'column values' from code/codevalue tables
+     * The allowed 'column values' are cached together with the column headers, see DatatableSchemaRegistry
      */
     private List<ResultsetColumnValueData> retrieveCodeValues(final String codeName) {
         final String sql = "select v.id, v.code_score, v.code_value from m_code m join m_code_value v on v.code_id = m.id where m.code_name = ? order by v.order_position, v.id";
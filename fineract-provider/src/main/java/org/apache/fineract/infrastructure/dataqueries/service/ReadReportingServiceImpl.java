@@ -18,17 +18,24 @@
  */
 package org.apache.fineract.infrastructure.dataqueries.service;
 
+import com.google.gson.Gson;
+import com.google.gson.JsonIOException;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonWriter;
 import com.lowagie.text.Document;
 import com.lowagie.text.PageSize;
 import com.lowagie.text.pdf.PdfPTable;
 import com.lowagie.text.pdf.PdfWriter;
 import jakarta.ws.rs.core.StreamingOutput;
+import java.io.BufferedWriter;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.reflect.Type;
 import java.nio.charset.StandardCharsets;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -45,6 +52,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.core.domain.JdbcSupport;
 import org.apache.fineract.infrastructure.core.exception.ErrorHandler;
+import org.apache.fineract.infrastructure.core.serialization.GoogleGsonSerializerHelper;
 import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
 import org.apache.fineract.infrastructure.core.service.database.JdbcJavaType;
 import org.apache.fineract.infrastructure.dataqueries.data.GenericResultsetData;
@@ -54,12 +62,14 @@ import org.apache.fineract.infrastructure.dataqueries.data.ReportParameterJoinDa
 import org.apache.fineract.infrastructure.dataqueries.data.ResultsetColumnHeaderData;
 import org.apache.fineract.infrastructure.dataqueries.data.ResultsetRowData;
 import org.apache.fineract.infrastructure.dataqueries.exception.ReportNotFoundException;
+import org.apache.fineract.infrastructure.dataqueries.service.StreamingReportExecutor.ReportRowHandler;
 import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
 import org.apache.fineract.infrastructure.security.service.SqlInjectionPreventerService;
 import org.apache.fineract.infrastructure.security.utils.LogParameterEscapeUtil;
 import org.apache.fineract.useradministration.domain.AppUser;
 import org.owasp.esapi.ESAPI;
 import org.owasp.esapi.codecs.UnixCodec;
+import org.springframework.dao.DataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.support.rowset.SqlRowSet;
@@ -70,16 +80,28 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class ReadReportingServiceImpl implements ReadReportingService {
 
+    private static final Gson JSON = GoogleGsonSerializerHelper.createSimpleGson();
+
     private final JdbcTemplate jdbcTemplate;
     private final PlatformSecurityContext context;
     private final GenericDataService genericDataService;
     private final SqlInjectionPreventerService sqlInjectionPreventerService;
     private final DatabaseSpecificSQLGenerator sqlGenerator;
     private final FineractProperties fineractProperties;
+    private final StreamingReportExecutor streamingReportExecutor;
 
     @Override
     public StreamingOutput retrieveReportCSV(final String name, final String type, final Map<String, String> queryParams,
             final boolean isSelfServiceUserReport) {
+        if (this.streamingReportExecutor.isEnabled()) {
+            final String sql = getSQLtoRun(name, type, queryParams, isSelfServiceUserReport);
+            return out -> {
+                try (CSVPrinter printer = new CSVPrinter(new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8)),
+                        CSVFormat.EXCEL)) {
+                    streamReport(name, type, sql, new CsvReportRowHandler(printer));
+                }
+            };
+        }
         return out -> {
             try {
                 final GenericResultsetData result = retrieveGenericResultset(name, type, queryParams, isSelfServiceUserReport);
@@ -90,6 +112,41 @@ public class ReadReportingServiceImpl implements ReadReportingService {
         };
     }
 
+    @Override
+    public StreamingOutput retrieveReportJSON(final String name, final String type, final Map<String, String> queryParams,
+            final boolean isSelfServiceUserReport) {
+        if (this.streamingReportExecutor.isEnabled()) {
+            final String sql = getSQLtoRun(name, type, queryParams, isSelfServiceUserReport);
+            return out -> {
+                try (JsonWriter writer = new JsonWriter(new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8)))) {
+                    streamReport(name, type, sql, new JsonReportRowHandler(writer));
+                }
+            };
+        }
+        final GenericResultsetData result = retrieveGenericResultset(name, type, queryParams, isSelfServiceUserReport);
+        return out -> {
+            final Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            JSON.toJson(result, writer);
+            writer.flush();
+        };
+    }
+
+    private void streamReport(final String name, final String type, final String sql, final ReportRowHandler handler)
+            throws IOException {
+        final long startTime = System.currentTimeMillis();
+        try {
+            final long rows = this.streamingReportExecutor.execute(name, sql, handler);
+            if (log.isDebugEnabled()) {
+                log.debug("FINISHING streamed Report/Request Name: {} - {}     Rows: {}     Elapsed Time: {}",
+                        LogParameterEscapeUtil.escapeLogParameter(name), type.replaceAll("[\n\r\t]", "_"), rows,
+                        System.currentTimeMillis() - startTime);
+            }
+        } catch (final DataAccessException e) {
+            log.error("Reporting error: {}", e.getMessage());
+            throw ErrorHandler.getMappable(e, "error.msg.report.unknown.data.integrity.issue", e.getClass().getName(), null, e);
+        }
+    }
+
     private void generateCsvFileBuffer(final GenericResultsetData result, OutputStream out) throws IOException {
         try (CSVPrinter printer = new CSVPrinter(new OutputStreamWriter(out, StandardCharsets.UTF_8), CSVFormat.EXCEL)) {
             final List<ResultsetColumnHeaderData> columnHeaders = result.getColumnHeaders();
@@ -513,4 +570,81 @@ public class ReadReportingServiceImpl implements ReadReportingService {
          */
         return null;
     }
+
+    private static final class CsvReportRowHandler implements ReportRowHandler {
+
+        private final CSVPrinter printer;
+
+        private CsvReportRowHandler(final CSVPrinter printer) {
+            this.printer = printer;
+        }
+
+        @Override
+        public void start(final List<ResultsetColumnHeaderData> columnHeaders) throws IOException {
+            final List<String> header = new ArrayList<>();
+            for (final ResultsetColumnHeaderData columnHeader : columnHeaders) {
+                header.add(columnHeader.getColumnName());
+            }
+            this.printer.printRecord(header);
+        }
+
+        @Override
+        public void row(final List<Object> row) throws IOException {
+            this.printer.printRecord(row);
+        }
+
+        @Override
+        public void finish() throws IOException {
+            this.printer.flush();
+        }
+    }
+
+    /**
+     * Writes the same document as serializing a {@link GenericResultsetData}, one row at a time.
+     */
+    private static final class JsonReportRowHandler implements ReportRowHandler {
+
+        private static final Type COLUMN_HEADERS_TYPE = new TypeToken<List<ResultsetColumnHeaderData>>() {}.getType();
+
+        private final JsonWriter writer;
+
+        private JsonReportRowHandler(final JsonWriter writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void start(final List<ResultsetColumnHeaderData> columnHeaders) throws IOException {
+            this.writer.beginObject();
+            this.writer.name("columnHeaders");
+            write(columnHeaders, COLUMN_HEADERS_TYPE);
+            this.writer.name("data");
+            this.writer.beginArray();
+        }
+
+        @Override
+        public void row(final List<Object> row) throws IOException {
+            this.writer.beginObject();
+            this.writer.name("row");
+            write(row, List.class);
+            this.writer.endObject();
+        }
+
+        @Override
+        public void finish() throws IOException {
+            this.writer.endArray();
+            this.writer.endObject();
+            this.writer.flush();
+        }
+
+        private void write(final Object value, final Type type) throws IOException {
+            try {
+                JSON.toJson(value, type, this.writer);
+            } catch (final JsonIOException e) {
+                if (e.getCause() instanceof IOException ioException) {
+                    throw ioException;
+                }
+                throw e;
+            }
+        }
+    }
 }
@@ -0,0 +1,190 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.dataqueries.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractReportStreamingProperties;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseType;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseTypeResolver;
+import org.apache.fineract.infrastructure.core.service.database.JdbcJavaType;
+import org.apache.fineract.infrastructure.dataqueries.data.ResultsetColumnHeaderData;
+import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Runs report SQL with a forward-only cursor and hands every row to a {@link ReportRowHandler} as soon as it is read,
+ * instead of materializing the whole result into a {@link org.springframework.jdbc.support.rowset.SqlRowSet} first.
+ * <p>
+ * The query runs in a read-only transaction, which PostgreSQL needs to honour the fetch size. The statement is cancelled
+ * when the handler fails to write (typically because the client disconnected), when the report returns more rows than
+ * <code>fineract.report.streaming.max-rows</code> or when it runs longer than
+ * <code>fineract.report.streaming.timeout</code>.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StreamingReportExecutor {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabaseTypeResolver databaseTypeResolver;
+    private final PlatformTransactionManager transactionManager;
+    private final FineractProperties fineractProperties;
+
+    public boolean isEnabled() {
+        final FineractReportStreamingProperties properties = streamingProperties();
+        return properties != null && properties.isEnabled();
+    }
+
+    /**
+     * Streams the rows of the given SQL to the handler.
+     *
+     * @return the number of rows streamed
+     * @throws IOException
+     *             when the handler failed to write; the statement has been cancelled by then
+     */
+    public long execute(final String reportName, final String sql, final ReportRowHandler handler) throws IOException {
+        final TransactionTemplate transactionTemplate = new TransactionTemplate(this.transactionManager);
+        transactionTemplate.setReadOnly(true);
+        try {
+            final Long rows = transactionTemplate
+                    .execute(status -> this.jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+                        try (PreparedStatement statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY,
+                                ResultSet.CONCUR_READ_ONLY)) {
+                            return stream(reportName, statement, handler);
+                        }
+                    }));
+            return rows == null ? 0L : rows;
+        } catch (final UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private long stream(final String reportName, final PreparedStatement statement, final ReportRowHandler handler)
+            throws SQLException {
+        final FineractReportStreamingProperties properties = streamingProperties();
+        final long maxRows = properties.getMaxRows();
+        final Duration timeout = properties.getTimeout();
+        final long deadline = timeout == null || timeout.isZero() ? 0L : System.nanoTime() + timeout.toNanos();
+
+        statement.setFetchSize(properties.getFetchSize());
+        if (maxRows > 0 && maxRows < Integer.MAX_VALUE) {
+            // one more than allowed, so that an oversized report can be told apart from one that fits exactly
+            statement.setMaxRows((int) maxRows + 1);
+        }
+        if (deadline != 0L) {
+            statement.setQueryTimeout((int) Math.max(1L, timeout.toSeconds()));
+        }
+
+        long rows = 0;
+        try (ResultSet rs = statement.executeQuery()) {
+            final List<ResultsetColumnHeaderData> columnHeaders = columnHeaders(rs.getMetaData());
+            handler.start(columnHeaders);
+            final int columnCount = columnHeaders.size();
+            while (rs.next()) {
+                if (maxRows > 0 && rows >= maxRows) {
+                    cancel(statement);
+                    throw new DataRetrievalFailureException("Report " + reportName + " returned more than " + maxRows + " rows");
+                }
+                if (deadline != 0L && System.nanoTime() - deadline > 0) {
+                    cancel(statement);
+                    throw new QueryTimeoutException("Report " + reportName + " did not finish within " + timeout);
+                }
+                final List<Object> row = new ArrayList<>(columnCount);
+                for (int i = 0; i < columnCount; i++) {
+                    row.add(value(rs, i + 1, columnHeaders.get(i).getColumnType()));
+                }
+                handler.row(row);
+                rows++;
+            }
+            handler.finish();
+        } catch (final IOException e) {
+            log.debug("Streaming of report {} aborted after {} rows: {}", reportName, rows, e.getMessage());
+            cancel(statement);
+            throw new UncheckedIOException(e);
+        }
+        return rows;
+    }
+
+    private List<ResultsetColumnHeaderData> columnHeaders(final ResultSetMetaData metaData) throws SQLException {
+        final DatabaseType dialect = this.databaseTypeResolver.databaseType();
+        final List<ResultsetColumnHeaderData> columnHeaders = new ArrayList<>();
+        for (int i = 0; i < metaData.getColumnCount(); i++) {
+            columnHeaders.add(ResultsetColumnHeaderData.basic(metaData.getColumnName(i + 1), metaData.getColumnTypeName(i + 1), dialect));
+        }
+        return columnHeaders;
+    }
+
+    // same conversions as GenericDataServiceImpl.fillResultsetRowData, so that streamed and buffered reports look alike
+    private static Object value(final ResultSet rs, final int column, final JdbcJavaType columnType) throws SQLException {
+        final Object value = rs.getObject(column);
+        if (value == null) {
+            return null;
+        }
+        if (columnType == JdbcJavaType.DATE && value instanceof Date date) {
+            return date.toLocalDate();
+        }
+        if ((columnType == JdbcJavaType.DATETIME || columnType == JdbcJavaType.TIMESTAMP) && value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        return value;
+    }
+
+    private static void cancel(final Statement statement) {
+        try {
+            statement.cancel();
+        } catch (final SQLException e) {
+            log.debug("Could not cancel report statement: {}", e.getMessage());
+        }
+    }
+
+    private FineractReportStreamingProperties streamingProperties() {
+        return this.fineractProperties.getReport() == null ? null : this.fineractProperties.getReport().getStreaming();
+    }
+
+    /**
+     * Receives the rows of a streamed report, in order.
+     */
+    public interface ReportRowHandler {
+
+        void start(List<ResultsetColumnHeaderData> columnHeaders) throws IOException;
+
+        void row(List<Object> row) throws IOException;
+
+        void finish() throws IOException;
+    }
+}
@@ -28,6 +28,7 @@ import org.apache.fineract.infrastructure.dataqueries.data.DataTableValidator;
 import org.apache.fineract.infrastructure.dataqueries.service.DatatableKeywordGenerator;
 import org.apache.fineract.infrastructure.dataqueries.service.DatatableReadService;
 import org.apache.fineract.infrastructure.dataqueries.service.DatatableReadServiceImpl;
+import org.apache.fineract.infrastructure.dataqueries.service.DatatableSchemaRegistry;
 import org.apache.fineract.infrastructure.dataqueries.service.DatatableUtil;
 import org.apache.fineract.infrastructure.dataqueries.service.DatatableWriteService;
 import org.apache.fineract.infrastructure.dataqueries.service.DatatableWriteServiceImpl;
@@ -63,11 +64,11 @@ public class DataQueriesAutoConfiguration {
             final DataTableValidator dataTableValidator, final NamedParameterJdbcTemplate namedParameterJdbcTemplate,
             final DatatableKeywordGenerator datatableKeywordGenerator, final SearchUtil searchUtil,
             final BusinessEventNotifierService businessEventNotifierService, final DatatableReadService datatableReadService,
-            final DatatableUtil datatableUtil) {
+            final DatatableUtil datatableUtil, final DatatableSchemaRegistry datatableSchemaRegistry) {
         return new DatatableWriteServiceImpl(jdbcTemplate, databaseTypeResolver, sqlGenerator, context, fromJsonHelper, genericDataService,
                 fromApiJsonDeserializer, configurationDomainService, codeReadPlatformService, dataTableValidator,
                 namedParameterJdbcTemplate, datatableKeywordGenerator, searchUtil, businessEventNotifierService, datatableReadService,
-                datatableUtil);
+                datatableUtil, datatableSchemaRegistry);
     }
 
 }
@@ -18,12 +18,17 @@
  */
 package org.apache.fineract.infrastructure.event.external.config;
 
+import static org.apache.kafka.clients.producer.ProducerConfig.ACKS_CONFIG;
 import static org.apache.kafka.clients.producer.ProducerConfig.BOOTSTRAP_SERVERS_CONFIG;
+import static org.apache.kafka.clients.producer.ProducerConfig.COMPRESSION_TYPE_CONFIG;
+import static org.apache.kafka.clients.producer.ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG;
 import static org.apache.kafka.clients.producer.ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG;
+import static org.apache.kafka.clients.producer.ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION_CONFIG;
 import static org.apache.kafka.clients.producer.ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG;
 
 import java.util.HashMap;
 import java.util.Map;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.apache.kafka.common.serialization.LongSerializer;
@@ -46,7 +51,17 @@ public class ExternalEventKafkaConfiguration {
     public ProducerFactory<Long, byte[]> externalEventsProducerFactory() {
         FineractProperties.FineractExternalEventsProducerKafkaProperties kafkaProp = fineractProperties.getEvents().getExternal()
                 .getProducer().getKafka();
-        Map<String, Object> props = new HashMap<>(kafkaProp.getProducer().getExtraPropertiesMap());
+        Map<String, Object> props = new HashMap<>();
+        if (kafkaProp.isBatchedSendEnabled()) {
+            // Idempotent producer keeps per partition ordering across the internal retries of a batch
+            props.put(ENABLE_IDEMPOTENCE_CONFIG, true);
+            props.put(ACKS_CONFIG, "all");
+            props.put(MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION_CONFIG, 5);
+            if (StringUtils.isNotBlank(kafkaProp.getCompressionType())) {
+                props.put(COMPRESSION_TYPE_CONFIG, kafkaProp.getCompressionType());
+            }
+        }
+        props.putAll(kafkaProp.getProducer().getExtraPropertiesMap());
         props.put(BOOTSTRAP_SERVERS_CONFIG, kafkaProp.getBootstrapServers());
         props.put(KEY_SERIALIZER_CLASS_CONFIG, LongSerializer.class);
         props.put(VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
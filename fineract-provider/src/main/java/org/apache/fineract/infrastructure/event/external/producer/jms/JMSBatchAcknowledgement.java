@@ -0,0 +1,74 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.event.external.producer.jms;
+
+import jakarta.jms.CompletionListener;
+import jakarta.jms.JMSException;
+import jakarta.jms.Message;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.apache.fineract.infrastructure.event.external.exception.AcknowledgementTimeoutException;
+
+/**
+ * Collects the broker acknowledgements of asynchronously sent messages, so a batch is waited for once instead of per
+ * message.
+ */
+final class JMSBatchAcknowledgement implements CompletionListener {
+
+    private final CountDownLatch pending;
+    private final AtomicReference<Exception> failure = new AtomicReference<>();
+
+    JMSBatchAcknowledgement(int messageCount) {
+        this.pending = new CountDownLatch(messageCount);
+    }
+
+    @Override
+    public void onCompletion(Message message) {
+        pending.countDown();
+    }
+
+    @Override
+    public void onException(Message message, Exception exception) {
+        failure.compareAndSet(null, exception);
+        pending.countDown();
+    }
+
+    void await(Duration timeout) throws JMSException {
+        try {
+            if (!pending.await(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new AcknowledgementTimeoutException("Broker did not acknowledge " + pending.getCount() + " messages in " + timeout,
+                        null);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AcknowledgementTimeoutException("Interrupted while waiting for broker acknowledgements", e);
+        }
+        Exception exception = failure.get();
+        if (exception instanceof JMSException jmsException) {
+            throw jmsException;
+        }
+        if (exception != null) {
+            JMSException jmsException = new JMSException("Error while sending the message");
+            jmsException.setLinkedException(exception);
+            throw jmsException;
+        }
+    }
+}
@@ -24,13 +24,16 @@ import jakarta.jms.Connection;
 import jakarta.jms.ConnectionFactory;
 import jakarta.jms.Destination;
 import jakarta.jms.JMSException;
+import jakarta.jms.Message;
 import jakarta.jms.MessageProducer;
 import jakarta.jms.Session;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
@@ -43,6 +46,7 @@ import org.apache.fineract.infrastructure.core.messaging.jms.MessageFactory;
 import org.apache.fineract.infrastructure.core.service.HashingService;
 import org.apache.fineract.infrastructure.event.external.exception.AcknowledgementTimeoutException;
 import org.apache.fineract.infrastructure.event.external.producer.ExternalEventProducer;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.core.task.AsyncTaskExecutor;
@@ -52,7 +56,7 @@ import org.springframework.stereotype.Component;
 @Slf4j
 @RequiredArgsConstructor
 @ConditionalOnProperty(value = "fineract.events.external.producer.jms.enabled", havingValue = "true")
-public class JMSMultiExternalEventProducer implements ExternalEventProducer {
+public class JMSMultiExternalEventProducer implements ExternalEventProducer, DisposableBean {
 
     @Qualifier("externalEventDestination")
     private final Destination destination;
@@ -69,14 +73,26 @@ public class JMSMultiExternalEventProducer implements ExternalEventProducer {
 
     private final FineractProperties fineractProperties;
 
+    private volatile JMSProducerPool producerPool;
+
+    private volatile boolean asyncSendSupported = true;
+
     private int getProducerCount() {
         return fineractProperties.getEvents().getExternal().getProducer().getJms().getProducerCount();
     }
 
+    private boolean isPooledSessionsEnabled() {
+        return fineractProperties.getEvents().getExternal().getProducer().getJms().isPooledSessionsEnabled();
+    }
+
     @Override
     public void sendEvents(Map<Long, List<byte[]>> partitions) throws AcknowledgementTimeoutException {
         Map<Integer, List<byte[]>> indexedPartitions = mapPartitionsToProducers(partitions);
         measure(() -> {
+            if (isPooledSessionsEnabled()) {
+                waitForSendingCompletion(sendPartitionsWithPool(indexedPartitions));
+                return;
+            }
             List<Pair<Session, MessageProducer>> producersWithSessions = obtainProducers();
             List<MessageProducer> producers = producersWithSessions.stream().map(Pair::getRight).collect(Collectors.toList());
             List<Session> sessions = producersWithSessions.stream().map(Pair::getLeft).collect(Collectors.toList());
@@ -92,6 +108,65 @@ public class JMSMultiExternalEventProducer implements ExternalEventProducer {
         });
     }
 
+    @Override
+    public void destroy() {
+        if (producerPool != null) {
+            producerPool.close();
+        }
+    }
+
+    private JMSProducerPool getProducerPool() {
+        JMSProducerPool pool = producerPool;
+        if (pool == null) {
+            synchronized (this) {
+                pool = producerPool;
+                if (pool == null) {
+                    pool = new JMSProducerPool(connectionFactory, destination, getProducerCount());
+                    producerPool = pool;
+                }
+            }
+        }
+        return pool;
+    }
+
+    private List<Future<?>> sendPartitionsWithPool(Map<Integer, List<byte[]>> indexedPartitions) {
+        JMSProducerPool pool = getProducerPool();
+        Duration ackTimeout = Duration
+                .ofSeconds(fineractProperties.getEvents().getExternal().getProducer().getJms().getAckTimeoutInSeconds());
+        List<Future<?>> tasks = new ArrayList<>();
+        for (Map.Entry<Integer, List<byte[]>> entry : indexedPartitions.entrySet()) {
+            int producerIndex = entry.getKey();
+            List<byte[]> messages = entry.getValue();
+            tasks.add(taskExecutor.submit(() -> {
+                try {
+                    pool.withProducer(producerIndex, producer -> sendAndAwaitAcknowledgement(producer, messages, ackTimeout));
+                } catch (JMSException e) {
+                    throw new RuntimeException("Error while sending the message", e);
+                }
+            }));
+        }
+        return tasks;
+    }
+
+    private void sendAndAwaitAcknowledgement(MessageProducer producer, List<byte[]> messages, Duration ackTimeout) throws JMSException {
+        JMSBatchAcknowledgement acknowledgement = new JMSBatchAcknowledgement(messages.size());
+        for (byte[] message : messages) {
+            Message jmsMessage = messageFactory.createByteMessage(message);
+            if (asyncSendSupported) {
+                try {
+                    producer.send(destination, jmsMessage, acknowledgement);
+                    continue;
+                } catch (UnsupportedOperationException e) {
+                    log.warn("JMS provider does not support asynchronous sends, falling back to synchronous sends");
+                    asyncSendSupported = false;
+                }
+            }
+            producer.send(destination, jmsMessage);
+            acknowledgement.onCompletion(jmsMessage);
+        }
+        acknowledgement.await(ackTimeout);
+    }
+
     private void closeSessions(List<Session> sessions) {
         // The sessions retrieved from a CachingConnectionFactory needs to be explicitly closed, otherwise we're making
         // orphan sessions, leaking memory
@@ -166,6 +241,11 @@ public class JMSMultiExternalEventProducer implements ExternalEventProducer {
             for (Future<?> task : tasks) {
                 task.get();
             }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof AcknowledgementTimeoutException timeoutException) {
+                throw timeoutException;
+            }
+            throw new RuntimeException(e);
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
@@ -0,0 +1,124 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.event.external.producer.jms;
+
+import jakarta.jms.Connection;
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.Destination;
+import jakarta.jms.JMSException;
+import jakarta.jms.MessageProducer;
+import jakarta.jms.Session;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Fixed set of long-lived JMS sessions and producers, one per producer slot.
+ *
+ * A JMS session must only be used by one thread at a time, so every slot is locked while a sending task uses it. A
+ * slot whose session no longer answers (closed by the broker, connection reset by the caching connection factory) is
+ * dropped and created again on its next use; a slot that fails while sending is dropped as well.
+ */
+@Slf4j
+final class JMSProducerPool implements AutoCloseable {
+
+    private final ConnectionFactory connectionFactory;
+    private final Destination destination;
+    private final Slot[] slots;
+
+    JMSProducerPool(ConnectionFactory connectionFactory, Destination destination, int size) {
+        this.connectionFactory = connectionFactory;
+        this.destination = destination;
+        this.slots = new Slot[size];
+        for (int i = 0; i < size; i++) {
+            slots[i] = new Slot();
+        }
+    }
+
+    int size() {
+        return slots.length;
+    }
+
+    void withProducer(int index, ProducerAction action) throws JMSException {
+        Slot slot = slots[index];
+        synchronized (slot) {
+            MessageProducer producer = slot.obtain();
+            try {
+                action.send(producer);
+            } catch (JMSException | RuntimeException e) {
+                slot.invalidate();
+                throw e;
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        for (Slot slot : slots) {
+            synchronized (slot) {
+                slot.invalidate();
+            }
+        }
+    }
+
+    @FunctionalInterface
+    interface ProducerAction {
+
+        void send(MessageProducer producer) throws JMSException;
+    }
+
+    private final class Slot {
+
+        private Session session;
+        private MessageProducer producer;
+
+        private MessageProducer obtain() throws JMSException {
+            if (session != null && !isHealthy()) {
+                invalidate();
+            }
+            if (session == null) {
+                // No need to close the connection since it's a pooled one
+                Connection connection = connectionFactory.createConnection();
+                session = connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
+                producer = session.createProducer(destination);
+            }
+            return producer;
+        }
+
+        private boolean isHealthy() {
+            try {
+                session.getAcknowledgeMode();
+                return true;
+            } catch (JMSException | RuntimeException e) {
+                log.warn("Dropping unusable JMS session of external event producer: {}", e.getMessage());
+                return false;
+            }
+        }
+
+        private void invalidate() {
+            if (session != null) {
+                try {
+                    session.close();
+                } catch (JMSException | RuntimeException e) {
+                    log.debug("Exception while closing JMS session", e);
+                }
+            }
+            session = null;
+            producer = null;
+        }
+    }
+}
@@ -22,15 +22,21 @@ import static org.apache.fineract.infrastructure.core.diagnostics.performance.Me
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.event.external.exception.AcknowledgementTimeoutException;
+import org.apache.fineract.infrastructure.event.external.producer.ExternalEventPayload;
 import org.apache.fineract.infrastructure.event.external.producer.ExternalEventProducer;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -78,4 +84,107 @@ public class KafkaExternalEventProducer implements ExternalEventProducer {
             }
         });
     }
+
+    @Override
+    public boolean isFailureReportingSupported() {
+        return fineractProperties.getEvents().getExternal().getProducer().getKafka().isBatchedSendEnabled();
+    }
+
+    /**
+     * Sends the events with at most {@code max-in-flight-messages} unacknowledged sends at a time. Only the events whose
+     * send failed or was not acknowledged in time are retried, up to {@code partition-retry-count} times, and whatever
+     * is still undelivered after that is reported back instead of failing the whole batch. Events acknowledged by the
+     * broker are never sent again by a retry; a retried event may arrive after later events of its aggregate. When a
+     * send fails right away the rest of the partition is not attempted in that round.
+     */
+    @Override
+    public Set<Long> sendEventsReportingFailures(Map<Long, List<ExternalEventPayload>> partitions) {
+        FineractProperties.FineractExternalEventsProducerKafkaProperties kafkaProperties = fineractProperties.getEvents().getExternal()
+                .getProducer().getKafka();
+        String topicName = kafkaProperties.getTopic().getName();
+        Semaphore inFlight = new Semaphore(Math.max(1, kafkaProperties.getMaxInFlightMessages()));
+        return measure(() -> {
+            Map<Long, List<ExternalEventPayload>> pending = partitions;
+            for (int attempt = 0; attempt <= kafkaProperties.getPartitionRetryCount() && !pending.isEmpty(); attempt++) {
+                if (attempt > 0) {
+                    log.warn("Retrying {} partition(s) of external events, attempt {}", pending.size(), attempt);
+                }
+                pending = sendPartitions(topicName, pending, inFlight, kafkaProperties.getTimeoutInSeconds());
+            }
+            Set<Long> failedEventIds = new HashSet<>();
+            pending.values().forEach(payloads -> payloads.forEach(payload -> failedEventIds.add(payload.eventId())));
+            if (!failedEventIds.isEmpty()) {
+                log.warn("Could not send {} external event(s), they stay queued for the next run", failedEventIds.size());
+            }
+            return failedEventIds;
+        }, (failedEventIds, timeTaken) -> {
+            if (log.isDebugEnabled()) {
+                int eventCount = partitions.values().stream().map(Collection::size).reduce(0, Integer::sum);
+                log.debug("Sent {} of {} messages in {}ms", eventCount - failedEventIds.size(), eventCount, timeTaken.toMillis());
+            }
+        });
+    }
+
+    private Map<Long, List<ExternalEventPayload>> sendPartitions(String topicName, Map<Long, List<ExternalEventPayload>> partitions,
+            Semaphore inFlight, int timeoutInSeconds) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeoutInSeconds);
+        Map<Long, List<CompletableFuture<?>>> sendResults = new LinkedHashMap<>();
+        for (Map.Entry<Long, List<ExternalEventPayload>> entry : partitions.entrySet()) {
+            List<CompletableFuture<?>> partitionResults = new ArrayList<>();
+            for (ExternalEventPayload payload : entry.getValue()) {
+                CompletableFuture<?> result = send(topicName, entry.getKey(), payload, inFlight, deadline);
+                partitionResults.add(result);
+                if (result.isCompletedExceptionally()) {
+                    break;
+                }
+            }
+            sendResults.put(entry.getKey(), partitionResults);
+        }
+
+        Map<Long, List<ExternalEventPayload>> unsent = new LinkedHashMap<>();
+        for (Map.Entry<Long, List<CompletableFuture<?>>> entry : sendResults.entrySet()) {
+            List<ExternalEventPayload> payloads = partitions.get(entry.getKey());
+            List<CompletableFuture<?>> partitionResults = entry.getValue();
+            int firstUnsent = 0;
+            while (firstUnsent < partitionResults.size() && isAcknowledged(partitionResults.get(firstUnsent), deadline)) {
+                firstUnsent++;
+            }
+            // the first unacknowledged event and every later one of the partition are sent again, in order, so the events of
+            // an aggregated root are never delivered out of order
+            if (firstUnsent < payloads.size()) {
+                unsent.put(entry.getKey(), new ArrayList<>(payloads.subList(firstUnsent, payloads.size())));
+            }
+        }
+        return unsent;
+    }
+
+    private CompletableFuture<?> send(String topicName, Long key, ExternalEventPayload payload, Semaphore inFlight, long deadline) {
+        try {
+            if (!inFlight.tryAcquire(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                return CompletableFuture.failedFuture(new TimeoutException("Too many in-flight external event messages"));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CompletableFuture.failedFuture(e);
+        }
+        try {
+            return externalEventsKafkaTemplate.send(topicName, key, payload.message()).whenComplete((result, error) -> inFlight.release());
+        } catch (RuntimeException e) {
+            inFlight.release();
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private static boolean isAcknowledged(CompletableFuture<?> result, long deadline) {
+        try {
+            result.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException | TimeoutException e) {
+            log.warn("Could not send external event message: {}", e.getMessage());
+            return false;
+        }
+    }
 }
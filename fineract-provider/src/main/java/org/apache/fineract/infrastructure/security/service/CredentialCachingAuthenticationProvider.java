@@ -0,0 +1,73 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.security.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.userdetails.UserDetails;
+
+/**
+ * {@link DaoAuthenticationProvider} that skips the password encoder for credentials already verified through the
+ * {@link VerifiedCredentialCacheService}. The user is still loaded for every request, so that disabled, locked or
+ * deleted users and role changes are picked up immediately.
+ */
+public class CredentialCachingAuthenticationProvider extends DaoAuthenticationProvider {
+
+    public static final String METRIC_NAME = "fineract.security.basicauth.verification";
+
+    private final VerifiedCredentialCacheService verifiedCredentialCacheService;
+    private final Optional<MeterRegistry> meterRegistry;
+
+    public CredentialCachingAuthenticationProvider(final VerifiedCredentialCacheService verifiedCredentialCacheService,
+            final Optional<MeterRegistry> meterRegistry) {
+        this.verifiedCredentialCacheService = verifiedCredentialCacheService;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void additionalAuthenticationChecks(final UserDetails userDetails, final UsernamePasswordAuthenticationToken authentication)
+            throws AuthenticationException {
+        if (authentication.getCredentials() == null) {
+            super.additionalAuthenticationChecks(userDetails, authentication);
+            return;
+        }
+        final long start = System.nanoTime();
+        final String presentedPassword = authentication.getCredentials().toString();
+        if (this.verifiedCredentialCacheService.isVerified(userDetails.getUsername(), presentedPassword, userDetails.getPassword())) {
+            record("hit", start);
+            return;
+        }
+        try {
+            super.additionalAuthenticationChecks(userDetails, authentication);
+            this.verifiedCredentialCacheService.markVerified(userDetails.getUsername(), presentedPassword, userDetails.getPassword());
+        } finally {
+            record("miss", start);
+        }
+    }
+
+    private void record(final String cache, final long start) {
+        this.meterRegistry.ifPresent(registry -> Timer.builder(METRIC_NAME).description("Duration of verifying Basic auth credentials")
+                .tag("cache", cache).register(registry).record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+    }
+}
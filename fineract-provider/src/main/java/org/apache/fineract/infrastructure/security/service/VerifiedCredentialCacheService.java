@@ -0,0 +1,38 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.security.service;
+
+/**
+ * Remembers Basic auth credentials that were successfully verified against the stored password hash, so that the
+ * (deliberately slow) password encoder does not have to run on every API request.
+ */
+public interface VerifiedCredentialCacheService {
+
+    /**
+     * Whether the presented password was verified recently for the user, against the given stored password hash.
+     */
+    boolean isVerified(String username, String presentedPassword, String passwordHash);
+
+    void markVerified(String username, String presentedPassword, String passwordHash);
+
+    /**
+     * Forgets every verified credential of the current tenant.
+     */
+    void evictAll();
+}
@@ -0,0 +1,137 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.security.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractSecurityBasicAuthCredentialCache;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+
+/**
+ * In-memory, tenant scoped implementation of {@link VerifiedCredentialCacheService}.
+ * <p>
+ * Entries are keyed by an HMAC of the credentials (with a key generated at startup), so plain passwords are never kept.
+ * An entry is only valid for the password hash it was verified against and for the tenant generation it was created
+ * in; {@link #evictAll()} bumps the generation.
+ * <p>
+ * The cache is off by default (<code>fineract.security.basicauth.credential-cache.enabled</code>): it keeps a digest of
+ * every accepted password in memory for the TTL, which deployments have to opt into.
+ */
+@RequiredArgsConstructor
+public class VerifiedCredentialCacheServiceImpl implements VerifiedCredentialCacheService {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final int MAX_ENTRIES_PER_TENANT = 10_000;
+
+    private final FineractProperties fineractProperties;
+    private final SecretKeySpec key = generateKey();
+    private final ConcurrentHashMap<String, TenantCredentials> credentialsByTenant = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean isVerified(final String username, final String presentedPassword, final String passwordHash) {
+        if (!isEnabled() || passwordHash == null) {
+            return false;
+        }
+        final TenantCredentials tenantCredentials = tenantCredentials();
+        final String credentialKey = credentialKey(username, presentedPassword);
+        final VerifiedCredential verified = tenantCredentials.credentials.get(credentialKey);
+        if (verified == null) {
+            return false;
+        }
+        if (verified.generation() != tenantCredentials.generation.get() || System.nanoTime() - verified.expiresAt() >= 0) {
+            tenantCredentials.credentials.remove(credentialKey, verified);
+            return false;
+        }
+        return verified.username().equals(username) && MessageDigest.isEqual(verified.passwordHash().getBytes(StandardCharsets.UTF_8),
+                passwordHash.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void markVerified(final String username, final String presentedPassword, final String passwordHash) {
+        if (!isEnabled() || passwordHash == null) {
+            return;
+        }
+        final TenantCredentials tenantCredentials = tenantCredentials();
+        final long now = System.nanoTime();
+        if (tenantCredentials.credentials.size() >= MAX_ENTRIES_PER_TENANT) {
+            tenantCredentials.credentials.values().removeIf(verified -> now - verified.expiresAt() >= 0);
+            if (tenantCredentials.credentials.size() >= MAX_ENTRIES_PER_TENANT) {
+                return;
+            }
+        }
+        final Duration ttl = this.fineractProperties.getSecurity().getBasicauth().getCredentialCache().getTtl();
+        tenantCredentials.credentials.put(credentialKey(username, presentedPassword),
+                new VerifiedCredential(username, passwordHash, tenantCredentials.generation.get(), now + ttl.toNanos()));
+    }
+
+    @Override
+    public void evictAll() {
+        final TenantCredentials tenantCredentials = tenantCredentials();
+        tenantCredentials.generation.incrementAndGet();
+        tenantCredentials.credentials.clear();
+    }
+
+    private boolean isEnabled() {
+        final FineractSecurityBasicAuthCredentialCache properties = this.fineractProperties.getSecurity().getBasicauth()
+                .getCredentialCache();
+        return properties != null && properties.isEnabled() && properties.getTtl() != null && !properties.getTtl().isZero();
+    }
+
+    private TenantCredentials tenantCredentials() {
+        return this.credentialsByTenant.computeIfAbsent(ThreadLocalContextUtil.getTenant().getTenantIdentifier(),
+                tenantIdentifier -> new TenantCredentials());
+    }
+
+    private String credentialKey(final String username, final String presentedPassword) {
+        try {
+            final Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(this.key);
+            mac.update(username.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            return Base64.getEncoder().encodeToString(mac.doFinal(presentedPassword.getBytes(StandardCharsets.UTF_8)));
+        } catch (final GeneralSecurityException e) {
+            throw new IllegalStateException("Unable to compute credential key", e);
+        }
+    }
+
+    private static SecretKeySpec generateKey() {
+        final byte[] keyBytes = new byte[32];
+        new SecureRandom().nextBytes(keyBytes);
+        return new SecretKeySpec(keyBytes, HMAC_ALGORITHM);
+    }
+
+    private record VerifiedCredential(String username, String passwordHash, long generation, long expiresAt) {
+    }
+
+    private static final class TenantCredentials {
+
+        private final AtomicLong generation = new AtomicLong();
+        private final ConcurrentHashMap<String, VerifiedCredential> credentials = new ConcurrentHashMap<>();
+    }
+}
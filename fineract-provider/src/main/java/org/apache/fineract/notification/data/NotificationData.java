@@ -42,5 +42,6 @@ public class NotificationData implements Serializable {
     private String tenantIdentifier;
     private String createdAt;
     private Long officeId;
+    private String permission;
     private Set<Long> userIds;
 }
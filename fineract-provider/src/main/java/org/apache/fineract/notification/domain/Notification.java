@@ -56,4 +56,10 @@ public class Notification extends AbstractPersistableCustom<Long> {
 
     @Column(name = "created_at")
     private LocalDateTime createdAt;
+
+    @Column(name = "office_id")
+    private Long officeId;
+
+    @Column(name = "permission_code")
+    private String permissionCode;
 }
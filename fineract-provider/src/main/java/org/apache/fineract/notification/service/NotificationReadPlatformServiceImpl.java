@@ -23,6 +23,7 @@ import java.sql.SQLException;
 import java.util.HashMap;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.core.service.Page;
 import org.apache.fineract.infrastructure.core.service.PaginationHelper;
 import org.apache.fineract.infrastructure.core.service.SearchParameters;
@@ -33,6 +34,7 @@ import org.apache.fineract.infrastructure.security.utils.ColumnValidator;
 import org.apache.fineract.notification.cache.CacheNotificationResponseHeader;
 import org.apache.fineract.notification.data.NotificationData;
 import org.apache.fineract.notification.data.NotificationMapperData;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
 
@@ -49,6 +51,7 @@ public class NotificationReadPlatformServiceImpl implements NotificationReadPlat
     private final ColumnValidator columnValidator;
     private final PaginationHelper paginationHelper;
     private final DatabaseSpecificSQLGenerator sqlGenerator;
+    private final FineractProperties fineractProperties;
 
     @Override
     public boolean hasUnreadNotifications(Long appUserId) {
@@ -95,7 +98,15 @@ public class NotificationReadPlatformServiceImpl implements NotificationReadPlat
         String sql = "SELECT id, notification_id as notificationId, user_id as userId, is_read as isRead, created_at "
                 + "as createdAt FROM notification_mapper WHERE user_id = ? AND is_read = false";
         List<NotificationMapperData> notificationMappers = this.jdbcTemplate.query(sql, notificationMapperRow, appUserId);
-        return notificationMappers.size() > 0;
+        if (notificationMappers.size() > 0) {
+            return true;
+        }
+        if (fanOutOnRead()) {
+            String officeSql = "SELECT ng.id FROM notification_generator ng WHERE " + officeNotificationsOf("ng") + " AND ng.id > "
+                    + readWatermarkOf("?") + " " + sqlGenerator.limit(1);
+            return !this.jdbcTemplate.queryForList(officeSql, Long.class, appUserId, appUserId, appUserId, appUserId, appUserId).isEmpty();
+        }
+        return false;
     }
 
     @Override
@@ -103,11 +114,46 @@ public class NotificationReadPlatformServiceImpl implements NotificationReadPlat
         final Long appUserId = context.authenticatedUser().getId();
         String sql = "UPDATE notification_mapper SET is_read = true WHERE is_read = false and user_id = ?";
         this.jdbcTemplate.update(sql, appUserId);
+        if (fanOutOnRead()) {
+            updateReadWatermark(appUserId);
+        }
+    }
+
+    /**
+     * Marks the fan-out notifications as read up to the newest one served to the user, notifications raised after the
+     * last read of the feed stay unread.
+     */
+    private void updateReadWatermark(Long appUserId) {
+        this.jdbcTemplate.update("UPDATE notification_read_watermark SET last_read_notification_id = last_served_notification_id "
+                + "WHERE user_id = ? AND last_read_notification_id < last_served_notification_id", appUserId);
+    }
+
+    private void updateServedWatermark(Long appUserId, long lastServedNotificationId) {
+        final String updateSql = "UPDATE notification_read_watermark SET last_served_notification_id = ? "
+                + "WHERE user_id = ? AND last_served_notification_id < ?";
+        if (this.jdbcTemplate.update(updateSql, lastServedNotificationId, appUserId, lastServedNotificationId) > 0) {
+            return;
+        }
+        final Long existing = this.jdbcTemplate.queryForObject("SELECT count(*) FROM notification_read_watermark WHERE user_id = ?",
+                Long.class, appUserId);
+        if (existing != null && existing > 0) {
+            return;
+        }
+        try {
+            this.jdbcTemplate.update("INSERT INTO notification_read_watermark (user_id, last_read_notification_id, "
+                    + "last_served_notification_id) VALUES (?, ?, ?)", appUserId, 0L, lastServedNotificationId);
+        } catch (DuplicateKeyException e) {
+            // the watermark exists already, possibly created by a concurrent request
+            this.jdbcTemplate.update(updateSql, lastServedNotificationId, appUserId, lastServedNotificationId);
+        }
     }
 
     @Override
     public Page<NotificationData> getAllUnreadNotifications(final SearchParameters searchParameters) {
         final Long appUserId = context.authenticatedUser().getId();
+        if (fanOutOnRead()) {
+            return getFanOutNotificationDataPage(searchParameters, appUserId, true);
+        }
         String sql = "SELECT " + sqlGenerator.calcFoundRows() + " ng.id as id, nm.user_id as userId, ng.object_type as objectType, "
                 + "ng.object_identifier as objectId, ng.actor as actor, ng." + sqlGenerator.escape("action")
                 + " as action, ng.notification_content "
@@ -115,12 +161,15 @@ public class NotificationReadPlatformServiceImpl implements NotificationReadPlat
                 + "FROM notification_mapper nm INNER JOIN notification_generator ng ON nm.notification_id = ng.id "
                 + "WHERE nm.user_id = ? AND nm.is_read = false order by nm.created_at desc";
 
-        return getNotificationDataPage(searchParameters, appUserId, sql);
+        return getNotificationDataPage(searchParameters, new Object[] { appUserId }, sql);
     }
 
     @Override
     public Page<NotificationData> getAllNotifications(SearchParameters searchParameters) {
         final Long appUserId = context.authenticatedUser().getId();
+        if (fanOutOnRead()) {
+            return getFanOutNotificationDataPage(searchParameters, appUserId, false);
+        }
         String sql = "SELECT " + sqlGenerator.calcFoundRows() + " ng.id as id, nm.user_id as userId, ng.object_type as objectType, "
                 + "ng.object_identifier as objectId, ng.actor as actor, ng." + sqlGenerator.escape("action")
                 + " as action, ng.notification_content "
@@ -128,10 +177,73 @@ public class NotificationReadPlatformServiceImpl implements NotificationReadPlat
                 + "FROM notification_mapper nm INNER JOIN notification_generator ng ON nm.notification_id = ng.id "
                 + "WHERE nm.user_id = ? order by nm.created_at desc";
 
-        return getNotificationDataPage(searchParameters, appUserId, sql);
+        return getNotificationDataPage(searchParameters, new Object[] { appUserId }, sql);
+    }
+
+    /**
+     * Reads the notifications mapped to the user together with the notifications stored once for the office of the user
+     * and one of the permissions of the user.
+     */
+    private Page<NotificationData> getFanOutNotificationDataPage(SearchParameters searchParameters, Long appUserId, boolean unreadOnly) {
+        final String columns = "ng.id as id, ng.object_type as objectType, ng.object_identifier as objectId, ng.actor as actor, ng."
+                + sqlGenerator.escape("action") + " as action, ng.notification_content as content, "
+                + "ng.is_system_generated as isSystemGenerated, ";
+        String sql = "SELECT " + sqlGenerator.calcFoundRows() + " n.* FROM (" //
+                + "SELECT " + columns + "nm.user_id as userId, nm.created_at as createdAt, 0 as fanOut "
+                + "FROM notification_mapper nm INNER JOIN notification_generator ng ON nm.notification_id = ng.id "
+                + "WHERE nm.user_id = ?" + (unreadOnly ? " AND nm.is_read = false" : "") //
+                + " UNION ALL " //
+                + "SELECT " + columns + "? as userId, ng.created_at as createdAt, 1 as fanOut FROM notification_generator ng " //
+                + "WHERE " + officeNotificationsOf("ng") + (unreadOnly ? " AND ng.id > " + readWatermarkOf("?") : "") //
+                + ") n order by n.createdAt desc";
+
+        Object[] params = unreadOnly ? new Object[] { appUserId, appUserId, appUserId, appUserId, appUserId, appUserId, appUserId }
+                : new Object[] { appUserId, appUserId, appUserId, appUserId, appUserId, appUserId };
+        // remember the newest fan-out notification of the page, marking as read must not pass notifications never served
+        final long[] lastServed = { 0L };
+        Page<NotificationData> page = getNotificationDataPage(searchParameters, params, sql, (rs, rowNum) -> {
+            NotificationData notificationData = notificationDataRow.mapRow(rs, rowNum);
+            if (rs.getInt("fanOut") == 1) {
+                lastServed[0] = Math.max(lastServed[0], notificationData.getId());
+            }
+            return notificationData;
+        });
+        if (lastServed[0] > 0) {
+            updateServedWatermark(appUserId, lastServed[0]);
+        }
+        return page;
+    }
+
+    /**
+     * Matches the notifications stored for the office of the user and one of the permissions of the user, except the ones
+     * the user triggered. Takes the user id four times.
+     */
+    private static String officeNotificationsOf(String alias) {
+        return alias + ".office_id = (SELECT u.office_id FROM m_appuser u WHERE u.id = ?) AND (" + alias + ".permission_code IN ("
+                + userPermissionCodes() + ") OR 'ALL_FUNCTIONS' IN (" + userPermissionCodes() + ")) AND " + alias + ".actor <> ?";
+    }
+
+    private static String userPermissionCodes() {
+        return "SELECT p.code FROM m_appuser_role ur INNER JOIN m_role r ON r.id = ur.role_id AND r.is_disabled = false "
+                + "INNER JOIN m_role_permission rp ON rp.role_id = r.id INNER JOIN m_permission p ON p.id = rp.permission_id "
+                + "WHERE ur.appuser_id = ?";
+    }
+
+    private static String readWatermarkOf(String userIdParameter) {
+        return "coalesce((SELECT w.last_read_notification_id FROM notification_read_watermark w WHERE w.user_id = " + userIdParameter
+                + "), 0)";
+    }
+
+    private boolean fanOutOnRead() {
+        return fineractProperties.getNotification().getUserNotificationSystem().isFanOutOnRead();
+    }
+
+    private Page<NotificationData> getNotificationDataPage(SearchParameters searchParameters, Object[] params, String sql) {
+        return getNotificationDataPage(searchParameters, params, sql, this.notificationDataRow);
     }
 
-    private Page<NotificationData> getNotificationDataPage(SearchParameters searchParameters, Long appUserId, String sql) {
+    private Page<NotificationData> getNotificationDataPage(SearchParameters searchParameters, Object[] params, String sql,
+            RowMapper<NotificationData> rowMapper) {
         final StringBuilder sqlBuilder = new StringBuilder(200);
         sqlBuilder.append(sql);
 
@@ -153,8 +265,7 @@ public class NotificationReadPlatformServiceImpl implements NotificationReadPlat
             }
         }
 
-        Object[] params = new Object[] { appUserId };
-        return this.paginationHelper.fetchPage(this.jdbcTemplate, sqlBuilder.toString(), params, this.notificationDataRow);
+        return this.paginationHelper.fetchPage(this.jdbcTemplate, sqlBuilder.toString(), params, rowMapper);
     }
 
     private static final class NotificationMapperRow implements RowMapper<NotificationMapperData> {
@@ -24,4 +24,11 @@ public interface NotificationWritePlatformService {
 
     Long notify(Collection<Long> userIds, String objectType, Long objectId, String action, Long actorId, String notificationContent,
             boolean isSystemGenerated);
+
+    /**
+     * Stores a single notification for every user of the office holding the permission; the users pick it up when they
+     * read their notifications.
+     */
+    Long notifyOffice(Long officeId, String permission, String objectType, Long objectId, String action, Long actorId,
+            String notificationContent, boolean isSystemGenerated);
 }
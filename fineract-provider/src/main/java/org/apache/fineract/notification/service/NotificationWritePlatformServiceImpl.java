@@ -59,6 +59,17 @@ public class NotificationWritePlatformServiceImpl implements NotificationWritePl
         return generatedNotificationId;
     }
 
+    @Override
+    public Long notifyOffice(Long officeId, String permission, String objectType, Long objectId, String action, Long actorId,
+            String notificationContent, boolean isSystemGenerated) {
+
+        Notification notification = new Notification().setObjectType(objectType).setObjectIdentifier(objectId).setAction(action)
+                .setActorId(actorId).setSystemGenerated(isSystemGenerated).setNotificationContent(notificationContent)
+                .setCreatedAt(DateUtils.getLocalDateTimeOfSystem()).setOfficeId(officeId).setPermissionCode(permission);
+
+        return this.notificationGeneratorWritePlatformService.create(notification);
+    }
+
     private List<Long> insertIntoNotificationMapper(Collection<Long> userIds, Long generatedNotificationId) {
         List<Long> mappedIds = new ArrayList<>();
         for (Long userId : userIds) {
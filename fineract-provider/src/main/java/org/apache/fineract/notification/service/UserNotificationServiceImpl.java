@@ -22,17 +22,23 @@ import static java.util.stream.Collectors.toSet;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractContext;
 import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
 import org.apache.fineract.notification.data.NotificationData;
 import org.apache.fineract.notification.eventandlistener.NotificationEventPublisher;
 import org.apache.fineract.useradministration.domain.AppUser;
 import org.apache.fineract.useradministration.domain.AppUserRepository;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @RequiredArgsConstructor
 @Slf4j
@@ -43,6 +49,7 @@ public class UserNotificationServiceImpl implements UserNotificationService {
     private final FineractProperties fineractProperties;
     private final NotificationReadPlatformService notificationReadPlatformService;
     private final NotificationWritePlatformService notificationWritePlatformService;
+    private final TaskExecutor notificationTaskExecutor;
 
     @Override
     public void notifyUsers(String permission, String objectType, Long objectIdentifier, String notificationContent, String eventType,
@@ -50,16 +57,50 @@ public class UserNotificationServiceImpl implements UserNotificationService {
 
         if (userNotificationSystemIsEnabled()) {
             String tenantIdentifier = ThreadLocalContextUtil.getTenant().getTenantIdentifier();
-            Set<Long> userIds = getNotifiableUserIds(officeId, permission);
+            // in fan-out-on-read mode the recipients are resolved when they read their notifications
+            Set<Long> userIds = fanOutOnRead() ? new HashSet<>() : getNotifiableUserIds(officeId, permission);
             NotificationData notificationData = new NotificationData().setObjectType(objectType).setObjectId(objectIdentifier)
                     .setAction(eventType).setActorId(appUserId).setContent(notificationContent).setRead(false).setSystemGenerated(false)
-                    .setTenantIdentifier(tenantIdentifier).setOfficeId(officeId).setUserIds(userIds);
+                    .setTenantIdentifier(tenantIdentifier).setOfficeId(officeId).setPermission(permission).setUserIds(userIds);
+            broadcastAfterCommit(notificationData);
+        }
+    }
+
+    /**
+     * Hands the notification to the publisher once the business transaction has committed, on the notification executor,
+     * so that storing the notification neither slows down nor rolls back the business transaction.
+     */
+    private void broadcastAfterCommit(NotificationData notificationData) {
+        final FineractContext context = ThreadLocalContextUtil.getContext();
+        final Runnable broadcast = () -> {
             try {
+                ThreadLocalContextUtil.init(context);
                 notificationEventPublisher.broadcastNotification(notificationData);
             } catch (Exception e) {
-                // We want to avoid rethrowing the exception to stop the business transaction from rolling back
                 log.error("Error while broadcasting notification event", e);
+            } finally {
+                ThreadLocalContextUtil.reset();
             }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCommit() {
+                    submit(broadcast);
+                }
+            });
+        } else {
+            submit(broadcast);
+        }
+    }
+
+    private void submit(Runnable broadcast) {
+        try {
+            notificationTaskExecutor.execute(broadcast);
+        } catch (TaskRejectedException e) {
+            // We want to avoid rethrowing the exception to stop the business transaction from failing
+            log.error("Notification queue is full, dropping notification", e);
         }
     }
 
@@ -75,6 +116,12 @@ public class UserNotificationServiceImpl implements UserNotificationService {
     @Override
     public void notifyUsers(NotificationData notificationData) {
         if (userNotificationSystemIsEnabled()) {
+            if (fanOutOnRead() && notificationData.getPermission() != null) {
+                notificationWritePlatformService.notifyOffice(notificationData.getOfficeId(), notificationData.getPermission(),
+                        notificationData.getObjectType(), notificationData.getObjectId(), notificationData.getAction(),
+                        notificationData.getActorId(), notificationData.getContent(), notificationData.isSystemGenerated());
+                return;
+            }
             Long appUserId = notificationData.getActorId();
 
             Set<Long> userIds = notificationData.getUserIds();
@@ -104,6 +151,10 @@ public class UserNotificationServiceImpl implements UserNotificationService {
         return fineractProperties.getNotification().getUserNotificationSystem().isEnabled();
     }
 
+    private boolean fanOutOnRead() {
+        return fineractProperties.getNotification().getUserNotificationSystem().isFanOutOnRead();
+    }
+
     private Set<Long> getNotifiableUserIds(Long officeId, String permission) {
         Collection<AppUser> users = appUserRepository.findByOfficeId(officeId);
         Collection<AppUser> usersWithPermission = users.stream().filter(aU -> aU.hasAnyPermission(permission, "ALL_FUNCTIONS")).toList();
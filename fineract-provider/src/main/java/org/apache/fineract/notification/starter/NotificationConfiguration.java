@@ -19,6 +19,7 @@
 package org.apache.fineract.notification.starter;
 
 import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.config.TaskExecutorConstant;
 import org.apache.fineract.infrastructure.core.service.PaginationHelper;
 import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
 import org.apache.fineract.infrastructure.event.business.service.BusinessEventNotifierService;
@@ -37,9 +38,11 @@ import org.apache.fineract.notification.service.NotificationWritePlatformService
 import org.apache.fineract.notification.service.UserNotificationService;
 import org.apache.fineract.notification.service.UserNotificationServiceImpl;
 import org.apache.fineract.useradministration.domain.AppUserRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.jdbc.core.JdbcTemplate;
 
 @Configuration
@@ -55,8 +58,10 @@ public class NotificationConfiguration {
     @Bean
     @ConditionalOnMissingBean(NotificationReadPlatformService.class)
     public NotificationReadPlatformService notificationReadPlatformService(JdbcTemplate jdbcTemplate, PlatformSecurityContext context,
-            ColumnValidator columnValidator, PaginationHelper paginationHelper, DatabaseSpecificSQLGenerator sqlGenerator) {
-        return new NotificationReadPlatformServiceImpl(jdbcTemplate, context, columnValidator, paginationHelper, sqlGenerator);
+            ColumnValidator columnValidator, PaginationHelper paginationHelper, DatabaseSpecificSQLGenerator sqlGenerator,
+            FineractProperties fineractProperties) {
+        return new NotificationReadPlatformServiceImpl(jdbcTemplate, context, columnValidator, paginationHelper, sqlGenerator,
+                fineractProperties);
     }
 
     @Bean
@@ -74,8 +79,9 @@ public class NotificationConfiguration {
     public UserNotificationService userNotificationService(NotificationEventPublisher notificationEventPublisher,
             AppUserRepository appUserRepository, FineractProperties fineractProperties,
             NotificationReadPlatformService notificationReadPlatformService,
-            NotificationWritePlatformService notificationWritePlatformService) {
+            NotificationWritePlatformService notificationWritePlatformService,
+            @Qualifier(TaskExecutorConstant.USER_NOTIFICATION_TASK_EXECUTOR_BEAN_NAME) TaskExecutor notificationTaskExecutor) {
         return new UserNotificationServiceImpl(notificationEventPublisher, appUserRepository, fineractProperties,
-                notificationReadPlatformService, notificationWritePlatformService);
+                notificationReadPlatformService, notificationWritePlatformService, notificationTaskExecutor);
     }
 }
@@ -0,0 +1,39 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.organisation.workingdays.service;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.apache.fineract.organisation.holiday.domain.Holiday;
+import org.apache.fineract.organisation.workingdays.data.BusinessDayCalendar;
+import org.apache.fineract.organisation.workingdays.domain.WorkingDays;
+
+public interface BusinessDayCalendarReadService {
+
+    /**
+     * Builds the business day calendar of the given working days and active holidays of an office, or returns null when
+     * the working days are not known or their rule cannot be indexed per day of the week.
+     * <p>
+     * The calendar is built from exactly the lists it is given, so the shortcuts taken with it always agree with the
+     * holiday list and working days they are used next to. It covers the dates from <code>holidaysFrom</code> (the date
+     * the holidays were loaded from), but at most one year before the business date, to ten years after the business
+     * date.
+     */
+    BusinessDayCalendar buildBusinessDayCalendar(WorkingDays workingDays, List<Holiday> holidays, LocalDate holidaysFrom);
+}
@@ -0,0 +1,73 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.organisation.workingdays.service;
+
+import java.time.LocalDate;
+import java.util.List;
+import net.fortuna.ical4j.model.Recur;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.apache.fineract.organisation.holiday.domain.Holiday;
+import org.apache.fineract.organisation.workingdays.data.BusinessDayCalendar;
+import org.apache.fineract.organisation.workingdays.domain.WorkingDays;
+import org.apache.fineract.portfolio.calendar.service.CalendarUtils;
+
+/**
+ * Builds the business day calendars of the offices from the holidays and working days loaded by the caller.
+ * <p>
+ * Calendars are not kept across calls: a calendar cached beyond the transaction could miss a holiday added on another
+ * instance and tell the schedule generation that the date is a business day.
+ */
+public class BusinessDayCalendarReadServiceImpl implements BusinessDayCalendarReadService {
+
+    private static final int YEARS_BEFORE_BUSINESS_DATE = 1;
+    private static final int YEARS_AFTER_BUSINESS_DATE = 10;
+
+    @Override
+    public BusinessDayCalendar buildBusinessDayCalendar(final WorkingDays workingDays, final List<Holiday> holidays,
+            final LocalDate holidaysFrom) {
+        if (workingDays == null || holidaysFrom == null) {
+            return null;
+        }
+        final Recur recur = CalendarUtils.getICalRecur(workingDays.getRecurrence());
+        if (!isWeeklyRule(recur)) {
+            // evaluating any other rule for every day of the window would cost more than it saves
+            return null;
+        }
+        final LocalDate businessDate = DateUtils.getBusinessLocalDate();
+        final LocalDate windowStart = DateUtils.isAfter(holidaysFrom, businessDate.minusYears(YEARS_BEFORE_BUSINESS_DATE)) ? holidaysFrom
+                : businessDate.minusYears(YEARS_BEFORE_BUSINESS_DATE);
+        final LocalDate windowEnd = businessDate.plusYears(YEARS_AFTER_BUSINESS_DATE);
+        if (DateUtils.isAfter(windowStart, windowEnd)) {
+            return null;
+        }
+        // a plain weekly rule only depends on the day of the week, evaluate it once per week day
+        final boolean[] isWorkingDayOfWeek = new boolean[7];
+        for (int day = 0; day < isWorkingDayOfWeek.length; day++) {
+            final LocalDate date = windowStart.plusDays(day);
+            isWorkingDayOfWeek[date.getDayOfWeek().ordinal()] = WorkingDaysUtil.isWorkingDay(workingDays, date);
+        }
+        return BusinessDayCalendar.of(windowStart, windowEnd, date -> isWorkingDayOfWeek[date.getDayOfWeek().ordinal()], holidays);
+    }
+
+    private static boolean isWeeklyRule(final Recur recur) {
+        return recur != null && recur.getFrequency() == Recur.Frequency.WEEKLY && recur.getInterval() <= 1 && recur.getCount() <= 0
+                && recur.getUntil() == null && recur.getMonthList().isEmpty() && recur.getMonthDayList().isEmpty()
+                && recur.getYearDayList().isEmpty() && recur.getWeekNoList().isEmpty() && recur.getSetPosList().isEmpty();
+    }
+}
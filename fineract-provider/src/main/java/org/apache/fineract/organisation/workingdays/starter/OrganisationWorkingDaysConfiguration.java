@@ -20,6 +20,8 @@ package org.apache.fineract.organisation.workingdays.starter;
 
 import org.apache.fineract.organisation.workingdays.data.WorkingDayValidator;
 import org.apache.fineract.organisation.workingdays.domain.WorkingDaysRepositoryWrapper;
+import org.apache.fineract.organisation.workingdays.service.BusinessDayCalendarReadService;
+import org.apache.fineract.organisation.workingdays.service.BusinessDayCalendarReadServiceImpl;
 import org.apache.fineract.organisation.workingdays.service.WorkingDaysReadPlatformService;
 import org.apache.fineract.organisation.workingdays.service.WorkingDaysReadPlatformServiceImpl;
 import org.apache.fineract.organisation.workingdays.service.WorkingDaysWritePlatformService;
@@ -44,4 +46,10 @@ public class OrganisationWorkingDaysConfiguration {
             WorkingDayValidator fromApiJsonDeserializer) {
         return new WorkingDaysWritePlatformServiceJpaRepositoryImpl(daysRepositoryWrapper, fromApiJsonDeserializer);
     }
+
+    @Bean
+    @ConditionalOnMissingBean(BusinessDayCalendarReadService.class)
+    public BusinessDayCalendarReadService businessDayCalendarReadService() {
+        return new BusinessDayCalendarReadServiceImpl();
+    }
 }
@@ -57,6 +57,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
 import org.apache.fineract.commands.domain.CommandWrapper;
 import org.apache.fineract.commands.service.CommandWrapperBuilder;
@@ -80,6 +81,7 @@ import org.apache.fineract.infrastructure.core.serialization.ApiRequestJsonSeria
 import org.apache.fineract.infrastructure.core.serialization.DefaultToApiJsonSerializer;
 import org.apache.fineract.infrastructure.core.serialization.FromJsonHelper;
 import org.apache.fineract.infrastructure.core.service.CommandParameterUtil;
+import org.apache.fineract.infrastructure.core.service.ConcurrentReadExecutor;
 import org.apache.fineract.infrastructure.core.service.DateUtils;
 import org.apache.fineract.infrastructure.core.service.ExternalIdFactory;
 import org.apache.fineract.infrastructure.core.service.Page;
@@ -130,6 +132,7 @@ import org.apache.fineract.portfolio.loanaccount.data.LoanApprovalData;
 import org.apache.fineract.portfolio.loanaccount.data.LoanChargeData;
 import org.apache.fineract.portfolio.loanaccount.data.LoanCollateralManagementData;
 import org.apache.fineract.portfolio.loanaccount.data.LoanTermVariationsData;
+import org.apache.fineract.portfolio.loanaccount.data.LoanTransactionBalanceWithLoanId;
 import org.apache.fineract.portfolio.loanaccount.data.LoanTransactionData;
 import org.apache.fineract.portfolio.loanaccount.data.PaidInAdvanceData;
 import org.apache.fineract.portfolio.loanaccount.data.RepaymentScheduleRelatedLoanData;
@@ -297,6 +300,7 @@ public class LoansApiResource {
     private final ClientReadPlatformService clientReadPlatformService;
     private final LoanTermVariationsRepository loanTermVariationsRepository;
     private final LoanSummaryProviderDelegate loanSummaryProviderDelegate;
+    private final ConcurrentReadExecutor concurrentReadExecutor;
 
     /*
      * This template API is used for loan approval, ideally this should be invoked on loan that are pending for
@@ -495,22 +499,24 @@ public class LoansApiResource {
         final Page<LoanAccountData> loanBasicDetails = this.loanReadPlatformService.retrieveAll(searchParameters);
         final Set<String> associationParameters = ApiParameterHelper.extractAssociationsForResponseIfProvided(uriInfo.getQueryParameters());
         if (associationParameters.contains(DataTableApiConstant.summaryAssociateParamName)) {
-            loanBasicDetails.getPageItems().forEach(i -> {
-                if (i.getSummary() != null) {
-                    Collection<DisbursementData> disbursementData = this.loanReadPlatformService.retrieveLoanDisbursementDetails(i.getId());
-                    final RepaymentScheduleRelatedLoanData repaymentScheduleRelatedData = new RepaymentScheduleRelatedLoanData(
-                            i.getTimeline().getExpectedDisbursementDate(), i.getTimeline().getActualDisbursementDate(), i.getCurrency(),
-                            i.getPrincipal(), i.getInArrearsTolerance(), i.getFeeChargesAtDisbursementCharged());
-                    final LoanScheduleData repaymentSchedule = this.loanReadPlatformService.retrieveRepaymentSchedule(i.getId(),
-                            repaymentScheduleRelatedData, disbursementData, i.isInterestRecalculationEnabled(),
-                            LoanScheduleType.fromEnumOptionData(i.getLoanScheduleType()));
+            final List<LoanAccountData> loansWithSummary = loanBasicDetails.getPageItems().stream().filter(i -> i.getSummary() != null)
+                    .toList();
+            if (!loansWithSummary.isEmpty()) {
+                // fetch the associations of the whole page with a fixed number of queries and stitch them per loan
+                final List<Long> loanIds = loansWithSummary.stream().map(LoanAccountData::getId).toList();
+                final Map<Long, List<DisbursementData>> disbursementData = this.loanReadPlatformService
+                        .retrieveLoanDisbursementDetails(loanIds);
+                final Map<Long, LoanScheduleData> repaymentSchedules = this.loanReadPlatformService
+                        .retrieveRepaymentSchedules(loansWithSummary, disbursementData);
+                final Map<Long, List<LoanTransactionBalanceWithLoanId>> loanTransactionBalances = loanSummaryBalancesRepository
+                        .retrieveLoanSummaryBalancesByTransactionType(loanIds, LoanApiConstants.LOAN_SUMMARY_TRANSACTION_TYPES);
+                loansWithSummary.forEach(i -> {
                     LoanSummaryDataProvider loanSummaryDataProvider = loanSummaryProviderDelegate
                             .resolveLoanSummaryDataProvider(i.getTransactionProcessingStrategyCode());
-                    i.setSummary(loanSummaryDataProvider.withTransactionAmountsSummary(i.getId(), i.getSummary(), repaymentSchedule,
-                            loanSummaryBalancesRepository.retrieveLoanSummaryBalancesByTransactionType(i.getId(),
-                                    LoanApiConstants.LOAN_SUMMARY_TRANSACTION_TYPES)));
-                }
-            });
+                    i.setSummary(loanSummaryDataProvider.withTransactionAmountsSummary(i.getId(), i.getSummary(),
+                            repaymentSchedules.get(i.getId()), loanTransactionBalances.getOrDefault(i.getId(), new ArrayList<>())));
+                });
+            }
         }
         final ApiRequestJsonSerializationSettings settings = this.apiRequestParameterHelper.process(uriInfo.getQueryParameters());
         return this.toApiJsonSerializer.serialize(settings, loanBasicDetails, LOAN_DATA_PARAMETERS);
@@ -917,21 +923,26 @@ public class LoansApiResource {
                 loanBasicDetails = loanBasicDetails.setMeeting(calendarData);
             }
         }
-        Collection<InterestRatePeriodData> interestRatesPeriods = this.loanReadPlatformService
-                .retrieveLoanInterestRatePeriodData(loanBasicDetails);
-        Collection<LoanTransactionData> loanRepayments = null;
-        LoanScheduleData repaymentSchedule = null;
-        Collection<LoanChargeData> charges = null;
-        Collection<GuarantorData> guarantors = null;
-        CalendarData meeting = null;
-        Collection<NoteData> notes = null;
-        PortfolioAccountData linkedAccount = null;
-        Collection<DisbursementData> disbursementData = null;
-        List<LoanTermVariationsData> emiAmountVariations = null;
-        List<LoanTermVariationsData> loanTermVariations = null;
-        Collection<LoanCollateralResponseData> loanCollateralManagements;
-        Collection<LoanCollateralManagementData> loanCollateralManagementData = new ArrayList<>();
-        CollectionData collectionData = this.delinquencyReadPlatformService.calculateLoanCollectionData(resolvedLoanId);
+        final LoanAccountData loanData = loanBasicDetails;
+        final ConcurrentReadExecutor.ReadGroup reads = concurrentReadExecutor.newGroup();
+        final CompletableFuture<Collection<InterestRatePeriodData>> interestRatesPeriodsFuture = reads
+                .submit("loan.interestRatesPeriods", () -> this.loanReadPlatformService.retrieveLoanInterestRatePeriodData(loanData));
+        final CompletableFuture<CollectionData> collectionDataFuture = reads.submit("loan.collectionData",
+                () -> this.delinquencyReadPlatformService.calculateLoanCollectionData(resolvedLoanId));
+        CompletableFuture<Collection<LoanTransactionData>> loanRepaymentsFuture = CompletableFuture.completedFuture(null);
+        CompletableFuture<LoanScheduleData> repaymentScheduleFuture = CompletableFuture.completedFuture(null);
+        CompletableFuture<LoanScheduleData> originalScheduleFuture = CompletableFuture.completedFuture(null);
+        CompletableFuture<Collection<LoanChargeData>> chargesFuture = CompletableFuture.completedFuture(null);
+        CompletableFuture<Collection<GuarantorData>> guarantorsFuture = CompletableFuture.completedFuture(null);
+        CompletableFuture<CalendarData> meetingFuture = CompletableFuture.completedFuture(null);
+        CompletableFuture<Collection<NoteData>> notesFuture = CompletableFuture.completedFuture(null);
+        CompletableFuture<PortfolioAccountData> linkedAccountFuture = CompletableFuture.completedFuture(null);
+        CompletableFuture<Collection<DisbursementData>> disbursementDataFuture = CompletableFuture.completedFuture(null);
+        CompletableFuture<List<LoanTermVariationsData>> emiAmountVariationsFuture = CompletableFuture.completedFuture(null);
+        CompletableFuture<List<LoanTermVariationsData>> loanTermVariationsFuture = CompletableFuture.completedFuture(null);
+        CompletableFuture<Collection<LoanCollateralResponseData>> loanCollateralManagementsFuture = CompletableFuture
+                .completedFuture(new ArrayList<>());
+        boolean futureScheduleRequested = false;
 
         final Set<String> mandatoryResponseParameters = new HashSet<>();
         final Set<String> associationParameters = ApiParameterHelper.extractAssociationsForResponseIfProvided(uriInfo.getQueryParameters());
@@ -948,35 +959,38 @@ public class LoansApiResource {
 
             ApiParameterHelper.excludeAssociationsForResponseIfProvided(exclude, associationParameters);
 
+            // the associations below are independent reads, they are submitted together and collected afterwards
             if (associationParameters.contains(DataTableApiConstant.guarantorsAssociateParamName)) {
                 mandatoryResponseParameters.add(DataTableApiConstant.guarantorsAssociateParamName);
-                guarantors = this.guarantorReadPlatformService.retrieveGuarantorsForLoan(resolvedLoanId);
-                if (CollectionUtils.isEmpty(guarantors)) {
-                    guarantors = null;
-                }
+                guarantorsFuture = reads.submit("loan.guarantors",
+                        () -> this.guarantorReadPlatformService.retrieveGuarantorsForLoan(resolvedLoanId));
             }
 
             if (associationParameters.contains(DataTableApiConstant.transactionsAssociateParamName)) {
                 mandatoryResponseParameters.add(DataTableApiConstant.transactionsAssociateParamName);
-                loanRepayments = this.loanReadPlatformService.retrieveLoanTransactions(resolvedLoanId);
+                loanRepaymentsFuture = reads.submit("loan.transactions",
+                        () -> this.loanReadPlatformService.retrieveLoanTransactions(resolvedLoanId));
             }
 
             if (associationParameters.contains(DataTableApiConstant.multiDisburseDetailsAssociateParamName)
                     || associationParameters.contains(DataTableApiConstant.repaymentScheduleAssociateParamName)) {
                 mandatoryResponseParameters.add(DataTableApiConstant.multiDisburseDetailsAssociateParamName);
-                disbursementData = this.loanReadPlatformService.retrieveLoanDisbursementDetails(resolvedLoanId);
+                disbursementDataFuture = reads.submit("loan.disbursementDetails",
+                        () -> this.loanReadPlatformService.retrieveLoanDisbursementDetails(resolvedLoanId));
             }
 
             if (associationParameters.contains(DataTableApiConstant.emiAmountVariationsAssociateParamName)
                     || associationParameters.contains(DataTableApiConstant.repaymentScheduleAssociateParamName)) {
                 mandatoryResponseParameters.add(DataTableApiConstant.emiAmountVariationsAssociateParamName);
-                emiAmountVariations = this.loanTermVariationsRepository.findLoanTermVariationsByLoanIdAndTermType(resolvedLoanId,
-                        LoanTermVariationType.EMI_AMOUNT.getValue());
+                emiAmountVariationsFuture = reads.submit("loan.emiAmountVariations",
+                        () -> this.loanTermVariationsRepository.findLoanTermVariationsByLoanIdAndTermType(resolvedLoanId,
+                                LoanTermVariationType.EMI_AMOUNT.getValue()));
             }
 
             if (associationParameters.contains(DataTableApiConstant.loanTermVariationsAssociateParamName)) {
                 mandatoryResponseParameters.add(DataTableApiConstant.loanTermVariationsAssociateParamName);
-                loanTermVariations = this.loanTermVariationsRepository.findLoanTermVariationsByLoanId(resolvedLoanId);
+                loanTermVariationsFuture = reads.submit("loan.loanTermVariations",
+                        () -> this.loanTermVariationsRepository.findLoanTermVariationsByLoanId(resolvedLoanId));
             }
 
             if (associationParameters.contains(DataTableApiConstant.repaymentScheduleAssociateParamName)) {
@@ -986,63 +1000,78 @@ public class LoansApiResource {
                         loanBasicDetails.getTimeline().getActualDisbursementDate(), loanBasicDetails.getCurrency(),
                         loanBasicDetails.getPrincipal(), loanBasicDetails.getInArrearsTolerance(),
                         loanBasicDetails.getFeeChargesAtDisbursementCharged());
-                repaymentSchedule = this.loanReadPlatformService.retrieveRepaymentSchedule(resolvedLoanId, repaymentScheduleRelatedData,
-                        disbursementData, loanBasicDetails.isInterestRecalculationEnabled(),
-                        LoanScheduleType.fromEnumOptionData(loanBasicDetails.getLoanScheduleType()));
+                final LoanScheduleType loanScheduleType = LoanScheduleType.fromEnumOptionData(loanBasicDetails.getLoanScheduleType());
+                // the schedules need the disbursement details, they wait for them on their own worker thread
+                final CompletableFuture<Collection<DisbursementData>> scheduleDisbursementDataFuture = disbursementDataFuture;
+                repaymentScheduleFuture = reads.submit("loan.repaymentSchedule",
+                        () -> this.loanReadPlatformService.retrieveRepaymentSchedule(resolvedLoanId, repaymentScheduleRelatedData,
+                                reads.join(scheduleDisbursementDataFuture), loanData.isInterestRecalculationEnabled(),
+                                loanScheduleType));
 
                 if (associationParameters.contains(DataTableApiConstant.futureScheduleAssociateParamName)
                         && loanBasicDetails.isInterestRecalculationEnabled()) {
                     mandatoryResponseParameters.add(DataTableApiConstant.futureScheduleAssociateParamName);
-                    this.calculationPlatformService.updateFutureSchedule(repaymentSchedule, resolvedLoanId);
+                    futureScheduleRequested = true;
                 }
 
                 if (associationParameters.contains(DataTableApiConstant.originalScheduleAssociateParamName)
                         && loanBasicDetails.isInterestRecalculationEnabled()
                         && LoanStatus.fromInt(loanBasicDetails.getStatus().getId().intValue()).isActive()) {
                     mandatoryResponseParameters.add(DataTableApiConstant.originalScheduleAssociateParamName);
-                    LoanScheduleData loanScheduleData = this.loanScheduleHistoryReadPlatformService.retrieveRepaymentArchiveSchedule(
-                            resolvedLoanId, repaymentScheduleRelatedData, disbursementData,
-                            LoanScheduleType.fromEnumOptionData(loanBasicDetails.getLoanScheduleType()));
-                    loanBasicDetails = loanBasicDetails.setOriginalSchedule(loanScheduleData);
+                    originalScheduleFuture = reads.submit("loan.originalSchedule",
+                            () -> this.loanScheduleHistoryReadPlatformService.retrieveRepaymentArchiveSchedule(resolvedLoanId,
+                                    repaymentScheduleRelatedData, reads.join(scheduleDisbursementDataFuture),
+                                    loanScheduleType));
                 }
             }
 
             if (associationParameters.contains(DataTableApiConstant.chargesAssociateParamName)) {
                 mandatoryResponseParameters.add(DataTableApiConstant.chargesAssociateParamName);
-                charges = this.loanChargeReadPlatformService.retrieveLoanCharges(resolvedLoanId);
-                if (CollectionUtils.isEmpty(charges)) {
-                    charges = null;
-                }
+                chargesFuture = reads.submit("loan.charges", () -> this.loanChargeReadPlatformService.retrieveLoanCharges(resolvedLoanId));
             }
 
             if (associationParameters.contains(DataTableApiConstant.collateralAssociateParamName)) {
                 mandatoryResponseParameters.add(DataTableApiConstant.collateralAssociateParamName);
-                loanCollateralManagements = this.loanCollateralManagementReadPlatformService
-                        .getLoanCollateralResponseDataList(resolvedLoanId);
-                for (LoanCollateralResponseData loanCollateralManagement : loanCollateralManagements) {
-                    loanCollateralManagementData.add(loanCollateralManagement.toCommand());
-                }
+                loanCollateralManagementsFuture = reads.submit("loan.collateral",
+                        () -> this.loanCollateralManagementReadPlatformService.getLoanCollateralResponseDataList(resolvedLoanId));
             }
 
             if (associationParameters.contains(DataTableApiConstant.meetingAssociateParamName)) {
                 mandatoryResponseParameters.add(DataTableApiConstant.meetingAssociateParamName);
-                meeting = this.calendarReadPlatformService.retrieveLoanCalendar(resolvedLoanId);
+                meetingFuture = reads.submit("loan.meeting", () -> this.calendarReadPlatformService.retrieveLoanCalendar(resolvedLoanId));
             }
 
             if (associationParameters.contains(DataTableApiConstant.notesAssociateParamName)) {
                 mandatoryResponseParameters.add(DataTableApiConstant.notesAssociateParamName);
-                notes = this.noteReadPlatformService.retrieveNotesByResource(resolvedLoanId, NoteType.LOAN.getValue());
-                if (CollectionUtils.isEmpty(notes)) {
-                    notes = null;
-                }
+                notesFuture = reads.submit("loan.notes",
+                        () -> this.noteReadPlatformService.retrieveNotesByResource(resolvedLoanId, NoteType.LOAN.getValue()));
             }
+        }
 
-            if (associationParameters.contains(DataTableApiConstant.linkedAccountAssociateParamName)) {
-                mandatoryResponseParameters.add(DataTableApiConstant.linkedAccountAssociateParamName);
-                linkedAccount = this.accountAssociationsReadPlatformService.retriveLoanLinkedAssociation(resolvedLoanId);
-            }
+        final boolean template = ApiParameterHelper.template(uriInfo.getQueryParameters());
+        if (associationParameters.contains(DataTableApiConstant.linkedAccountAssociateParamName) || template) {
+            mandatoryResponseParameters.add(DataTableApiConstant.linkedAccountAssociateParamName);
+            linkedAccountFuture = reads.submit("loan.linkedAccount",
+                    () -> this.accountAssociationsReadPlatformService.retriveLoanLinkedAssociation(resolvedLoanId));
         }
 
+        final CompletableFuture<Collection<ChargeData>> overdueChargesFuture = reads.submit("loan.overdueCharges",
+                () -> this.chargeReadPlatformService.retrieveLoanProductCharges(loanData.getLoanProductId(),
+                        ChargeTimeType.OVERDUE_INSTALLMENT));
+        final CompletableFuture<PaidInAdvanceData> paidInAdvanceTemplateFuture = reads.submit("loan.paidInAdvance",
+                () -> this.loanReadPlatformService.retrieveTotalPaidInAdvance(resolvedLoanId));
+        // Get rates from Loan
+        final boolean isRatesEnabled = this.configurationDomainService.isSubRatesEnabled();
+        final CompletableFuture<List<RateData>> ratesFuture = isRatesEnabled
+                ? reads.submit("loan.rates", () -> this.rateReadService.retrieveLoanRates(resolvedLoanId))
+                : CompletableFuture.completedFuture(null);
+        final CompletableFuture<Collection<LoanTransactionBalanceWithLoanId>> loanTransactionBalancesFuture = loanBasicDetails
+                .getSummary() != null
+                        ? reads.submit("loan.transactionBalances",
+                                () -> loanSummaryBalancesRepository.retrieveLoanSummaryBalancesByTransactionType(resolvedLoanId,
+                                        LoanApiConstants.LOAN_SUMMARY_TRANSACTION_TYPES))
+                        : CompletableFuture.completedFuture(null);
+
         Collection<LoanProductData> productOptions = null;
         LoanProductData product;
         Collection<EnumOptionData> loanTermFrequencyTypeOptions = null;
@@ -1062,12 +1091,47 @@ public class LoansApiResource {
         Collection<CodeValueData> loanCollateralOptions = null;
         Collection<CalendarData> calendarOptions = null;
         Collection<PortfolioAccountData> accountLinkingOptions = null;
-        PaidInAdvanceData paidInAdvanceTemplate;
         Collection<LoanAccountSummaryData> clientActiveLoanOptions = null;
 
-        final boolean template = ApiParameterHelper.template(uriInfo.getQueryParameters());
         if (template) {
-            productOptions = this.loanProductReadPlatformService.retrieveAllLoanProductsForLookup();
+            final CompletableFuture<Collection<LoanProductData>> productOptionsFuture = reads
+                    .submit("loan.template.productOptions", () -> this.loanProductReadPlatformService.retrieveAllLoanProductsForLookup());
+            final CompletableFuture<Collection<FundData>> fundOptionsFuture = reads.submit("loan.template.fundOptions",
+                    () -> this.fundReadPlatformService.retrieveAllFunds());
+            final CompletableFuture<ChargeData> chargeTemplateFuture = reads.submit("loan.template.chargeTemplate",
+                    () -> this.loanChargeReadPlatformService.retrieveLoanChargeTemplate());
+
+            Long officeId = loanBasicDetails.getClientOfficeId();
+            if (officeId == null && loanBasicDetails.getGroup() != null) {
+                officeId = loanBasicDetails.getGroup().getOfficeId();
+            }
+            final Long loanOfficerOfficeId = officeId;
+            final CompletableFuture<Collection<StaffData>> allowedLoanOfficersFuture = reads.submit(
+                    "loan.template.loanOfficerOptions",
+                    () -> this.loanReadPlatformService.retrieveAllowedLoanOfficers(loanOfficerOfficeId, staffInSelectedOfficeOnly));
+            final CompletableFuture<Collection<CodeValueData>> loanPurposeOptionsFuture = reads.submit(
+                    "loan.template.loanPurposeOptions", () -> this.codeValueReadPlatformService.retrieveCodeValuesByCode("LoanPurpose"));
+            final CompletableFuture<Collection<CodeValueData>> loanCollateralOptionsFuture = reads.submit(
+                    "loan.template.loanCollateralOptions",
+                    () -> this.codeValueReadPlatformService.retrieveCodeValuesByCode("LoanCollateral"));
+
+            final CurrencyData currencyData = loanBasicDetails.getCurrency();
+            String currencyCode = null;
+            if (currencyData != null) {
+                currencyCode = currencyData.getCode();
+            }
+            final long[] accountStatus = { SavingsAccountStatusType.ACTIVE.getValue() };
+            PortfolioAccountDTO portfolioAccountDTO = new PortfolioAccountDTO(PortfolioAccountType.SAVINGS.getValue(),
+                    loanBasicDetails.getClientId(), currencyCode, accountStatus, DepositAccountType.SAVINGS_DEPOSIT.getValue());
+            final CompletableFuture<Collection<PortfolioAccountData>> accountLinkingOptionsFuture = reads.submit(
+                    "loan.template.accountLinkingOptions",
+                    () -> this.portfolioAccountReadPlatformService.retrieveAllForLookup(portfolioAccountDTO));
+            final CompletableFuture<Collection<CalendarData>> calendarOptionsFuture = loanBasicDetails.getGroup() != null
+                    && loanBasicDetails.getGroup().getId() != null
+                            ? reads.submit("loan.template.calendarOptions",
+                                    () -> this.loanReadPlatformService.retrieveCalendars(loanData.getGroup().getId()))
+                            : CompletableFuture.completedFuture(null);
+
             product = this.loanProductReadPlatformService.retrieveLoanProduct(loanBasicDetails.getLoanProductId());
             loanBasicDetails.setProduct(product);
             loanTermFrequencyTypeOptions = this.dropdownReadPlatformService.retrieveLoanTermFrequencyTypeOptions();
@@ -1083,8 +1147,6 @@ public class LoansApiResource {
                 interestTypeOptions = this.dropdownReadPlatformService.retrieveLoanInterestTypeOptions();
             }
             interestCalculationPeriodTypeOptions = this.dropdownReadPlatformService.retrieveLoanInterestRateCalculatedInPeriodOptions();
-
-            fundOptions = this.fundReadPlatformService.retrieveAllFunds();
             repaymentStrategyOptions = this.dropdownReadPlatformService.retrieveTransactionProcessingStrategies();
             if (product.getMultiDisburseLoan()) {
                 chargeOptions = this.chargeReadPlatformService.retrieveLoanAccountApplicableCharges(resolvedLoanId,
@@ -1093,62 +1155,64 @@ public class LoansApiResource {
                 chargeOptions = this.chargeReadPlatformService.retrieveLoanAccountApplicableCharges(resolvedLoanId,
                         new ChargeTimeType[] { ChargeTimeType.OVERDUE_INSTALLMENT, ChargeTimeType.TRANCHE_DISBURSEMENT });
             }
-            chargeTemplate = this.loanChargeReadPlatformService.retrieveLoanChargeTemplate();
-
-            Long officeId = loanBasicDetails.getClientOfficeId();
-
-            if (officeId == null && loanBasicDetails.getGroup() != null) {
-                officeId = loanBasicDetails.getGroup().getOfficeId();
-            }
-            allowedLoanOfficers = this.loanReadPlatformService.retrieveAllowedLoanOfficers(officeId, staffInSelectedOfficeOnly);
-
-            loanPurposeOptions = this.codeValueReadPlatformService.retrieveCodeValuesByCode("LoanPurpose");
-            loanCollateralOptions = this.codeValueReadPlatformService.retrieveCodeValuesByCode("LoanCollateral");
-            final CurrencyData currencyData = loanBasicDetails.getCurrency();
-            String currencyCode = null;
-            if (currencyData != null) {
-                currencyCode = currencyData.getCode();
-            }
-            final long[] accountStatus = { SavingsAccountStatusType.ACTIVE.getValue() };
-            PortfolioAccountDTO portfolioAccountDTO = new PortfolioAccountDTO(PortfolioAccountType.SAVINGS.getValue(),
-                    loanBasicDetails.getClientId(), currencyCode, accountStatus, DepositAccountType.SAVINGS_DEPOSIT.getValue());
-            accountLinkingOptions = this.portfolioAccountReadPlatformService.retrieveAllForLookup(portfolioAccountDTO);
-
-            if (!associationParameters.contains(DataTableApiConstant.linkedAccountAssociateParamName)) {
-                mandatoryResponseParameters.add(DataTableApiConstant.linkedAccountAssociateParamName);
-                linkedAccount = this.accountAssociationsReadPlatformService.retriveLoanLinkedAssociation(resolvedLoanId);
-            }
-            if (loanBasicDetails.getGroup() != null && loanBasicDetails.getGroup().getId() != null) {
-                calendarOptions = this.loanReadPlatformService.retrieveCalendars(loanBasicDetails.getGroup().getId());
-            }
 
             if (loanBasicDetails.getProduct().isCanUseForTopup() && loanBasicDetails.getClientId() != null) {
                 clientActiveLoanOptions = this.accountDetailsReadPlatformService
                         .retrieveClientActiveLoanAccountSummary(loanBasicDetails.getClientId());
             }
 
+            productOptions = reads.join(productOptionsFuture);
+            fundOptions = reads.join(fundOptionsFuture);
+            chargeTemplate = reads.join(chargeTemplateFuture);
+            allowedLoanOfficers = reads.join(allowedLoanOfficersFuture);
+            loanPurposeOptions = reads.join(loanPurposeOptionsFuture);
+            loanCollateralOptions = reads.join(loanCollateralOptionsFuture);
+            accountLinkingOptions = reads.join(accountLinkingOptionsFuture);
+            calendarOptions = reads.join(calendarOptionsFuture);
         }
 
-        Collection<ChargeData> overdueCharges = this.chargeReadPlatformService
-                .retrieveLoanProductCharges(loanBasicDetails.getLoanProductId(), ChargeTimeType.OVERDUE_INSTALLMENT);
-
-        paidInAdvanceTemplate = this.loanReadPlatformService.retrieveTotalPaidInAdvance(resolvedLoanId);
-
-        // Get rates from Loan
-        boolean isRatesEnabled = this.configurationDomainService.isSubRatesEnabled();
-        List<RateData> rates = null;
-        if (isRatesEnabled) {
-            rates = this.rateReadService.retrieveLoanRates(resolvedLoanId);
+        final Collection<InterestRatePeriodData> interestRatesPeriods = reads.join(interestRatesPeriodsFuture);
+        final CollectionData collectionData = reads.join(collectionDataFuture);
+        final Collection<LoanTransactionData> loanRepayments = reads.join(loanRepaymentsFuture);
+        final Collection<DisbursementData> disbursementData = reads.join(disbursementDataFuture);
+        final List<LoanTermVariationsData> emiAmountVariations = reads.join(emiAmountVariationsFuture);
+        final List<LoanTermVariationsData> loanTermVariations = reads.join(loanTermVariationsFuture);
+        final LoanScheduleData repaymentSchedule = reads.join(repaymentScheduleFuture);
+        if (futureScheduleRequested) {
+            this.calculationPlatformService.updateFutureSchedule(repaymentSchedule, resolvedLoanId);
+        }
+        final LoanScheduleData originalSchedule = reads.join(originalScheduleFuture);
+        if (originalSchedule != null) {
+            loanBasicDetails = loanBasicDetails.setOriginalSchedule(originalSchedule);
+        }
+        Collection<GuarantorData> guarantors = reads.join(guarantorsFuture);
+        if (CollectionUtils.isEmpty(guarantors)) {
+            guarantors = null;
+        }
+        Collection<LoanChargeData> charges = reads.join(chargesFuture);
+        if (CollectionUtils.isEmpty(charges)) {
+            charges = null;
+        }
+        final Collection<LoanCollateralManagementData> loanCollateralManagementData = new ArrayList<>();
+        for (LoanCollateralResponseData loanCollateralManagement : reads.join(loanCollateralManagementsFuture)) {
+            loanCollateralManagementData.add(loanCollateralManagement.toCommand());
+        }
+        final CalendarData meeting = reads.join(meetingFuture);
+        Collection<NoteData> notes = reads.join(notesFuture);
+        if (CollectionUtils.isEmpty(notes)) {
+            notes = null;
         }
+        final PortfolioAccountData linkedAccount = reads.join(linkedAccountFuture);
+        final Collection<ChargeData> overdueCharges = reads.join(overdueChargesFuture);
+        final PaidInAdvanceData paidInAdvanceTemplate = reads.join(paidInAdvanceTemplateFuture);
+        final List<RateData> rates = reads.join(ratesFuture);
 
         // updating summary with transaction amounts summary
         if (loanBasicDetails.getSummary() != null) {
             LoanSummaryDataProvider loanSummaryDataProvider = loanSummaryProviderDelegate
                     .resolveLoanSummaryDataProvider(loanBasicDetails.getTransactionProcessingStrategyCode());
-            loanBasicDetails.setSummary(
-                    loanSummaryDataProvider.withTransactionAmountsSummary(loanBasicDetails.getId(), loanBasicDetails.getSummary(),
-                            repaymentSchedule, loanSummaryBalancesRepository.retrieveLoanSummaryBalancesByTransactionType(
-                                    loanBasicDetails.getId(), LoanApiConstants.LOAN_SUMMARY_TRANSACTION_TYPES)));
+            loanBasicDetails.setSummary(loanSummaryDataProvider.withTransactionAmountsSummary(loanBasicDetails.getId(),
+                    loanBasicDetails.getSummary(), repaymentSchedule, reads.join(loanTransactionBalancesFuture)));
         }
 
         final LoanAccountData loanAccount = loanBasicDetails.associationsAndTemplate(repaymentSchedule, loanRepayments, charges,
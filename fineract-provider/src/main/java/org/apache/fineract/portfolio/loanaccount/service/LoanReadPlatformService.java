@@ -22,6 +22,7 @@ import jakarta.validation.constraints.NotNull;
 import java.time.LocalDate;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import org.apache.fineract.infrastructure.core.domain.ExternalId;
 import org.apache.fineract.infrastructure.core.service.Page;
@@ -52,6 +53,19 @@ public interface LoanReadPlatformService {
     LoanScheduleData retrieveRepaymentSchedule(Long loanId, RepaymentScheduleRelatedLoanData repaymentScheduleRelatedData,
             Collection<DisbursementData> disbursementData, boolean isInterestRecalculationEnabled, LoanScheduleType loanScheduleType);
 
+    /**
+     * Batch variant of {@link #retrieveRepaymentSchedule} which loads the installments of all the given loans with a
+     * single query.
+     *
+     * @param loans
+     *            the loans to fetch the repayment schedule for
+     * @param disbursementData
+     *            disbursement details of the loans, keyed by loan id
+     * @return the repayment schedules keyed by loan id
+     */
+    Map<Long, LoanScheduleData> retrieveRepaymentSchedules(Collection<LoanAccountData> loans,
+            Map<Long, List<DisbursementData>> disbursementData);
+
     Collection<LoanTransactionData> retrieveLoanTransactions(Long loanId);
 
     org.springframework.data.domain.Page<LoanTransactionData> retrieveLoanTransactions(@NotNull Long loanId,
@@ -102,6 +116,8 @@ public interface LoanReadPlatformService {
 
     Collection<DisbursementData> retrieveLoanDisbursementDetails(Long loanId);
 
+    Map<Long, List<DisbursementData>> retrieveLoanDisbursementDetails(Collection<Long> loanIds);
+
     DisbursementData retrieveLoanDisbursementDetail(Long loanId, Long disbursementId);
 
     LoanTransactionData retrieveRecoveryPaymentTemplate(Long loanId);
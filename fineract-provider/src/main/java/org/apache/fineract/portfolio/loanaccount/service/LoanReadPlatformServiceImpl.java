@@ -21,6 +21,7 @@ package org.apache.fineract.portfolio.loanaccount.service;
 import static java.lang.Boolean.TRUE;
 import static org.apache.fineract.portfolio.loanproduct.service.LoanEnumerations.interestType;
 
+import com.google.common.collect.Lists;
 import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.Predicate;
 import java.math.BigDecimal;
@@ -31,9 +32,12 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -44,6 +48,7 @@ import org.apache.fineract.infrastructure.codes.data.CodeValueData;
 import org.apache.fineract.infrastructure.codes.service.CodeValueReadPlatformService;
 import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
 import org.apache.fineract.infrastructure.core.api.ApiFacingEnum;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.core.data.EnumOptionData;
 import org.apache.fineract.infrastructure.core.data.StringEnumOptionData;
 import org.apache.fineract.infrastructure.core.domain.ExternalId;
@@ -143,6 +148,7 @@ import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.data.domain.Pageable;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.CollectionUtils;
@@ -179,6 +185,7 @@ public class LoanReadPlatformServiceImpl implements LoanReadPlatformService, Loa
     private final LoanForeclosureValidator loanForeclosureValidator;
     private final LoanTransactionMapper loanTransactionMapper;
     private final LoanTransactionProcessingService loadTransactionProcessingService;
+    private final FineractProperties fineractProperties;
 
     @Override
     public LoanAccountData retrieveOne(final Long loanId) {
@@ -238,10 +245,7 @@ public class LoanReadPlatformServiceImpl implements LoanReadPlatformService, Loa
 
     @Override
     public LoanAccountData fetchRepaymentScheduleData(LoanAccountData accountData) {
-        final RepaymentScheduleRelatedLoanData repaymentScheduleRelatedData = new RepaymentScheduleRelatedLoanData(
-                accountData.getTimeline().getExpectedDisbursementDate(), accountData.getTimeline().getActualDisbursementDate(),
-                accountData.getCurrency(), accountData.getPrincipal(), accountData.getInArrearsTolerance(),
-                accountData.getFeeChargesAtDisbursementCharged());
+        final RepaymentScheduleRelatedLoanData repaymentScheduleRelatedData = toRepaymentScheduleRelatedLoanData(accountData);
 
         final Collection<DisbursementData> disbursementData = retrieveLoanDisbursementDetails(accountData.getId());
         final LoanScheduleData repaymentSchedule = retrieveRepaymentSchedule(accountData.getId(), repaymentScheduleRelatedData,
@@ -269,6 +273,40 @@ public class LoanReadPlatformServiceImpl implements LoanReadPlatformService, Loa
         }
     }
 
+    @Override
+    public Map<Long, LoanScheduleData> retrieveRepaymentSchedules(final Collection<LoanAccountData> loans,
+            final Map<Long, List<DisbursementData>> disbursementData) {
+        if (loans.isEmpty()) {
+            return new HashMap<>();
+        }
+        this.context.authenticatedUser();
+
+        final Map<Long, LoanScheduleResultSetExtractor> extractors = new LinkedHashMap<>();
+        for (final LoanAccountData loan : loans) {
+            extractors.put(loan.getId(),
+                    new LoanScheduleResultSetExtractor(toRepaymentScheduleRelatedLoanData(loan),
+                            disbursementData.getOrDefault(loan.getId(), new ArrayList<>()), loan.isInterestRecalculationEnabled(),
+                            LoanScheduleType.fromEnumOptionData(loan.getLoanScheduleType())));
+        }
+        final Map<Long, LoanScheduleData> schedules = new HashMap<>();
+        for (final List<Long> loanIds : Lists.partition(new ArrayList<>(extractors.keySet()), getInClauseParameterSizeLimit())) {
+            final Map<Long, LoanScheduleResultSetExtractor> partitionExtractors = new LinkedHashMap<>();
+            loanIds.forEach(loanId -> partitionExtractors.put(loanId, extractors.get(loanId)));
+            final String inSql = String.join(",", Collections.nCopies(loanIds.size(), "?"));
+            final String sql = "select " + LoanScheduleResultSetExtractor.SCHEMA + " where ls.loan_id in (" + inSql
+                    + ") order by ls.loan_id, ls.installment";
+            schedules.putAll(this.jdbcTemplate.query(sql, new LoanScheduleBatchResultSetExtractor(partitionExtractors), // NOSONAR
+                    loanIds.toArray()));
+        }
+        return schedules;
+    }
+
+    private static RepaymentScheduleRelatedLoanData toRepaymentScheduleRelatedLoanData(final LoanAccountData accountData) {
+        return new RepaymentScheduleRelatedLoanData(accountData.getTimeline().getExpectedDisbursementDate(),
+                accountData.getTimeline().getActualDisbursementDate(), accountData.getCurrency(), accountData.getPrincipal(),
+                accountData.getInArrearsTolerance(), accountData.getFeeChargesAtDisbursementCharged());
+    }
+
     @Override
     public Collection<LoanTransactionData> retrieveLoanTransactions(final Long loanId) {
         try {
@@ -1193,6 +1231,15 @@ public class LoanReadPlatformServiceImpl implements LoanReadPlatformService, Loa
 
     private static final class LoanScheduleResultSetExtractor implements ResultSetExtractor<LoanScheduleData> {
 
+        private static final String SCHEMA = " ls.loan_id as loanId, ls.installment as period, ls.fromdate as fromDate, ls.duedate as dueDate, ls.obligations_met_on_date as obligationsMetOnDate, ls.completed_derived as complete,"
+                + " ls.principal_amount as principalDue, ls.principal_completed_derived as principalPaid, ls.principal_writtenoff_derived as principalWrittenOff, ls.is_additional as isAdditional, "
+                + " ls.interest_amount as interestDue, ls.interest_completed_derived as interestPaid, ls.interest_waived_derived as interestWaived, ls.interest_writtenoff_derived as interestWrittenOff, "
+                + " ls.fee_charges_amount as feeChargesDue, ls.fee_charges_completed_derived as feeChargesPaid, ls.fee_charges_waived_derived as feeChargesWaived, ls.fee_charges_writtenoff_derived as feeChargesWrittenOff, "
+                + " ls.penalty_charges_amount as penaltyChargesDue, ls.penalty_charges_completed_derived as penaltyChargesPaid, ls.penalty_charges_waived_derived as penaltyChargesWaived, "
+                + " ls.penalty_charges_writtenoff_derived as penaltyChargesWrittenOff, ls.total_paid_in_advance_derived as totalPaidInAdvanceForPeriod, "
+                + " ls.total_paid_late_derived as totalPaidLateForPeriod, ls.credits_amount as principalCredits, ls.credited_fee as feeCredits, ls.credited_penalty as penaltyCredits, ls.is_down_payment isDownPayment, "
+                + " ls.accrual_interest_derived as accrualInterest " + " from m_loan_repayment_schedule ls ";
+
         private final CurrencyData currency;
         private final DisbursementData disbursement;
         private final BigDecimal totalFeeChargesDueAtDisbursement;
@@ -1202,6 +1249,26 @@ public class LoanReadPlatformServiceImpl implements LoanReadPlatformService, Loa
         private BigDecimal outstandingLoanPrincipalBalance;
         private boolean excludePastUnDisbursed;
 
+        private BigDecimal waivedChargeAmount;
+        private BigDecimal disbursementChargeAmount;
+        private BigDecimal totalPrincipalDisbursed;
+        private List<LoanSchedulePeriodData> periods;
+        private Set<Long> disbursementPeriodIds;
+        private Integer loanTermInDays;
+        private Money totalPrincipalExpected;
+        private Money totalPrincipalPaid;
+        private Money totalInterestCharged;
+        private Money totalFeeChargesCharged;
+        private Money totalPenaltyChargesCharged;
+        private Money totalWaived;
+        private Money totalWrittenOff;
+        private Money totalRepaymentExpected;
+        private Money totalRepayment;
+        private Money totalPaidInAdvance;
+        private Money totalPaidLate;
+        private Money totalOutstanding;
+        private Money totalCredits;
+
         LoanScheduleResultSetExtractor(final RepaymentScheduleRelatedLoanData repaymentScheduleRelatedLoanData,
                 Collection<DisbursementData> disbursementData, boolean isInterestRecalculationEnabled, LoanScheduleType loanScheduleType) {
             this.currency = repaymentScheduleRelatedLoanData.getCurrency();
@@ -1215,183 +1282,194 @@ public class LoanReadPlatformServiceImpl implements LoanReadPlatformService, Loa
         }
 
         public String schema() {
-
-            return " ls.loan_id as loanId, ls.installment as period, ls.fromdate as fromDate, ls.duedate as dueDate, ls.obligations_met_on_date as obligationsMetOnDate, ls.completed_derived as complete,"
-                    + " ls.principal_amount as principalDue, ls.principal_completed_derived as principalPaid, ls.principal_writtenoff_derived as principalWrittenOff, ls.is_additional as isAdditional, "
-                    + " ls.interest_amount as interestDue, ls.interest_completed_derived as interestPaid, ls.interest_waived_derived as interestWaived, ls.interest_writtenoff_derived as interestWrittenOff, "
-                    + " ls.fee_charges_amount as feeChargesDue, ls.fee_charges_completed_derived as feeChargesPaid, ls.fee_charges_waived_derived as feeChargesWaived, ls.fee_charges_writtenoff_derived as feeChargesWrittenOff, "
-                    + " ls.penalty_charges_amount as penaltyChargesDue, ls.penalty_charges_completed_derived as penaltyChargesPaid, ls.penalty_charges_waived_derived as penaltyChargesWaived, "
-                    + " ls.penalty_charges_writtenoff_derived as penaltyChargesWrittenOff, ls.total_paid_in_advance_derived as totalPaidInAdvanceForPeriod, "
-                    + " ls.total_paid_late_derived as totalPaidLateForPeriod, ls.credits_amount as principalCredits, ls.credited_fee as feeCredits, ls.credited_penalty as penaltyCredits, ls.is_down_payment isDownPayment, "
-                    + " ls.accrual_interest_derived as accrualInterest " + " from m_loan_repayment_schedule ls ";
+            return SCHEMA;
         }
 
         @Override
         public LoanScheduleData extractData(@NotNull final ResultSet rs) throws SQLException, DataAccessException {
-            BigDecimal waivedChargeAmount = BigDecimal.ZERO;
+            start();
+            while (rs.next()) {
+                processRow(rs);
+            }
+            return finish();
+        }
+
+        /**
+         * Initializes the totals with the disbursement period. Must be called once before the installment rows of the
+         * loan are processed.
+         */
+        void start() {
+            this.waivedChargeAmount = BigDecimal.ZERO;
             for (DisbursementData disbursementDetail : disbursementData) {
-                waivedChargeAmount = waivedChargeAmount.add(disbursementDetail.getWaivedChargeAmount());
+                this.waivedChargeAmount = this.waivedChargeAmount.add(disbursementDetail.getWaivedChargeAmount());
             }
             final LoanSchedulePeriodData disbursementPeriod = LoanSchedulePeriodData.disbursementOnlyPeriod(
                     this.disbursement.disbursementDate(), this.disbursement.getPrincipal(), this.totalFeeChargesDueAtDisbursement,
                     this.disbursement.isDisbursed());
 
-            final List<LoanSchedulePeriodData> periods = new ArrayList<>();
+            this.periods = new ArrayList<>();
             final MonetaryCurrency monCurrency = new MonetaryCurrency(this.currency.getCode(), this.currency.getDecimalPlaces(),
                     this.currency.getInMultiplesOf());
-            BigDecimal totalPrincipalDisbursed = BigDecimal.ZERO;
-            BigDecimal disbursementChargeAmount = this.totalFeeChargesDueAtDisbursement;
+            this.totalPrincipalDisbursed = BigDecimal.ZERO;
+            this.disbursementChargeAmount = this.totalFeeChargesDueAtDisbursement;
             if (disbursementData.isEmpty()) {
-                periods.add(disbursementPeriod);
-                totalPrincipalDisbursed = Money.of(monCurrency, this.disbursement.getPrincipal()).getAmount();
+                this.periods.add(disbursementPeriod);
+                this.totalPrincipalDisbursed = Money.of(monCurrency, this.disbursement.getPrincipal()).getAmount();
             } else {
                 if (!this.disbursement.isDisbursed()) {
                     excludePastUnDisbursed = false;
                 }
                 for (DisbursementData data : disbursementData) {
                     if (data.getChargeAmount() != null) {
-                        disbursementChargeAmount = disbursementChargeAmount.subtract(data.getChargeAmount());
+                        this.disbursementChargeAmount = this.disbursementChargeAmount.subtract(data.getChargeAmount());
                     }
                 }
                 this.outstandingLoanPrincipalBalance = BigDecimal.ZERO;
             }
 
-            Money totalPrincipalExpected = Money.zero(monCurrency);
-            Money totalPrincipalPaid = Money.zero(monCurrency);
-            Money totalInterestCharged = Money.zero(monCurrency);
-            Money totalFeeChargesCharged = Money.zero(monCurrency);
-            Money totalPenaltyChargesCharged = Money.zero(monCurrency);
-            Money totalWaived = Money.zero(monCurrency);
-            Money totalWrittenOff = Money.zero(monCurrency);
-            Money totalRepaymentExpected = Money.zero(monCurrency);
-            Money totalRepayment = Money.zero(monCurrency);
-            Money totalPaidInAdvance = Money.zero(monCurrency);
-            Money totalPaidLate = Money.zero(monCurrency);
-            Money totalOutstanding = Money.zero(monCurrency);
-            Money totalCredits = Money.zero(monCurrency);
+            this.totalPrincipalExpected = Money.zero(monCurrency);
+            this.totalPrincipalPaid = Money.zero(monCurrency);
+            this.totalInterestCharged = Money.zero(monCurrency);
+            this.totalFeeChargesCharged = Money.zero(monCurrency);
+            this.totalPenaltyChargesCharged = Money.zero(monCurrency);
+            this.totalWaived = Money.zero(monCurrency);
+            this.totalWrittenOff = Money.zero(monCurrency);
+            this.totalRepaymentExpected = Money.zero(monCurrency);
+            this.totalRepayment = Money.zero(monCurrency);
+            this.totalPaidInAdvance = Money.zero(monCurrency);
+            this.totalPaidLate = Money.zero(monCurrency);
+            this.totalOutstanding = Money.zero(monCurrency);
+            this.totalCredits = Money.zero(monCurrency);
 
             // update totals with details of fees charged during disbursement
-            totalFeeChargesCharged = totalFeeChargesCharged.plus(disbursementPeriod.getFeeChargesDue().subtract(waivedChargeAmount));
-            totalRepaymentExpected = totalRepaymentExpected.plus(disbursementPeriod.getFeeChargesDue()).minus(waivedChargeAmount);
-            totalRepayment = totalRepayment.plus(disbursementPeriod.getFeeChargesPaid()).minus(waivedChargeAmount);
-            totalOutstanding = totalOutstanding.plus(disbursementPeriod.getFeeChargesDue()).minus(disbursementPeriod.getFeeChargesPaid());
+            this.totalFeeChargesCharged = this.totalFeeChargesCharged
+                    .plus(disbursementPeriod.getFeeChargesDue().subtract(this.waivedChargeAmount));
+            this.totalRepaymentExpected = this.totalRepaymentExpected.plus(disbursementPeriod.getFeeChargesDue())
+                    .minus(this.waivedChargeAmount);
+            this.totalRepayment = this.totalRepayment.plus(disbursementPeriod.getFeeChargesPaid()).minus(this.waivedChargeAmount);
+            this.totalOutstanding = this.totalOutstanding.plus(disbursementPeriod.getFeeChargesDue())
+                    .minus(disbursementPeriod.getFeeChargesPaid());
+
+            this.loanTermInDays = 0;
+            this.disbursementPeriodIds = new HashSet<>();
+        }
 
-            Integer loanTermInDays = 0;
-            Set<Long> disbursementPeriodIds = new HashSet<>();
-            while (rs.next()) {
+        /**
+         * Accumulates the installment row the result set is currently positioned on.
+         */
+        void processRow(final ResultSet rs) throws SQLException {
+            final Integer period = JdbcSupport.getInteger(rs, "period");
+            LocalDate fromDate = JdbcSupport.getLocalDate(rs, "fromDate");
+            final LocalDate dueDate = JdbcSupport.getLocalDate(rs, "dueDate");
+            final LocalDate obligationsMetOnDate = JdbcSupport.getLocalDate(rs, "obligationsMetOnDate");
+            final boolean complete = rs.getBoolean("complete");
+            BigDecimal disbursedAmount = BigDecimal.ZERO;
 
-                final Integer period = JdbcSupport.getInteger(rs, "period");
-                LocalDate fromDate = JdbcSupport.getLocalDate(rs, "fromDate");
-                final LocalDate dueDate = JdbcSupport.getLocalDate(rs, "dueDate");
-                final LocalDate obligationsMetOnDate = JdbcSupport.getLocalDate(rs, "obligationsMetOnDate");
-                final boolean complete = rs.getBoolean("complete");
-                BigDecimal disbursedAmount = BigDecimal.ZERO;
-
-                disbursedAmount = processDisbursementData(loanScheduleType, disbursementData, fromDate, dueDate, disbursementPeriodIds,
-                        disbursementChargeAmount, waivedChargeAmount, periods);
-
-                // Add the Charge back or Credits to the initial amount to avoid negative balance
-                final BigDecimal principalCredits = JdbcSupport.getBigDecimalDefaultToZeroIfNull(rs, "principalCredits");
-                final BigDecimal feeCredits = JdbcSupport.getBigDecimalDefaultToZeroIfNull(rs, "feeCredits");
-                final BigDecimal penaltyCredits = JdbcSupport.getBigDecimalDefaultToZeroIfNull(rs, "penaltyCredits");
-                final BigDecimal credits = principalCredits.add(feeCredits).add(penaltyCredits);
-                this.outstandingLoanPrincipalBalance = this.outstandingLoanPrincipalBalance.add(principalCredits);
-
-                totalPrincipalDisbursed = totalPrincipalDisbursed.add(disbursedAmount);
-
-                Integer daysInPeriod = 0;
-                if (fromDate != null) {
-                    daysInPeriod = DateUtils.getExactDifferenceInDays(fromDate, dueDate);
-                    loanTermInDays = loanTermInDays + daysInPeriod;
-                }
+            disbursedAmount = processDisbursementData(loanScheduleType, disbursementData, fromDate, dueDate, disbursementPeriodIds,
+                    disbursementChargeAmount, waivedChargeAmount, periods);
 
-                final BigDecimal principalDue = JdbcSupport.getBigDecimalDefaultToZeroIfNull(rs, "principalDue");
-                totalPrincipalExpected = totalPrincipalExpected.plus(principalDue);
-                final BigDecimal principalPaid = JdbcSupport.getBigDecimalDefaultToZeroIfNull(rs, "principalPaid");
-                totalPrincipalPaid = totalPrincipalPaid.plus(principalPaid);
-                final BigDecimal principalWrittenOff = JdbcSupport.getBigDecimalDefaultToZeroIfNull(rs, "principalWrittenOff");
+            // Add the Charge back or Credits to the initial amount to avoid negative balance
+            final BigDecimal principalCredits = JdbcSupport.getBigDecimalDefaultToZeroIfNull(rs, "principalCredits");
+            final BigDecimal feeCredits = JdbcSupport.getBigDecimalDefaultToZeroIfNull(rs, "feeCredits");
+            final BigDecimal penaltyCredits = JdbcSupport.getBigDecimalDefaultToZeroIfNull(rs, "penaltyCredits");
+            final BigDecimal credits = principalCredits.add(feeCredits).add(penaltyCredits);
+            this.outstandingLoanPrincipalBalance = this.outstandingLoanPrincipalBalance.add(principalCredits);
 
-                final BigDecimal principalOutstanding = principalDue.subtract(principalPaid).subtract(principalWrittenOff);
+            totalPrincipalDisbursed = totalPrincipalDisbursed.add(disbursedAmount);
 
-                final BigDecimal interestExpectedDue = JdbcSupport.getBigDecimalDefaultToZeroIfNull(rs, "interestDue");
-                totalInterestCharged = totalInterestCharged.plus(interestExpectedDue);
-                final BigDecimal interestPaid = JdbcSupport.getBigDecimalDefaultToZeroIfNull(rs, "interestPaid");
-                final BigDecimal interestWaived = JdbcSupport.getBigDecimalDefaultToZeroIfNull(rs, "interestWaived");
-                final BigDecimal interestWrittenOff = JdbcSupport.getBigDecimalDefaultToZeroIfNull(rs, "interestWrittenOff");
-                final BigDecimal accrualInterest = JdbcSupport.getBigDecimalDefaultToZeroIfNull(rs, "accrualInterest");
+            Integer daysInPeriod = 0;
+            if (fromDate != null) {
+                daysInPeriod = DateUtils.getExactDifferenceInDays(fromDate, dueDate);
+                loanTermInDays = loanTermInDays + daysInPeriod;
+            }
 
-                final BigDecimal interestActualDue = interestExpectedDue.subtract(interestWaived).subtract(interestWrittenOff);
-                final BigDecimal interestOutstanding = interestActualDue.subtract(interestPaid);
+            final BigDecimal principalDue = JdbcSupport.getBigDecimalDefaultToZeroIfNull(rs, "principalDue");
+            totalPrincipalExpected = totalPrincipalExpected.plus(principalDue);
+            final BigDecimal principalPaid = JdbcSupport.getBigDecimalDefaultToZeroIfNull(rs, "principalPaid");
+            totalPrincipalPaid = totalPrincipalPaid.plus(principalPaid);
+            final BigDecimal principalWrittenOff = JdbcSupport.getBigDecimalDefaultToZeroIfNull(rs, "principalWrittenOff");
 
-                final BigDecimal feeChargesExpectedDue = JdbcSupport.getBigDecimalDefaultToZeroIfNull(rs, "feeChargesDue");
-                totalFeeChargesCharged = totalFeeChargesCharged.plus(feeChargesExpectedDue);
-                final BigDecimal feeChargesPaid = JdbcSupport.getBigDecimalDefaultToZeroIfNull(rs, "feeChargesPaid");
-                final BigDecimal feeChargesWaived = JdbcSupport.getBigDecimalDefaultToZeroIfNull(rs, "feeChargesWaived");
-                final BigDecimal feeChargesWrittenOff = JdbcSupport.getBigDecimalDefaultToZeroIfNull(rs, "feeChargesWrittenOff");
+            final BigDecimal principalOutstanding = principalDue.subtract(principalPaid).subtract(principalWrittenOff);
 
-                final BigDecimal feeChargesActualDue = feeChargesExpectedDue.subtract(feeChargesWaived).subtract(feeChargesWrittenOff);
-                final BigDecimal feeChargesOutstanding = feeChargesActualDue.subtract(feeChargesPaid);
+            final BigDecimal interestExpectedDue = JdbcSupport.getBigDecimalDefaultToZeroIfNull(rs, "interestDue");
+            totalInterestCharged = totalInterestCharged.plus(interestExpectedDue);
+            final BigDecimal interestPaid = JdbcSupport.getBigDecimalDefaultToZeroIfNull(rs, "interestPaid");
+            final BigDecimal interestWaived = JdbcSupport.getBigDecimalDefaultToZeroIfNull(rs, "interestWaived");
+            final BigDecimal interestWrittenOff = JdbcSupport.getBigDecimalDefaultToZeroIfNull(rs, "interestWrittenOff");
+            final BigDecimal accrualInterest = JdbcSupport.getBigDecimalDefaultToZeroIfNull(rs, "accrualInterest");
 
-                final BigDecimal penaltyChargesExpectedDue = JdbcSupport.getBigDecimalDefaultToZeroIfNull(rs, "penaltyChargesDue");
-                totalPenaltyChargesCharged = totalPenaltyChargesCharged.plus(penaltyChargesExpectedDue);
-                final BigDecimal penaltyChargesPaid = JdbcSupport.getBigDecimalDefaultToZeroIfNull(rs, "penaltyChargesPaid");
-                final BigDecimal penaltyChargesWaived = JdbcSupport.getBigDecimalDefaultToZeroIfNull(rs, "penaltyChargesWaived");
-                final BigDecimal penaltyChargesWrittenOff = JdbcSupport.getBigDecimalDefaultToZeroIfNull(rs, "penaltyChargesWrittenOff");
+            final BigDecimal interestActualDue = interestExpectedDue.subtract(interestWaived).subtract(interestWrittenOff);
+            final BigDecimal interestOutstanding = interestActualDue.subtract(interestPaid);
 
-                final BigDecimal totalPaidInAdvanceForPeriod = JdbcSupport.getBigDecimalDefaultToZeroIfNull(rs,
-                        "totalPaidInAdvanceForPeriod");
-                final BigDecimal totalPaidLateForPeriod = JdbcSupport.getBigDecimalDefaultToZeroIfNull(rs, "totalPaidLateForPeriod");
-
-                final BigDecimal penaltyChargesActualDue = penaltyChargesExpectedDue.subtract(penaltyChargesWaived)
-                        .subtract(penaltyChargesWrittenOff);
-                final BigDecimal penaltyChargesOutstanding = penaltyChargesActualDue.subtract(penaltyChargesPaid);
-
-                final BigDecimal totalExpectedCostOfLoanForPeriod = interestExpectedDue.add(feeChargesExpectedDue)
-                        .add(penaltyChargesExpectedDue);
-
-                final BigDecimal totalDueForPeriod = principalDue.add(totalExpectedCostOfLoanForPeriod);
-                final BigDecimal totalPaidForPeriod = principalPaid.add(interestPaid).add(feeChargesPaid).add(penaltyChargesPaid);
-                final BigDecimal totalWaivedForPeriod = interestWaived.add(feeChargesWaived).add(penaltyChargesWaived);
-                totalWaived = totalWaived.plus(totalWaivedForPeriod);
-                final BigDecimal totalWrittenOffForPeriod = principalWrittenOff.add(interestWrittenOff).add(feeChargesWrittenOff)
-                        .add(penaltyChargesWrittenOff);
-                totalWrittenOff = totalWrittenOff.plus(totalWrittenOffForPeriod);
-
-                final BigDecimal totalOutstandingForPeriod = principalOutstanding.add(interestOutstanding).add(feeChargesOutstanding)
-                        .add(penaltyChargesOutstanding);
-
-                totalRepaymentExpected = totalRepaymentExpected.plus(totalDueForPeriod);
-                totalRepayment = totalRepayment.plus(totalPaidForPeriod);
-                totalPaidInAdvance = totalPaidInAdvance.plus(totalPaidInAdvanceForPeriod);
-                totalPaidLate = totalPaidLate.plus(totalPaidLateForPeriod);
-                totalOutstanding = totalOutstanding.plus(totalOutstandingForPeriod);
-                totalCredits = totalCredits.add(credits);
-
-                if (fromDate == null) {
-                    fromDate = this.lastDueDate;
-                }
+            final BigDecimal feeChargesExpectedDue = JdbcSupport.getBigDecimalDefaultToZeroIfNull(rs, "feeChargesDue");
+            totalFeeChargesCharged = totalFeeChargesCharged.plus(feeChargesExpectedDue);
+            final BigDecimal feeChargesPaid = JdbcSupport.getBigDecimalDefaultToZeroIfNull(rs, "feeChargesPaid");
+            final BigDecimal feeChargesWaived = JdbcSupport.getBigDecimalDefaultToZeroIfNull(rs, "feeChargesWaived");
+            final BigDecimal feeChargesWrittenOff = JdbcSupport.getBigDecimalDefaultToZeroIfNull(rs, "feeChargesWrittenOff");
+
+            final BigDecimal feeChargesActualDue = feeChargesExpectedDue.subtract(feeChargesWaived).subtract(feeChargesWrittenOff);
+            final BigDecimal feeChargesOutstanding = feeChargesActualDue.subtract(feeChargesPaid);
+
+            final BigDecimal penaltyChargesExpectedDue = JdbcSupport.getBigDecimalDefaultToZeroIfNull(rs, "penaltyChargesDue");
+            totalPenaltyChargesCharged = totalPenaltyChargesCharged.plus(penaltyChargesExpectedDue);
+            final BigDecimal penaltyChargesPaid = JdbcSupport.getBigDecimalDefaultToZeroIfNull(rs, "penaltyChargesPaid");
+            final BigDecimal penaltyChargesWaived = JdbcSupport.getBigDecimalDefaultToZeroIfNull(rs, "penaltyChargesWaived");
+            final BigDecimal penaltyChargesWrittenOff = JdbcSupport.getBigDecimalDefaultToZeroIfNull(rs, "penaltyChargesWrittenOff");
+
+            final BigDecimal totalPaidInAdvanceForPeriod = JdbcSupport.getBigDecimalDefaultToZeroIfNull(rs, "totalPaidInAdvanceForPeriod");
+            final BigDecimal totalPaidLateForPeriod = JdbcSupport.getBigDecimalDefaultToZeroIfNull(rs, "totalPaidLateForPeriod");
+
+            final BigDecimal penaltyChargesActualDue = penaltyChargesExpectedDue.subtract(penaltyChargesWaived)
+                    .subtract(penaltyChargesWrittenOff);
+            final BigDecimal penaltyChargesOutstanding = penaltyChargesActualDue.subtract(penaltyChargesPaid);
+
+            final BigDecimal totalExpectedCostOfLoanForPeriod = interestExpectedDue.add(feeChargesExpectedDue)
+                    .add(penaltyChargesExpectedDue);
+
+            final BigDecimal totalDueForPeriod = principalDue.add(totalExpectedCostOfLoanForPeriod);
+            final BigDecimal totalPaidForPeriod = principalPaid.add(interestPaid).add(feeChargesPaid).add(penaltyChargesPaid);
+            final BigDecimal totalWaivedForPeriod = interestWaived.add(feeChargesWaived).add(penaltyChargesWaived);
+            totalWaived = totalWaived.plus(totalWaivedForPeriod);
+            final BigDecimal totalWrittenOffForPeriod = principalWrittenOff.add(interestWrittenOff).add(feeChargesWrittenOff)
+                    .add(penaltyChargesWrittenOff);
+            totalWrittenOff = totalWrittenOff.plus(totalWrittenOffForPeriod);
+
+            final BigDecimal totalOutstandingForPeriod = principalOutstanding.add(interestOutstanding).add(feeChargesOutstanding)
+                    .add(penaltyChargesOutstanding);
+
+            totalRepaymentExpected = totalRepaymentExpected.plus(totalDueForPeriod);
+            totalRepayment = totalRepayment.plus(totalPaidForPeriod);
+            totalPaidInAdvance = totalPaidInAdvance.plus(totalPaidInAdvanceForPeriod);
+            totalPaidLate = totalPaidLate.plus(totalPaidLateForPeriod);
+            totalOutstanding = totalOutstanding.plus(totalOutstandingForPeriod);
+            totalCredits = totalCredits.add(credits);
+
+            if (fromDate == null) {
+                fromDate = this.lastDueDate;
+            }
 
-                BigDecimal outstandingPrincipalBalanceOfLoan = this.outstandingLoanPrincipalBalance.subtract(principalDue);
+            BigDecimal outstandingPrincipalBalanceOfLoan = this.outstandingLoanPrincipalBalance.subtract(principalDue);
 
-                // update based on current period values
-                this.lastDueDate = dueDate;
-                this.outstandingLoanPrincipalBalance = this.outstandingLoanPrincipalBalance.subtract(principalDue);
+            // update based on current period values
+            this.lastDueDate = dueDate;
+            this.outstandingLoanPrincipalBalance = this.outstandingLoanPrincipalBalance.subtract(principalDue);
 
-                final boolean isDownPayment = rs.getBoolean("isDownPayment");
+            final boolean isDownPayment = rs.getBoolean("isDownPayment");
 
-                LoanSchedulePeriodData periodData;
+            LoanSchedulePeriodData periodData;
 
-                periodData = LoanSchedulePeriodData.periodWithPayments(period, fromDate, dueDate, obligationsMetOnDate, complete,
-                        principalDue, principalPaid, principalWrittenOff, principalOutstanding, outstandingPrincipalBalanceOfLoan,
-                        interestExpectedDue, interestPaid, interestWaived, interestWrittenOff, interestOutstanding, feeChargesExpectedDue,
-                        feeChargesPaid, feeChargesWaived, feeChargesWrittenOff, feeChargesOutstanding, penaltyChargesExpectedDue,
-                        penaltyChargesPaid, penaltyChargesWaived, penaltyChargesWrittenOff, penaltyChargesOutstanding, totalPaidForPeriod,
-                        totalPaidInAdvanceForPeriod, totalPaidLateForPeriod, totalWaivedForPeriod, totalWrittenOffForPeriod, credits,
-                        isDownPayment, accrualInterest);
+            periodData = LoanSchedulePeriodData.periodWithPayments(period, fromDate, dueDate, obligationsMetOnDate, complete, principalDue,
+                    principalPaid, principalWrittenOff, principalOutstanding, outstandingPrincipalBalanceOfLoan, interestExpectedDue,
+                    interestPaid, interestWaived, interestWrittenOff, interestOutstanding, feeChargesExpectedDue, feeChargesPaid,
+                    feeChargesWaived, feeChargesWrittenOff, feeChargesOutstanding, penaltyChargesExpectedDue, penaltyChargesPaid,
+                    penaltyChargesWaived, penaltyChargesWrittenOff, penaltyChargesOutstanding, totalPaidForPeriod,
+                    totalPaidInAdvanceForPeriod, totalPaidLateForPeriod, totalWaivedForPeriod, totalWrittenOffForPeriod, credits,
+                    isDownPayment, accrualInterest);
 
-                periods.add(periodData);
-            }
+            periods.add(periodData);
+        }
 
+        LoanScheduleData finish() {
             return new LoanScheduleData(this.currency, periods, loanTermInDays, totalPrincipalDisbursed, totalPrincipalExpected.getAmount(),
                     totalPrincipalPaid.getAmount(), totalInterestCharged.getAmount(), totalFeeChargesCharged.getAmount(),
                     totalPenaltyChargesCharged.getAmount(), totalWaived.getAmount(), totalWrittenOff.getAmount(),
@@ -1434,6 +1512,33 @@ public class LoanReadPlatformServiceImpl implements LoanReadPlatformService, Loa
 
     }
 
+    /**
+     * Splits the installment rows of several loans (ordered by loan id) into one {@link LoanScheduleData} per loan by
+     * delegating each row to the {@link LoanScheduleResultSetExtractor} of its loan.
+     */
+    private static final class LoanScheduleBatchResultSetExtractor implements ResultSetExtractor<Map<Long, LoanScheduleData>> {
+
+        private final Map<Long, LoanScheduleResultSetExtractor> extractors;
+
+        LoanScheduleBatchResultSetExtractor(final Map<Long, LoanScheduleResultSetExtractor> extractors) {
+            this.extractors = extractors;
+        }
+
+        @Override
+        public Map<Long, LoanScheduleData> extractData(@NotNull final ResultSet rs) throws SQLException, DataAccessException {
+            this.extractors.values().forEach(LoanScheduleResultSetExtractor::start);
+            while (rs.next()) {
+                final LoanScheduleResultSetExtractor extractor = this.extractors.get(rs.getLong("loanId"));
+                if (extractor != null) {
+                    extractor.processRow(rs);
+                }
+            }
+            final Map<Long, LoanScheduleData> schedules = new HashMap<>();
+            this.extractors.forEach((loanId, extractor) -> schedules.put(loanId, extractor.finish()));
+            return schedules;
+        }
+    }
+
     private static final class LoanTransactionsMapper implements RowMapper<LoanTransactionData> {
 
         private final DatabaseSpecificSQLGenerator sqlGenerator;
@@ -1748,6 +1853,29 @@ public class LoanReadPlatformServiceImpl implements LoanReadPlatformService, Loa
         return this.jdbcTemplate.query(sql, rm, loanId); // NOSONAR
     }
 
+    @Override
+    public Map<Long, List<DisbursementData>> retrieveLoanDisbursementDetails(final Collection<Long> loanIds) {
+        final Map<Long, List<DisbursementData>> disbursementDetails = new HashMap<>();
+        if (loanIds.isEmpty()) {
+            return disbursementDetails;
+        }
+        final LoanDisbursementDetailMapper rm = new LoanDisbursementDetailMapper(sqlGenerator);
+        final RowCallbackHandler groupByLoan = rs -> disbursementDetails.computeIfAbsent(rs.getLong("loanId"), loanId -> new ArrayList<>())
+                .add(rm.mapRow(rs, rs.getRow()));
+        for (final List<Long> partition : Lists.partition(new ArrayList<>(loanIds), getInClauseParameterSizeLimit())) {
+            final String inSql = String.join(",", Collections.nCopies(partition.size(), "?"));
+            final String sql = "select dd.loan_id as loanId, " + rm.schema() + " where dd.loan_id in (" + inSql
+                    + ") and dd.is_reversed=false group by dd.id, dd.loan_id, lc.amount_waived_derived"
+                    + " order by dd.loan_id, dd.expected_disburse_date,dd.disbursedon_date,dd.id";
+            this.jdbcTemplate.query(sql, groupByLoan, partition.toArray()); // NOSONAR
+        }
+        return disbursementDetails;
+    }
+
+    private int getInClauseParameterSizeLimit() {
+        return this.fineractProperties.getQuery().getInClauseParameterSizeLimit();
+    }
+
     private static final class LoanDisbursementDetailMapper implements RowMapper<DisbursementData> {
 
         private final DatabaseSpecificSQLGenerator sqlGenerator;
@@ -0,0 +1,96 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanproduct.service;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.infrastructure.cache.service.TenantScopedCache;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractLoanProductSnapshotProperties;
+import org.apache.fineract.infrastructure.core.domain.JdbcSupport;
+import org.apache.fineract.portfolio.loanproduct.data.LoanProductSnapshot;
+import org.apache.fineract.portfolio.loanproduct.exception.LoanProductNotFoundException;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+/**
+ * Keeps the loan product snapshots of every tenant in memory.
+ * <p>
+ * The generation of the {@link TenantScopedCache} is the snapshot version. Evicting a product bumps the generation,
+ * which also invalidates snapshots that were being loaded while the product changed. Changes made on other instances
+ * are picked up once the cached snapshot expires (<code>fineract.loan.product-snapshot.ttl</code>).
+ */
+@RequiredArgsConstructor
+public class LoanProductSnapshotServiceImpl implements LoanProductSnapshotService {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final FineractProperties fineractProperties;
+    private final TenantScopedCache<Long, LoanProductSnapshot> snapshots = new TenantScopedCache<>();
+
+    @Override
+    public boolean isEnabled() {
+        final FineractLoanProductSnapshotProperties properties = this.fineractProperties.getLoan().getProductSnapshot();
+        return properties != null && properties.isEnabled();
+    }
+
+    @Override
+    public LoanProductSnapshot retrieveSnapshot(final Long loanProductId) {
+        final FineractLoanProductSnapshotProperties properties = this.fineractProperties.getLoan().getProductSnapshot();
+        if (properties == null || !properties.isEnabled()) {
+            return load(loanProductId, 0L);
+        }
+        return this.snapshots.get(loanProductId, properties.getTtl(), generation -> load(loanProductId, generation));
+    }
+
+    @Override
+    public void evict(final Long loanProductId) {
+        this.snapshots.invalidate(loanProductId);
+    }
+
+    private LoanProductSnapshot load(final Long loanProductId, final long version) {
+        try {
+            final LoanProductSnapshotMapper rm = new LoanProductSnapshotMapper(version);
+            return this.jdbcTemplate.queryForObject("select " + rm.schema() + " where lp.id = ?", rm, loanProductId); // NOSONAR
+        } catch (final EmptyResultDataAccessException e) {
+            throw new LoanProductNotFoundException(loanProductId, e);
+        }
+    }
+
+    private static final class LoanProductSnapshotMapper implements RowMapper<LoanProductSnapshot> {
+
+        private final long version;
+
+        LoanProductSnapshotMapper(final long version) {
+            this.version = version;
+        }
+
+        public String schema() {
+            return "lp.id as id, lp.due_days_for_repayment_event as dueDaysForRepaymentEvent, "
+                    + "lp.overdue_days_for_repayment_event as overDueDaysForRepaymentEvent from m_product_loan lp";
+        }
+
+        @Override
+        public LoanProductSnapshot mapRow(final ResultSet rs, @SuppressWarnings("unused") final int rowNum) throws SQLException {
+            return new LoanProductSnapshot(rs.getLong("id"), this.version, JdbcSupport.getInteger(rs, "dueDaysForRepaymentEvent"),
+                    JdbcSupport.getInteger(rs, "overDueDaysForRepaymentEvent"));
+        }
+    }
+}
@@ -0,0 +1,180 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.accounting.journalentry.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.apache.fineract.accounting.glaccount.domain.GLAccount;
+import org.apache.fineract.accounting.journalentry.domain.JournalEntry;
+import org.apache.fineract.accounting.journalentry.domain.JournalEntryRepository;
+import org.apache.fineract.accounting.journalentry.domain.JournalEntryType;
+import org.apache.fineract.accounting.journalentry.exception.JournalEntryInvalidException;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.organisation.office.domain.Office;
+import org.apache.fineract.portfolio.PortfolioProductType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.support.KeyHolder;
+
+@ExtendWith(MockitoExtension.class)
+class JournalEntryBatchWriterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private JournalEntryRepository journalEntryRepository;
+    @Mock
+    private AuditorAware<Long> auditorAware;
+
+    private FineractProperties.FineractJournalEntryBatchProperties batchProperties;
+    private JournalEntryBatchWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        ThreadLocalContextUtil.setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, LocalDate.of(2024, 1, 15))));
+        batchProperties = new FineractProperties.FineractJournalEntryBatchProperties();
+        batchProperties.setEnabled(true);
+        FineractProperties.FineractAccountingProperties accounting = new FineractProperties.FineractAccountingProperties();
+        accounting.setJournalEntryBatch(batchProperties);
+        FineractProperties fineractProperties = new FineractProperties();
+        fineractProperties.setAccounting(accounting);
+        writer = new JournalEntryBatchWriter(jdbcTemplate, journalEntryRepository, auditorAware, fineractProperties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    void writesAllLegsOfABusinessTransactionInOneBatch() {
+        when(auditorAware.getCurrentAuditor()).thenReturn(Optional.of(1L));
+        when(jdbcTemplate.batchUpdate(any(PreparedStatementCreator.class), any(BatchPreparedStatementSetter.class), any(KeyHolder.class)))
+                .thenAnswer(invocation -> {
+                    BatchPreparedStatementSetter setter = invocation.getArgument(1);
+                    KeyHolder keyHolder = invocation.getArgument(2);
+                    for (int i = 0; i < setter.getBatchSize(); i++) {
+                        keyHolder.getKeyList().add(Map.of("id", 100L + i));
+                    }
+                    return new int[setter.getBatchSize()];
+                });
+        JournalEntry debit = journalEntry(JournalEntryType.DEBIT, "100.00");
+        JournalEntry credit = journalEntry(JournalEntryType.CREDIT, "100.00");
+
+        List<JournalEntry> written = writer.collect(() -> {
+            assertTrue(writer.isCollecting());
+            writer.add(debit);
+            writer.add(credit);
+        });
+
+        assertEquals(List.of(debit, credit), written);
+        assertEquals(100L, debit.getId());
+        assertEquals(101L, credit.getId());
+        assertEquals(Optional.of(1L), debit.getCreatedBy());
+        verify(journalEntryRepository).flush();
+        verify(jdbcTemplate, times(1)).batchUpdate(any(PreparedStatementCreator.class), any(BatchPreparedStatementSetter.class),
+                any(KeyHolder.class));
+    }
+
+    @Test
+    void rejectsUnbalancedLegsBeforeWriting() {
+        JournalEntry debit = journalEntry(JournalEntryType.DEBIT, "100.00");
+        JournalEntry credit = journalEntry(JournalEntryType.CREDIT, "99.99");
+
+        assertThrows(JournalEntryInvalidException.class, () -> writer.collect(() -> {
+            writer.add(debit);
+            writer.add(credit);
+        }));
+
+        verifyNoInteractions(jdbcTemplate, journalEntryRepository);
+        assertNull(debit.getId());
+    }
+
+    @Test
+    void nestedCollectWritesOnlyOnceWithTheOuterBatch() {
+        List<JournalEntry> inner = writer.collect(() -> writer.collect(() -> {}));
+
+        assertTrue(inner.isEmpty());
+        verifyNoInteractions(jdbcTemplate, journalEntryRepository);
+    }
+
+    @Test
+    void runsActionDirectlyWhenDisabled() {
+        batchProperties.setEnabled(false);
+        Runnable action = mock(Runnable.class);
+
+        List<JournalEntry> written = writer.collect(action);
+
+        verify(action).run();
+        assertTrue(written.isEmpty());
+        verify(jdbcTemplate, never()).batchUpdate(any(PreparedStatementCreator.class), any(BatchPreparedStatementSetter.class),
+                any(KeyHolder.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void cachesMappingLookupsWhileCollecting() {
+        Supplier<Object> lookup = mock(Supplier.class);
+        Object mapping = new Object();
+        when(lookup.get()).thenReturn(mapping);
+
+        writer.collect(() -> {
+            assertSame(mapping, writer.cachedMapping(List.of("core", 1L, 1, 2), lookup));
+            assertSame(mapping, writer.cachedMapping(List.of("core", 1L, 1, 2), lookup));
+        });
+        writer.cachedMapping(List.of("core", 1L, 1, 2), lookup);
+
+        verify(lookup, times(2)).get();
+    }
+
+    private static JournalEntry journalEntry(JournalEntryType type, String amount) {
+        return JournalEntry.createNew(mock(Office.class), null, mock(GLAccount.class), "USD", "L1", false, LocalDate.of(2024, 1, 15), type,
+                new BigDecimal(amount), null, PortfolioProductType.LOAN.getValue(), 1L, null, 1L, null, null, null);
+    }
+}
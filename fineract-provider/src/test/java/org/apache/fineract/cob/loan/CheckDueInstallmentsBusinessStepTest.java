@@ -51,6 +51,9 @@ public class CheckDueInstallmentsBusinessStepTest {
     @Mock
     private BusinessEventNotifierService businessEventNotifierService;
 
+    @Mock
+    private LoanInstallmentDueDateIndex loanInstallmentDueDateIndex;
+
     @Captor
     private ArgumentCaptor<BusinessEvent<?>> businessEventArgumentCaptor;
 
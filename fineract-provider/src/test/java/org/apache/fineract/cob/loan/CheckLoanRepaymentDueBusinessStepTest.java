@@ -46,6 +46,7 @@ import org.apache.fineract.portfolio.loanaccount.domain.Loan;
 import org.apache.fineract.portfolio.loanaccount.domain.LoanRepaymentScheduleInstallment;
 import org.apache.fineract.portfolio.loanaccount.domain.LoanSummary;
 import org.apache.fineract.portfolio.loanproduct.domain.LoanProduct;
+import org.apache.fineract.portfolio.loanproduct.service.LoanProductSnapshotService;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -62,6 +63,10 @@ public class CheckLoanRepaymentDueBusinessStepTest {
     private ConfigurationDomainService configurationDomainService;
     @Mock
     private BusinessEventNotifierService businessEventNotifierService;
+    @Mock
+    private LoanProductSnapshotService loanProductSnapshotService;
+    @Mock
+    private LoanInstallmentDueDateIndex loanInstallmentDueDateIndex;
     private CheckLoanRepaymentDueBusinessStep underTest;
 
     @BeforeEach
@@ -70,7 +75,8 @@ public class CheckLoanRepaymentDueBusinessStepTest {
         ThreadLocalContextUtil.setActionContext(ActionContext.DEFAULT);
         ThreadLocalContextUtil
                 .setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, LocalDate.now(ZoneId.systemDefault()))));
-        underTest = new CheckLoanRepaymentDueBusinessStep(configurationDomainService, businessEventNotifierService);
+        underTest = new CheckLoanRepaymentDueBusinessStep(configurationDomainService, businessEventNotifierService,
+                loanProductSnapshotService, loanInstallmentDueDateIndex);
     }
 
     @AfterEach
@@ -168,4 +174,23 @@ public class CheckLoanRepaymentDueBusinessStepTest {
         assertEquals(processedLoan, loanForProcessing);
 
     }
+
+    @Test
+    public void givenLoanWithoutInstallmentDueInPrefilterWhenStepExecutionThenInstallmentsAreNotChecked() {
+        // given
+        when(configurationDomainService.retrieveRepaymentDueDays()).thenReturn(1L);
+        Loan loanForProcessing = Mockito.mock(Loan.class);
+        LoanProduct loanProduct = Mockito.mock(LoanProduct.class);
+        when(loanForProcessing.getId()).thenReturn(1L);
+        when(loanForProcessing.getLoanProduct()).thenReturn(loanProduct);
+        when(loanProduct.getDueDaysForRepaymentEvent()).thenReturn(null);
+        when(loanInstallmentDueDateIndex.hasNoInstallmentDueOn(1L, DateUtils.getBusinessLocalDate().plusDays(1))).thenReturn(true);
+
+        // when
+        Loan processedLoan = underTest.execute(loanForProcessing);
+        // then
+        verify(loanForProcessing, times(0)).getRepaymentScheduleInstallments();
+        verify(businessEventNotifierService, times(0)).notifyPostBusinessEvent(any());
+        assertEquals(processedLoan, loanForProcessing);
+    }
 }
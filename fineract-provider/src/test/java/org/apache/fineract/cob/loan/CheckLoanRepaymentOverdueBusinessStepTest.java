@@ -50,6 +50,7 @@ import org.apache.fineract.portfolio.loanaccount.domain.LoanRepaymentScheduleIns
 import org.apache.fineract.portfolio.loanaccount.domain.LoanStatus;
 import org.apache.fineract.portfolio.loanaccount.domain.LoanSummary;
 import org.apache.fineract.portfolio.loanproduct.domain.LoanProduct;
+import org.apache.fineract.portfolio.loanproduct.service.LoanProductSnapshotService;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
@@ -71,6 +72,10 @@ public class CheckLoanRepaymentOverdueBusinessStepTest {
     private ConfigurationDomainService configurationDomainService;
     @Mock
     private BusinessEventNotifierService businessEventNotifierService;
+    @Mock
+    private LoanProductSnapshotService loanProductSnapshotService;
+    @Mock
+    private LoanInstallmentDueDateIndex loanInstallmentDueDateIndex;
     private CheckLoanRepaymentOverdueBusinessStep underTest;
 
     @BeforeEach
@@ -79,7 +84,8 @@ public class CheckLoanRepaymentOverdueBusinessStepTest {
         ThreadLocalContextUtil.setActionContext(ActionContext.DEFAULT);
         ThreadLocalContextUtil
                 .setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, LocalDate.now(ZoneId.systemDefault()))));
-        underTest = new CheckLoanRepaymentOverdueBusinessStep(configurationDomainService, businessEventNotifierService);
+        underTest = new CheckLoanRepaymentOverdueBusinessStep(configurationDomainService, businessEventNotifierService,
+                loanProductSnapshotService, loanInstallmentDueDateIndex);
     }
 
     @AfterEach
@@ -25,16 +25,19 @@ import static org.mockito.Mockito.when;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import org.apache.fineract.cob.COBBusinessStepService;
 import org.apache.fineract.cob.data.BusinessStepNameAndOrder;
 import org.apache.fineract.cob.data.LoanCOBParameter;
 import org.apache.fineract.cob.data.LoanCOBPartition;
+import org.apache.fineract.cob.data.LoanCOBPreClassification;
 import org.apache.fineract.infrastructure.jobs.service.JobName;
 import org.apache.fineract.infrastructure.springbatch.PropertyService;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -60,6 +63,8 @@ class LoanCOBPartitionerTest {
     private JobOperator jobOperator;
     @Mock
     private JobExplorer jobExplorer;
+    @Mock
+    private LoanCOBStepPreClassifier loanCOBStepPreClassifier;
 
     @Test
     public void testLoanCOBPartitioner() {
@@ -69,7 +74,7 @@ class LoanCOBPartitionerTest {
                 .thenReturn(BUSINESS_STEP_SET);
         when(retrieveLoanIdService.retrieveLoanCOBPartitions(1L, BUSINESS_DATE, false, 5))
                 .thenReturn(List.of(new LoanCOBPartition(1L,10L, 1L, 5L), new LoanCOBPartition(11L,20L, 2L, 4L)));
-        LoanCOBPartitioner loanCOBPartitioner = new LoanCOBPartitioner(propertyService, cobBusinessStepService, retrieveLoanIdService, jobOperator, jobExplorer, 1L);
+        LoanCOBPartitioner loanCOBPartitioner = new LoanCOBPartitioner(propertyService, cobBusinessStepService, retrieveLoanIdService, jobOperator, jobExplorer, loanCOBStepPreClassifier, 1L);
         loanCOBPartitioner.setBusinessDate(BUSINESS_DATE);
         loanCOBPartitioner.setIsCatchUp(false);
 
@@ -91,7 +96,7 @@ class LoanCOBPartitionerTest {
         JobExecution jobExecution = Mockito.mock(JobExecution.class);
         when(jobExecution.getId()).thenReturn(123L);
         when(jobExplorer.findRunningJobExecutions(JobName.LOAN_COB.name())).thenReturn(Set.of(jobExecution));
-        LoanCOBPartitioner loanCOBPartitioner = new LoanCOBPartitioner(propertyService, cobBusinessStepService, retrieveLoanIdService, jobOperator, jobExplorer, 1L);
+        LoanCOBPartitioner loanCOBPartitioner = new LoanCOBPartitioner(propertyService, cobBusinessStepService, retrieveLoanIdService, jobOperator, jobExplorer, loanCOBStepPreClassifier, 1L);
         loanCOBPartitioner.setBusinessDate(BUSINESS_DATE);
         loanCOBPartitioner.setIsCatchUp(false);
 
@@ -112,7 +117,7 @@ class LoanCOBPartitionerTest {
                 .thenReturn(BUSINESS_STEP_SET);
         when(retrieveLoanIdService.retrieveLoanCOBPartitions(1L, BUSINESS_DATE, false, 5))
                 .thenReturn(List.of());
-        LoanCOBPartitioner loanCOBPartitioner = new LoanCOBPartitioner(propertyService, cobBusinessStepService, retrieveLoanIdService, jobOperator, jobExplorer, 1L);
+        LoanCOBPartitioner loanCOBPartitioner = new LoanCOBPartitioner(propertyService, cobBusinessStepService, retrieveLoanIdService, jobOperator, jobExplorer, loanCOBStepPreClassifier, 1L);
         loanCOBPartitioner.setBusinessDate(BUSINESS_DATE);
         loanCOBPartitioner.setBusinessDate(BUSINESS_DATE);
         loanCOBPartitioner.setIsCatchUp(false);
@@ -125,6 +130,32 @@ class LoanCOBPartitionerTest {
         validatePartitions(partitions, 1, 0,  0);
     }
 
+    @Test
+    public void testLoanCOBPartitionerClosesLoansWithoutWorkBeforePartitioning() {
+        //given
+        LoanCOBPreClassification preClassification = new LoanCOBPreClassification("(1 = 1)", Map.of());
+        when(propertyService.getPartitionSize(LoanCOBConstant.JOB_NAME)).thenReturn(5);
+        when(cobBusinessStepService.getCOBBusinessSteps(LoanCOBBusinessStep.class, LoanCOBConstant.LOAN_COB_JOB_NAME))
+                .thenReturn(BUSINESS_STEP_SET);
+        when(loanCOBStepPreClassifier.classify(BUSINESS_STEP_SET, BUSINESS_DATE)).thenReturn(Optional.of(preClassification));
+        when(retrieveLoanIdService.closeLoansWithoutCOBWork(1L, BUSINESS_DATE, preClassification, 5)).thenReturn(6);
+        when(retrieveLoanIdService.retrieveLoanCOBPartitions(1L, BUSINESS_DATE, false, 5))
+                .thenReturn(List.of(new LoanCOBPartition(1L,10L, 1L, 3L)));
+        LoanCOBPartitioner loanCOBPartitioner = new LoanCOBPartitioner(propertyService, cobBusinessStepService, retrieveLoanIdService, jobOperator, jobExplorer, loanCOBStepPreClassifier, 1L);
+        loanCOBPartitioner.setBusinessDate(BUSINESS_DATE);
+        loanCOBPartitioner.setIsCatchUp(false);
+
+        //when
+        Map<String, ExecutionContext> partitions = loanCOBPartitioner.partition(1);
+
+        //then
+        Assertions.assertEquals(1, partitions.size());
+        validatePartitions(partitions, 1, 1,  10);
+        InOrder inOrder = Mockito.inOrder(retrieveLoanIdService);
+        inOrder.verify(retrieveLoanIdService).closeLoansWithoutCOBWork(1L, BUSINESS_DATE, preClassification, 5);
+        inOrder.verify(retrieveLoanIdService).retrieveLoanCOBPartitions(1L, BUSINESS_DATE, false, 5);
+    }
+
     private void validatePartitions(Map<String, ExecutionContext> partitions, int index, long min, long max) {
         Assertions.assertEquals(BUSINESS_STEP_SET,
                 partitions.get(LoanCOBPartitioner.PARTITION_PREFIX + index).get(LoanCOBConstant.BUSINESS_STEPS));
@@ -0,0 +1,114 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cob.loan;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.Set;
+import org.apache.fineract.cob.data.BusinessStepNameAndOrder;
+import org.apache.fineract.cob.data.LoanCOBPreClassification;
+import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class LoanCOBStepPreClassifierTest {
+
+    private static final LocalDate BUSINESS_DATE = LocalDate.of(2024, 3, 15);
+
+    @Mock
+    private ApplicationContext applicationContext;
+    @Mock
+    private ConfigurationDomainService configurationDomainService;
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private final FineractProperties fineractProperties = new FineractProperties();
+
+    private LoanCOBStepPreClassifier underTest;
+
+    @BeforeEach
+    public void setUp() {
+        fineractProperties.setJob(new FineractProperties.FineractJobProperties());
+        fineractProperties.getJob().setLoanCobPreClassificationEnabled(true);
+        underTest = new LoanCOBStepPreClassifier(applicationContext, configurationDomainService, jdbcTemplate, fineractProperties);
+    }
+
+    @Test
+    public void testConfiguredStepsAreCombinedIntoSingleWorkCondition() {
+        givenStep("dueStep", "CHECK_LOAN_REPAYMENT_DUE");
+        givenStep("arrearsStep", "UPDATE_LOAN_ARREARS_AGING");
+        when(configurationDomainService.retrieveRepaymentDueDays()).thenReturn(2L);
+        when(configurationDomainService.retrieveRepaymentOverdueDays()).thenReturn(1L);
+        when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class))).thenReturn(5, (Integer) null);
+
+        Optional<LoanCOBPreClassification> result = underTest.classify(
+                Set.of(new BusinessStepNameAndOrder("dueStep", 1L), new BusinessStepNameAndOrder("arrearsStep", 2L)), BUSINESS_DATE);
+
+        assertTrue(result.isPresent());
+        String workCondition = result.get().getWorkCondition();
+        assertTrue(workCondition.contains("rs.duedate between :eventWindowStart and :eventWindowEnd"));
+        assertTrue(workCondition.contains("m_loan_arrears_aging"));
+        assertEquals(BUSINESS_DATE, result.get().getParameters().get("businessDate"));
+        assertEquals(BUSINESS_DATE.minusDays(5), result.get().getParameters().get("eventWindowStart"));
+        assertEquals(BUSINESS_DATE.plusDays(2), result.get().getParameters().get("eventWindowEnd"));
+    }
+
+    @Test
+    public void testStepWithoutWorkConditionDisablesClassification() {
+        givenStep("customStep", "CUSTOM_STEP");
+
+        Optional<LoanCOBPreClassification> result = underTest.classify(Set.of(new BusinessStepNameAndOrder("customStep", 1L)),
+                BUSINESS_DATE);
+
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    public void testNoClassificationWhenDisabled() {
+        fineractProperties.getJob().setLoanCobPreClassificationEnabled(false);
+
+        Optional<LoanCOBPreClassification> result = underTest.classify(Set.of(new BusinessStepNameAndOrder("dueStep", 1L)),
+                BUSINESS_DATE);
+
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(applicationContext, jdbcTemplate);
+    }
+
+    private void givenStep(String beanName, String enumStyledName) {
+        LoanCOBBusinessStep step = mock(LoanCOBBusinessStep.class);
+        when(step.getEnumStyledName()).thenReturn(enumStyledName);
+        when(applicationContext.getBean(beanName, LoanCOBBusinessStep.class)).thenReturn(step);
+    }
+}
@@ -0,0 +1,106 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cob.loan;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.apache.fineract.cob.data.LoanCOBParameter;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class LoanInstallmentDueDateIndexTest {
+
+    private static final LocalDate DUE_DATE = LocalDate.of(2024, 3, 15);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private final FineractProperties fineractProperties = new FineractProperties();
+
+    private LoanInstallmentDueDateIndex underTest;
+
+    @BeforeEach
+    public void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        fineractProperties.setJob(new FineractProperties.FineractJobProperties());
+        fineractProperties.getJob().setLoanCobDueDatePrefilterEnabled(true);
+        underTest = new LoanInstallmentDueDateIndex(jdbcTemplate, fineractProperties);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    public void testLoansOfOpenPartitionAreResolvedWithSingleQueryPerDueDate() {
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq(DUE_DATE), eq(1L), eq(100L))).thenReturn(List.of(5L, 7L));
+        underTest.open(new LoanCOBParameter(1L, 100L));
+
+        assertFalse(underTest.hasNoInstallmentDueOn(5L, DUE_DATE));
+        assertTrue(underTest.hasNoInstallmentDueOn(6L, DUE_DATE));
+        assertFalse(underTest.hasNoInstallmentDueOn(7L, DUE_DATE));
+        verify(jdbcTemplate, times(1)).queryForList(anyString(), eq(Long.class), eq(DUE_DATE), eq(1L), eq(100L));
+    }
+
+    @Test
+    public void testLoanOutsideOfOpenPartitionsIsNotSkipped() {
+        underTest.open(new LoanCOBParameter(1L, 100L));
+
+        assertFalse(underTest.hasNoInstallmentDueOn(101L, DUE_DATE));
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    public void testClosedPartitionIsNotSkipped() {
+        LoanCOBParameter loanCOBParameter = new LoanCOBParameter(1L, 100L);
+        underTest.open(loanCOBParameter);
+        underTest.close(loanCOBParameter);
+
+        assertFalse(underTest.hasNoInstallmentDueOn(6L, DUE_DATE));
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    public void testNothingIsSkippedWhenPrefilterIsDisabled() {
+        fineractProperties.getJob().setLoanCobDueDatePrefilterEnabled(false);
+        underTest.open(new LoanCOBParameter(1L, 100L));
+
+        assertFalse(underTest.hasNoInstallmentDueOn(6L, DUE_DATE));
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
@@ -59,8 +59,10 @@ public class LoanItemReaderStepDefinitions implements En {
 
     private LoanLockingService lockingService = mock(LoanLockingService.class);
 
+    private LoanInstallmentDueDateIndex loanInstallmentDueDateIndex = mock(LoanInstallmentDueDateIndex.class);
+
     private LoanItemReader loanItemReader = new LoanItemReader(loanRepository, retrieveLoanIdService, customJobParameterResolver,
-            lockingService);
+            lockingService, loanInstallmentDueDateIndex);
 
     private Loan loan = mock(Loan.class);
 
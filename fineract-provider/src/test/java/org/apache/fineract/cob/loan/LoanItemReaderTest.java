@@ -65,6 +65,9 @@ class LoanItemReaderTest {
     @Mock
     private LoanLockingService loanLockingService;
 
+    @Mock
+    private LoanInstallmentDueDateIndex loanInstallmentDueDateIndex;
+
     @Mock
     private StepExecution stepExecution;
 
@@ -84,7 +87,7 @@ class LoanItemReaderTest {
         // given
         ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "test", "test", "UTC", null));
         LoanItemReader loanItemReader = new LoanItemReader(loanRepository, retrieveLoanIdService, customJobParameterResolver,
-                loanLockingService);
+                loanLockingService, loanInstallmentDueDateIndex);
         when(stepExecution.getExecutionContext()).thenReturn(executionContext);
         LoanCOBParameter loanCOBParameter = new LoanCOBParameter(1L, 5L);
         when(executionContext.get(LoanCOBConstant.LOAN_COB_PARAMETER)).thenReturn(loanCOBParameter);
@@ -112,7 +115,7 @@ class LoanItemReaderTest {
         // given
         ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "test", "test", "UTC", null));
         LoanItemReader loanItemReader = new LoanItemReader(loanRepository, retrieveLoanIdService, customJobParameterResolver,
-                loanLockingService);
+                loanLockingService, loanInstallmentDueDateIndex);
         when(stepExecution.getExecutionContext()).thenReturn(executionContext);
         LoanCOBParameter loanCOBParameter = new LoanCOBParameter(1L, 5L);
         when(executionContext.get(LoanCOBConstant.LOAN_COB_PARAMETER)).thenReturn(loanCOBParameter);
@@ -133,7 +136,7 @@ class LoanItemReaderTest {
         // given
         ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "test", "test", "UTC", null));
         LoanItemReader loanItemReader = new LoanItemReader(loanRepository, retrieveLoanIdService, customJobParameterResolver,
-                loanLockingService);
+                loanLockingService, loanInstallmentDueDateIndex);
         when(stepExecution.getExecutionContext()).thenReturn(executionContext);
         LoanCOBParameter loanCOBParameter = new LoanCOBParameter(1L, 100L);
         when(executionContext.get(LoanCOBConstant.LOAN_COB_PARAMETER)).thenReturn(loanCOBParameter);
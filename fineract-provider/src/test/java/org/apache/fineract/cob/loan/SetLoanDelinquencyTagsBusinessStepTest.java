@@ -45,6 +45,7 @@ import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
 import org.apache.fineract.infrastructure.event.business.service.BusinessEventNotifierService;
 import org.apache.fineract.portfolio.delinquency.helper.DelinquencyEffectivePauseHelper;
 import org.apache.fineract.portfolio.delinquency.service.DelinquencyReadPlatformService;
+import org.apache.fineract.portfolio.delinquency.service.IncrementalDelinquencyClassifier;
 import org.apache.fineract.portfolio.loanaccount.domain.Loan;
 import org.apache.fineract.portfolio.loanaccount.domain.LoanAccountDomainService;
 import org.junit.jupiter.api.AfterEach;
@@ -72,6 +73,8 @@ public class SetLoanDelinquencyTagsBusinessStepTest {
     private DelinquencyReadPlatformService delinquencyReadPlatformService;
     @Mock
     private BusinessEventNotifierService businessEventNotifierService;
+    @Mock
+    private IncrementalDelinquencyClassifier incrementalDelinquencyClassifier;
 
     /**
      * The class under test.
@@ -98,7 +101,7 @@ public class SetLoanDelinquencyTagsBusinessStepTest {
         ThreadLocalContextUtil.setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, LocalDate.now(ZoneId.systemDefault()),
                 BusinessDateType.COB_DATE, LocalDate.now(ZoneId.systemDefault()))));
         underTest = new SetLoanDelinquencyTagsBusinessStep(loanAccountDomainService, delinquencyEffectivePauseHelper,
-                delinquencyReadPlatformService, businessEventNotifierService);
+                delinquencyReadPlatformService, businessEventNotifierService, incrementalDelinquencyClassifier);
     }
 
     @AfterEach
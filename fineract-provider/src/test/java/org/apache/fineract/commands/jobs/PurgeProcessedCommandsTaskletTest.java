@@ -29,7 +29,9 @@ import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.time.ZoneId;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import org.apache.fineract.commands.domain.CommandProcessingResultType;
 import org.apache.fineract.commands.domain.CommandSourceRepository;
 import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
 import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
@@ -37,6 +39,8 @@ import org.apache.fineract.infrastructure.core.domain.ActionContext;
 import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
 import org.apache.fineract.infrastructure.core.service.DateUtils;
 import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.jobs.service.purge.ChunkedPurgeEngine;
+import org.apache.fineract.infrastructure.jobs.service.purge.PurgeSpec;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -57,6 +61,8 @@ public class PurgeProcessedCommandsTaskletTest {
     @Mock
     private ConfigurationDomainService configurationDomainService;
     @Mock
+    private ChunkedPurgeEngine purgeEngine;
+    @Mock
     private StepContribution stepContribution;
     @Mock
     private ChunkContext chunkContext;
@@ -69,7 +75,7 @@ public class PurgeProcessedCommandsTaskletTest {
         ThreadLocalContextUtil.setActionContext(ActionContext.DEFAULT);
         ThreadLocalContextUtil
                 .setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, LocalDate.now(ZoneId.systemDefault()))));
-        underTest = new PurgeProcessedCommandsTasklet(repository, configurationDomainService);
+        underTest = new PurgeProcessedCommandsTasklet(repository, configurationDomainService, purgeEngine);
     }
 
     @AfterEach
@@ -93,6 +99,23 @@ public class PurgeProcessedCommandsTaskletTest {
         assertEquals(RepeatStatus.FINISHED, resultStatus);
     }
 
+    @Test
+    public void givenChunkedPurgeEnabledWhenTaskExecutionThenCommandsArePurgedInChunks() {
+        // given
+        ArgumentCaptor<PurgeSpec> specCaptor = ArgumentCaptor.forClass(PurgeSpec.class);
+        when(configurationDomainService.retrieveProcessedCommandsPurgeDaysCriteria()).thenReturn(2L);
+        when(purgeEngine.isEnabled()).thenReturn(true);
+        // when
+        resultStatus = underTest.execute(stepContribution, chunkContext);
+        // then
+        verify(purgeEngine).purge(specCaptor.capture());
+        verify(repository, Mockito.never()).deleteOlderEventsWithStatus(Mockito.any(), Mockito.any());
+        PurgeSpec spec = specCaptor.getValue();
+        assertEquals("m_portfolio_command_source", spec.table());
+        assertEquals(List.of(CommandProcessingResultType.PROCESSED.getValue()), spec.conditionParams());
+        assertEquals(RepeatStatus.FINISHED, resultStatus);
+    }
+
     @Test
     public void givenEventsForPurgeWhenExceptionOccursThenJobExecutionFinishesSuccessfully() {
         // given
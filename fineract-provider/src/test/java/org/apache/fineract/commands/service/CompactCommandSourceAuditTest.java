@@ -0,0 +1,86 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.commands.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.verify;
+
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class CompactCommandSourceAuditTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private final FineractProperties fineractProperties = new FineractProperties();
+    private CompactCommandSourceAudit underTest;
+
+    @BeforeEach
+    void setUp() {
+        FineractProperties.FineractCommandSourceAuditProperties audit = new FineractProperties.FineractCommandSourceAuditProperties();
+        audit.setCompactEnabled(true);
+        FineractProperties.FineractCommandSourceProperties commandSource = new FineractProperties.FineractCommandSourceProperties();
+        commandSource.setAudit(audit);
+        fineractProperties.setCommandSource(commandSource);
+        underTest = new CompactCommandSourceAudit(jdbcTemplate, fineractProperties);
+    }
+
+    @Test
+    void testPayloadsAreCompressed() {
+        assertTrue(underTest.isEnabled());
+
+        String encoded = underTest.encode("{\"firstname\":\"John\"}");
+
+        assertTrue(encoded.startsWith(CommandSourcePayloadCodec.COMPRESSED_PREFIX));
+        assertEquals("{\"firstname\":\"John\"}", CommandSourcePayloadCodec.decode(encoded));
+    }
+
+    @Test
+    void testResultIsWrittenWithASingleUpdate() {
+        underTest.writeResult(1L, 200, "{\"clientId\":1}");
+
+        ArgumentCaptor<Object> result = ArgumentCaptor.forClass(Object.class);
+        verify(jdbcTemplate).update(startsWith("UPDATE m_portfolio_command_source SET result = ?"), result.capture(), eq(200), eq(1L));
+        assertEquals("{\"clientId\":1}", CommandSourcePayloadCodec.decode((String) result.getValue()));
+    }
+
+    @Test
+    void testDisabledWithoutProperties() {
+        assertFalse(new CompactCommandSourceAudit(jdbcTemplate, new FineractProperties()).isEnabled());
+    }
+
+    @Test
+    void testUncompressedPayloadIsDecodedAsIs() {
+        assertEquals("{\"a\":1}", CommandSourcePayloadCodec.decode(CommandSourcePayloadCodec.encode("{\"a\":1}", false)));
+        assertNull(CommandSourcePayloadCodec.decode(null));
+    }
+}
@@ -0,0 +1,107 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.commands.service;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.apache.fineract.commands.domain.CommandProcessingResultType;
+import org.apache.fineract.commands.domain.CommandWrapper;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyKeyIndexTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private final CommandWrapper wrapper = new CommandWrapperBuilder().createClient().build();
+    private IdempotencyKeyIndex underTest;
+
+    @BeforeEach
+    void setUp() {
+        FineractProperties.FineractIdempotencyIndexProperties index = new FineractProperties.FineractIdempotencyIndexProperties();
+        index.setEnabled(true);
+        index.setExpectedInsertions(1000);
+        index.setFalsePositiveProbability(0.0001);
+        index.setRecentKeys(100);
+        index.setWindow(Duration.ofHours(1));
+        FineractProperties.FineractCommandSourceProperties commandSource = new FineractProperties.FineractCommandSourceProperties();
+        commandSource.setIdempotencyIndex(index);
+        FineractProperties fineractProperties = new FineractProperties();
+        fineractProperties.setCommandSource(commandSource);
+        underTest = new IdempotencyKeyIndex(jdbcTemplate, fineractProperties);
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        underTest.destroy();
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    void testIndexIsRebuiltFromRecentRowsAndAnswersNewKeys() throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getString("action_name")).thenReturn(wrapper.actionName());
+        when(rs.getString("entity_name")).thenReturn(wrapper.entityName());
+        when(rs.getString("idempotency_key")).thenReturn("stored-key");
+        doAnswer(invocation -> {
+            invocation.getArgument(1, RowCallbackHandler.class).processRow(rs);
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), any(), any());
+
+        // not rebuilt yet: every key is looked up
+        assertFalse(underTest.isDefinitelyNew(wrapper, "new-key"));
+        Awaitility.await().atMost(10L, TimeUnit.SECONDS).until(() -> underTest.isDefinitelyNew(wrapper, "new-key"));
+
+        assertFalse(underTest.isDefinitelyNew(wrapper, "stored-key"));
+        assertTrue(underTest.isDefinitelyNew(new CommandWrapperBuilder().updateClient(1L).build(), "stored-key"));
+    }
+
+    @Test
+    void testRecordedKeysAreNotNewAndKeepTheirStatus() {
+        underTest.record(wrapper, "key", CommandProcessingResultType.UNDER_PROCESSING);
+        assertTrue(underTest.isUnderProcessing(wrapper, "key"));
+        assertFalse(underTest.isDefinitelyNew(wrapper, "key"));
+
+        underTest.record(wrapper, "key", CommandProcessingResultType.PROCESSED);
+        assertFalse(underTest.isUnderProcessing(wrapper, "key"));
+        assertFalse(underTest.isDefinitelyNew(wrapper, "key"));
+    }
+}
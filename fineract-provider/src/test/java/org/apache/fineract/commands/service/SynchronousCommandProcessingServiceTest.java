@@ -69,6 +69,10 @@ public class SynchronousCommandProcessingServiceTest {
     private IdempotencyKeyResolver idempotencyKeyResolver;
     @Mock
     private CommandSourceService commandSourceService;
+    @Mock
+    private CompactCommandSourceAudit compactCommandSourceAudit;
+    @Mock
+    private IdempotencyKeyIndex idempotencyKeyIndex;
 
     @Spy
     private FineractRequestContextHolder fineractRequestContextHolder;
@@ -173,6 +177,42 @@ public class SynchronousCommandProcessingServiceTest {
         verify(commandSourceService).generateErrorInfo(runtimeException);
     }
 
+    @Test
+    public void testExecuteCommandWithCompactAudit() {
+        CommandWrapper commandWrapper = Mockito.mock(CommandWrapper.class);
+        when(commandWrapper.taskPermissionName()).thenReturn("CREATE_CLIENT");
+        when(commandHandlerProvider.getHandler(Mockito.any(), Mockito.any())).thenReturn(Mockito.mock(NewCommandSourceHandler.class));
+        JsonCommand jsonCommand = Mockito.mock(JsonCommand.class);
+        when(jsonCommand.commandId()).thenReturn(null);
+        String idk = "idk";
+        when(idempotencyKeyResolver.resolve(commandWrapper)).thenReturn(idk);
+        AppUser appUser = Mockito.mock(AppUser.class);
+        when(context.authenticatedUser(Mockito.any(CommandWrapper.class))).thenReturn(appUser);
+        when(compactCommandSourceAudit.isEnabled()).thenReturn(true);
+        when(compactCommandSourceAudit.encode("{\"firstname\":\"John\"}")).thenReturn("gzip:request");
+        when(compactCommandSourceAudit.encode("{\"resourceId\":5}")).thenReturn("gzip:result");
+        when(configurationDomainService.isMakerCheckerEnabledForTask("CREATE_CLIENT")).thenReturn(false);
+
+        CommandSource commandSource = Mockito.mock(CommandSource.class);
+        when(commandSource.getId()).thenReturn(5L);
+        when(commandSource.getCommandAsJson()).thenReturn("{\"firstname\":\"John\"}");
+        when(commandSourceService.getInitialCommandSource(commandWrapper, jsonCommand, appUser, idk)).thenReturn(commandSource);
+        when(commandSourceService.saveInitialNewTransaction(commandWrapper, commandSource, idk)).thenReturn(commandSource);
+        when(commandSourceService.saveResultSameTransaction(commandSource)).thenReturn(commandSource);
+        CommandProcessingResult commandProcessingResult = Mockito.mock(CommandProcessingResult.class);
+        when(commandSourceService.processCommand(Mockito.any(), Mockito.eq(jsonCommand), Mockito.eq(commandSource), Mockito.eq(appUser),
+                Mockito.eq(false))).thenReturn(commandProcessingResult);
+        when(toApiResultJsonSerializer.serializeResult(commandProcessingResult)).thenReturn("{\"resourceId\":5}");
+
+        CommandProcessingResult actualCommandProcessingResult = underTest.executeCommand(commandWrapper, jsonCommand, false);
+
+        assertEquals(commandProcessingResult, actualCommandProcessingResult);
+        // the compressed request is stored with the initial insert and the compressed result with the result update
+        verify(commandSource).setCommandAsJson("gzip:request");
+        verify(commandSource).setResult("gzip:result");
+        verify(commandSourceService, Mockito.never()).saveInitialNewTransaction(commandWrapper, jsonCommand, appUser, idk);
+    }
+
     @Test
     public void publishHookEventHandlesInvalidJson() {
         String entityName = "entity";
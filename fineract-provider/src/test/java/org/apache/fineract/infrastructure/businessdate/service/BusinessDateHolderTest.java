@@ -0,0 +1,147 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.businessdate.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDate;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateRepository;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractBusinessDateCacheProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractBusinessDateProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class BusinessDateHolderTest {
+
+    private static final LocalDate BUSINESS_DATE = LocalDate.of(2024, 3, 15);
+
+    @Mock
+    private BusinessDateRepository repository;
+    @Mock
+    private ConfigurationDomainService configurationDomainService;
+
+    private final FineractBusinessDateCacheProperties cacheProperties = new FineractBusinessDateCacheProperties();
+    private BusinessDateHolder underTest;
+
+    @BeforeEach
+    public void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        cacheProperties.setEnabled(true);
+        cacheProperties.setVersionCheckInterval(Duration.ofMinutes(1));
+        FineractBusinessDateProperties businessDateProperties = new FineractBusinessDateProperties();
+        businessDateProperties.setCache(cacheProperties);
+        FineractProperties fineractProperties = new FineractProperties();
+        fineractProperties.setBusinessDate(businessDateProperties);
+        when(configurationDomainService.isBusinessDateEnabled()).thenReturn(true);
+        when(repository.findAll()).thenReturn(List.of(BusinessDate.instance(BusinessDateType.BUSINESS_DATE, BUSINESS_DATE)));
+        underTest = new BusinessDateHolder(repository, configurationDomainService, fineractProperties);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    public void testBusinessDatesAreLoadedOnce() {
+        HashMap<BusinessDateType, LocalDate> first = underTest.getBusinessDates();
+        HashMap<BusinessDateType, LocalDate> second = underTest.getBusinessDates();
+
+        assertEquals(first, second);
+        assertEquals(BUSINESS_DATE, first.get(BusinessDateType.BUSINESS_DATE));
+        verify(repository, times(1)).findAll();
+        verify(repository, never()).getVersion();
+    }
+
+    @Test
+    public void testUnchangedVersionKeepsTheCachedBusinessDates() {
+        cacheProperties.setVersionCheckInterval(Duration.ZERO);
+        when(repository.getVersion()).thenReturn(1L);
+
+        underTest.getBusinessDates();
+        HashMap<BusinessDateType, LocalDate> second = underTest.getBusinessDates();
+
+        assertEquals(BUSINESS_DATE, second.get(BusinessDateType.BUSINESS_DATE));
+        verify(repository, times(1)).findAll();
+        verify(repository, times(1)).getVersion();
+    }
+
+    @Test
+    public void testChangedVersionReloadsBusinessDatesChangedOnAnotherInstance() {
+        cacheProperties.setVersionCheckInterval(Duration.ZERO);
+        underTest.getBusinessDates();
+        when(repository.getVersion()).thenReturn(2L);
+        when(repository.findAll()).thenReturn(List.of(BusinessDate.instance(BusinessDateType.BUSINESS_DATE, BUSINESS_DATE.plusDays(1))));
+
+        HashMap<BusinessDateType, LocalDate> second = underTest.getBusinessDates();
+
+        assertEquals(BUSINESS_DATE.plusDays(1), second.get(BusinessDateType.BUSINESS_DATE));
+        verify(repository, times(2)).findAll();
+    }
+
+    @Test
+    public void testCallersCannotModifyTheCachedBusinessDates() {
+        HashMap<BusinessDateType, LocalDate> first = underTest.getBusinessDates();
+        first.put(BusinessDateType.BUSINESS_DATE, BUSINESS_DATE.plusDays(1));
+
+        HashMap<BusinessDateType, LocalDate> second = underTest.getBusinessDates();
+
+        assertNotSame(first, second);
+        assertEquals(BUSINESS_DATE, second.get(BusinessDateType.BUSINESS_DATE));
+        verify(repository, times(1)).findAll();
+    }
+
+    @Test
+    public void testInvalidateReloadsBusinessDates() {
+        underTest.getBusinessDates();
+        underTest.invalidate();
+        underTest.getBusinessDates();
+
+        verify(repository, times(2)).findAll();
+    }
+
+    @Test
+    public void testDisabledCacheAlwaysLoads() {
+        cacheProperties.setEnabled(false);
+
+        underTest.getBusinessDates();
+        underTest.getBusinessDates();
+
+        verify(repository, times(2)).findAll();
+    }
+}
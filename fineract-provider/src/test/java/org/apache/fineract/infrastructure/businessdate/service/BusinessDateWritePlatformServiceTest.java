@@ -72,6 +72,9 @@ public class BusinessDateWritePlatformServiceTest {
     @Mock
     private ConfigurationDomainService configurationDomainService;
 
+    @Mock
+    private BusinessDateHolder businessDateHolder;
+
     @Captor
     private ArgumentCaptor<BusinessDate> businessDateArgumentCaptor;
 
@@ -0,0 +1,88 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.cache.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class TenantScopedCacheTest {
+
+    private static final Duration TTL = Duration.ofMinutes(1);
+
+    private final TenantScopedCache<String, Integer> underTest = new TenantScopedCache<>();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    public void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    public void testValueLoadedDuringAnInvalidationIsNotCached() {
+        Integer first = underTest.get("key", TTL, generation -> {
+            underTest.invalidate("key");
+            return loads.incrementAndGet();
+        });
+        Integer second = underTest.get("key", TTL, generation -> loads.incrementAndGet());
+        Integer third = underTest.get("key", TTL, generation -> loads.incrementAndGet());
+
+        assertEquals(1, first);
+        assertEquals(2, second);
+        assertEquals(2, third);
+    }
+
+    @Test
+    public void testInvalidationIsRepeatedAfterTheTransactionCompleted() {
+        TransactionSynchronizationManager.initSynchronization();
+        underTest.invalidateAll();
+        underTest.get("key", TTL, generation -> loads.incrementAndGet());
+
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        }
+        underTest.get("key", TTL, generation -> loads.incrementAndGet());
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void testExpiredValueIsReloaded() {
+        underTest.get("key", Duration.ZERO, generation -> loads.incrementAndGet());
+        underTest.get("key", Duration.ZERO, generation -> loads.incrementAndGet());
+
+        assertEquals(2, loads.get());
+    }
+}
@@ -0,0 +1,205 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+public class ConcurrentReadExecutorTest {
+
+    private static final FineractPlatformTenant TENANT = new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null);
+    private static final LocalDate BUSINESS_DATE = LocalDate.of(2024, 1, 1);
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private ConcurrentReadExecutor underTest;
+
+    @BeforeEach
+    public void setUp() {
+        ThreadLocalContextUtil.setTenant(TENANT);
+        ThreadLocalContextUtil.setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, BUSINESS_DATE)));
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("mifos", "password"));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        release.countDown();
+        if (underTest != null) {
+            underTest.destroy();
+        }
+        SecurityContextHolder.clearContext();
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    public void testTenantAndSecurityContextArePropagatedToWorkerThread() {
+        underTest = executor(true, 4);
+        final Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        final Thread caller = Thread.currentThread();
+        final ConcurrentReadExecutor.ReadGroup reads = underTest.newGroup();
+
+        final CompletableFuture<Thread> thread = reads.submit("thread", Thread::currentThread);
+        final CompletableFuture<FineractPlatformTenant> tenant = reads.submit("tenant", ThreadLocalContextUtil::getTenant);
+        final CompletableFuture<LocalDate> businessDate = reads.submit("businessDate",
+                () -> ThreadLocalContextUtil.getBusinessDateByType(BusinessDateType.BUSINESS_DATE));
+        final CompletableFuture<Authentication> principal = reads.submit("principal",
+                () -> SecurityContextHolder.getContext().getAuthentication());
+
+        assertNotSame(caller, reads.join(thread));
+        assertSame(TENANT, reads.join(tenant));
+        assertEquals(BUSINESS_DATE, reads.join(businessDate));
+        assertSame(authentication, reads.join(principal));
+        assertSame(TENANT, ThreadLocalContextUtil.getTenant());
+        assertSame(authentication, SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Test
+    public void testReadsRunInlineWhenDisabled() {
+        underTest = executor(false, 2);
+        final ConcurrentReadExecutor.ReadGroup reads = underTest.newGroup();
+
+        assertSame(Thread.currentThread(), reads.join(reads.submit("thread", Thread::currentThread)));
+    }
+
+    @Test
+    public void testReadsBeyondLimitRunInline() throws InterruptedException {
+        underTest = executor(true, 1);
+        final ConcurrentReadExecutor.ReadGroup reads = underTest.newGroup();
+        final CountDownLatch started = new CountDownLatch(1);
+
+        final CompletableFuture<Thread> blocked = reads.submit("blocked", () -> {
+            started.countDown();
+            await(release);
+            return Thread.currentThread();
+        });
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+        final CompletableFuture<Thread> inline = reads.submit("inline", Thread::currentThread);
+
+        assertSame(Thread.currentThread(), reads.join(inline));
+        release.countDown();
+        assertNotSame(Thread.currentThread(), reads.join(blocked));
+        // the worker is given back once the blocked read completed
+        assertNotSame(Thread.currentThread(), awaitWorker(reads));
+    }
+
+    @Test
+    public void testOriginalExceptionIsRethrown() {
+        underTest = executor(true, 2);
+        final ConcurrentReadExecutor.ReadGroup reads = underTest.newGroup();
+        final IllegalArgumentException failure = new IllegalArgumentException("not found");
+
+        final CompletableFuture<Object> future = reads.submit("failing", () -> {
+            throw failure;
+        });
+
+        assertSame(failure, assertThrows(IllegalArgumentException.class, () -> reads.join(future)));
+    }
+
+    @Test
+    public void testFirstFailureCancelsRemainingReads() throws InterruptedException {
+        underTest = executor(true, 2);
+        final ConcurrentReadExecutor.ReadGroup reads = underTest.newGroup();
+        final CountDownLatch started = new CountDownLatch(1);
+        final IllegalArgumentException failure = new IllegalArgumentException("not found");
+        final AtomicBoolean laterReadRun = new AtomicBoolean();
+
+        final CompletableFuture<String> running = reads.submit("running", () -> {
+            started.countDown();
+            await(release);
+            return "result";
+        });
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+        final CompletableFuture<Object> failing = reads.submit("failing", () -> {
+            throw failure;
+        });
+        assertSame(failure, assertThrows(IllegalArgumentException.class, () -> reads.join(failing)));
+        final CompletableFuture<Boolean> later = reads.submit("later", () -> laterReadRun.getAndSet(true));
+
+        assertTrue(running.isCancelled());
+        assertSame(failure, assertThrows(IllegalArgumentException.class, () -> reads.join(running)));
+        assertThrows(RuntimeException.class, () -> reads.join(later));
+        assertFalse(laterReadRun.get());
+    }
+
+    @Test
+    public void testGroupsAreIndependent() {
+        underTest = executor(true, 2);
+        final ConcurrentReadExecutor.ReadGroup failed = underTest.newGroup();
+        final CompletableFuture<Object> failing = failed.submit("failing", () -> {
+            throw new IllegalArgumentException("not found");
+        });
+        assertThrows(IllegalArgumentException.class, () -> failed.join(failing));
+
+        final ConcurrentReadExecutor.ReadGroup reads = underTest.newGroup();
+
+        assertEquals("result", reads.join(reads.submit("read", () -> "result")));
+        assertNull(reads.join(reads.submit("empty", () -> null)));
+    }
+
+    private Thread awaitWorker(final ConcurrentReadExecutor.ReadGroup reads) throws InterruptedException {
+        // the permit is released right after the blocked read completed its future, give it a moment
+        for (int attempt = 0; attempt < 100; attempt++) {
+            final Thread thread = reads.join(reads.submit("thread", Thread::currentThread));
+            if (thread != Thread.currentThread()) {
+                return thread;
+            }
+            Thread.sleep(10);
+        }
+        return Thread.currentThread();
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static ConcurrentReadExecutor executor(final boolean enabled, final int max) {
+        final FineractProperties.FineractQueryProperties query = new FineractProperties.FineractQueryProperties();
+        query.setConcurrentReadsEnabled(enabled);
+        query.setConcurrentReadsMax(max);
+        final FineractProperties fineractProperties = new FineractProperties();
+        fineractProperties.setQuery(query);
+        return new ConcurrentReadExecutor(fineractProperties, Optional.empty());
+    }
+}
@@ -115,6 +115,8 @@ class DatatableBusinessEventTest {
     private DatatableReadService datatableReadService;
     @Mock
     private DatatableUtil datatableUtil;
+    @Mock
+    private DatatableSchemaRegistry datatableSchemaRegistry;
 
     @InjectMocks
     private DatatableWriteServiceImpl underTest;
@@ -0,0 +1,110 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.dataqueries.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractDatatableProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractDatatableSchemaCacheProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseType;
+import org.apache.fineract.infrastructure.dataqueries.data.ResultsetColumnHeaderData;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class DatatableSchemaRegistryTest {
+
+    private static final String TABLE_NAME = "dt_client_extra";
+
+    private final FineractDatatableSchemaCacheProperties cacheProperties = new FineractDatatableSchemaCacheProperties();
+    private final AtomicInteger loads = new AtomicInteger();
+    private DatatableSchemaRegistry underTest;
+
+    @BeforeEach
+    public void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        cacheProperties.setEnabled(true);
+        cacheProperties.setTtl(Duration.ofMinutes(1));
+        FineractDatatableProperties datatableProperties = new FineractDatatableProperties();
+        datatableProperties.setSchemaCache(cacheProperties);
+        FineractProperties fineractProperties = new FineractProperties();
+        fineractProperties.setDatatable(datatableProperties);
+        underTest = new DatatableSchemaRegistry(fineractProperties);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    public void testColumnHeadersAreLoadedOnce() {
+        List<ResultsetColumnHeaderData> first = underTest.getColumnHeaders(TABLE_NAME, this::load);
+        List<ResultsetColumnHeaderData> second = underTest.getColumnHeaders(TABLE_NAME, this::load);
+
+        assertSame(first, second);
+        assertEquals("id", first.get(0).getColumnName());
+        assertEquals(1, loads.get());
+        assertThrows(UnsupportedOperationException.class, () -> first.add(first.get(0)));
+    }
+
+    @Test
+    public void testInvalidateReloadsColumnHeaders() {
+        underTest.getColumnHeaders(TABLE_NAME, this::load);
+        underTest.invalidate();
+        underTest.getColumnHeaders(TABLE_NAME, this::load);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void testTenantsAreCachedSeparately() {
+        underTest.getColumnHeaders(TABLE_NAME, this::load);
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(2L, "other", "Other", "Asia/Kolkata", null));
+        underTest.getColumnHeaders(TABLE_NAME, this::load);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void testDisabledCacheAlwaysLoads() {
+        cacheProperties.setEnabled(false);
+
+        underTest.getColumnHeaders(TABLE_NAME, this::load);
+        underTest.getColumnHeaders(TABLE_NAME, this::load);
+
+        assertEquals(2, loads.get());
+    }
+
+    private List<ResultsetColumnHeaderData> load(String tableName) {
+        loads.incrementAndGet();
+        List<ResultsetColumnHeaderData> columnHeaders = new ArrayList<>();
+        columnHeaders.add(ResultsetColumnHeaderData.basic("id", "BIGINT", DatabaseType.MYSQL));
+        return columnHeaders;
+    }
+}
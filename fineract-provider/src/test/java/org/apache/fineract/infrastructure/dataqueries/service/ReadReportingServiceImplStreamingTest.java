@@ -0,0 +1,140 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.dataqueries.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.serialization.GoogleGsonSerializerHelper;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseType;
+import org.apache.fineract.infrastructure.dataqueries.data.GenericResultsetData;
+import org.apache.fineract.infrastructure.dataqueries.data.ResultsetColumnHeaderData;
+import org.apache.fineract.infrastructure.dataqueries.data.ResultsetRowData;
+import org.apache.fineract.infrastructure.dataqueries.service.StreamingReportExecutor.ReportRowHandler;
+import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
+import org.apache.fineract.infrastructure.security.service.SqlInjectionPreventerService;
+import org.apache.fineract.organisation.office.domain.Office;
+import org.apache.fineract.useradministration.domain.AppUser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.rowset.SqlRowSet;
+
+@ExtendWith(MockitoExtension.class)
+public class ReadReportingServiceImplStreamingTest {
+
+    private static final String REPORT_NAME = "Active Loans - Details";
+    private static final String REPORT_SQL = "select l.id, l.disbursedon_date, l.principal_amount, l.loan_officer from m_loan l";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private PlatformSecurityContext context;
+    @Mock
+    private GenericDataService genericDataService;
+    @Mock
+    private SqlInjectionPreventerService sqlInjectionPreventerService;
+    @Mock
+    private DatabaseSpecificSQLGenerator sqlGenerator;
+    @Mock
+    private StreamingReportExecutor streamingReportExecutor;
+
+    private final List<ResultsetColumnHeaderData> columnHeaders = List.of(
+            ResultsetColumnHeaderData.basic("id", "BIGINT", DatabaseType.MYSQL),
+            ResultsetColumnHeaderData.basic("disbursedon_date", "DATE", DatabaseType.MYSQL),
+            ResultsetColumnHeaderData.basic("principal_amount", "DECIMAL", DatabaseType.MYSQL),
+            ResultsetColumnHeaderData.basic("loan_officer", "VARCHAR", DatabaseType.MYSQL));
+    private final List<List<Object>> rows = List.of(
+            Arrays.asList(1L, LocalDate.of(2024, 1, 15), new BigDecimal("1000.000000"), "Jane \"JD\" Doe"),
+            Arrays.asList(2L, LocalDate.of(2024, 2, 1), new BigDecimal("250.500000"), null));
+
+    private ReadReportingServiceImpl underTest;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        underTest = new ReadReportingServiceImpl(jdbcTemplate, context, genericDataService, sqlInjectionPreventerService, sqlGenerator,
+                new FineractProperties(), streamingReportExecutor);
+
+        SqlRowSet reportSql = mock(SqlRowSet.class);
+        when(reportSql.next()).thenReturn(true);
+        when(reportSql.getString("the_sql")).thenReturn(REPORT_SQL);
+        when(sqlInjectionPreventerService.encodeSql(anyString())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(genericDataService.wrapSQL(anyString())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(genericDataService.replace(anyString(), anyString(), anyString())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(jdbcTemplate.queryForRowSet(anyString(), eq(REPORT_NAME))).thenReturn(reportSql);
+        Office office = mock(Office.class);
+        when(office.getHierarchy()).thenReturn(".");
+        AppUser user = mock(AppUser.class);
+        when(user.getOffice()).thenReturn(office);
+        when(user.getId()).thenReturn(1L);
+        when(context.authenticatedUser()).thenReturn(user);
+        when(sqlGenerator.currentBusinessDate()).thenReturn("'2024-03-01'");
+        when(sqlGenerator.currentTenantDateTime()).thenReturn("'2024-03-01 10:00:00'");
+        when(streamingReportExecutor.isEnabled()).thenReturn(true);
+        when(streamingReportExecutor.execute(eq(REPORT_NAME), eq(REPORT_SQL), any())).thenAnswer(invocation -> {
+            ReportRowHandler handler = invocation.getArgument(2);
+            handler.start(columnHeaders);
+            for (List<Object> row : rows) {
+                handler.row(row);
+            }
+            handler.finish();
+            return (long) rows.size();
+        });
+    }
+
+    @Test
+    public void testStreamedJsonMatchesGenericResultsetSerialization() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        underTest.retrieveReportJSON(REPORT_NAME, "report", Map.of(), false).write(out);
+
+        List<ResultsetRowData> data = new ArrayList<>();
+        for (List<Object> row : rows) {
+            data.add(ResultsetRowData.create(row));
+        }
+        String expected = GoogleGsonSerializerHelper.createSimpleGson().toJson(new GenericResultsetData(columnHeaders, data));
+        assertEquals(expected, out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testStreamedCsv() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        underTest.retrieveReportCSV(REPORT_NAME, "report", Map.of(), false).write(out);
+
+        assertEquals("id,disbursedon_date,principal_amount,loan_officer\r\n" //
+                + "1,2024-01-15,1000.000000,\"Jane \"\"JD\"\" Doe\"\r\n" //
+                + "2,2024-02-01,250.500000,\r\n", out.toString(StandardCharsets.UTF_8));
+    }
+}
@@ -35,6 +35,7 @@ import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
 import org.apache.fineract.infrastructure.core.service.DateUtils;
 import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
 import org.apache.fineract.infrastructure.event.external.repository.ExternalEventRepository;
+import org.apache.fineract.infrastructure.jobs.service.purge.ChunkedPurgeEngine;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -55,6 +56,8 @@ public class PurgeExternalEventsTaskletTest {
     @Mock
     private ConfigurationDomainService configurationDomainService;
     @Mock
+    private ChunkedPurgeEngine purgeEngine;
+    @Mock
     private StepContribution stepContribution;
     @Mock
     private ChunkContext chunkContext;
@@ -67,7 +70,7 @@ public class PurgeExternalEventsTaskletTest {
         ThreadLocalContextUtil.setActionContext(ActionContext.DEFAULT);
         ThreadLocalContextUtil
                 .setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, LocalDate.now(ZoneId.systemDefault()))));
-        underTest = new PurgeExternalEventsTasklet(repository, configurationDomainService);
+        underTest = new PurgeExternalEventsTasklet(repository, configurationDomainService, purgeEngine);
     }
 
     @AfterEach
@@ -35,6 +35,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import org.apache.fineract.avro.MessageV1;
 import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
@@ -224,6 +225,29 @@ class SendAsynchronousEventsTaskletTest {
         assertEquals(RepeatStatus.FINISHED, resultStatus);
     }
 
+    @Test
+    public void givenFailureReportingProducerWhenSomeEventsFailThenOnlySentEventsAreMarked() throws Exception {
+        // given
+        ExternalEventView sent = createExternalEventView("aType", "aCategory", "aSchema", new byte[0], "aIdempotencyKey", 1L);
+        ExternalEventView failed = createExternalEventView("aType", "aCategory", "aSchema", new byte[0], "aIdempotencyKey", 2L);
+        List<ExternalEventView> events = Arrays.asList(sent, failed);
+        MessageV1 dummyMessage = new MessageV1(1L, "aSource", "aType", "nocategory", "aCreateDate", "aBusinessDate", "aTenantId",
+                "anidempotencyKey", "aSchema", ByteBuffer.wrap("dummy".getBytes(StandardCharsets.UTF_8)));
+        when(repository.findByStatusOrderByBusinessDateAscIdAsc(Mockito.any(), Mockito.any())).thenReturn(events);
+        when(messageFactory.createMessage(Mockito.any())).thenReturn(dummyMessage);
+        when(byteBufferConverter.convert(Mockito.any(ByteBuffer.class))).thenReturn(new byte[0]);
+        when(eventProducer.isFailureReportingSupported()).thenReturn(true);
+        when(eventProducer.sendEventsReportingFailures(Mockito.any())).thenReturn(Set.of(failed.getId()));
+        // when
+        resultStatus = underTest.execute(stepContribution, chunkContext);
+        // then
+        verify(eventProducer, times(0)).sendEvents(Mockito.any());
+        Awaitility.await().atMost(10L, TimeUnit.SECONDS).untilAsserted(() -> {
+            verify(repository).markEventsSent(Mockito.eq(List.of(sent.getId())), Mockito.any());
+        });
+        assertEquals(RepeatStatus.FINISHED, resultStatus);
+    }
+
     @Test
     public void givenEventBatchSizeIsConfiguredAs10WhenTaskExecutionThenEventReadPageSizeIsCorrect() {
         ArgumentCaptor<Pageable> externalEventPageSizeArgumentCaptor = ArgumentCaptor.forClass(Pageable.class);
@@ -0,0 +1,150 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.event.external.producer.jms;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import jakarta.jms.Connection;
+import jakarta.jms.MessageConsumer;
+import jakarta.jms.Session;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.activemq.ActiveMQConnectionFactory;
+import org.apache.activemq.broker.BrokerService;
+import org.apache.activemq.command.ActiveMQQueue;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.messaging.jms.ActiveMQMessageFactory;
+import org.apache.fineract.infrastructure.core.service.HashingService;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.jms.connection.CachingConnectionFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Sends external event batches through an embedded ActiveMQ broker, with and without pooled sessions, and logs the
+ * measured throughput and batch latency.
+ */
+@Slf4j
+class JMSMultiExternalEventProducerBrokerTest {
+
+    private static final int PRODUCER_COUNT = 4;
+    private static final int BATCHES = 20;
+    private static final int PARTITIONS_PER_BATCH = 50;
+    private static final int MESSAGES_PER_PARTITION = 4;
+
+    private final ActiveMQQueue destination = new ActiveMQQueue("external-events-test");
+    private final AtomicInteger received = new AtomicInteger();
+
+    private BrokerService broker;
+    private CachingConnectionFactory connectionFactory;
+    private ThreadPoolTaskExecutor taskExecutor;
+    private Connection consumerConnection;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        broker = new BrokerService();
+        broker.setBrokerName("fineract-test");
+        broker.setPersistent(false);
+        broker.setUseJmx(false);
+        broker.start();
+        broker.waitUntilStarted();
+
+        ActiveMQConnectionFactory targetConnectionFactory = new ActiveMQConnectionFactory("vm://fineract-test?create=false");
+        connectionFactory = new CachingConnectionFactory(targetConnectionFactory);
+        connectionFactory.setSessionCacheSize(PRODUCER_COUNT);
+        connectionFactory.setReconnectOnException(true);
+
+        taskExecutor = new ThreadPoolTaskExecutor();
+        taskExecutor.setCorePoolSize(PRODUCER_COUNT);
+        taskExecutor.initialize();
+
+        consumerConnection = targetConnectionFactory.createConnection();
+        MessageConsumer consumer = consumerConnection.createSession(false, Session.AUTO_ACKNOWLEDGE).createConsumer(destination);
+        consumer.setMessageListener(message -> received.incrementAndGet());
+        consumerConnection.start();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        consumerConnection.close();
+        connectionFactory.destroy();
+        taskExecutor.shutdown();
+        broker.stop();
+        broker.waitUntilStopped();
+    }
+
+    @ParameterizedTest(name = "pooledSessions={0}")
+    @ValueSource(booleans = { false, true })
+    void sendsAllEventsAndReportsThroughput(boolean pooledSessions) throws Exception {
+        JMSMultiExternalEventProducer producer = new JMSMultiExternalEventProducer(destination, connectionFactory,
+                new ActiveMQMessageFactory(), taskExecutor, new HashingService(), properties(pooledSessions));
+        List<Long> latencies = new ArrayList<>();
+        long partitionKey = 0;
+
+        long start = System.nanoTime();
+        for (int batch = 0; batch < BATCHES; batch++) {
+            Map<Long, List<byte[]>> partitions = new HashMap<>();
+            for (int i = 0; i < PARTITIONS_PER_BATCH; i++) {
+                List<byte[]> messages = new ArrayList<>();
+                for (int j = 0; j < MESSAGES_PER_PARTITION; j++) {
+                    messages.add(new byte[256]);
+                }
+                partitions.put(partitionKey++, messages);
+            }
+            long batchStart = System.nanoTime();
+            producer.sendEvents(partitions);
+            latencies.add(System.nanoTime() - batchStart);
+        }
+        Duration total = Duration.ofNanos(System.nanoTime() - start);
+        producer.destroy();
+
+        int expected = BATCHES * PARTITIONS_PER_BATCH * MESSAGES_PER_PARTITION;
+        Awaitility.await().atMost(30, TimeUnit.SECONDS).until(() -> received.get() == expected);
+        assertEquals(expected, received.get());
+
+        long meanLatencyMicros = latencies.stream().mapToLong(Long::longValue).sum() / latencies.size() / 1000;
+        log.info("JMS external events (pooledSessions={}): {} msg/s, mean batch latency {} us", pooledSessions,
+                (long) (expected / Math.max(total.toNanos() / 1e9, 1e-9)), meanLatencyMicros);
+    }
+
+    private static FineractProperties properties(boolean pooledSessions) {
+        FineractProperties.FineractExternalEventsProducerJmsProperties jms = new FineractProperties.FineractExternalEventsProducerJmsProperties();
+        jms.setProducerCount(PRODUCER_COUNT);
+        jms.setPooledSessionsEnabled(pooledSessions);
+        jms.setAckTimeoutInSeconds(30);
+        FineractProperties.FineractExternalEventsProducerProperties producer = new FineractProperties.FineractExternalEventsProducerProperties();
+        producer.setJms(jms);
+        FineractProperties.FineractExternalEventsProperties external = new FineractProperties.FineractExternalEventsProperties();
+        external.setProducer(producer);
+        FineractProperties.FineractEventsProperties events = new FineractProperties.FineractEventsProperties();
+        events.setExternal(external);
+        FineractProperties fineractProperties = new FineractProperties();
+        fineractProperties.setEvents(events);
+        return fineractProperties;
+    }
+}
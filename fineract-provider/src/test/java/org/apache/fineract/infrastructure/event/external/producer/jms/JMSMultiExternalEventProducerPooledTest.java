@@ -0,0 +1,162 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.event.external.producer.jms;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import jakarta.jms.BytesMessage;
+import jakarta.jms.CompletionListener;
+import jakarta.jms.Connection;
+import jakarta.jms.ConnectionFactory;
+import jakarta.jms.Destination;
+import jakarta.jms.IllegalStateException;
+import jakarta.jms.Message;
+import jakarta.jms.MessageProducer;
+import jakarta.jms.Session;
+import java.util.List;
+import java.util.Map;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.messaging.jms.MessageFactory;
+import org.apache.fineract.infrastructure.core.service.HashingService;
+import org.apache.fineract.infrastructure.event.external.exception.AcknowledgementTimeoutException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class JMSMultiExternalEventProducerPooledTest {
+
+    private static final byte[] MESSAGE = new byte[] { 1, 2, 3 };
+
+    @Mock
+    private Destination destination;
+    @Mock
+    private ConnectionFactory connectionFactory;
+    @Mock
+    private MessageFactory messageFactory;
+    @Mock
+    private HashingService hashingService;
+    @Mock
+    private Connection connection;
+    @Mock
+    private Session session1;
+    @Mock
+    private Session session2;
+    @Mock
+    private MessageProducer producer1;
+    @Mock
+    private MessageProducer producer2;
+    @Mock
+    private BytesMessage bytesMessage;
+
+    private FineractProperties.FineractExternalEventsProducerJmsProperties jms;
+    private JMSMultiExternalEventProducer underTest;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        jms = new FineractProperties.FineractExternalEventsProducerJmsProperties();
+        jms.setProducerCount(1);
+        jms.setPooledSessionsEnabled(true);
+        jms.setAckTimeoutInSeconds(1);
+        FineractProperties.FineractExternalEventsProducerProperties producer = new FineractProperties.FineractExternalEventsProducerProperties();
+        producer.setJms(jms);
+        FineractProperties.FineractExternalEventsProperties external = new FineractProperties.FineractExternalEventsProperties();
+        external.setProducer(producer);
+        FineractProperties.FineractEventsProperties events = new FineractProperties.FineractEventsProperties();
+        events.setExternal(external);
+        FineractProperties fineractProperties = new FineractProperties();
+        fineractProperties.setEvents(events);
+        underTest = new JMSMultiExternalEventProducer(destination, connectionFactory, messageFactory, new SimpleAsyncTaskExecutor(),
+                hashingService, fineractProperties);
+
+        given(connectionFactory.createConnection()).willReturn(connection);
+        given(connection.createSession(false, Session.AUTO_ACKNOWLEDGE)).willReturn(session1, session2);
+        given(session1.createProducer(destination)).willReturn(producer1);
+        given(session2.createProducer(destination)).willReturn(producer2);
+        given(messageFactory.createByteMessage(MESSAGE)).willReturn(bytesMessage);
+        given(hashingService.consistentHash(1L, 1)).willReturn(0);
+        acknowledge(producer1);
+        acknowledge(producer2);
+    }
+
+    @Test
+    public void testSessionIsReusedAcrossBatches() throws Exception {
+        underTest.sendEvents(Map.of(1L, List.of(MESSAGE)));
+        underTest.sendEvents(Map.of(1L, List.of(MESSAGE)));
+
+        verify(producer1, times(2)).send(eq(destination), eq(bytesMessage), any(CompletionListener.class));
+        verify(connection, times(1)).createSession(false, Session.AUTO_ACKNOWLEDGE);
+        verify(session1, never()).close();
+
+        underTest.destroy();
+        verify(session1).close();
+    }
+
+    @Test
+    public void testUnhealthySessionIsReplaced() throws Exception {
+        underTest.sendEvents(Map.of(1L, List.of(MESSAGE)));
+        given(session1.getAcknowledgeMode()).willThrow(new IllegalStateException("The Session is closed"));
+
+        underTest.sendEvents(Map.of(1L, List.of(MESSAGE)));
+
+        verify(session1).close();
+        verify(producer2).send(eq(destination), eq(bytesMessage), any(CompletionListener.class));
+    }
+
+    @Test
+    public void testFallsBackToSynchronousSendWhenAsyncIsUnsupported() throws Exception {
+        doThrow(new UnsupportedOperationException()).when(producer1).send(eq(destination), any(Message.class),
+                any(CompletionListener.class));
+
+        underTest.sendEvents(Map.of(1L, List.of(MESSAGE, MESSAGE)));
+
+        verify(producer1, times(1)).send(eq(destination), any(Message.class), any(CompletionListener.class));
+        verify(producer1, times(2)).send(destination, bytesMessage);
+    }
+
+    @Test
+    public void testMissingAcknowledgementTimesOut() throws Exception {
+        doAnswer(invocation -> null).when(producer1).send(eq(destination), any(Message.class), any(CompletionListener.class));
+
+        assertThrows(AcknowledgementTimeoutException.class, () -> underTest.sendEvents(Map.of(1L, List.of(MESSAGE))));
+        verify(session1).close();
+    }
+
+    private void acknowledge(MessageProducer producer) throws Exception {
+        doAnswer(invocation -> {
+            CompletionListener listener = invocation.getArgument(2);
+            listener.onCompletion(invocation.getArgument(1));
+            return null;
+        }).when(producer).send(eq(destination), any(Message.class), any(CompletionListener.class));
+    }
+}
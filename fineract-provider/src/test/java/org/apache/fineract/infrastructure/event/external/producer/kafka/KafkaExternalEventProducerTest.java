@@ -24,12 +24,15 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.nio.charset.Charset;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.event.external.producer.ExternalEventPayload;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -112,6 +115,123 @@ class KafkaExternalEventProducerTest {
         Mockito.verifyNoMoreInteractions(kafkaTemplate);
     }
 
+    @Test
+    public void testBatchedSendRetriesOnlyFailedTailOfPartition() {
+        // given
+        KafkaExternalEventProducer underTest = new KafkaExternalEventProducer(kafkaTemplate, createBatchedProperties(1));
+        Mockito.when(kafkaTemplate.send(TOPIC_NAME, 1L, FIRST)).thenReturn(CompletableFuture.completedFuture(sendResult1));
+        Mockito.when(kafkaTemplate.send(TOPIC_NAME, 1L, SECOND))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Kafka error")))
+                .thenReturn(CompletableFuture.completedFuture(sendResult2));
+        Mockito.when(kafkaTemplate.send(TOPIC_NAME, 2L, THIRD)).thenReturn(CompletableFuture.completedFuture(sendResult3));
+
+        // when
+        Set<Long> failedEventIds = underTest.sendEventsReportingFailures(Map.of(1L,
+                List.of(new ExternalEventPayload(11L, FIRST), new ExternalEventPayload(12L, SECOND)), 2L,
+                List.of(new ExternalEventPayload(21L, THIRD))));
+
+        // then
+        Assertions.assertTrue(failedEventIds.isEmpty());
+        Mockito.verify(kafkaTemplate, times(1)).send(TOPIC_NAME, 1L, FIRST);
+        Mockito.verify(kafkaTemplate, times(2)).send(TOPIC_NAME, 1L, SECOND);
+        Mockito.verify(kafkaTemplate, times(1)).send(TOPIC_NAME, 2L, THIRD);
+        Mockito.verifyNoMoreInteractions(kafkaTemplate);
+    }
+
+    @Test
+    public void testBatchedSendResendsTheRestOfThePartitionInOrderAfterAFailure() {
+        // given
+        KafkaExternalEventProducer underTest = new KafkaExternalEventProducer(kafkaTemplate, createBatchedProperties(1));
+        CompletableFuture<SendResult<Long, byte[]>> firstAttempt = new CompletableFuture<>();
+        Mockito.when(kafkaTemplate.send(TOPIC_NAME, 1L, FIRST)).thenReturn(firstAttempt)
+                .thenReturn(CompletableFuture.completedFuture(sendResult1));
+        Mockito.when(kafkaTemplate.send(TOPIC_NAME, 1L, SECOND)).thenAnswer(invocation -> {
+            // the broker rejects the first event only after the second one was handed over
+            firstAttempt.completeExceptionally(new RuntimeException("Kafka error"));
+            return CompletableFuture.completedFuture(sendResult2);
+        }).thenReturn(CompletableFuture.completedFuture(sendResult2));
+
+        // when
+        Set<Long> failedEventIds = underTest.sendEventsReportingFailures(
+                Map.of(1L, List.of(new ExternalEventPayload(11L, FIRST), new ExternalEventPayload(12L, SECOND))));
+
+        // then
+        Assertions.assertTrue(failedEventIds.isEmpty());
+        InOrder inOrder = Mockito.inOrder(kafkaTemplate);
+        inOrder.verify(kafkaTemplate).send(TOPIC_NAME, 1L, FIRST);
+        inOrder.verify(kafkaTemplate).send(TOPIC_NAME, 1L, SECOND);
+        inOrder.verify(kafkaTemplate).send(TOPIC_NAME, 1L, FIRST);
+        inOrder.verify(kafkaTemplate).send(TOPIC_NAME, 1L, SECOND);
+        Mockito.verifyNoMoreInteractions(kafkaTemplate);
+    }
+
+    @Test
+    public void testBatchedSendReportsAcknowledgedEventsAfterTheFirstUnacknowledgedOneAsUnsent() {
+        // given
+        KafkaExternalEventProducer underTest = new KafkaExternalEventProducer(kafkaTemplate, createBatchedProperties(0));
+        CompletableFuture<SendResult<Long, byte[]>> firstAttempt = new CompletableFuture<>();
+        Mockito.when(kafkaTemplate.send(TOPIC_NAME, 1L, FIRST)).thenReturn(firstAttempt);
+        Mockito.when(kafkaTemplate.send(TOPIC_NAME, 1L, SECOND)).thenAnswer(invocation -> {
+            firstAttempt.completeExceptionally(new RuntimeException("Kafka error"));
+            return CompletableFuture.completedFuture(sendResult2);
+        });
+
+        // when
+        Set<Long> failedEventIds = underTest.sendEventsReportingFailures(
+                Map.of(1L, List.of(new ExternalEventPayload(11L, FIRST), new ExternalEventPayload(12L, SECOND))));
+
+        // then
+        Assertions.assertEquals(Set.of(11L, 12L), failedEventIds);
+    }
+
+    @Test
+    public void testBatchedSendReportsEventsOfFailedPartition() {
+        // given
+        KafkaExternalEventProducer underTest = new KafkaExternalEventProducer(kafkaTemplate, createBatchedProperties(1));
+        Mockito.when(kafkaTemplate.send(TOPIC_NAME, 1L, FIRST))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Kafka error")));
+        Mockito.when(kafkaTemplate.send(TOPIC_NAME, 2L, THIRD)).thenReturn(CompletableFuture.completedFuture(sendResult3));
+
+        // when
+        Set<Long> failedEventIds = underTest.sendEventsReportingFailures(Map.of(1L,
+                List.of(new ExternalEventPayload(11L, FIRST), new ExternalEventPayload(12L, SECOND)), 2L,
+                List.of(new ExternalEventPayload(21L, THIRD))));
+
+        // then
+        Assertions.assertEquals(Set.of(11L, 12L), failedEventIds);
+        Mockito.verify(kafkaTemplate, times(2)).send(TOPIC_NAME, 1L, FIRST);
+        Mockito.verify(kafkaTemplate, times(1)).send(TOPIC_NAME, 2L, THIRD);
+        Mockito.verifyNoMoreInteractions(kafkaTemplate);
+    }
+
+    @Test
+    public void testBatchedSendReportsTimedOutEvents() {
+        // given
+        KafkaExternalEventProducer underTest = new KafkaExternalEventProducer(kafkaTemplate, createBatchedProperties(0));
+        Mockito.when(kafkaTemplate.send(TOPIC_NAME, 1L, FIRST)).thenReturn(CompletableFuture.completedFuture(sendResult1));
+        Mockito.when(kafkaTemplate.send(TOPIC_NAME, 1L, SECOND)).thenReturn(new CompletableFuture<>());
+
+        // when
+        Set<Long> failedEventIds = underTest.sendEventsReportingFailures(
+                Map.of(1L, List.of(new ExternalEventPayload(11L, FIRST), new ExternalEventPayload(12L, SECOND))));
+
+        // then
+        Assertions.assertEquals(Set.of(12L), failedEventIds);
+        Assertions.assertTrue(underTest.isFailureReportingSupported());
+        Assertions.assertFalse(new KafkaExternalEventProducer(kafkaTemplate, createProperties()).isFailureReportingSupported());
+    }
+
+    @NotNull
+    private static FineractProperties createBatchedProperties(int partitionRetryCount) {
+        FineractProperties props = createProperties();
+        FineractProperties.FineractExternalEventsProducerKafkaProperties kafkaProperties = props.getEvents().getExternal().getProducer()
+                .getKafka();
+        kafkaProperties.setBatchedSendEnabled(true);
+        kafkaProperties.setMaxInFlightMessages(2);
+        kafkaProperties.setPartitionRetryCount(partitionRetryCount);
+        return props;
+    }
+
     @NotNull
     private static FineractProperties createProperties() {
         FineractProperties props = new FineractProperties();
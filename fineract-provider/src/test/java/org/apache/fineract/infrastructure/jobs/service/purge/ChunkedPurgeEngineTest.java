@@ -0,0 +1,171 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.jobs.service.purge;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class ChunkedPurgeEngineTest {
+
+    private static final LocalDate CUTOFF = LocalDate.of(2024, 1, 31);
+    private static final PurgeSpec SPEC = new PurgeSpec("sent-external-events", "m_external_event", "business_date", CUTOFF, "status = ?",
+            List.of("SENT"));
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ChunkedPurgeEngine underTest;
+
+    @BeforeEach
+    void setUp() {
+        FineractProperties.FineractPurgeProperties purge = new FineractProperties.FineractPurgeProperties();
+        purge.setChunkedEnabled(true);
+        purge.setChunkSize(10);
+        purge.setPause(Duration.ZERO);
+        purge.setMaxDuration(Duration.ofMinutes(1));
+        purge.setLockRetries(1);
+        FineractProperties fineractProperties = new FineractProperties();
+        fineractProperties.setPurge(purge);
+        underTest = new ChunkedPurgeEngine(jdbcTemplate, transactionManager, fineractProperties, Optional.of(meterRegistry));
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    void testPurgeDeletesChunksUntilNewerRowsAndKeepsWatermarkBelowThem() throws Exception {
+        when(jdbcTemplate.queryForObject("SELECT MIN(id) FROM m_external_event", Long.class)).thenReturn(1L);
+        when(jdbcTemplate.queryForObject("SELECT MAX(id) FROM m_external_event", Long.class)).thenReturn(100L);
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq("sent-external-events"))).thenReturn(List.of());
+        when(jdbcTemplate.update(startsWith("DELETE FROM m_external_event"), any(Object[].class))).thenReturn(10, 4);
+        when(jdbcTemplate.update(startsWith("UPDATE m_purge_watermark"), any(Object[].class))).thenReturn(0);
+        ResultSet fullyPurged = chunkCounts(0L, 0L, null);
+        ResultSet reachedNewerRows = chunkCounts(0L, 6L, 15L);
+        when(jdbcTemplate.queryForObject(startsWith("SELECT SUM"), any(RowMapper.class), any(), any(), any(), any(), any()))
+                .thenAnswer(invocation -> invocation.getArgument(1, RowMapper.class).mapRow(fullyPurged, 0))
+                .thenAnswer(invocation -> invocation.getArgument(1, RowMapper.class).mapRow(reachedNewerRows, 0));
+
+        long purged = underTest.purge(SPEC);
+
+        assertEquals(14L, purged);
+        verify(jdbcTemplate, times(2)).update(startsWith("DELETE FROM m_external_event"), any(Object[].class));
+        verify(jdbcTemplate).update(startsWith("INSERT INTO m_purge_watermark"), eq("sent-external-events"), eq(11L), any());
+        verify(jdbcTemplate).update(startsWith("INSERT INTO m_purge_watermark"), eq("sent-external-events"), eq(15L), any());
+        assertEquals(14.0d, meterRegistry.counter(ChunkedPurgeEngine.ROWS_METRIC_NAME, "name", "sent-external-events").count());
+
+        // a later run with a later cutoff resumes at the first newer row and purges it
+        LocalDate laterCutoff = CUTOFF.plusDays(7);
+        PurgeSpec laterSpec = new PurgeSpec("sent-external-events", "m_external_event", "business_date", laterCutoff, "status = ?",
+                List.of("SENT"));
+        when(jdbcTemplate.queryForObject("SELECT MAX(id) FROM m_external_event", Long.class)).thenReturn(24L);
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq("sent-external-events"))).thenReturn(List.of(15L));
+        when(jdbcTemplate.update(startsWith("DELETE FROM m_external_event"), any(Object[].class))).thenReturn(6);
+        when(jdbcTemplate.update(startsWith("UPDATE m_purge_watermark"), any(Object[].class))).thenReturn(1);
+        ResultSet laterFullyPurged = chunkCounts(0L, 0L, null);
+        when(jdbcTemplate.queryForObject(startsWith("SELECT SUM"), any(RowMapper.class), any(), any(), any(), any(), any()))
+                .thenAnswer(invocation -> invocation.getArgument(1, RowMapper.class).mapRow(laterFullyPurged, 0));
+
+        long purgedLater = underTest.purge(laterSpec);
+
+        assertEquals(6L, purgedLater);
+        verify(jdbcTemplate).update(startsWith("DELETE FROM m_external_event"), eq(15L), eq(25L), eq(laterCutoff), eq("SENT"));
+        verify(jdbcTemplate).update(startsWith("UPDATE m_purge_watermark"), eq(25L), any(), eq("sent-external-events"));
+    }
+
+    @Test
+    void testWatermarkPassesRowsWhichNeverMatchAndStopsAtFirstPendingRow() throws Exception {
+        PurgeSpec spec = new PurgeSpec("sent-external-events", "m_external_event", "business_date", CUTOFF, "status = ?", List.of("SENT"),
+                "status = ?", List.of("TO_BE_SENT"));
+        when(jdbcTemplate.queryForObject("SELECT MIN(id) FROM m_external_event", Long.class)).thenReturn(1L);
+        when(jdbcTemplate.queryForObject("SELECT MAX(id) FROM m_external_event", Long.class)).thenReturn(100L);
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq("sent-external-events"))).thenReturn(List.of());
+        when(jdbcTemplate.update(startsWith("DELETE FROM m_external_event"), any(Object[].class))).thenReturn(8, 9, 4);
+        ResultSet neverMatching = chunkCounts(2L, 0L, null);
+        ResultSet pending = chunkCounts(1L, 0L, null);
+        ResultSet reachedNewerRows = chunkCounts(0L, 6L, 25L);
+        when(jdbcTemplate.queryForObject(startsWith("SELECT SUM"), any(RowMapper.class), any(), any(), any(), any(), any()))
+                .thenAnswer(invocation -> invocation.getArgument(1, RowMapper.class).mapRow(neverMatching, 0))
+                .thenAnswer(invocation -> invocation.getArgument(1, RowMapper.class).mapRow(pending, 0))
+                .thenAnswer(invocation -> invocation.getArgument(1, RowMapper.class).mapRow(reachedNewerRows, 0));
+        when(jdbcTemplate.queryForObject(startsWith("SELECT MIN(id) FROM m_external_event WHERE"), eq(Long.class), any(), any(), any(),
+                any())).thenReturn(null, 15L);
+
+        long purged = underTest.purge(spec);
+
+        assertEquals(21L, purged);
+        verify(jdbcTemplate).update(startsWith("INSERT INTO m_purge_watermark"), eq("sent-external-events"), eq(11L), any());
+        verify(jdbcTemplate).update(startsWith("INSERT INTO m_purge_watermark"), eq("sent-external-events"), eq(15L), any());
+        verify(jdbcTemplate, times(2)).update(startsWith("INSERT INTO m_purge_watermark"), any(), any(), any());
+    }
+
+    @Test
+    void testArchiveFilesOfRunsStartedInTheSameSecondDoNotCollide(@TempDir Path directory) throws Exception {
+        LocalDateTime time = LocalDateTime.of(2024, 1, 31, 10, 15, 30);
+
+        try (PurgeArchiveWriter first = PurgeArchiveWriter.open(directory.toString(), "default", "sent-external-events", time);
+                PurgeArchiveWriter second = PurgeArchiveWriter.open(directory.toString(), "default", "sent-external-events", time)) {
+            assertNotEquals(first.getFile(), second.getFile());
+        }
+    }
+
+    private static ResultSet chunkCounts(long leftover, long newer, Long firstNewerId) throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getLong(1)).thenReturn(leftover);
+        when(rs.getLong(2)).thenReturn(newer);
+        when(rs.getObject(3, Long.class)).thenReturn(firstNewerId);
+        return rs;
+    }
+}
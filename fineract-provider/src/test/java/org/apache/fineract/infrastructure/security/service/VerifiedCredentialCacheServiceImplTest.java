@@ -0,0 +1,107 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.security.service;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractSecurityBasicAuth;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractSecurityBasicAuthCredentialCache;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractSecurityProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class VerifiedCredentialCacheServiceImplTest {
+
+    private static final String USERNAME = "mifos";
+    private static final String PASSWORD = "password";
+    private static final String PASSWORD_HASH = "{bcrypt}$2a$10$hash";
+
+    private final FineractSecurityBasicAuthCredentialCache credentialCache = new FineractSecurityBasicAuthCredentialCache();
+    private VerifiedCredentialCacheServiceImpl underTest;
+
+    @BeforeEach
+    public void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        credentialCache.setEnabled(true);
+        credentialCache.setTtl(Duration.ofMinutes(1));
+        FineractSecurityBasicAuth basicAuth = new FineractSecurityBasicAuth();
+        basicAuth.setCredentialCache(credentialCache);
+        FineractSecurityProperties security = new FineractSecurityProperties();
+        security.setBasicauth(basicAuth);
+        FineractProperties fineractProperties = new FineractProperties();
+        fineractProperties.setSecurity(security);
+        underTest = new VerifiedCredentialCacheServiceImpl(fineractProperties);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    public void testVerifiedCredentialIsRemembered() {
+        assertFalse(underTest.isVerified(USERNAME, PASSWORD, PASSWORD_HASH));
+
+        underTest.markVerified(USERNAME, PASSWORD, PASSWORD_HASH);
+
+        assertTrue(underTest.isVerified(USERNAME, PASSWORD, PASSWORD_HASH));
+        assertFalse(underTest.isVerified(USERNAME, "other", PASSWORD_HASH));
+        assertFalse(underTest.isVerified("other", PASSWORD, PASSWORD_HASH));
+    }
+
+    @Test
+    public void testChangedPasswordHashIsNotVerified() {
+        underTest.markVerified(USERNAME, PASSWORD, PASSWORD_HASH);
+
+        assertFalse(underTest.isVerified(USERNAME, PASSWORD, "{bcrypt}$2a$10$changed"));
+    }
+
+    @Test
+    public void testEvictAllForgetsTenantCredentials() {
+        underTest.markVerified(USERNAME, PASSWORD, PASSWORD_HASH);
+
+        underTest.evictAll();
+
+        assertFalse(underTest.isVerified(USERNAME, PASSWORD, PASSWORD_HASH));
+    }
+
+    @Test
+    public void testCredentialsAreTenantScoped() {
+        underTest.markVerified(USERNAME, PASSWORD, PASSWORD_HASH);
+
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(2L, "other", "Other", "Asia/Kolkata", null));
+
+        assertFalse(underTest.isVerified(USERNAME, PASSWORD, PASSWORD_HASH));
+    }
+
+    @Test
+    public void testDisabledCacheNeverRemembers() {
+        credentialCache.setEnabled(false);
+
+        underTest.markVerified(USERNAME, PASSWORD, PASSWORD_HASH);
+
+        assertFalse(underTest.isVerified(USERNAME, PASSWORD, PASSWORD_HASH));
+    }
+}
@@ -0,0 +1,193 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.notification.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractNotificationProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.UserNotificationSystemProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.Page;
+import org.apache.fineract.infrastructure.core.service.PaginationHelper;
+import org.apache.fineract.infrastructure.core.service.SearchParameters;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
+import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
+import org.apache.fineract.infrastructure.security.utils.ColumnValidator;
+import org.apache.fineract.notification.data.NotificationData;
+import org.apache.fineract.useradministration.domain.AppUser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+@ExtendWith(MockitoExtension.class)
+public class NotificationReadPlatformServiceImplTest {
+
+    private static final Long USER_ID = 5L;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private PlatformSecurityContext context;
+    @Mock
+    private ColumnValidator columnValidator;
+    @Mock
+    private PaginationHelper paginationHelper;
+    @Mock
+    private DatabaseSpecificSQLGenerator sqlGenerator;
+
+    private NotificationReadPlatformServiceImpl underTest;
+
+    @BeforeEach
+    public void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        UserNotificationSystemProperties userNotificationSystem = new UserNotificationSystemProperties();
+        userNotificationSystem.setEnabled(true);
+        userNotificationSystem.setFanOutOnRead(true);
+        FineractNotificationProperties notificationProperties = new FineractNotificationProperties();
+        notificationProperties.setUserNotificationSystem(userNotificationSystem);
+        FineractProperties fineractProperties = new FineractProperties();
+        fineractProperties.setNotification(notificationProperties);
+        lenient().when(sqlGenerator.calcFoundRows()).thenReturn("");
+        lenient().when(sqlGenerator.escape("action")).thenReturn("action");
+        lenient().when(sqlGenerator.limit(1)).thenReturn("LIMIT 1");
+        underTest = new NotificationReadPlatformServiceImpl(jdbcTemplate, context, columnValidator, paginationHelper, sqlGenerator,
+                fineractProperties);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    public void testUnreadFeedCombinesMappedAndOfficeNotificationsAboveTheReadWatermark() throws Exception {
+        authenticate();
+        ResultSet[] rows = { row(50L, false), row(30L, true), row(20L, true) };
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Object[]> params = ArgumentCaptor.forClass(Object[].class);
+        when(paginationHelper.fetchPage(eq(jdbcTemplate), sql.capture(), params.capture(), any(RowMapper.class)))
+                .thenAnswer(invocation -> page(invocation.getArgument(3), rows));
+        when(jdbcTemplate.update(startsWith("UPDATE notification_read_watermark SET last_served_notification_id"), eq(30L), eq(USER_ID),
+                eq(30L))).thenReturn(1);
+
+        Page<NotificationData> page = underTest.getAllUnreadNotifications(SearchParameters.builder().build());
+
+        assertEquals(3, page.getPageItems().size());
+        assertTrue(sql.getValue().contains("UNION ALL"));
+        assertTrue(sql.getValue().contains("nm.is_read = false"));
+        assertTrue(sql.getValue().contains("ng.id > coalesce((SELECT w.last_read_notification_id FROM notification_read_watermark w"));
+        assertEquals(7, params.getValue().length);
+        // the mapped notification 50 is not part of the fan-out, the served watermark takes the newest office notification
+        verify(jdbcTemplate).update(startsWith("UPDATE notification_read_watermark SET last_served_notification_id"), eq(30L),
+                eq(USER_ID), eq(30L));
+    }
+
+    @Test
+    public void testAllNotificationsFeedDoesNotFilterByTheReadWatermark() throws Exception {
+        authenticate();
+        ResultSet mapped = row(50L, false);
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        when(paginationHelper.fetchPage(eq(jdbcTemplate), sql.capture(), any(Object[].class), any(RowMapper.class)))
+                .thenAnswer(invocation -> page(invocation.getArgument(3), mapped));
+
+        underTest.getAllNotifications(SearchParameters.builder().build());
+
+        assertTrue(sql.getValue().contains("UNION ALL"));
+        assertFalse(sql.getValue().contains("last_read_notification_id"));
+        verify(jdbcTemplate, never()).update(startsWith("UPDATE notification_read_watermark"), any(Object[].class));
+    }
+
+    @Test
+    public void testServedWatermarkIsCreatedForTheFirstRead() throws Exception {
+        authenticate();
+        ResultSet fanOut = row(12L, true);
+        when(paginationHelper.fetchPage(eq(jdbcTemplate), anyString(), any(Object[].class), any(RowMapper.class)))
+                .thenAnswer(invocation -> page(invocation.getArgument(3), fanOut));
+        when(jdbcTemplate.queryForObject(startsWith("SELECT count(*) FROM notification_read_watermark"), eq(Long.class), eq(USER_ID)))
+                .thenReturn(0L);
+
+        underTest.getAllUnreadNotifications(SearchParameters.builder().build());
+
+        verify(jdbcTemplate).update(startsWith("INSERT INTO notification_read_watermark"), eq(USER_ID), eq(0L), eq(12L));
+    }
+
+    @Test
+    public void testMarkingAsReadMovesTheReadWatermarkToTheLastServedNotification() {
+        authenticate();
+
+        underTest.updateNotificationReadStatus();
+
+        verify(jdbcTemplate).update("UPDATE notification_mapper SET is_read = true WHERE is_read = false and user_id = ?", USER_ID);
+        verify(jdbcTemplate).update(contains("SET last_read_notification_id = last_served_notification_id"), eq(USER_ID));
+        verify(jdbcTemplate, never()).queryForObject(contains("max(id)"), eq(Long.class));
+    }
+
+    @Test
+    public void testUnreadOfficeNotificationAboveTheReadWatermarkIsReported() {
+        when(jdbcTemplate.query(contains("FROM notification_mapper"), any(RowMapper.class), eq(USER_ID))).thenReturn(List.of());
+        when(jdbcTemplate.queryForList(contains("ng.id > coalesce("), eq(Long.class), eq(USER_ID), eq(USER_ID), eq(USER_ID), eq(USER_ID),
+                eq(USER_ID))).thenReturn(List.of(7L));
+
+        assertTrue(underTest.hasUnreadNotifications(USER_ID));
+    }
+
+    private void authenticate() {
+        AppUser user = mock(AppUser.class);
+        when(user.getId()).thenReturn(USER_ID);
+        when(context.authenticatedUser()).thenReturn(user);
+    }
+
+    private static ResultSet row(Long id, boolean fanOut) throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getLong("id")).thenReturn(id);
+        when(rs.getInt("fanOut")).thenReturn(fanOut ? 1 : 0);
+        return rs;
+    }
+
+    private static Page<NotificationData> page(RowMapper<NotificationData> rowMapper, ResultSet... rows) throws Exception {
+        List<NotificationData> items = new ArrayList<>();
+        for (int i = 0; i < rows.length; i++) {
+            items.add(rowMapper.mapRow(rows[i], i));
+        }
+        return new Page<>(items, items.size());
+    }
+}
@@ -0,0 +1,124 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.notification.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractNotificationProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.UserNotificationSystemProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.notification.data.NotificationData;
+import org.apache.fineract.notification.eventandlistener.NotificationEventPublisher;
+import org.apache.fineract.useradministration.domain.AppUserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+public class UserNotificationServiceImplTest {
+
+    @Mock
+    private NotificationEventPublisher notificationEventPublisher;
+    @Mock
+    private AppUserRepository appUserRepository;
+    @Mock
+    private NotificationReadPlatformService notificationReadPlatformService;
+    @Mock
+    private NotificationWritePlatformService notificationWritePlatformService;
+
+    private UserNotificationServiceImpl underTest;
+
+    @BeforeEach
+    public void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        ThreadLocalContextUtil.setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, LocalDate.of(2024, 3, 15))));
+        UserNotificationSystemProperties userNotificationSystem = new UserNotificationSystemProperties();
+        userNotificationSystem.setEnabled(true);
+        userNotificationSystem.setFanOutOnRead(true);
+        FineractNotificationProperties notificationProperties = new FineractNotificationProperties();
+        notificationProperties.setUserNotificationSystem(userNotificationSystem);
+        FineractProperties fineractProperties = new FineractProperties();
+        fineractProperties.setNotification(notificationProperties);
+        underTest = new UserNotificationServiceImpl(notificationEventPublisher, appUserRepository, fineractProperties,
+                notificationReadPlatformService, notificationWritePlatformService, new SyncTaskExecutor());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    public void testFanOutOnReadDoesNotResolveRecipients() {
+        underTest.notifyUsers("READ_LOAN", "loan", 10L, "Repayment made", "repaymentMade", 1L, 2L);
+
+        ArgumentCaptor<NotificationData> notification = ArgumentCaptor.forClass(NotificationData.class);
+        verify(notificationEventPublisher).broadcastNotification(notification.capture());
+        assertEquals("READ_LOAN", notification.getValue().getPermission());
+        assertEquals(2L, notification.getValue().getOfficeId());
+        assertEquals("default", notification.getValue().getTenantIdentifier());
+        assertTrue(notification.getValue().getUserIds().isEmpty());
+        verifyNoInteractions(appUserRepository);
+    }
+
+    @Test
+    public void testNotificationIsBroadcastAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        underTest.notifyUsers("READ_LOAN", "loan", 10L, "Repayment made", "repaymentMade", 1L, 2L);
+        verify(notificationEventPublisher, never()).broadcastNotification(any());
+
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCommit();
+        }
+        verify(notificationEventPublisher).broadcastNotification(any());
+    }
+
+    @Test
+    public void testFanOutOnReadStoresOneNotificationPerOffice() {
+        NotificationData notificationData = new NotificationData().setObjectType("loan").setObjectId(10L).setAction("repaymentMade")
+                .setActorId(1L).setContent("Repayment made").setOfficeId(2L).setPermission("READ_LOAN");
+
+        underTest.notifyUsers(notificationData);
+
+        verify(notificationWritePlatformService).notifyOffice(2L, "READ_LOAN", "loan", 10L, "repaymentMade", 1L, "Repayment made", false);
+        verifyNoInteractions(appUserRepository);
+    }
+}
@@ -0,0 +1,105 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.organisation.workingdays.data;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Predicate;
+import org.apache.fineract.organisation.holiday.domain.Holiday;
+import org.junit.jupiter.api.Test;
+
+public class BusinessDayCalendarTest {
+
+    private static final Predicate<LocalDate> MONDAY_TO_FRIDAY = date -> date.getDayOfWeek() != DayOfWeek.SATURDAY
+            && date.getDayOfWeek() != DayOfWeek.SUNDAY;
+
+    // 2024-01-01 is a Monday
+    private static final LocalDate WINDOW_START = LocalDate.of(2024, 1, 1);
+    private static final LocalDate WINDOW_END = LocalDate.of(2024, 12, 31);
+
+    @Test
+    public void testWorkingDaysAndHolidaysAreIndexed() {
+        final BusinessDayCalendar calendar = BusinessDayCalendar.of(WINDOW_START, WINDOW_END, MONDAY_TO_FRIDAY,
+                List.of(holiday(LocalDate.of(2024, 3, 28), LocalDate.of(2024, 4, 1))));
+
+        assertTrue(calendar.isWorkingDay(LocalDate.of(2024, 3, 27)));
+        assertTrue(calendar.isBusinessDay(LocalDate.of(2024, 3, 27)));
+        assertFalse(calendar.isWorkingDay(LocalDate.of(2024, 3, 30)));
+        assertTrue(calendar.isHoliday(LocalDate.of(2024, 3, 28)));
+        assertTrue(calendar.isHoliday(LocalDate.of(2024, 4, 1)));
+        assertTrue(calendar.isWorkingDay(LocalDate.of(2024, 4, 1)));
+        assertFalse(calendar.isBusinessDay(LocalDate.of(2024, 4, 1)));
+        assertFalse(calendar.isHoliday(LocalDate.of(2024, 4, 2)));
+    }
+
+    @Test
+    public void testNextBusinessDaySkipsHolidaysAndWeekends() {
+        final BusinessDayCalendar calendar = BusinessDayCalendar.of(WINDOW_START, WINDOW_END, MONDAY_TO_FRIDAY,
+                List.of(holiday(LocalDate.of(2024, 3, 28), LocalDate.of(2024, 4, 1))));
+
+        assertEquals(LocalDate.of(2024, 3, 27), calendar.getNextBusinessDay(LocalDate.of(2024, 3, 27)));
+        assertEquals(LocalDate.of(2024, 4, 2), calendar.getNextBusinessDay(LocalDate.of(2024, 3, 28)));
+        assertEquals(LocalDate.of(2024, 4, 2), calendar.getNextBusinessDay(LocalDate.of(2024, 3, 30)));
+        // 2024-12-28 is a Saturday and the window ends on Tuesday 2024-12-31
+        assertEquals(LocalDate.of(2024, 12, 30), calendar.getNextBusinessDay(LocalDate.of(2024, 12, 28)));
+    }
+
+    @Test
+    public void testNoBusinessDayLeftInWindow() {
+        final BusinessDayCalendar calendar = BusinessDayCalendar.of(WINDOW_START, WINDOW_END, MONDAY_TO_FRIDAY,
+                List.of(holiday(LocalDate.of(2024, 12, 20), LocalDate.of(2025, 1, 6))));
+
+        assertNull(calendar.getNextBusinessDay(LocalDate.of(2024, 12, 23)));
+    }
+
+    @Test
+    public void testHolidaysOutsideOfWindowAreClipped() {
+        final BusinessDayCalendar calendar = BusinessDayCalendar.of(WINDOW_START, WINDOW_END, MONDAY_TO_FRIDAY,
+                List.of(holiday(LocalDate.of(2023, 12, 25), LocalDate.of(2024, 1, 2)),
+                        holiday(LocalDate.of(2023, 5, 1), LocalDate.of(2023, 5, 1)),
+                        holiday(LocalDate.of(2025, 5, 1), LocalDate.of(2025, 5, 1))));
+
+        assertTrue(calendar.isHoliday(LocalDate.of(2024, 1, 1)));
+        assertTrue(calendar.isHoliday(LocalDate.of(2024, 1, 2)));
+        assertFalse(calendar.isHoliday(LocalDate.of(2024, 1, 3)));
+    }
+
+    @Test
+    public void testDatesOutsideOfWindowAreNotCovered() {
+        final BusinessDayCalendar calendar = BusinessDayCalendar.of(WINDOW_START, WINDOW_END, MONDAY_TO_FRIDAY, List.of());
+
+        assertTrue(calendar.covers(WINDOW_START));
+        assertTrue(calendar.covers(WINDOW_END));
+        assertFalse(calendar.covers(WINDOW_START.minusDays(1)));
+        assertFalse(calendar.covers(WINDOW_END.plusDays(1)));
+        assertFalse(calendar.covers(null));
+        assertThrows(IllegalArgumentException.class, () -> calendar.isWorkingDay(WINDOW_END.plusDays(1)));
+    }
+
+    private static Holiday holiday(final LocalDate fromDate, final LocalDate toDate) {
+        return new Holiday().setFromDate(fromDate).setToDate(toDate);
+    }
+}
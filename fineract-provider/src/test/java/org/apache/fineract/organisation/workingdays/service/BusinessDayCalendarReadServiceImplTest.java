@@ -0,0 +1,102 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.organisation.workingdays.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.domain.ActionContext;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.organisation.holiday.domain.Holiday;
+import org.apache.fineract.organisation.holiday.domain.RescheduleType;
+import org.apache.fineract.organisation.workingdays.data.BusinessDayCalendar;
+import org.apache.fineract.organisation.workingdays.domain.RepaymentRescheduleType;
+import org.apache.fineract.organisation.workingdays.domain.WorkingDays;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class BusinessDayCalendarReadServiceImplTest {
+
+    private static final LocalDate BUSINESS_DATE = LocalDate.of(2024, 3, 1);
+    private static final WorkingDays WORKING_DAYS = new WorkingDays("FREQ=WEEKLY;INTERVAL=1;BYDAY=MO,TU,WE,TH,FR",
+            RepaymentRescheduleType.MOVE_TO_NEXT_WORKING_DAY.getValue(), false, false);
+
+    private final BusinessDayCalendarReadServiceImpl underTest = new BusinessDayCalendarReadServiceImpl();
+
+    @BeforeEach
+    public void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        ThreadLocalContextUtil.setActionContext(ActionContext.DEFAULT);
+        ThreadLocalContextUtil.setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, BUSINESS_DATE)));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    public void testCalendarIndexesExactlyTheGivenHolidays() {
+        // Thursday 2024-03-28 to Monday 2024-04-01
+        final BusinessDayCalendar calendar = underTest.buildBusinessDayCalendar(WORKING_DAYS,
+                List.of(holiday(LocalDate.of(2024, 3, 28), LocalDate.of(2024, 4, 1))), LocalDate.of(2024, 2, 1));
+
+        assertFalse(calendar.isBusinessDay(LocalDate.of(2024, 3, 28)));
+        assertEquals(LocalDate.of(2024, 4, 2), calendar.getNextBusinessDay(LocalDate.of(2024, 3, 28)));
+        // Saturday 2024-04-06, and a working day the given list has no holiday on
+        assertFalse(calendar.isWorkingDay(LocalDate.of(2024, 4, 6)));
+        assertTrue(calendar.isBusinessDay(LocalDate.of(2024, 5, 1)));
+    }
+
+    @Test
+    public void testCalendarStartsAtTheDateTheHolidaysWereLoadedFrom() {
+        final BusinessDayCalendar calendar = underTest.buildBusinessDayCalendar(WORKING_DAYS, List.of(), LocalDate.of(2024, 2, 1));
+
+        // holidays ending before that date were not loaded, so the calendar must not answer for them
+        assertEquals(LocalDate.of(2024, 2, 1), calendar.getWindowStart());
+        assertFalse(calendar.covers(LocalDate.of(2024, 1, 31)));
+        assertEquals(BUSINESS_DATE.plusYears(10), calendar.getWindowEnd());
+        // but not earlier than a year before the business date
+        assertEquals(BUSINESS_DATE.minusYears(1),
+                underTest.buildBusinessDayCalendar(WORKING_DAYS, List.of(), LocalDate.of(2015, 1, 1)).getWindowStart());
+    }
+
+    @Test
+    public void testNoCalendarForRulesThatAreNotPlainWeekly() {
+        final WorkingDays everyOtherWeek = new WorkingDays("FREQ=WEEKLY;INTERVAL=2;BYDAY=MO,TU,WE,TH,FR",
+                RepaymentRescheduleType.MOVE_TO_NEXT_WORKING_DAY.getValue(), false, false);
+
+        assertNull(underTest.buildBusinessDayCalendar(everyOtherWeek, List.of(), LocalDate.of(2024, 2, 1)));
+        assertNull(underTest.buildBusinessDayCalendar(null, List.of(), LocalDate.of(2024, 2, 1)));
+    }
+
+    private static Holiday holiday(final LocalDate fromDate, final LocalDate toDate) {
+        return new Holiday().setFromDate(fromDate).setToDate(toDate)
+                .setReschedulingType(RescheduleType.RESCHEDULETONEXTREPAYMENTDATE.getValue());
+    }
+}
@@ -0,0 +1,96 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.calendar.service;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import net.fortuna.ical4j.model.Date;
+import net.fortuna.ical4j.model.DateList;
+import net.fortuna.ical4j.model.DateTime;
+import net.fortuna.ical4j.model.Recur;
+import net.fortuna.ical4j.model.parameter.Value;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Generates the repayment dates of a JLG loan linked to a group meeting, the way the loan schedule generator does it:
+ * one {@link CalendarUtils#getNextRepaymentMeetingDate} call per installment.
+ */
+@BenchmarkMode(Mode.Throughput) // Measures schedules generated per second
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CalendarUtilsBenchmark {
+
+    private static final int NUMBER_OF_REPAYMENTS = 52;
+
+    @Param({ "FREQ=WEEKLY;INTERVAL=1;BYDAY=TU", "FREQ=MONTHLY;INTERVAL=1;BYMONTHDAY=10", "FREQ=MONTHLY;INTERVAL=1;BYSETPOS=2;BYDAY=TU" })
+    private String meetingRule;
+
+    private LocalDate meetingStartDate;
+    private String repaymentFrequency;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        this.meetingStartDate = LocalDate.of(2024, 1, 2);
+        this.repaymentFrequency = CalendarUtils.getICalRecur(meetingRule).getFrequency().name();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Benchmark
+    public void generateJlgRepaymentSchedule(final Blackhole blackhole) {
+        LocalDate repaymentDate = meetingStartDate;
+        for (int i = 0; i < NUMBER_OF_REPAYMENTS; i++) {
+            repaymentDate = CalendarUtils.getNextRepaymentMeetingDate(meetingRule, meetingStartDate, repaymentDate, 1, repaymentFrequency,
+                    false, 0);
+            blackhole.consume(repaymentDate);
+        }
+    }
+
+    @Benchmark
+    public void generateMeetingDates(final Blackhole blackhole) {
+        blackhole.consume(CalendarUtils.getRecurringDates(meetingRule, meetingStartDate, meetingStartDate,
+                meetingStartDate.plusYears(1), NUMBER_OF_REPAYMENTS, false, 0));
+    }
+
+    @Benchmark
+    public void generateMeetingDatesWithICal4j(final Blackhole blackhole) throws Exception {
+        // baseline: the rule parsed on every call and evaluated by ical4j
+        final Recur recur = new Recur(meetingRule);
+        final DateList dates = recur.getDates(new Date("20240102", "yyyyMMdd"), new DateTime("20240102T000000"),
+                new DateTime("20250102T000000"), Value.DATE, NUMBER_OF_REPAYMENTS);
+        blackhole.consume(CalendarUtils.convertToLocalDateList(dates, meetingStartDate,
+                CalendarUtils.getMeetingPeriodFrequencyType(meetingRule), false, 0));
+    }
+}
@@ -24,19 +24,29 @@ import static org.apache.fineract.util.TimeZoneConstants.ASIA_MANILA_ID;
 import static org.apache.fineract.util.TimeZoneConstants.EUROPE_BERLIN_ID;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 import java.text.ParseException;
+import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.Month;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoField;
 import java.time.temporal.Temporal;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import net.fortuna.ical4j.model.Date;
 import net.fortuna.ical4j.model.DateList;
+import net.fortuna.ical4j.model.DateTime;
+import net.fortuna.ical4j.model.Recur;
 import net.fortuna.ical4j.model.TimeZone;
 import net.fortuna.ical4j.model.TimeZoneRegistryFactory;
+import net.fortuna.ical4j.model.WeekDay;
 import net.fortuna.ical4j.model.parameter.Value;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
 import org.apache.fineract.junit.context.WithTenantContext;
 import org.apache.fineract.junit.context.WithTenantContextExtension;
 import org.apache.fineract.junit.system.WithSystemProperty;
@@ -199,4 +209,150 @@ public class CalendarUtilsTest {
         assertThat(result).isEqualTo(expected);
     }
 
+    @Test
+    @WithSystemTimeZone(EUROPE_BERLIN_ID)
+    @WithTenantContext(tenantTimeZoneId = EUROPE_BERLIN_ID)
+    @WithSystemProperty(key = FLOATING_TIMEZONE_PROPERTY_KEY, value = "true")
+    public void testSimpleRecurrenceGeneratesSameDatesAsICal4j() throws ParseException {
+        // given
+        List<String> recurringRules = List.of("FREQ=DAILY;INTERVAL=1", "FREQ=DAILY;INTERVAL=3", "FREQ=WEEKLY;INTERVAL=1",
+                "FREQ=WEEKLY;INTERVAL=1;BYDAY=TU", "FREQ=WEEKLY;INTERVAL=1;BYDAY=SU", "FREQ=WEEKLY;INTERVAL=2;BYDAY=FR",
+                "FREQ=MONTHLY;INTERVAL=1", "FREQ=MONTHLY;INTERVAL=1;BYMONTHDAY=15", "FREQ=MONTHLY;INTERVAL=2;BYMONTHDAY=5");
+        // a tuesday, a friday and a friday at the end of the year
+        List<LocalDate> seedDates = List.of(LocalDate.of(2023, 1, 10), LocalDate.of(2023, 2, 17), LocalDate.of(2024, 12, 27));
+        LocalDate periodStartDate = LocalDate.of(2023, 3, 1);
+        LocalDate periodEndDate = LocalDate.of(2025, 6, 30);
+
+        for (String recurringRule : recurringRules) {
+            Recur recur = CalendarUtils.getICalRecur(recurringRule);
+            for (LocalDate seedDate : seedDates) {
+                SimpleRecurrence simpleRecurrence = SimpleRecurrence.of(recur, seedDate);
+                if ("FREQ=WEEKLY;INTERVAL=2;BYDAY=FR".equals(recurringRule) && seedDate.getDayOfWeek() != DayOfWeek.FRIDAY) {
+                    // depends on the week start, left to ical4j
+                    assertNull(simpleRecurrence);
+                    continue;
+                }
+                assertNotNull(simpleRecurrence, recurringRule);
+
+                // when
+                List<LocalDate> dates = simpleRecurrence.between(periodStartDate, periodEndDate, 10);
+                List<LocalDate> allDates = simpleRecurrence.between(periodStartDate, periodEndDate, -1);
+                LocalDate nextDate = simpleRecurrence.next(periodStartDate);
+
+                // then
+                Date seed = toICal4jDate(seedDate);
+                assertEquals(toLocalDates(recur.getDates(seed, toICal4jDateTime(periodStartDate), toICal4jDateTime(periodEndDate),
+                        Value.DATE, 10)), dates, recurringRule + " " + seedDate);
+                assertEquals(toLocalDates(recur.getDates(seed, toICal4jDateTime(periodStartDate), toICal4jDateTime(periodEndDate),
+                        Value.DATE, -1)), allDates, recurringRule + " " + seedDate);
+                assertEquals(toLocalDate(recur.getNextDate(seed, toICal4jDateTime(periodStartDate))), nextDate,
+                        recurringRule + " " + seedDate);
+                for (LocalDate date : allDates) {
+                    assertEquals(toLocalDate(recur.getNextDate(seed, toICal4jDateTime(date))), simpleRecurrence.next(date),
+                            recurringRule + " " + seedDate + " " + date);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testSimpleRecurrenceIsNotUsedForComplexRules() {
+        LocalDate seedDate = LocalDate.of(2023, 1, 10);
+
+        assertNull(SimpleRecurrence.of(CalendarUtils.getICalRecur("FREQ=WEEKLY;INTERVAL=1;BYDAY=MO,WE"), seedDate));
+        assertNull(SimpleRecurrence.of(CalendarUtils.getICalRecur("FREQ=MONTHLY;INTERVAL=1;BYSETPOS=2;BYDAY=TU"), seedDate));
+        assertNull(SimpleRecurrence.of(CalendarUtils.getICalRecur("FREQ=MONTHLY;INTERVAL=1;BYMONTHDAY=-1"), seedDate));
+        assertNull(SimpleRecurrence.of(CalendarUtils.getICalRecur("FREQ=MONTHLY;INTERVAL=1;BYMONTHDAY=30"), seedDate));
+        assertNull(SimpleRecurrence.of(CalendarUtils.getICalRecur("FREQ=MONTHLY;INTERVAL=1"), LocalDate.of(2023, 1, 31)));
+        assertNull(SimpleRecurrence.of(CalendarUtils.getICalRecur("FREQ=DAILY;INTERVAL=1;COUNT=5"), seedDate));
+        assertNull(SimpleRecurrence.of(CalendarUtils.getICalRecur("FREQ=YEARLY;INTERVAL=1"), seedDate));
+    }
+
+    @Test
+    @WithTenantContext(tenantTimeZoneId = EUROPE_BERLIN_ID)
+    public void testCachedRecurringRulesCannotBeModifiedByCallers() throws ParseException {
+        String recurringRule = "FREQ=WEEKLY;INTERVAL=1;BYDAY=TH";
+        LocalDate seedDate = LocalDate.of(2023, 1, 5);
+        LocalDate startDate = LocalDate.of(2023, 3, 1);
+        LocalDate nextDate = CalendarUtils.getNextRecurringDate(recurringRule, seedDate, startDate);
+
+        // when
+        Recur recur = CalendarUtils.getICalRecur(recurringRule);
+        recur.getDayList().clear();
+        recur.getDayList().add(WeekDay.MO);
+
+        // then
+        assertThat(CalendarUtils.getICalRecur(recurringRule)).isNotSameAs(recur);
+        assertEquals(new Recur(recurringRule).toString(), CalendarUtils.getICalRecur(recurringRule).toString());
+        assertEquals(nextDate, CalendarUtils.getNextRecurringDate(recurringRule, seedDate, startDate));
+    }
+
+    @Test
+    @WithSystemTimeZone(ASIA_MANILA_ID)
+    @WithTenantContext(tenantTimeZoneId = EUROPE_BERLIN_ID)
+    @WithSystemProperty(key = FLOATING_TIMEZONE_PROPERTY_KEY, value = "true")
+    public void testRecurringDatesMatchICal4jWhenTenantIsBehindSystemTimeZone() throws ParseException {
+        assertRecurringDatesMatchICal4j();
+    }
+
+    @Test
+    @WithSystemTimeZone(EUROPE_BERLIN_ID)
+    @WithTenantContext(tenantTimeZoneId = ASIA_MANILA_ID)
+    @WithSystemProperty(key = FLOATING_TIMEZONE_PROPERTY_KEY, value = "true")
+    public void testRecurringDatesMatchICal4jWhenTenantIsAheadOfSystemTimeZone() throws ParseException {
+        assertRecurringDatesMatchICal4j();
+    }
+
+    /**
+     * Compares the dates {@link CalendarUtils} returns for rules it evaluates with {@link SimpleRecurrence} with the
+     * dates of the same rules evaluated by ical4j and converted the way {@link CalendarUtils} converts them.
+     */
+    private static void assertRecurringDatesMatchICal4j() throws ParseException {
+        List<String> recurringRules = List.of("FREQ=DAILY;INTERVAL=2", "FREQ=WEEKLY;INTERVAL=1;BYDAY=TU", "FREQ=WEEKLY;INTERVAL=2",
+                "FREQ=MONTHLY;INTERVAL=1", "FREQ=MONTHLY;INTERVAL=1;BYMONTHDAY=15");
+        LocalDate seedDate = LocalDate.of(2023, 1, 10);
+        List<LocalDate> startDates = List.of(LocalDate.of(2023, 3, 1), LocalDate.of(2023, 3, 15), LocalDate.of(2023, 10, 29));
+        LocalDate periodEndDate = LocalDate.of(2024, 6, 30);
+
+        for (String recurringRule : recurringRules) {
+            Recur recur = CalendarUtils.getICalRecur(recurringRule);
+            assertNotNull(SimpleRecurrence.of(recur, seedDate), recurringRule);
+            PeriodFrequencyType frequencyType = CalendarUtils.getMeetingPeriodFrequencyType(recurringRule);
+            Date seed = new Date(DateUtils.DEFAULT_DATETIME_FORMATTER.format(seedDate.atStartOfDay()), DateUtils.DEFAULT_DATETIME_FORMAT);
+            for (LocalDate startDate : startDates) {
+                // when
+                LocalDate nextDate = CalendarUtils.getNextRecurringDate(recurringRule, seedDate, startDate);
+                Collection<LocalDate> dates = CalendarUtils.getRecurringDates(recurringRule, seedDate, startDate, periodEndDate);
+
+                // then
+                Date nextICal4jDate = recur.getNextDate(seed, toICal4jDateTime(startDate));
+                assertEquals(CalendarUtils.adjustDate(LocalDate.ofInstant(nextICal4jDate.toInstant(), DateUtils.getDateTimeZoneOfTenant()),
+                        seedDate, frequencyType), nextDate, recurringRule + " " + startDate);
+                DateList iCal4jDates = recur.getDates(seed, toICal4jDateTime(startDate), toICal4jDateTime(periodEndDate),
+                        new Value(Value.DATE.getValue()), 10);
+                assertEquals(new ArrayList<>(CalendarUtils.convertToLocalDateList(iCal4jDates, seedDate, frequencyType, false, 0)),
+                        new ArrayList<>(dates), recurringRule + " " + startDate);
+            }
+        }
+    }
+
+    private static Date toICal4jDate(LocalDate date) throws ParseException {
+        return new Date(date.format(DateTimeFormatter.BASIC_ISO_DATE), "yyyyMMdd");
+    }
+
+    private static DateTime toICal4jDateTime(LocalDate date) {
+        return new DateTime(java.util.Date.from(date.atStartOfDay(ZoneId.systemDefault()).toInstant()));
+    }
+
+    private static LocalDate toLocalDate(Date date) {
+        return LocalDate.ofInstant(date.toInstant(), ZoneId.systemDefault());
+    }
+
+    private static List<LocalDate> toLocalDates(DateList dates) {
+        List<LocalDate> localDates = new ArrayList<>();
+        for (Date date : dates) {
+            localDates.add(toLocalDate(date));
+        }
+        return localDates;
+    }
 }
@@ -0,0 +1,119 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.domain;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.apache.fineract.organisation.monetary.domain.MonetaryCurrency;
+import org.apache.fineract.organisation.monetary.domain.Money;
+import org.apache.fineract.organisation.monetary.domain.MoneyHelper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Recomputes the derived totals of a {@link LoanSummary} the way {@code Loan#updateLoanSummaryDerivedFields} does after
+ * every mutation, against a baseline that sums each total in its own pass over the schedule.
+ */
+@BenchmarkMode(Mode.Throughput) // Measures summary updates per second
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class LoanSummaryBenchmark {
+
+    @Param({ "12", "360" })
+    private int numberOfInstallments;
+
+    private final MonetaryCurrency currency = new MonetaryCurrency("USD", 2, null);
+    private List<LoanRepaymentScheduleInstallment> installments;
+    private Money principal;
+    private LoanSummary summary;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ReflectionTestUtils.setField(MoneyHelper.class, "roundingMode", RoundingMode.HALF_EVEN);
+        Random random = new Random(42);
+        installments = new ArrayList<>();
+        for (int i = 0; i < numberOfInstallments; i++) {
+            LoanRepaymentScheduleInstallment installment = new LoanRepaymentScheduleInstallment();
+            installment.setPrincipalCompleted(BigDecimal.valueOf(random.nextLong(100_000_000L), 6));
+            installment.setInterestCharged(BigDecimal.valueOf(random.nextLong(10_000_000L), 6));
+            installment.setInterestPaid(BigDecimal.valueOf(random.nextLong(10_000_000L), 6));
+            installment.setFeeChargesCharged(BigDecimal.valueOf(random.nextLong(1_000_000L), 6));
+            installment.setPenaltyCharges(BigDecimal.valueOf(random.nextLong(1_000_000L), 6));
+            installments.add(installment);
+        }
+        principal = Money.of(currency, new BigDecimal("100000"));
+        summary = LoanSummary.create(BigDecimal.ZERO);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        ReflectionTestUtils.setField(MoneyHelper.class, "roundingMode", null);
+        ReflectionTestUtils.setField(MoneyHelper.class, "mathContext", null);
+    }
+
+    @Benchmark
+    public void updateSummary(final Blackhole blackhole) {
+        summary.updateSummary(currency, principal, installments, null);
+        blackhole.consume(summary.getTotalOutstanding());
+    }
+
+    @Benchmark
+    public void perFieldPasses(final Blackhole blackhole) {
+        // baseline: one running Money sum per derived total, as the summary used to compute them
+        blackhole.consume(sum(i -> i.getPrincipalCompleted(currency)));
+        blackhole.consume(sum(i -> i.getCreditedPrincipal(currency)));
+        blackhole.consume(sum(i -> i.getCreditedFee(currency)));
+        blackhole.consume(sum(i -> i.getCreditedPenalty(currency)));
+        blackhole.consume(sum(i -> i.getPrincipalWrittenOff(currency)));
+        blackhole.consume(sum(i -> i.getInterestCharged(currency)));
+        blackhole.consume(sum(i -> i.getInterestPaid(currency)));
+        blackhole.consume(sum(i -> i.getInterestWaived(currency)));
+        blackhole.consume(sum(i -> i.getInterestWrittenOff(currency)));
+        blackhole.consume(sum(i -> i.getFeeChargesCharged(currency)));
+        blackhole.consume(sum(i -> i.getFeeChargesPaid(currency)));
+        blackhole.consume(sum(i -> i.getFeeChargesWrittenOff(currency)));
+        blackhole.consume(sum(i -> i.getPenaltyChargesCharged(currency)));
+        blackhole.consume(sum(i -> i.getPenaltyChargesPaid(currency)));
+        blackhole.consume(sum(i -> i.getPenaltyChargesWaived(currency)));
+        blackhole.consume(sum(i -> i.getPenaltyChargesWrittenOff(currency)));
+    }
+
+    private Money sum(Function<LoanRepaymentScheduleInstallment, Money> amount) {
+        Money total = Money.zero(currency);
+        for (LoanRepaymentScheduleInstallment installment : installments) {
+            total = total.plus(amount.apply(installment));
+        }
+        return total;
+    }
+}
@@ -22,6 +22,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.math.BigDecimal;
@@ -43,6 +44,7 @@ import org.apache.fineract.portfolio.charge.domain.Charge;
 import org.apache.fineract.portfolio.charge.domain.ChargeCalculationType;
 import org.apache.fineract.portfolio.charge.domain.ChargePaymentMode;
 import org.apache.fineract.portfolio.charge.domain.ChargeTimeType;
+import org.eclipse.persistence.indirection.IndirectList;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -259,6 +261,53 @@ public class LoanTest {
         assertEquals(3L, transactions.get(7).getId());
     }
 
+    /**
+     * Tests {@link Loan#retrieveListOfTransactionsForReprocessing()} replays from the accrual free collection while the
+     * full transaction list is not loaded.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testReprocessingUsesNonAccrualTransactionsWhenTransactionsAreNotLoaded() {
+        Loan loan = new Loan();
+        IndirectList<LoanTransaction> loanTransactions = mock(IndirectList.class);
+        when(loanTransactions.isInstantiated()).thenReturn(false);
+        when(loanTransactions.hasDeferredChanges()).thenReturn(false);
+        LoanTransaction repayment = buildRepayment();
+        ReflectionTestUtils.setField(loan, "loanTransactions", loanTransactions);
+        ReflectionTestUtils.setField(loan, "nonAccrualLoanTransactions", List.of(repayment));
+
+        assertEquals(List.of(repayment), loan.retrieveListOfTransactionsForReprocessing());
+        assertEquals(List.of(repayment), loan.retrieveListOfTransactionsExcludeAccruals());
+        verify(loanTransactions, Mockito.never()).iterator();
+        verify(loanTransactions, Mockito.never()).stream();
+    }
+
+    /**
+     * Tests {@link Loan#retrieveListOfTransactionsForReprocessing()} falls back to the full transaction list once it has
+     * pending changes.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testReprocessingUsesLoanTransactionsWhenTheyHaveDeferredChanges() {
+        Loan loan = new Loan();
+        LoanTransaction repayment = buildRepayment();
+        IndirectList<LoanTransaction> loanTransactions = mock(IndirectList.class);
+        when(loanTransactions.isInstantiated()).thenReturn(false);
+        when(loanTransactions.hasDeferredChanges()).thenReturn(true);
+        when(loanTransactions.stream()).thenAnswer(invocation -> List.of(repayment).stream());
+        ReflectionTestUtils.setField(loan, "loanTransactions", loanTransactions);
+        ReflectionTestUtils.setField(loan, "nonAccrualLoanTransactions", List.of());
+
+        assertEquals(List.of(repayment), loan.retrieveListOfTransactionsForReprocessing());
+    }
+
+    private LoanTransaction buildRepayment() {
+        LoanTransaction repayment = new LoanTransaction();
+        ReflectionTestUtils.setField(repayment, "typeOf", LoanTransactionType.REPAYMENT);
+        ReflectionTestUtils.setField(repayment, "dateOf", actualDate);
+        return repayment;
+    }
+
     /**
      * Builds a new loan charge.
      *
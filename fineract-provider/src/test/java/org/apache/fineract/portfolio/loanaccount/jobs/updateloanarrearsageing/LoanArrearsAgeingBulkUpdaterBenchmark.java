@@ -0,0 +1,166 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.jobs.updateloanarrearsageing;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseType;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseTypeResolver;
+import org.apache.fineract.portfolio.loanaccount.service.LoanArrearsAgingService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * Recomputes the arrears ageing of a synthetic portfolio (12 installments per loan, 90% of the loans active, roughly
+ * half of the installments overdue) in a PostgreSQL container, comparing the single statement of the
+ * {@code UPDATE_LOAN_ARREARS_AGEING} job with the partitioned bulk update. Requires Docker.
+ */
+@BenchmarkMode(Mode.SingleShotTime) // Measures the duration of a full recalculation
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+public class LoanArrearsAgeingBulkUpdaterBenchmark {
+
+    private static final LocalDate BUSINESS_DATE = LocalDate.of(2024, 7, 1);
+
+    @Param({ "1000000" })
+    private int numberOfLoans;
+
+    @Param({ "1", "4", "8" })
+    private int threadPoolSize;
+
+    @Param({ "10000" })
+    private int partitionSize;
+
+    private PostgreSQLContainer<?> postgres;
+    private HikariDataSource dataSource;
+    private ThreadPoolTaskExecutor threadPoolTaskExecutor;
+    private TransactionTemplate transactionTemplate;
+    private LoanArrearsAgeingUpdateHandler handler;
+    private LoanArrearsAgeingBulkUpdater bulkUpdater;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        postgres = new PostgreSQLContainer<>("postgres:16");
+        postgres.start();
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(postgres.getJdbcUrl());
+        dataSource.setUsername(postgres.getUsername());
+        dataSource.setPassword(postgres.getPassword());
+        dataSource.setMaximumPoolSize(threadPoolSize + 2);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        createSchema(jdbcTemplate);
+
+        HashMap<BusinessDateType, LocalDate> businessDates = new HashMap<>();
+        businessDates.put(BusinessDateType.BUSINESS_DATE, BUSINESS_DATE);
+        businessDates.put(BusinessDateType.COB_DATE, BUSINESS_DATE.minusDays(1));
+        ThreadLocalContextUtil.setBusinessDates(businessDates);
+
+        DatabaseTypeResolver databaseTypeResolver = mock(DatabaseTypeResolver.class);
+        when(databaseTypeResolver.databaseType()).thenReturn(DatabaseType.POSTGRESQL);
+        when(databaseTypeResolver.isPostgreSQL()).thenReturn(true);
+        handler = new LoanArrearsAgeingUpdateHandler(jdbcTemplate, new DatabaseSpecificSQLGenerator(databaseTypeResolver),
+                mock(LoanArrearsAgingService.class));
+
+        FineractProperties fineractProperties = new FineractProperties();
+        fineractProperties.setLoan(new FineractProperties.FineractLoanProperties());
+        fineractProperties.getLoan().setArrearsAgeing(new FineractProperties.FineractLoanArrearsAgeingProperties());
+        fineractProperties.getLoan().getArrearsAgeing().setBulkEnabled(true);
+        fineractProperties.getLoan().getArrearsAgeing().setPartitionSize(partitionSize);
+
+        threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
+        threadPoolTaskExecutor.setCorePoolSize(threadPoolSize);
+        threadPoolTaskExecutor.setMaxPoolSize(threadPoolSize);
+        threadPoolTaskExecutor.initialize();
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        bulkUpdater = new LoanArrearsAgeingBulkUpdater(jdbcTemplate, transactionTemplate, handler, fineractProperties,
+                threadPoolTaskExecutor);
+    }
+
+    private void createSchema(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.execute("create table m_loan (id bigint primary key, product_id bigint, loan_status_id int, "
+                + "grace_on_arrears_ageing int)");
+        jdbcTemplate.execute("create table m_product_loan_recalculation_details (product_id bigint, "
+                + "arrears_based_on_original_schedule boolean)");
+        jdbcTemplate.execute("create table m_loan_repayment_schedule (id bigserial primary key, loan_id bigint not null, "
+                + "installment int, duedate date, completed_derived boolean, principal_amount decimal(19,6), "
+                + "principal_completed_derived decimal(19,6), principal_writtenoff_derived decimal(19,6), interest_amount decimal(19,6), "
+                + "interest_completed_derived decimal(19,6), interest_writtenoff_derived decimal(19,6), "
+                + "interest_waived_derived decimal(19,6), fee_charges_amount decimal(19,6), fee_charges_completed_derived decimal(19,6), "
+                + "fee_charges_writtenoff_derived decimal(19,6), fee_charges_waived_derived decimal(19,6), "
+                + "penalty_charges_amount decimal(19,6), penalty_charges_completed_derived decimal(19,6), "
+                + "penalty_charges_writtenoff_derived decimal(19,6), penalty_charges_waived_derived decimal(19,6))");
+        jdbcTemplate.execute("create index m_loan_repayment_schedule_loan_id on m_loan_repayment_schedule (loan_id)");
+        jdbcTemplate.execute("create table m_loan_arrears_aging (loan_id bigint primary key, principal_overdue_derived decimal(19,6), "
+                + "interest_overdue_derived decimal(19,6), fee_charges_overdue_derived decimal(19,6), "
+                + "penalty_charges_overdue_derived decimal(19,6), total_overdue_derived decimal(19,6), overdue_since_date_derived date)");
+
+        jdbcTemplate.update("insert into m_product_loan_recalculation_details values (2, false)");
+        jdbcTemplate.update("insert into m_loan select g, 1 + g % 2, case when g % 10 = 0 then 600 else 300 end, g % 3 "
+                + "from generate_series(1, ?) g", numberOfLoans);
+        jdbcTemplate.update("insert into m_loan_repayment_schedule (loan_id, installment, duedate, completed_derived, principal_amount, "
+                + "principal_completed_derived, interest_amount, interest_completed_derived, fee_charges_amount, penalty_charges_amount) "
+                + "select l, i, date '2024-01-01' + (i * 30 + l % 30), i <= l % 6, 100, case when i <= l % 6 then 100 else 0 end, "
+                + "10, case when i <= l % 6 then 10 else 0 end, 1, 0 from generate_series(1, ?) l, generate_series(1, 12) i",
+                numberOfLoans);
+        jdbcTemplate.execute("analyze");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        threadPoolTaskExecutor.shutdown();
+        dataSource.close();
+        postgres.stop();
+    }
+
+    @Benchmark
+    public void singleStatement() {
+        transactionTemplate.executeWithoutResult(status -> handler.updateLoanArrearsAgeingDetailsForAllLoans());
+    }
+
+    @Benchmark
+    public void partitioned() {
+        transactionTemplate.executeWithoutResult(status -> bulkUpdater.updateLoanArrearsAgeingDetailsForAllLoans());
+    }
+}
@@ -0,0 +1,82 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.loanschedule.service.holiday;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Predicate;
+import org.apache.fineract.organisation.holiday.domain.Holiday;
+import org.apache.fineract.organisation.holiday.domain.RescheduleType;
+import org.apache.fineract.organisation.workingdays.data.BusinessDayCalendar;
+import org.apache.fineract.organisation.workingdays.domain.RepaymentRescheduleType;
+import org.apache.fineract.organisation.workingdays.domain.WorkingDays;
+import org.junit.jupiter.api.Test;
+
+public class NextWorkingDayStrategyTest {
+
+    private static final Predicate<LocalDate> MONDAY_TO_FRIDAY = date -> date.getDayOfWeek() != DayOfWeek.SATURDAY
+            && date.getDayOfWeek() != DayOfWeek.SUNDAY;
+    private static final WorkingDays WORKING_DAYS = new WorkingDays("FREQ=WEEKLY;INTERVAL=1;BYDAY=MO,TU,WE,TH,FR",
+            RepaymentRescheduleType.MOVE_TO_NEXT_WORKING_DAY.getValue(), false, false);
+    // Thursday 2024-03-28 to Monday 2024-04-01
+    private static final List<Holiday> HOLIDAYS = List.of(holiday(LocalDate.of(2024, 3, 28), LocalDate.of(2024, 4, 1)));
+
+    private final NextWorkingDayStrategy underTest = new NextWorkingDayStrategy();
+
+    @Test
+    public void testRepaymentOnHolidayIsMovedToNextBusinessDay() {
+        final BusinessDayCalendar calendar = BusinessDayCalendar.of(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31),
+                MONDAY_TO_FRIDAY, HOLIDAYS);
+
+        assertEquals(LocalDate.of(2024, 4, 2), adjust(LocalDate.of(2024, 3, 28), calendar));
+        assertEquals(LocalDate.of(2024, 4, 2), adjust(LocalDate.of(2024, 3, 28), null));
+        // Saturday 2024-04-06
+        assertEquals(LocalDate.of(2024, 4, 8), adjust(LocalDate.of(2024, 4, 6), calendar));
+        assertEquals(LocalDate.of(2024, 4, 8), adjust(LocalDate.of(2024, 4, 6), null));
+    }
+
+    @Test
+    public void testNextBusinessDayIsLookedUpInCalendar() {
+        // the calendar knows of one more holiday day than the list, so the adjusted date shows which one was used
+        final BusinessDayCalendar calendar = BusinessDayCalendar.of(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31),
+                MONDAY_TO_FRIDAY, List.of(holiday(LocalDate.of(2024, 3, 28), LocalDate.of(2024, 4, 2))));
+
+        assertEquals(LocalDate.of(2024, 4, 3), adjust(LocalDate.of(2024, 3, 28), calendar));
+    }
+
+    @Test
+    public void testDatesOutsideOfCalendarWindowAreWalked() {
+        final BusinessDayCalendar calendar = BusinessDayCalendar.of(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31),
+                MONDAY_TO_FRIDAY, List.of());
+
+        assertEquals(LocalDate.of(2024, 4, 2), adjust(LocalDate.of(2024, 3, 28), calendar));
+    }
+
+    private LocalDate adjust(final LocalDate repaymentDate, final BusinessDayCalendar calendar) {
+        return this.underTest.adjustRepaymentDate(repaymentDate, HOLIDAYS, WORKING_DAYS, null, null, calendar).getChangedScheduleDate();
+    }
+
+    private static Holiday holiday(final LocalDate fromDate, final LocalDate toDate) {
+        return new Holiday().setFromDate(fromDate).setToDate(toDate)
+                .setReschedulingType(RescheduleType.RESCHEDULETONEXTREPAYMENTDATE.getValue());
+    }
+}
@@ -0,0 +1,133 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
+import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
+import org.apache.fineract.portfolio.loanaccount.data.DisbursementData;
+import org.apache.fineract.portfolio.loanaccount.data.LoanAccountData;
+import org.apache.fineract.portfolio.loanaccount.data.LoanApplicationTimelineData;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.data.LoanScheduleData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+@ExtendWith(MockitoExtension.class)
+public class LoanReadPlatformServiceImplTest {
+
+    private static final List<Long> LOAN_IDS = List.of(1L, 2L, 3L, 4L, 5L);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private PlatformSecurityContext context;
+    @Mock
+    private DatabaseSpecificSQLGenerator sqlGenerator;
+    @Mock
+    private FineractProperties fineractProperties;
+    @Mock
+    private FineractProperties.FineractQueryProperties fineractQueryProperties;
+
+    @InjectMocks
+    private LoanReadPlatformServiceImpl underTest;
+
+    @BeforeEach
+    public void setUp() {
+        when(fineractProperties.getQuery()).thenReturn(fineractQueryProperties);
+        when(fineractQueryProperties.getInClauseParameterSizeLimit()).thenReturn(2);
+    }
+
+    @Test
+    public void testDisbursementDetailsAreLoadedInBatchesOfTheInClauseLimit() {
+        // given
+        List<Object[]> batches = new ArrayList<>();
+        doAnswer(invocation -> {
+            Object[] loanIds = (Object[]) invocation.getRawArguments()[2];
+            batches.add(loanIds);
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (Object loanId : loanIds) {
+                ResultSet rs = mock(ResultSet.class);
+                when(rs.getLong("loanId")).thenReturn((Long) loanId);
+                when(rs.getLong("id")).thenReturn((Long) loanId * 10);
+                handler.processRow(rs);
+            }
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), any(Object[].class));
+
+        // when
+        Map<Long, List<DisbursementData>> disbursementDetails = underTest.retrieveLoanDisbursementDetails(LOAN_IDS);
+
+        // then
+        verify(jdbcTemplate, times(3)).query(anyString(), any(RowCallbackHandler.class), any(Object[].class));
+        assertEquals(List.of(List.of(1L, 2L), List.of(3L, 4L), List.of(5L)), batches.stream().map(List::of).toList());
+        assertEquals(LOAN_IDS.size(), disbursementDetails.size());
+        for (Long loanId : LOAN_IDS) {
+            assertEquals(loanId * 10, disbursementDetails.get(loanId).get(0).getId());
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testRepaymentSchedulesAreLoadedInBatchesOfTheInClauseLimit() {
+        // given
+        List<LoanAccountData> loans = LOAN_IDS.stream()
+                .map(loanId -> new LoanAccountData().setId(loanId).setTimeline(new LoanApplicationTimelineData())).toList();
+        Map<Long, LoanScheduleData> expected = new HashMap<>();
+        when(jdbcTemplate.query(anyString(), any(ResultSetExtractor.class), any(Object[].class))).thenAnswer(invocation -> {
+            Map<Long, LoanScheduleData> schedules = new HashMap<>();
+            for (Object loanId : (Object[]) invocation.getRawArguments()[2]) {
+                LoanScheduleData schedule = mock(LoanScheduleData.class);
+                schedules.put((Long) loanId, schedule);
+                expected.put((Long) loanId, schedule);
+            }
+            return schedules;
+        });
+
+        // when
+        Map<Long, LoanScheduleData> schedules = underTest.retrieveRepaymentSchedules(loans, Map.of());
+
+        // then
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate, times(3)).query(sql.capture(), any(ResultSetExtractor.class), any(Object[].class));
+        assertEquals(List.of(true, true, false), sql.getAllValues().stream().map(query -> query.contains("in (?,?)")).toList());
+        assertEquals(expected, schedules);
+    }
+}
@@ -0,0 +1,111 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanproduct.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.ResultSet;
+import java.time.Duration;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractLoanProductSnapshotProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractLoanProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.portfolio.loanproduct.data.LoanProductSnapshot;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+@ExtendWith(MockitoExtension.class)
+public class LoanProductSnapshotServiceImplTest {
+
+    private static final Long LOAN_PRODUCT_ID = 1L;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private final FineractLoanProductSnapshotProperties snapshotProperties = new FineractLoanProductSnapshotProperties();
+    private LoanProductSnapshotServiceImpl underTest;
+
+    @BeforeEach
+    public void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        snapshotProperties.setEnabled(true);
+        snapshotProperties.setTtl(Duration.ofMinutes(1));
+        FineractLoanProperties loanProperties = new FineractLoanProperties();
+        loanProperties.setProductSnapshot(snapshotProperties);
+        FineractProperties fineractProperties = new FineractProperties();
+        fineractProperties.setLoan(loanProperties);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(jdbcTemplate.queryForObject(anyString(), any(RowMapper.class), eq(LOAN_PRODUCT_ID)))
+                .thenAnswer(invocation -> invocation.<RowMapper<LoanProductSnapshot>>getArgument(1).mapRow(resultSet, 0));
+        underTest = new LoanProductSnapshotServiceImpl(jdbcTemplate, fineractProperties);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    public void testSnapshotIsLoadedOnce() {
+        LoanProductSnapshot first = underTest.retrieveSnapshot(LOAN_PRODUCT_ID);
+        LoanProductSnapshot second = underTest.retrieveSnapshot(LOAN_PRODUCT_ID);
+
+        assertSame(first, second);
+        verify(jdbcTemplate, times(1)).queryForObject(anyString(), any(RowMapper.class), eq(LOAN_PRODUCT_ID));
+    }
+
+    @Test
+    public void testEvictReloadsSnapshotWithNewVersion() {
+        LoanProductSnapshot first = underTest.retrieveSnapshot(LOAN_PRODUCT_ID);
+        underTest.evict(LOAN_PRODUCT_ID);
+        LoanProductSnapshot second = underTest.retrieveSnapshot(LOAN_PRODUCT_ID);
+        LoanProductSnapshot third = underTest.retrieveSnapshot(LOAN_PRODUCT_ID);
+
+        assertEquals(first.version() + 1, second.version());
+        assertSame(second, third);
+        verify(jdbcTemplate, times(2)).queryForObject(anyString(), any(RowMapper.class), eq(LOAN_PRODUCT_ID));
+    }
+
+    @Test
+    public void testDisabledCacheAlwaysLoads() {
+        snapshotProperties.setEnabled(false);
+
+        assertFalse(underTest.isEnabled());
+        underTest.retrieveSnapshot(LOAN_PRODUCT_ID);
+        underTest.retrieveSnapshot(LOAN_PRODUCT_ID);
+
+        verify(jdbcTemplate, times(2)).queryForObject(anyString(), any(RowMapper.class), eq(LOAN_PRODUCT_ID));
+    }
+}
@@ -0,0 +1,118 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.useradministration.domain;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.security.exception.NoAuthorizationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+
+public class AppUserPermissionTest {
+
+    @BeforeEach
+    public void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    public void testPermissionChecksUseRolePermissions() {
+        AppUser user = user(
+                role("loan officer", new Permission("portfolio", "LOAN", "READ"), new Permission("portfolio", "LOAN", "CREATE")));
+
+        assertTrue(user.hasSpecificPermissionTo("READ_LOAN"));
+        assertTrue(user.hasSpecificPermissionTo("read_loan"));
+        assertFalse(user.hasSpecificPermissionTo("DELETE_LOAN"));
+        assertFalse(user.hasNotPermissionForAnyOf("ALL_FUNCTIONS", "CREATE_LOAN"));
+        user.validateHasReadPermission("loan");
+        assertThrows(NoAuthorizationException.class, () -> user.validateHasDeletePermission("loan"));
+    }
+
+    @Test
+    public void testAllFunctionsGrantsEverything() {
+        AppUser user = user(role("super user", new Permission("special", "FUNCTIONS", "ALL")));
+
+        assertFalse(user.hasSpecificPermissionTo("READ_LOAN"));
+        assertFalse(user.hasNotPermissionForAnyOf("READ_LOAN"));
+        assertFalse(user.hasNotPermissionForReport("Active Loans - Details"));
+        assertFalse(user.hasNotPermissionForDatatable("dt_loan_extra", "UPDATE"));
+    }
+
+    @Test
+    public void testReportAndDatatablePermissions() {
+        AppUser reader = user(role("reader", new Permission("report", "Active Loans - Details", "READ"),
+                new Permission("datatable", "dt_loan_extra", "READ"), new Permission("special", "FUNCTIONS_READ", "ALL")));
+
+        assertFalse(reader.hasNotPermissionForReport("Active Loans - Details"));
+        assertFalse(reader.hasNotPermissionForReport("Other Report"));
+        assertFalse(reader.hasNotPermissionForDatatable("dt_loan_extra", "READ"));
+        assertFalse(reader.hasNotPermissionForDatatable("dt_other", "read"));
+        assertTrue(reader.hasNotPermissionForDatatable("dt_loan_extra", "UPDATE"));
+    }
+
+    @Test
+    public void testPermissionSetFollowsRoleChanges() {
+        Role role = role("clerk", new Permission("portfolio", "CLIENT", "READ"));
+        AppUser user = user(role);
+        PermissionSet before = user.getPermissionSet();
+
+        assertSame(before, user.getPermissionSet());
+        assertFalse(user.hasSpecificPermissionTo("CREATE_CLIENT"));
+
+        role.updatePermission(new Permission("portfolio", "CLIENT", "CREATE"), true);
+
+        assertNotSame(before, user.getPermissionSet());
+        assertTrue(user.hasSpecificPermissionTo("CREATE_CLIENT"));
+
+        user.updateRoles(Set.of(role("viewer", new Permission("portfolio", "GROUP", "READ"))));
+
+        assertFalse(user.hasSpecificPermissionTo("CREATE_CLIENT"));
+        assertTrue(user.hasSpecificPermissionTo("READ_GROUP"));
+    }
+
+    private static Role role(final String name, final Permission... permissions) {
+        Role role = new Role(name, name);
+        for (Permission permission : permissions) {
+            role.updatePermission(permission, true);
+        }
+        return role;
+    }
+
+    private static AppUser user(final Role... roles) {
+        User user = new User("user", "password", true, true, true, true, List.of());
+        return new AppUser(null, user, new LinkedHashSet<>(List.of(roles)), "user@example.com", "first", "last", null, false, false, null,
+                false);
+    }
+}